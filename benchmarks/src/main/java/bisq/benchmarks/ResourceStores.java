@@ -0,0 +1,85 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.benchmarks;
+
+import bisq.core.dao.governance.proposal.storage.appendonly.ProposalPayload;
+import bisq.core.dao.state.model.governance.Proposal;
+import bisq.core.dao.state.storage.BlocksPersistence;
+import bisq.core.trade.statistics.TradeStatistics3;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the mainnet data stores which are shipped as resources of the p2p module, so the benchmarks run on the same
+ * data a node has after startup.
+ */
+public final class ResourceStores {
+    public static final String TRADE_STATISTICS_STORE = "TradeStatistics3Store_1.4.0_BTC_MAINNET";
+    public static final String PROPOSAL_STORE = "ProposalStore_BTC_MAINNET";
+    private static final String BSQ_BLOCKS_DIR = "BsqBlocks_BTC_MAINNET";
+    // The first bucket contains the mainnet genesis block at height 571747
+    private static final int FIRST_BSQ_BLOCKS_BUCKET_START = 571001;
+
+    private ResourceStores() {
+    }
+
+    public static byte[] readBytes(String resourceName) throws IOException {
+        try (InputStream inputStream = ResourceStores.class.getClassLoader().getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                throw new FileNotFoundException("Resource " + resourceName + " not found");
+            }
+            return inputStream.readAllBytes();
+        }
+    }
+
+    public static protobuf.PersistableEnvelope readEnvelope(String resourceName) throws IOException {
+        return protobuf.PersistableEnvelope.parseDelimitedFrom(new ByteArrayInputStream(readBytes(resourceName)));
+    }
+
+    public static List<TradeStatistics3> readTradeStatistics() throws IOException {
+        return readEnvelope(TRADE_STATISTICS_STORE).getTradeStatistics3Store().getItemsList().stream()
+                .map(TradeStatistics3::fromProto)
+                .collect(Collectors.toList());
+    }
+
+    public static List<Proposal> readProposals() throws IOException {
+        return readEnvelope(PROPOSAL_STORE).getProposalStore().getItemsList().stream()
+                .map(ProposalPayload::fromProto)
+                .map(ProposalPayload::getProposal)
+                .collect(Collectors.toList());
+    }
+
+    // Returns the blocks of the first numBuckets buckets of BlocksPersistence.BUCKET_SIZE blocks, starting at genesis
+    public static List<protobuf.BaseBlock> readBsqBlocks(int numBuckets) throws IOException {
+        List<protobuf.BaseBlock> blocks = new ArrayList<>();
+        for (int i = 0; i < numBuckets; i++) {
+            int first = FIRST_BSQ_BLOCKS_BUCKET_START + i * BlocksPersistence.BUCKET_SIZE;
+            int last = first + BlocksPersistence.BUCKET_SIZE - 1;
+            String resourceName = BSQ_BLOCKS_DIR + "/BsqBlocks_" + first + "-" + last;
+            blocks.addAll(readEnvelope(resourceName).getBsqBlockStore().getBlocksList());
+        }
+        return blocks;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.benchmarks.common;
+
+import bisq.common.FrameRateTimer;
+import bisq.common.MasterTimer;
+import bisq.common.TimingWheel;
+
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.time.Duration;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the costs of a tick and of scheduling and stopping a timer between the MasterTimer, which checks all
+ * FrameRateTimers at each frame, and the TimingWheel, with the given number of live periodic timers as on a seed node
+ * or a node with many open offers.
+ * <p>
+ * The MasterTimer is replicated with a local listener set, so the timers are not run by the global MasterTimer thread
+ * during the measurement. The TimingWheel runs on a simulated clock which advances one tick per invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TimerBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int numTimers;
+
+    private final Set<Runnable> masterTimerListeners = new CopyOnWriteArraySet<>();
+    private FrameRateTimer frameRateTimer;
+    private TimingWheel timingWheel;
+    private long clockMs;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        timingWheel = new TimingWheel(MasterTimer.FRAME_INTERVAL_MS, 1024, () -> clockMs,
+                MoreExecutors.directExecutor());
+        for (int i = 0; i < numTimers; i++) {
+            // Intervals between 10 sec. and 10 min.
+            long intervalMs = 10_000 + random.nextInt(590_000);
+            masterTimerListeners.add(createFrameRateTimer(intervalMs));
+            schedulePeriodically(intervalMs);
+        }
+        frameRateTimer = createFrameRateTimer(60_000);
+    }
+
+    @TearDown
+    public void tearDown() {
+        masterTimerListeners.forEach(listener -> ((FrameRateTimer) listener).stop());
+        frameRateTimer.stop();
+    }
+
+    @Benchmark
+    public void masterTimerTick() {
+        masterTimerListeners.forEach(Runnable::run);
+    }
+
+    @Benchmark
+    public void timingWheelTick() {
+        clockMs += MasterTimer.FRAME_INTERVAL_MS;
+        timingWheel.advance();
+    }
+
+    @Benchmark
+    public boolean masterTimerScheduleAndStop() {
+        masterTimerListeners.add(frameRateTimer);
+        return masterTimerListeners.remove(frameRateTimer);
+    }
+
+    @Benchmark
+    public boolean timingWheelScheduleAndStop() {
+        return timingWheel.schedule(60_000, () -> {
+        }).cancel();
+    }
+
+    private static FrameRateTimer createFrameRateTimer(long intervalMs) {
+        FrameRateTimer timer = new FrameRateTimer();
+        timer.runPeriodically(Duration.ofMillis(intervalMs), () -> {
+        });
+        MasterTimer.removeListener(timer);
+        return timer;
+    }
+
+    private void schedulePeriodically(long intervalMs) {
+        timingWheel.schedule(intervalMs, () -> schedulePeriodically(intervalMs));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.benchmarks.crypto;
+
+import bisq.common.crypto.EquihashProofOfWorkService;
+import bisq.common.crypto.ProofOfWork;
+import bisq.common.crypto.ProofOfWorkService;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mints and verifies Equihash proofs of work for BSQ swap offers at a range of difficulties. Minting is measured with
+ * the given number of solver threads. Each mint invocation uses a new offer id, as the time to find a solution
+ * depends a lot on the challenge. Verification is measured on a proof of work minted once per difficulty.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EquihashProofOfWorkBenchmark {
+    private static final String OWNER_ID = "ownerId";
+
+    @Param({"2", "1000", "10000"})
+    public double difficulty;
+
+    private ProofOfWorkService proofOfWorkService;
+    private final AtomicInteger offerCounter = new AtomicInteger();
+    private String mintedItemId;
+    private ProofOfWork mintedProofOfWork;
+
+    // Only used by the mint benchmark, so the verify benchmark is not repeated for each number of threads
+    @State(Scope.Thread)
+    public static class Solver {
+        @Param({"1", "2", "4"})
+        public int parallelism;
+
+        @Setup
+        public void setUp() {
+            EquihashProofOfWorkService.setParallelism(parallelism);
+        }
+    }
+
+    @Setup
+    public void setUp() throws ExecutionException, InterruptedException {
+        proofOfWorkService = ProofOfWorkService.forVersion(1).orElseThrow();
+        mintedItemId = nextItemId();
+        mintedProofOfWork = proofOfWorkService.mint(mintedItemId, OWNER_ID, difficulty).get();
+    }
+
+    @Benchmark
+    public ProofOfWork mint(Solver solver) throws ExecutionException, InterruptedException {
+        return proofOfWorkService.mint(nextItemId(), OWNER_ID, difficulty).get();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean verify() {
+        return proofOfWorkService.verify(mintedProofOfWork, mintedItemId, OWNER_ID, difficulty);
+    }
+
+    private String nextItemId() {
+        return "offer-" + offerCounter.incrementAndGet();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.benchmarks.dao;
+
+import bisq.benchmarks.ResourceStores;
+
+import bisq.core.dao.governance.period.PeriodService;
+import bisq.core.dao.node.full.RawBlock;
+import bisq.core.dao.node.parser.BlockParser;
+import bisq.core.dao.node.parser.TxParser;
+import bisq.core.dao.node.parser.exceptions.BlockHashNotConnectingException;
+import bisq.core.dao.node.parser.exceptions.BlockHeightNotConnectingException;
+import bisq.core.dao.state.DaoStateService;
+import bisq.core.dao.state.GenesisTxInfo;
+import bisq.core.dao.state.model.DaoState;
+import bisq.core.dao.state.model.blockchain.Block;
+import bisq.core.util.coin.BsqFormatter;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses the mainnet BSQ blocks from genesis on into an empty DaoState, like a lite node does with the blocks it
+ * receives from the seed nodes. The blocks are created from the shipped BsqBlocks resource files, so they contain
+ * only the BSQ transactions.
+ * <p>
+ * There is no CycleService, so proposal and vote transactions are not in their DAO phase and get parsed as invalid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BlockParserBenchmark {
+    @Param({"2"})
+    public int numBuckets;
+
+    private List<RawBlock> rawBlocks;
+    private BlockParser blockParser;
+
+    @Setup(Level.Trial)
+    public void setUpBlocks() throws IOException {
+        rawBlocks = readRawBlocks(numBuckets);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpBlockParser() {
+        blockParser = createBlockParser(new DaoState());
+    }
+
+    @Benchmark
+    public Block parseBlock() throws BlockHashNotConnectingException, BlockHeightNotConnectingException {
+        Block block = null;
+        for (RawBlock rawBlock : rawBlocks) {
+            block = blockParser.parseBlock(rawBlock);
+        }
+        return block;
+    }
+
+    static List<RawBlock> readRawBlocks(int numBuckets) throws IOException {
+        return ResourceStores.readBsqBlocks(numBuckets).stream()
+                .map(Block::fromProto)
+                .map(RawBlock::fromBlock)
+                .collect(Collectors.toList());
+    }
+
+    static BlockParser createBlockParser(DaoState daoState) {
+        // Empty genesis params and -1 use the mainnet genesis tx
+        GenesisTxInfo genesisTxInfo = new GenesisTxInfo("", -1, -1);
+        DaoStateService daoStateService = new DaoStateService(daoState, genesisTxInfo, new BsqFormatter());
+        TxParser txParser = new TxParser(new PeriodService(daoStateService), daoStateService);
+        return new BlockParser(txParser, daoStateService);
+    }
+}
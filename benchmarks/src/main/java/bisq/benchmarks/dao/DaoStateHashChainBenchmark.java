@@ -0,0 +1,84 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.benchmarks.dao;
+
+import bisq.core.dao.node.full.RawBlock;
+import bisq.core.dao.node.parser.BlockParser;
+import bisq.core.dao.node.parser.exceptions.BlockHashNotConnectingException;
+import bisq.core.dao.node.parser.exceptions.BlockHeightNotConnectingException;
+import bisq.core.dao.state.model.DaoState;
+
+import java.io.IOException;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serializes the DaoState for the hash chain, once with the encodings of the elements already cached from an earlier
+ * call, as it is the case for each new block, and once for a freshly loaded DaoState, as after a snapshot was applied.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DaoStateHashChainBenchmark {
+    @Param({"10"})
+    public int numBuckets;
+
+    private DaoState daoState;
+    private DaoState uncachedDaoState;
+
+    @Setup(Level.Trial)
+    public void setUpDaoState() throws IOException, BlockHashNotConnectingException, BlockHeightNotConnectingException {
+        daoState = new DaoState();
+        BlockParser blockParser = BlockParserBenchmark.createBlockParser(daoState);
+        for (RawBlock rawBlock : BlockParserBenchmark.readRawBlocks(numBuckets)) {
+            blockParser.parseBlock(rawBlock);
+        }
+        daoState.getSerializedStateForHashChain();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpUncachedDaoState() {
+        uncachedDaoState = DaoState.getClone(daoState);
+    }
+
+    @Benchmark
+    public byte[] getSerializedStateForHashChain() {
+        return daoState.getSerializedStateForHashChain();
+    }
+
+    @Benchmark
+    public byte[] getSerializedStateForHashChainUncached() {
+        return uncachedDaoState.getSerializedStateForHashChain();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.benchmarks.p2p;
+
+import bisq.benchmarks.ResourceStores;
+
+import bisq.core.trade.statistics.TradeStatistics3;
+
+import bisq.network.p2p.peers.getdata.messages.GetDataResponse;
+import bisq.network.p2p.peers.getdata.messages.PreliminaryGetDataRequest;
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+
+import bisq.common.app.Capabilities;
+import bisq.common.app.Capability;
+
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds the GetDataResponse for a requester who already knows the given share of the mainnet trade statistics.
+ * Most of the time is spent in filterKnownHashes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GetDataResponseBenchmark {
+    // Same value as used by GetDataRequestHandler
+    private static final int MAX_ENTRIES = 20_000;
+
+    @Param({"0", "50", "99"})
+    public int knownPercent;
+
+    private P2PDataStorage dataStorage;
+    private Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> mapForDataResponse;
+    private PreliminaryGetDataRequest getDataRequest;
+    private Capabilities peerCapabilities;
+
+    @Setup
+    public void setUp() throws IOException {
+        dataStorage = P2PDataStorageBenchmark.createDataStorage();
+        List<TradeStatistics3> tradeStatistics = ResourceStores.readTradeStatistics();
+        mapForDataResponse = new HashMap<>();
+        Set<byte[]> excludedKeys = new HashSet<>();
+        int numKnown = tradeStatistics.size() * knownPercent / 100;
+        for (int i = 0; i < tradeStatistics.size(); i++) {
+            TradeStatistics3 payload = tradeStatistics.get(i);
+            mapForDataResponse.put(new P2PDataStorage.ByteArray(payload.getHash()), payload);
+            if (i < numKnown) {
+                excludedKeys.add(payload.getHash());
+            }
+        }
+        getDataRequest = new PreliminaryGetDataRequest(1, excludedKeys);
+        peerCapabilities = new Capabilities(Capability.values());
+    }
+
+    @Benchmark
+    public GetDataResponse buildGetDataResponse() {
+        return dataStorage.buildGetDataResponse(getDataRequest,
+                MAX_ENTRIES,
+                new AtomicBoolean(),
+                new AtomicBoolean(),
+                peerCapabilities,
+                mapForDataResponse,
+                payload -> payload.toProtoMessage().getSerializedSize());
+    }
+}
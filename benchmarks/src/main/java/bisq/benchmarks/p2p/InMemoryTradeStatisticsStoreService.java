@@ -0,0 +1,74 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.benchmarks.p2p;
+
+import bisq.core.trade.statistics.TradeStatistics3;
+import bisq.core.trade.statistics.TradeStatistics3Store;
+
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+import bisq.network.p2p.storage.persistence.MapStoreService;
+
+import bisq.common.persistence.PersistenceManager;
+
+import java.io.File;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * MapStoreService for TradeStatistics3 which keeps the data only in memory, so the benchmarks measure the
+ * P2PDataStorage and not the disk.
+ */
+class InMemoryTradeStatisticsStoreService extends MapStoreService<TradeStatistics3Store, PersistableNetworkPayload> {
+
+    @SuppressWarnings("unchecked")
+    InMemoryTradeStatisticsStoreService() {
+        super(new File(System.getProperty("java.io.tmpdir")), mock(PersistenceManager.class));
+        store = createStore();
+    }
+
+    @Override
+    public Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> getMap() {
+        return store.getMap();
+    }
+
+    @Override
+    public boolean canHandle(PersistableNetworkPayload payload) {
+        return payload instanceof TradeStatistics3;
+    }
+
+    @Override
+    public String getFileName() {
+        return "TradeStatistics3Store";
+    }
+
+    @Override
+    protected void readFromResourcesSync(String postFix) {
+    }
+
+    @Override
+    protected void initializePersistenceManager() {
+    }
+
+    @Override
+    protected TradeStatistics3Store createStore() {
+        return new TradeStatistics3Store();
+    }
+}
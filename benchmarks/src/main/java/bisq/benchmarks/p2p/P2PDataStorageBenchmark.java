@@ -0,0 +1,141 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.benchmarks.p2p;
+
+import bisq.benchmarks.ResourceStores;
+
+import bisq.core.dao.governance.proposal.storage.temp.TempProposalPayload;
+import bisq.core.dao.state.model.governance.Proposal;
+import bisq.core.trade.statistics.TradeStatistics3;
+
+import bisq.network.p2p.network.NetworkNode;
+import bisq.network.p2p.peers.Broadcaster;
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
+import bisq.network.p2p.storage.persistence.AppendOnlyDataStoreService;
+import bisq.network.p2p.storage.persistence.ProtectedDataStoreService;
+import bisq.network.p2p.storage.persistence.RemovedPayloadsService;
+import bisq.network.p2p.storage.persistence.ResourceDataStoreService;
+
+import bisq.common.crypto.CryptoException;
+import bisq.common.crypto.Sig;
+import bisq.common.persistence.PersistenceManager;
+
+import java.security.KeyPair;
+
+import java.time.Clock;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Adds all mainnet trade statistics of the 1.4.0 resource store and a signed TempProposalPayload for each mainnet
+ * proposal to an empty P2PDataStorage, like a node does at startup and when receiving the initial data.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class P2PDataStorageBenchmark {
+    // Same value as bound in P2PModule
+    private static final int MAX_SEQUENCE_NUMBER_MAP_SIZE_BEFORE_PURGE = 1000;
+
+    private List<TradeStatistics3> tradeStatistics;
+    private List<ProtectedStorageEntry> protectedStorageEntries;
+    private P2PDataStorage dataStorage;
+
+    @Setup(Level.Trial)
+    public void setUpData() throws IOException, CryptoException {
+        tradeStatistics = ResourceStores.readTradeStatistics();
+
+        P2PDataStorage signingDataStorage = createDataStorage();
+        KeyPair keyPair = Sig.generateKeyPair();
+        protectedStorageEntries = new ArrayList<>();
+        for (Proposal proposal : ResourceStores.readProposals()) {
+            TempProposalPayload payload = new TempProposalPayload(proposal, keyPair.getPublic());
+            protectedStorageEntries.add(signingDataStorage.getProtectedStorageEntry(payload, keyPair));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpDataStorage() {
+        dataStorage = createDataStorage();
+    }
+
+    @Benchmark
+    public int addPersistableNetworkPayload() {
+        int numAdded = 0;
+        for (TradeStatistics3 payload : tradeStatistics) {
+            if (dataStorage.addPersistableNetworkPayload(payload, null, false)) {
+                numAdded++;
+            }
+        }
+        return numAdded;
+    }
+
+    @Benchmark
+    public int addProtectedStorageEntry() {
+        int numAdded = 0;
+        for (ProtectedStorageEntry entry : protectedStorageEntries) {
+            if (dataStorage.addProtectedStorageEntry(entry, null, null)) {
+                numAdded++;
+            }
+        }
+        return numAdded;
+    }
+
+    // The mocks must not record their invocations as they are called for each added entry
+    static P2PDataStorage createDataStorage() {
+        AppendOnlyDataStoreService appendOnlyDataStoreService = new AppendOnlyDataStoreService();
+        appendOnlyDataStoreService.addService(new InMemoryTradeStatisticsStoreService());
+        return new P2PDataStorage(stubOnly(NetworkNode.class),
+                stubOnly(Broadcaster.class),
+                appendOnlyDataStoreService,
+                new ProtectedDataStoreService(),
+                stubOnly(ResourceDataStoreService.class),
+                stubOnly(PersistenceManager.class),
+                stubOnly(RemovedPayloadsService.class),
+                Clock.systemDefaultZone(),
+                MAX_SEQUENCE_NUMBER_MAP_SIZE_BEFORE_PURGE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stubOnly(Class<?> classToMock) {
+        return (T) mock(classToMock, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.benchmarks.persistence;
+
+import bisq.benchmarks.ResourceStores;
+
+import bisq.core.trade.statistics.TradeStatistics3;
+import bisq.core.trade.statistics.TradeStatistics3Store;
+
+import com.google.protobuf.Message;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The steps of PersistenceManager for the mainnet trade statistics of the 1.4.0 resource store: the serialisation
+ * done at the UserThread, the encoding written to the file (without the disk access) and the deserialisation at
+ * startup, as a whole store and for the single TradeStatistics3 items.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TradeStatisticsStoreBenchmark {
+    private TradeStatistics3Store store;
+    private protobuf.PersistableEnvelope serialized;
+    private byte[] storeBytes;
+    private List<protobuf.TradeStatistics3> tradeStatisticsProtos;
+
+    @Setup
+    public void setUp() throws IOException {
+        storeBytes = ResourceStores.readBytes(ResourceStores.TRADE_STATISTICS_STORE);
+        serialized = protobuf.PersistableEnvelope.parseDelimitedFrom(new ByteArrayInputStream(storeBytes));
+        store = TradeStatistics3Store.fromProto(serialized.getTradeStatistics3Store());
+        tradeStatisticsProtos = serialized.getTradeStatistics3Store().getItemsList();
+    }
+
+    @Benchmark
+    public Message serialize() {
+        return store.toPersistableMessage();
+    }
+
+    @Benchmark
+    public byte[] writeDelimited() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(storeBytes.length);
+        serialized.writeDelimitedTo(outputStream);
+        return outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public TradeStatistics3Store readStore() throws IOException {
+        protobuf.PersistableEnvelope proto = protobuf.PersistableEnvelope.parseDelimitedFrom(
+                new ByteArrayInputStream(storeBytes));
+        return TradeStatistics3Store.fromProto(proto.getTradeStatistics3Store());
+    }
+
+    @Benchmark
+    public List<TradeStatistics3> deserializeTradeStatistics3() {
+        return tradeStatisticsProtos.stream()
+                .map(TradeStatistics3::fromProto)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Hashed timing wheel (see Varghese and Lauck, "Hashed and Hierarchical Timing Wheels"). The timeouts are kept in
+ * doubly linked lists in buckets of one tick each, so scheduling and cancelling is O(1). A timeout which is more than
+ * one revolution of the wheel in the future keeps the number of remaining rounds, which gets decremented each time its
+ * bucket is passed.
+ * <p>
+ * {@link #advance()} processes all ticks up to the current time of the clock and hands the expired tasks in one batch
+ * to the executor. Only the buckets of the passed ticks are visited, so the costs of a tick do not depend on the
+ * total number of timeouts. If no timeout is expired nothing is passed to the executor.
+ * <p>
+ * All methods are thread safe.
+ */
+@Slf4j
+public final class TimingWheel {
+    private final long tickDurationMs;
+    private final int mask;
+    // Head and tail of the list of each bucket. New timeouts are appended, so the timeouts of a tick are executed in
+    // the order they have been scheduled.
+    private final Timeout[] heads;
+    private final Timeout[] tails;
+    private final LongSupplier clockMs;
+    private final Executor executor;
+    private final long startMs;
+    // The next tick to be processed
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickDurationMs, int wheelSize, LongSupplier clockMs, Executor executor) {
+        checkArgument(tickDurationMs > 0, "tickDurationMs must be positive");
+        checkArgument(wheelSize > 0 && Integer.bitCount(wheelSize) == 1, "wheelSize must be a power of 2");
+        this.tickDurationMs = tickDurationMs;
+        this.mask = wheelSize - 1;
+        this.heads = new Timeout[wheelSize];
+        this.tails = new Timeout[wheelSize];
+        this.clockMs = clockMs;
+        this.executor = executor;
+        this.startMs = clockMs.getAsLong();
+    }
+
+    // The task is executed at the first tick at or after the delay, at the earliest at the next tick
+    public synchronized Timeout schedule(long delayMs, Runnable task) {
+        long deadline = clockMs.getAsLong() - startMs + Math.max(0, delayMs);
+        Timeout timeout = new Timeout(this, task);
+        long tick = Math.max((deadline + tickDurationMs - 1) / tickDurationMs, currentTick);
+        timeout.remainingRounds = (tick - currentTick) / heads.length;
+        int bucketIndex = (int) (tick & mask);
+        timeout.bucketIndex = bucketIndex;
+        Timeout tail = tails[bucketIndex];
+        timeout.previous = tail;
+        if (tail != null) {
+            tail.next = timeout;
+        } else {
+            heads[bucketIndex] = timeout;
+        }
+        tails[bucketIndex] = timeout;
+        size++;
+        return timeout;
+    }
+
+    public void advance() {
+        List<Timeout> expiredTimeouts = new ArrayList<>();
+        synchronized (this) {
+            long elapsedTicks = (clockMs.getAsLong() - startMs) / tickDurationMs;
+            while (currentTick <= elapsedTicks) {
+                Timeout timeout = heads[(int) (currentTick & mask)];
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    if (timeout.remainingRounds <= 0) {
+                        remove(timeout);
+                        expiredTimeouts.add(timeout);
+                    } else {
+                        timeout.remainingRounds--;
+                    }
+                    timeout = next;
+                }
+                currentTick++;
+            }
+        }
+
+        if (!expiredTimeouts.isEmpty()) {
+            executor.execute(() -> expiredTimeouts.forEach(Timeout::run));
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if (timeout.bucketIndex < 0) {
+            return false;
+        }
+        remove(timeout);
+        return true;
+    }
+
+    private void remove(Timeout timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            heads[timeout.bucketIndex] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        } else {
+            tails[timeout.bucketIndex] = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucketIndex = -1;
+        size--;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Timeout
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static final class Timeout {
+        private final TimingWheel timingWheel;
+        private final Runnable task;
+        // Guarded by the lock of the timingWheel. A negative index means the timeout is expired or cancelled.
+        private int bucketIndex;
+        private long remainingRounds;
+        private Timeout previous;
+        private Timeout next;
+
+        private Timeout(TimingWheel timingWheel, Runnable task) {
+            this.timingWheel = timingWheel;
+            this.task = task;
+        }
+
+        // Returns false if the timeout is already expired or cancelled. An expired task might not have been
+        // executed yet.
+        public boolean cancel() {
+            return timingWheel.cancel(this);
+        }
+
+        private void run() {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.error("Exception at running the task of a timeout", t);
+            }
+        }
+    }
+}
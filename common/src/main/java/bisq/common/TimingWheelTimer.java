@@ -0,0 +1,94 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common;
+
+import java.time.Duration;
+
+/**
+ * Timer for headless apps like the seed node. All timers share one {@link TimingWheel} with a resolution of
+ * {@link MasterTimer#FRAME_INTERVAL_MS}, so in contrast to the {@link FrameRateTimer} not all timers are checked at each
+ * frame but only the expired ones get executed on the UserThread.
+ */
+public class TimingWheelTimer implements Timer {
+    // 1024 ticks of 100 ms are about 100 sec. per revolution, which covers most of our timeouts.
+    private static final int WHEEL_SIZE = 1024;
+    private static final TimingWheel timingWheel = new TimingWheel(MasterTimer.FRAME_INTERVAL_MS,
+            WHEEL_SIZE,
+            () -> System.nanoTime() / 1_000_000,
+            UserThread::execute);
+
+    static {
+        java.util.Timer timer = new java.util.Timer("TimingWheelTimer", true);
+        timer.scheduleAtFixedRate(new java.util.TimerTask() {
+            @Override
+            public void run() {
+                timingWheel.advance();
+            }
+        }, MasterTimer.FRAME_INTERVAL_MS, MasterTimer.FRAME_INTERVAL_MS);
+    }
+
+    private Runnable runnable;
+    private long interval;
+    private boolean isPeriodically;
+    private volatile boolean stopped;
+    private volatile TimingWheel.Timeout timeout;
+
+    public TimingWheelTimer() {
+    }
+
+    @Override
+    public Timer runLater(Duration delay, Runnable runnable) {
+        this.interval = delay.toMillis();
+        this.runnable = runnable;
+        timeout = timingWheel.schedule(interval, this::onTimeout);
+        return this;
+    }
+
+    @Override
+    public Timer runPeriodically(Duration interval, Runnable runnable) {
+        this.interval = interval.toMillis();
+        isPeriodically = true;
+        this.runnable = runnable;
+        timeout = timingWheel.schedule(this.interval, this::onTimeout);
+        return this;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        TimingWheel.Timeout timeout = this.timeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private void onTimeout() {
+        if (stopped) {
+            return;
+        }
+        try {
+            runnable.run();
+        } catch (Throwable t) {
+            stop();
+            throw t;
+        }
+        if (isPeriodically && !stopped) {
+            timeout = timingWheel.schedule(interval, this::onTimeout);
+        }
+    }
+}
@@ -115,6 +115,7 @@ public class Config {
     public static final String RPC_PORT = "rpcPort";
     public static final String RPC_BLOCK_NOTIFICATION_PORT = "rpcBlockNotificationPort";
     public static final String RPC_BLOCK_NOTIFICATION_HOST = "rpcBlockNotificationHost";
+    public static final String RPC_MAX_PARALLEL_BLOCK_REQUESTS = "rpcMaxParallelBlockRequests";
     public static final String DUMP_BLOCKCHAIN_DATA = "dumpBlockchainData";
     public static final String FULL_DAO_NODE = "fullDaoNode";
     public static final String GENESIS_TX_ID = "genesisTxId";
@@ -126,6 +127,7 @@ public class Config {
     public static final String API_PORT = "apiPort";
     public static final String PREVENT_PERIODIC_SHUTDOWN_AT_SEED_NODE = "preventPeriodicShutdownAtSeedNode";
     public static final String REPUBLISH_MAILBOX_ENTRIES = "republishMailboxEntries";
+    public static final String MAILBOX_DECRYPTION_THREADS = "mailboxDecryptionThreads";
     public static final String LEGACY_FEE_DATAMAP = "dataMap";
     public static final String BTC_TX_FEE = "btcTxFee";
     public static final String BTC_MIN_TX_FEE = "btcMinTxFee";
@@ -140,6 +142,10 @@ public class Config {
     public static final String SEED_NODE_REPORTING_SERVER_URL = "seedNodeReportingServerUrl";
     public static final String USE_TOR_FOR_BTC_MONITOR = "useTorForBtcMonitor";
     public static final String USE_FULL_MODE_DAO_MONITOR = "useFullModeDaoMonitor";
+    public static final String USE_MAPPED_HISTORICAL_STORES = "useMappedHistoricalStores";
+    public static final String USE_JOURNALED_PERSISTENCE = "useJournaledPersistence";
+    public static final String POW_SOLVER_THREADS = "powSolverThreads";
+    public static final String METRICS_PORT = "metricsPort";
 
     // Default values for certain options
     public static final int UNSPECIFIED_PORT = -1;
@@ -220,6 +226,7 @@ public class Config {
     public final int rpcPort;
     public final int rpcBlockNotificationPort;
     public final String rpcBlockNotificationHost;
+    public final int rpcMaxParallelBlockRequests;
     public final boolean dumpBlockchainData;
     public final boolean fullDaoNode;
     public final boolean fullDaoNodeOptionSetExplicitly;
@@ -232,6 +239,7 @@ public class Config {
     public final int apiPort;
     public final boolean preventPeriodicShutdownAtSeedNode;
     public final boolean republishMailboxEntries;
+    public final int mailboxDecryptionThreads;
     public final boolean bypassMempoolValidation;
     public final String daoNodeApiUrl;
     public final int daoNodeApiPort;
@@ -242,6 +250,10 @@ public class Config {
     public final boolean useTorForBtcMonitor;
     public final boolean useFullModeDaoMonitor;
     public final boolean useFullModeDaoMonitorSetExplicitly;
+    public final boolean useMappedHistoricalStores;
+    public final boolean useJournaledPersistence;
+    public final int powSolverThreads;
+    public final int metricsPort;
 
     // Properties derived from options but not exposed as options themselves
     public final File torDir;
@@ -632,6 +644,13 @@ public class Config {
                         .withRequiredArg()
                         .defaultsTo("");
 
+        ArgumentAcceptingOptionSpec<Integer> rpcMaxParallelBlockRequestsOpt =
+                parser.accepts(RPC_MAX_PARALLEL_BLOCK_REQUESTS,
+                                "Max. number of blocks requested in parallel from Bitcoind ahead of the block parser")
+                        .withRequiredArg()
+                        .ofType(int.class)
+                        .defaultsTo(4);
+
         ArgumentAcceptingOptionSpec<Boolean> dumpBlockchainDataOpt =
                 parser.accepts(DUMP_BLOCKCHAIN_DATA, "If set to true the blockchain data " +
                                 "from RPC requests to Bitcoin Core are stored as json file in the data dir.")
@@ -703,6 +722,13 @@ public class Config {
                         .ofType(boolean.class)
                         .defaultsTo(false);
 
+        ArgumentAcceptingOptionSpec<Integer> mailboxDecryptionThreadsOpt =
+                parser.accepts(MAILBOX_DECRYPTION_THREADS,
+                                "Max. number of threads used for decrypting mailbox messages at startup")
+                        .withRequiredArg()
+                        .ofType(int.class)
+                        .defaultsTo(4);
+
         ArgumentAcceptingOptionSpec<Boolean> bypassMempoolValidationOpt =
                 parser.accepts(BYPASS_MEMPOOL_VALIDATION,
                                 "Prevents mempool check of trade parameters")
@@ -757,6 +783,37 @@ public class Config {
                         .ofType(Boolean.class)
                         .defaultsTo(false);
 
+        ArgumentAcceptingOptionSpec<Boolean> useMappedHistoricalStoresOpt =
+                parser.accepts(USE_MAPPED_HISTORICAL_STORES, "If set to true the historical data store files are " +
+                                "memory mapped and their payloads are only decoded on request instead of being " +
+                                "read into the heap at startup.")
+                        .withRequiredArg()
+                        .ofType(Boolean.class)
+                        .defaultsTo(false);
+
+        ArgumentAcceptingOptionSpec<Boolean> useJournaledPersistenceOpt =
+                parser.accepts(USE_JOURNALED_PERSISTENCE, "If set to true frequently changed data stores like the " +
+                                "sequence number map, the trade statistics and the mailbox messages write their " +
+                                "changes to an append-only journal file and only rewrite the whole file when the " +
+                                "journal gets compacted.")
+                        .withRequiredArg()
+                        .ofType(Boolean.class)
+                        .defaultsTo(false);
+
+        ArgumentAcceptingOptionSpec<Integer> powSolverThreadsOpt =
+                parser.accepts(POW_SOLVER_THREADS, "Number of threads used for minting the proof of work of " +
+                                "BSQ swap offers. Defaults to the number of available processors.")
+                        .withRequiredArg()
+                        .ofType(int.class)
+                        .defaultsTo(Runtime.getRuntime().availableProcessors());
+
+        ArgumentAcceptingOptionSpec<Integer> metricsPortOpt =
+                parser.accepts(METRICS_PORT, "Port of the local HTTP endpoint serving the metrics in the " +
+                                "Prometheus text format at /metrics. Disabled if not set.")
+                        .withRequiredArg()
+                        .ofType(Integer.class)
+                        .defaultsTo(UNSPECIFIED_PORT);
+
         try {
             CompositeOptionSet options = new CompositeOptionSet();
 
@@ -864,6 +921,7 @@ public class Config {
             this.rpcPort = options.valueOf(rpcPortOpt);
             this.rpcBlockNotificationPort = options.valueOf(rpcBlockNotificationPortOpt);
             this.rpcBlockNotificationHost = options.valueOf(rpcBlockNotificationHostOpt);
+            this.rpcMaxParallelBlockRequests = options.valueOf(rpcMaxParallelBlockRequestsOpt);
             this.dumpBlockchainData = options.valueOf(dumpBlockchainDataOpt);
             this.fullDaoNode = options.valueOf(fullDaoNodeOpt);
             this.fullDaoNodeOptionSetExplicitly = options.has(fullDaoNodeOpt);
@@ -876,6 +934,7 @@ public class Config {
             this.apiPort = options.valueOf(apiPortOpt);
             this.preventPeriodicShutdownAtSeedNode = options.valueOf(preventPeriodicShutdownAtSeedNodeOpt);
             this.republishMailboxEntries = options.valueOf(republishMailboxEntriesOpt);
+            this.mailboxDecryptionThreads = options.valueOf(mailboxDecryptionThreadsOpt);
             this.bypassMempoolValidation = options.valueOf(bypassMempoolValidationOpt);
             this.daoNodeApiUrl = options.valueOf(daoNodeApiUrlOpt);
             this.daoNodeApiPort = options.valueOf(daoNodeApiPortOpt);
@@ -886,6 +945,10 @@ public class Config {
             this.useTorForBtcMonitor = options.valueOf(useTorForBtcMonitorOpt);
             this.useFullModeDaoMonitor = options.valueOf(useFullModeDaoMonitorOpt);
             this.useFullModeDaoMonitorSetExplicitly = options.has(useFullModeDaoMonitorOpt);
+            this.useMappedHistoricalStores = options.valueOf(useMappedHistoricalStoresOpt);
+            this.useJournaledPersistence = options.valueOf(useJournaledPersistenceOpt);
+            this.powSolverThreads = options.valueOf(powSolverThreadsOpt);
+            this.metricsPort = options.valueOf(metricsPortOpt);
         } catch (OptionException ex) {
             throw new ConfigException("problem parsing option '%s': %s",
                     ex.options().get(0),
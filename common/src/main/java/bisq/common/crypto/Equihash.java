@@ -42,6 +42,7 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.PrimitiveIterator;
+import java.util.function.BooleanSupplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -208,12 +209,26 @@ public class Equihash {
         }
 
         public Solution findSolution() {
+            return findSolution(0, 1, () -> false).orElseThrow();
+        }
+
+        /**
+         * Tries the nonces firstNonce, firstNonce + nonceStep, firstNonce + 2 * nonceStep, ... until a solution
+         * is found or the search got cancelled. That allows several threads to search disjoint sets of nonces of the
+         * same puzzle in parallel.
+         *
+         * @param isCancelled   Checked before each nonce attempt.
+         * @return The solution or empty if the search got cancelled.
+         */
+        public Optional<Solution> findSolution(int firstNonce, int nonceStep, BooleanSupplier isCancelled) {
+            checkArgument(firstNonce >= 0 && nonceStep > 0, "Invalid nonce range");
             Optional<int[]> inputs;
-            for (int nonce = 0; ; nonce++) {
+            for (long nonce = firstNonce; !isCancelled.getAsBoolean(); nonce += nonceStep) {
                 if ((inputs = withHashPrefix(seed, nonce).findInputs()).isPresent()) {
-                    return new Solution(nonce, inputs.get());
+                    return Optional.of(new Solution(nonce, inputs.get()));
                 }
             }
+            return Optional.empty();
         }
 
         @VisibleForTesting
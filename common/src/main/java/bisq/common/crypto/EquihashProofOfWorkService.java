@@ -22,33 +22,79 @@ import com.google.common.primitives.Longs;
 
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Minting runs on a dedicated ForkJoinPool with the configured number of threads. Each thread searches its own
+ * subset of the nonces of the puzzle, so the expected minting time is roughly divided by the number of threads. The
+ * parallel streams used for solving a single nonce attempt run in the same pool, so the pool limits the number of
+ * cores used for minting.
+ * <p>
+ * The minting can be cancelled by cancelling the returned future. The threads stop before their next nonce attempt.
+ */
 @Slf4j
 public class EquihashProofOfWorkService extends ProofOfWorkService {
     /** Rough cost of two Hashcash iterations compared to solving an Equihash-90-5 puzzle of unit difficulty. */
     private static final double DIFFICULTY_SCALE_FACTOR = 3.0e-5;
 
+    private static volatile int configuredParallelism = Runtime.getRuntime().availableProcessors();
+    private static ForkJoinPool forkJoinPool;
+
+    // Called at startup with the powSolverThreads config value
+    public static synchronized void setParallelism(int parallelism) {
+        configuredParallelism = Math.max(1, parallelism);
+    }
+
+    private static synchronized ForkJoinPool getForkJoinPool(int parallelism) {
+        if (forkJoinPool == null || forkJoinPool.getParallelism() != parallelism) {
+            if (forkJoinPool != null) {
+                // Running mint tasks complete as the pool only stops accepting new tasks
+                forkJoinPool.shutdown();
+            }
+            forkJoinPool = new ForkJoinPool(parallelism);
+        }
+        return forkJoinPool;
+    }
+
     EquihashProofOfWorkService(int version) {
         super(version);
     }
 
     @Override
     public CompletableFuture<ProofOfWork> mint(byte[] payload, byte[] challenge, double difficulty) {
+        return mint(payload, challenge, difficulty, configuredParallelism);
+    }
+
+    CompletableFuture<ProofOfWork> mint(byte[] payload, byte[] challenge, double difficulty, int parallelism) {
         double scaledDifficulty = scaledDifficulty(difficulty);
-        log.info("Got scaled & adjusted difficulty: {}", scaledDifficulty);
-
-        return CompletableFuture.supplyAsync(() -> {
-            long ts = System.currentTimeMillis();
-            byte[] seed = getSeed(payload, challenge);
-            byte[] solution = new Equihash(90, 5, scaledDifficulty).puzzle(seed).findSolution().serialize();
-            long counter = Longs.fromByteArray(Arrays.copyOf(solution, 8));
-            var proofOfWork = new ProofOfWork(payload, counter, challenge, difficulty,
-                    System.currentTimeMillis() - ts, solution, getVersion());
-            log.info("Completed minting proofOfWork: {}", proofOfWork);
-            return proofOfWork;
-        });
+        log.info("Got scaled & adjusted difficulty: {}. We use {} threads for minting.", scaledDifficulty, parallelism);
+
+        CompletableFuture<ProofOfWork> future = new CompletableFuture<>();
+        long ts = System.currentTimeMillis();
+        var puzzle = new Equihash(90, 5, scaledDifficulty).puzzle(getSeed(payload, challenge));
+        ForkJoinPool pool = getForkJoinPool(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            int firstNonce = i;
+            pool.execute(() -> {
+                try {
+                    // We stop searching once any thread has found a solution or the future got cancelled
+                    puzzle.findSolution(firstNonce, parallelism, future::isDone).ifPresent(solution -> {
+                        byte[] solutionBytes = solution.serialize();
+                        long counter = Longs.fromByteArray(Arrays.copyOf(solutionBytes, 8));
+                        var proofOfWork = new ProofOfWork(payload, counter, challenge, difficulty,
+                                System.currentTimeMillis() - ts, solutionBytes, getVersion());
+                        if (future.complete(proofOfWork)) {
+                            log.info("Completed minting proofOfWork: {}", proofOfWork);
+                        }
+                    });
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        }
+        return future;
     }
 
     private byte[] getSeed(byte[] payload, byte[] challenge) {
@@ -0,0 +1,83 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of observed values in buckets with fixed upper bounds, e.g. latencies in seconds. Observations do not
+ * block. A snapshot read while values are observed can be slightly inconsistent, which is fine for monitoring.
+ */
+public final class Histogram {
+    // Upper bounds in seconds for latencies from 1 ms to 1 min
+    static final double[] DEFAULT_LATENCY_BUCKETS = {0.001, 0.005, 0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60};
+
+    private final double[] upperBounds;
+    // Number of observations per bucket, not cumulative. The last one counts the values above the largest bound.
+    private final LongAdder[] bucketCounts;
+    private final DoubleAdder sum = new DoubleAdder();
+
+    Histogram(double[] upperBounds) {
+        this.upperBounds = upperBounds.clone();
+        Arrays.sort(this.upperBounds);
+        bucketCounts = new LongAdder[this.upperBounds.length + 1];
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = new LongAdder();
+        }
+    }
+
+    public void observe(double value) {
+        int index = Arrays.binarySearch(upperBounds, value);
+        // The bounds are inclusive
+        bucketCounts[index >= 0 ? index : -index - 1].increment();
+        sum.add(value);
+    }
+
+    public void observeMillis(long durationMs) {
+        observe(durationMs / 1000d);
+    }
+
+    double[] getUpperBounds() {
+        return upperBounds.clone();
+    }
+
+    // Cumulative counts per upper bound, the last one is the count of all observations
+    long[] getCumulativeCounts() {
+        long[] counts = new long[bucketCounts.length];
+        long count = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            count += bucketCounts[i].sum();
+            counts[i] = count;
+        }
+        return counts;
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucketCount : bucketCounts) {
+            count += bucketCount.sum();
+        }
+        return count;
+    }
+
+    public double getSum() {
+        return sum.sum();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import lombok.Getter;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * All metrics with the same name. The metrics of a family differ by their labels.
+ */
+final class MetricFamily {
+    enum Type {
+        COUNTER,
+        GAUGE,
+        HISTOGRAM
+    }
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+    private static final Pattern LABEL_NAME_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    @Getter
+    private final String name;
+    @Getter
+    private final String help;
+    @Getter
+    private final Type type;
+    // Key is the formatted label list, e.g. message="Ping". Sorted for a stable output.
+    @Getter
+    private final Map<String, Object> metricsByLabels = new ConcurrentSkipListMap<>();
+
+    MetricFamily(String name, String help, Type type) {
+        checkArgument(NAME_PATTERN.matcher(name).matches(), "Invalid metric name %s", name);
+        this.name = name;
+        this.help = help;
+        this.type = type;
+    }
+
+    Object getOrCreate(String[] labels, Supplier<Object> metricFactory) {
+        return metricsByLabels.computeIfAbsent(formatLabels(labels), key -> metricFactory.get());
+    }
+
+    void put(String[] labels, Object metric) {
+        metricsByLabels.put(formatLabels(labels), metric);
+    }
+
+    // Labels are passed as name value pairs
+    private static String formatLabels(String[] labels) {
+        checkArgument(labels.length % 2 == 0, "Labels must be name value pairs");
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            checkArgument(LABEL_NAME_PATTERN.matcher(labels[i]).matches(), "Invalid label name %s", labels[i]);
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(labels[i]).append("=\"").append(escapeLabelValue(labels[i + 1])).append('"');
+        }
+        return sb.toString();
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
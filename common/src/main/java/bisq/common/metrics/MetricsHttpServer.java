@@ -0,0 +1,101 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.metrics;
+
+import bisq.common.util.SingleThreadExecutorUtils;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import java.nio.charset.StandardCharsets;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.concurrent.ExecutorService;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Serves the metrics of a registry at http://127.0.0.1:port/metrics in the Prometheus text format. The server is only
+ * bound to the loopback address, so the metrics are not exposed to other hosts. A reverse proxy or a scraper running
+ * on the same host can be used to collect them.
+ */
+@Slf4j
+public final class MetricsHttpServer {
+    private static final String PATH = "/metrics";
+
+    private final MetricsRegistry registry;
+    private final int port;
+    @Nullable
+    private HttpServer httpServer;
+    @Nullable
+    private ExecutorService executor;
+
+    public MetricsHttpServer(MetricsRegistry registry, int port) {
+        this.registry = registry;
+        this.port = port;
+    }
+
+    public void start() throws IOException {
+        httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        httpServer.createContext(PATH, this::handle);
+        // Scrapes are rare, a single thread is sufficient
+        executor = SingleThreadExecutorUtils.getSingleThreadExecutor("MetricsHttpServer");
+        httpServer.setExecutor(executor);
+        httpServer.start();
+        log.info("Metrics are served at http://{}:{}{}", InetAddress.getLoopbackAddress().getHostAddress(), port, PATH);
+    }
+
+    public void stop() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+            httpServer = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod()) || !PATH.equals(exchange.getRequestURI().getPath())) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] bytes = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", PrometheusTextFormat.CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(bytes);
+            }
+        } catch (Throwable t) {
+            log.error("Serving metrics failed", t);
+        } finally {
+            exchange.close();
+        }
+    }
+}
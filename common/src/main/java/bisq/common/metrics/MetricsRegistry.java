@@ -0,0 +1,86 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Registry of the counters, gauges and histograms of the application. Lookups and updates of the metrics do not lock,
+ * so they can be used from the network threads and the UserThread without contention. Callers should keep the
+ * returned metric in a field where possible, as the lookup by name and labels costs a string concatenation.
+ * <p>
+ * Labels are passed as name value pairs, e.g. counter("bisq_messages_sent_total", "...", "message", "Ping").
+ * The metrics can be exported in the Prometheus text format with {@link #scrape()}.
+ */
+public final class MetricsRegistry {
+    private static final MetricsRegistry DEFAULT = new MetricsRegistry();
+
+    public static MetricsRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    private final Map<String, MetricFamily> familiesByName = new ConcurrentSkipListMap<>();
+
+    public MetricsRegistry() {
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) getFamily(name, help, MetricFamily.Type.COUNTER).getOrCreate(labels, Counter::new);
+    }
+
+    public Histogram histogram(String name, String help, String... labels) {
+        return histogram(name, help, Histogram.DEFAULT_LATENCY_BUCKETS, labels);
+    }
+
+    public Histogram histogram(String name, String help, double[] upperBounds, String... labels) {
+        return (Histogram) getFamily(name, help, MetricFamily.Type.HISTOGRAM)
+                .getOrCreate(labels, () -> new Histogram(upperBounds));
+    }
+
+    // The supplier is called at each scrape from the thread of the caller of scrape(), so it must be thread safe.
+    // A gauge registered again with the same labels replaces the previous one.
+    public void gauge(String name, String help, DoubleSupplier supplier, String... labels) {
+        getFamily(name, help, MetricFamily.Type.GAUGE).put(labels, supplier);
+    }
+
+    public String scrape() {
+        StringBuilder sb = new StringBuilder();
+        familiesByName.values().forEach(family -> PrometheusTextFormat.write(family, sb));
+        return sb.toString();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private MetricFamily getFamily(String name, String help, MetricFamily.Type type) {
+        MetricFamily family = familiesByName.computeIfAbsent(name, key -> new MetricFamily(name, help, type));
+        if (family.getType() != type) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as " + family.getType());
+        }
+        return family;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Writes metric families in the Prometheus text exposition format, version 0.0.4.
+ */
+final class PrometheusTextFormat {
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private PrometheusTextFormat() {
+    }
+
+    static void write(MetricFamily family, StringBuilder sb) {
+        String name = family.getName();
+        sb.append("# HELP ").append(name).append(' ').append(escapeHelp(family.getHelp())).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(family.getType().name().toLowerCase()).append('\n');
+        family.getMetricsByLabels().forEach((labels, metric) -> {
+            switch (family.getType()) {
+                case COUNTER:
+                    writeSample(sb, name, labels, ((Counter) metric).get());
+                    break;
+                case GAUGE:
+                    writeSample(sb, name, labels, getGaugeValue((DoubleSupplier) metric));
+                    break;
+                case HISTOGRAM:
+                    writeHistogram(sb, name, labels, (Histogram) metric);
+                    break;
+            }
+        });
+    }
+
+    private static void writeHistogram(StringBuilder sb, String name, String labels, Histogram histogram) {
+        double[] upperBounds = histogram.getUpperBounds();
+        long[] cumulativeCounts = histogram.getCumulativeCounts();
+        String labelsPrefix = labels.isEmpty() ? "" : labels + ",";
+        for (int i = 0; i < upperBounds.length; i++) {
+            writeSample(sb, name + "_bucket", labelsPrefix + "le=\"" + formatDouble(upperBounds[i]) + "\"",
+                    cumulativeCounts[i]);
+        }
+        long count = cumulativeCounts[cumulativeCounts.length - 1];
+        writeSample(sb, name + "_bucket", labelsPrefix + "le=\"+Inf\"", count);
+        writeSample(sb, name + "_sum", labels, histogram.getSum());
+        writeSample(sb, name + "_count", labels, count);
+    }
+
+    private static void writeSample(StringBuilder sb, String name, String labels, long value) {
+        appendNameAndLabels(sb, name, labels).append(value).append('\n');
+    }
+
+    private static void writeSample(StringBuilder sb, String name, String labels, double value) {
+        appendNameAndLabels(sb, name, labels).append(formatDouble(value)).append('\n');
+    }
+
+    private static StringBuilder appendNameAndLabels(StringBuilder sb, String name, String labels) {
+        sb.append(name);
+        if (!labels.isEmpty()) {
+            sb.append('{').append(labels).append('}');
+        }
+        return sb.append(' ');
+    }
+
+    private static double getGaugeValue(DoubleSupplier supplier) {
+        try {
+            return supplier.getAsDouble();
+        } catch (Throwable t) {
+            // A failing gauge must not break the whole scrape
+            return Double.NaN;
+        }
+    }
+
+    static String formatDouble(double value) {
+        if (value == Double.POSITIVE_INFINITY) {
+            return "+Inf";
+        } else if (value == Double.NEGATIVE_INFINITY) {
+            return "-Inf";
+        } else if (Double.isNaN(value)) {
+            return "NaN";
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        } else {
+            return Double.toString(value);
+        }
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
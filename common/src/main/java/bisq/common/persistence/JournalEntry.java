@@ -0,0 +1,54 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.persistence;
+
+import lombok.Getter;
+
+/**
+ * A single change of a {@link JournaledPersistableEnvelope} which gets appended to the journal file. Key and value
+ * are the protobuf encodings defined by the persistable, the value is empty for removals.
+ */
+@Getter
+public final class JournalEntry {
+    public enum Type {
+        PUT,
+        REMOVE
+    }
+
+    private final Type type;
+    private final byte[] key;
+    private final byte[] value;
+
+    public static JournalEntry put(byte[] key, byte[] value) {
+        return new JournalEntry(Type.PUT, key, value);
+    }
+
+    public static JournalEntry remove(byte[] key) {
+        return new JournalEntry(Type.REMOVE, key, new byte[0]);
+    }
+
+    JournalEntry(Type type, byte[] key, byte[] value) {
+        this.type = type;
+        this.key = key;
+        this.value = value;
+    }
+
+    int getSize() {
+        return key.length + value.length;
+    }
+}
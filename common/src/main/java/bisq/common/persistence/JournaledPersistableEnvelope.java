@@ -0,0 +1,32 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.persistence;
+
+import bisq.common.proto.persistable.PersistableEnvelope;
+
+import java.io.IOException;
+
+/**
+ * A PersistableEnvelope which supports the journaled persistence mode of the {@link PersistenceManager}. Instead of
+ * rewriting the whole file at each change, the owner of the persistable passes the changed entries to
+ * {@link PersistenceManager#requestPersistence(java.util.function.Supplier)}. At startup the journal entries get
+ * applied to the persistable read from the base file.
+ */
+public interface JournaledPersistableEnvelope extends PersistableEnvelope {
+    void applyJournalEntry(JournalEntry journalEntry) throws IOException;
+}
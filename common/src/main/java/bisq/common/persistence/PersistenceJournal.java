@@ -0,0 +1,209 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.persistence;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * Append-only journal file which is kept next to the base file of a {@link JournaledPersistableEnvelope}.
+ * <p>
+ * Each record consists of the length of the body, the CRC32 checksum of the body and the body with the type, the
+ * length of the key, the key and the value of the {@link JournalEntry}. If the application got killed while writing
+ * a record the incomplete record at the end of the file gets detected by the checksum and is dropped at reading.
+ * <p>
+ * Writing is only done from the write to disk thread of the PersistenceManager, reading only at startup before any
+ * writes happen.
+ */
+@Slf4j
+class PersistenceJournal {
+    static final String FILE_POSTFIX = ".journal";
+    private static final int RECORD_HEADER_SIZE = 8;
+    // Protects against allocating huge arrays if the length field got corrupted
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+    @Getter
+    private final File file;
+    @Nullable
+    private FileOutputStream fileOutputStream;
+    @Nullable
+    private DataOutputStream dataOutputStream;
+
+    static File getFile(File dir, String fileName) {
+        return new File(dir, fileName + FILE_POSTFIX);
+    }
+
+    PersistenceJournal(File file) {
+        this.file = file;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Writing
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    void append(JournalEntry journalEntry) throws IOException {
+        if (dataOutputStream == null) {
+            fileOutputStream = new FileOutputStream(file, true);
+            dataOutputStream = new DataOutputStream(new BufferedOutputStream(fileOutputStream));
+        }
+
+        int bodySize = 1 + 4 + journalEntry.getKey().length + journalEntry.getValue().length;
+        CRC32 crc32 = new CRC32();
+        crc32.update(journalEntry.getType().ordinal());
+        crc32.update(toBytes(journalEntry.getKey().length));
+        crc32.update(journalEntry.getKey());
+        crc32.update(journalEntry.getValue());
+
+        dataOutputStream.writeInt(bodySize);
+        dataOutputStream.writeInt((int) crc32.getValue());
+        dataOutputStream.writeByte(journalEntry.getType().ordinal());
+        dataOutputStream.writeInt(journalEntry.getKey().length);
+        dataOutputStream.write(journalEntry.getKey());
+        dataOutputStream.write(journalEntry.getValue());
+        // We hand over the record to the OS at each append, so it survives a crash of the application
+        dataOutputStream.flush();
+    }
+
+    void close() throws IOException {
+        if (dataOutputStream == null) {
+            return;
+        }
+
+        try {
+            dataOutputStream.flush();
+            fileOutputStream.getFD().sync();
+        } finally {
+            dataOutputStream.close();
+            dataOutputStream = null;
+            fileOutputStream = null;
+        }
+    }
+
+    // Called after a new base file has been written which contains all changes of the journal
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(file.toPath());
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Reading
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    static ReadResult read(File file) throws IOException {
+        List<JournalEntry> journalEntries = new ArrayList<>();
+        long fileLength = file.length();
+        long validLength = 0;
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (fileLength - validLength >= RECORD_HEADER_SIZE) {
+                int bodySize = inputStream.readInt();
+                int checksum = inputStream.readInt();
+                if (bodySize < 5 || bodySize > MAX_RECORD_SIZE || bodySize > fileLength - validLength - RECORD_HEADER_SIZE) {
+                    break;
+                }
+
+                byte[] body = new byte[bodySize];
+                inputStream.readFully(body);
+                CRC32 crc32 = new CRC32();
+                crc32.update(body);
+                if ((int) crc32.getValue() != checksum) {
+                    break;
+                }
+
+                JournalEntry journalEntry = decode(body);
+                if (journalEntry == null) {
+                    break;
+                }
+
+                journalEntries.add(journalEntry);
+                validLength += RECORD_HEADER_SIZE + bodySize;
+            }
+        } catch (EOFException ignore) {
+            // Incomplete record at the end of the file
+        }
+        return new ReadResult(journalEntries, validLength, fileLength);
+    }
+
+    // Drops an incomplete or corrupted tail, so that new records do not get appended behind it
+    static void truncate(File file, long length) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            fileChannel.truncate(length);
+        }
+    }
+
+    @Nullable
+    private static JournalEntry decode(byte[] body) {
+        int typeOrdinal = body[0];
+        if (typeOrdinal < 0 || typeOrdinal >= JournalEntry.Type.values().length) {
+            return null;
+        }
+
+        int keyLength = ((body[1] & 0xff) << 24) | ((body[2] & 0xff) << 16) | ((body[3] & 0xff) << 8) | (body[4] & 0xff);
+        if (keyLength < 0 || keyLength > body.length - 5) {
+            return null;
+        }
+
+        byte[] key = new byte[keyLength];
+        System.arraycopy(body, 5, key, 0, keyLength);
+        byte[] value = new byte[body.length - 5 - keyLength];
+        System.arraycopy(body, 5 + keyLength, value, 0, value.length);
+        return new JournalEntry(JournalEntry.Type.values()[typeOrdinal], key, value);
+    }
+
+    private static byte[] toBytes(int value) {
+        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+
+    @Getter
+    static final class ReadResult {
+        private final List<JournalEntry> journalEntries;
+        private final long validLength;
+        private final long fileLength;
+
+        private ReadResult(List<JournalEntry> journalEntries, long validLength, long fileLength) {
+            this.journalEntries = journalEntries;
+            this.validLength = validLength;
+            this.fileLength = fileLength;
+        }
+
+        boolean hasCorruptedTail() {
+            return validLength < fileLength;
+        }
+    }
+}
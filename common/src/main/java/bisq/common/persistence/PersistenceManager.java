@@ -24,6 +24,7 @@ import bisq.common.config.Config;
 import bisq.common.file.CorruptedStorageFileHandler;
 import bisq.common.file.FileUtil;
 import bisq.common.handlers.ResultHandler;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.proto.persistable.PersistableEnvelope;
 import bisq.common.proto.persistable.PersistenceProtoResolver;
 import bisq.common.util.SingleThreadExecutorUtils;
@@ -48,6 +49,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -71,6 +73,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * the write operations got triggered way too often specially for the very frequent changes at SequenceNumberMap and
  * the very large DaoState (at dao blockchain sync that slowed down sync).
  *
+ * If useJournaledPersistence is set, persistables implementing {@link JournaledPersistableEnvelope} get their
+ * single changes appended to a journal file next to the base file. The whole file is only written when the journal
+ * got too large (compaction) or when requested by the owner of the persistable. At reading the journal gets replayed
+ * on top of the base file.
+ *
  *
  * @param <T>   The type of the {@link PersistableEnvelope} to be written or read from disk
  */
@@ -151,6 +158,12 @@ public class PersistenceManager<T extends PersistableEnvelope> {
                     // We get our result handler called from the write thread so we map back to user thread.
                     persistenceManager.persistNow(() ->
                             UserThread.execute(() -> onWriteCompleted(completeHandler, openInstances, persistenceManager, doShutdown)));
+                } else if (persistenceManager.journal != null && persistenceManager.writeToDiskExecutor != null) {
+                    // We make sure the appended journal entries have hit the disk
+                    persistenceManager.writeToDiskExecutor.execute(() -> {
+                        persistenceManager.closeJournal();
+                        UserThread.execute(() -> onWriteCompleted(completeHandler, openInstances, persistenceManager, doShutdown));
+                    });
                 } else {
                     onWriteCompleted(completeHandler, openInstances, persistenceManager, doShutdown);
                 }
@@ -208,6 +221,10 @@ public class PersistenceManager<T extends PersistableEnvelope> {
     // Class fields
     ///////////////////////////////////////////////////////////////////////////////////////////
 
+    // If the journal exceeds one of those limits we write the whole file, which replaces the journal
+    private static final int MAX_JOURNAL_ENTRIES = 10_000;
+    private static final long MAX_JOURNAL_SIZE = 10 * 1024 * 1024;
+
     private final File dir;
     private final PersistenceProtoResolver persistenceProtoResolver;
     private final CorruptedStorageFileHandler corruptedStorageFileHandler;
@@ -220,6 +237,13 @@ public class PersistenceManager<T extends PersistableEnvelope> {
     @Nullable
     private Timer timer;
     private ExecutorService writeToDiskExecutor;
+    private final boolean useJournaledPersistence;
+    // Only set for JournaledPersistableEnvelopes
+    @Nullable
+    private PersistenceJournal journal;
+    // Number and size of the journal entries since the last full write. Only accessed from the user thread.
+    private int numJournalEntries;
+    private long journalSize;
     public final AtomicBoolean initCalled = new AtomicBoolean(false);
     public final AtomicBoolean readCalled = new AtomicBoolean(false);
 
@@ -228,13 +252,21 @@ public class PersistenceManager<T extends PersistableEnvelope> {
     // Constructor
     ///////////////////////////////////////////////////////////////////////////////////////////
 
+    public PersistenceManager(File dir,
+                              PersistenceProtoResolver persistenceProtoResolver,
+                              CorruptedStorageFileHandler corruptedStorageFileHandler) {
+        this(dir, persistenceProtoResolver, corruptedStorageFileHandler, false);
+    }
+
     @Inject
     public PersistenceManager(@Named(Config.STORAGE_DIR) File dir,
                               PersistenceProtoResolver persistenceProtoResolver,
-                              CorruptedStorageFileHandler corruptedStorageFileHandler) {
+                              CorruptedStorageFileHandler corruptedStorageFileHandler,
+                              @Named(Config.USE_JOURNALED_PERSISTENCE) boolean useJournaledPersistence) {
         this.dir = checkDir(dir);
         this.persistenceProtoResolver = persistenceProtoResolver;
         this.corruptedStorageFileHandler = corruptedStorageFileHandler;
+        this.useJournaledPersistence = useJournaledPersistence;
     }
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -273,6 +305,11 @@ public class PersistenceManager<T extends PersistableEnvelope> {
         this.fileName = fileName;
         this.source = source;
         storageFile = new File(dir, fileName);
+        // We also use the journal if the journaled mode is disabled, so a journal left from a previous run gets
+        // deleted at the next write.
+        if (persistable instanceof JournaledPersistableEnvelope) {
+            journal = new PersistenceJournal(PersistenceJournal.getFile(dir, fileName));
+        }
         ALL_PERSISTENCE_MANAGERS.put(fileName, this);
     }
 
@@ -348,7 +385,14 @@ public class PersistenceManager<T extends PersistableEnvelope> {
         readCalled.set(true);
 
         File storageFile = new File(dir, fileName);
+        File journalFile = PersistenceJournal.getFile(dir, fileName);
         if (!storageFile.exists()) {
+            if (journalFile.exists()) {
+                log.warn("We have a journal but no base file for {}. We delete the journal.", fileName);
+                if (!journalFile.delete()) {
+                    log.error("Cannot delete journal file {}.", journalFile);
+                }
+            }
             return null;
         }
 
@@ -357,6 +401,9 @@ public class PersistenceManager<T extends PersistableEnvelope> {
             protobuf.PersistableEnvelope proto = protobuf.PersistableEnvelope.parseDelimitedFrom(fileInputStream);
             //noinspection unchecked
             T persistableEnvelope = (T) persistenceProtoResolver.fromProto(proto);
+            if (persistableEnvelope instanceof JournaledPersistableEnvelope && journalFile.exists()) {
+                replayJournal((JournaledPersistableEnvelope) persistableEnvelope, journalFile);
+            }
             log.info("Reading {} completed in {} ms", fileName, System.currentTimeMillis() - ts);
             return persistableEnvelope;
         } catch (Throwable t) {
@@ -377,6 +424,40 @@ public class PersistenceManager<T extends PersistableEnvelope> {
         return null;
     }
 
+    private void replayJournal(JournaledPersistableEnvelope persistableEnvelope, File journalFile) {
+        PersistenceJournal.ReadResult readResult;
+        try {
+            readResult = PersistenceJournal.read(journalFile);
+        } catch (IOException e) {
+            // We keep the data of the base file and replace the journal by a full write
+            log.error("Reading journal {} failed with {}.", journalFile.getName(), e.toString());
+            UserThread.execute(this::requestPersistence);
+            return;
+        }
+
+        int numFailed = 0;
+        for (JournalEntry journalEntry : readResult.getJournalEntries()) {
+            try {
+                persistableEnvelope.applyJournalEntry(journalEntry);
+            } catch (Throwable t) {
+                numFailed++;
+                log.error("Applying journal entry of {} failed with {}.", journalFile.getName(), t.toString());
+            }
+        }
+        if (readResult.hasCorruptedTail()) {
+            log.warn("The journal {} has an incomplete or corrupted tail of {} bytes which we drop.",
+                    journalFile.getName(), readResult.getFileLength() - readResult.getValidLength());
+            try {
+                PersistenceJournal.truncate(journalFile, readResult.getValidLength());
+            } catch (IOException e) {
+                log.error("Truncating journal {} failed with {}.", journalFile.getName(), e.toString());
+                UserThread.execute(this::requestPersistence);
+            }
+        }
+        log.info("We applied {} journal entries to {}. {} entries failed.",
+                readResult.getJournalEntries().size() - numFailed, journalFile.getName(), numFailed);
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Write file to disk
@@ -399,6 +480,37 @@ public class PersistenceManager<T extends PersistableEnvelope> {
         maybeStartTimerForPersistence();
     }
 
+    /**
+     * Requests persistence of a single change of a {@link JournaledPersistableEnvelope}. In journaled persistence
+     * mode the journal entry gets appended to the journal file, otherwise we write the whole file like at
+     * {@link #requestPersistence()}.
+     *
+     * @param journalEntrySupplier  Creates the journal entry for the change. Only called in journaled mode.
+     */
+    public void requestPersistence(Supplier<JournalEntry> journalEntrySupplier) {
+        if (flushAtShutdownCalled) {
+            log.warn("We have started the shut down routine already. We ignore that requestPersistence call.");
+            return;
+        }
+
+        // Before we have completed start up we do not write to disk. The change will be part of the next full write.
+        if (!useJournaledPersistence || journal == null || !allServicesInitialized.get()) {
+            requestPersistence();
+            return;
+        }
+
+        // The serialisation is done on the user thread like at persistNow
+        JournalEntry journalEntry = journalEntrySupplier.get();
+        numJournalEntries++;
+        journalSize += journalEntry.getSize();
+        getWriteToDiskExecutor().execute(() -> appendToJournal(journalEntry));
+
+        if (numJournalEntries > MAX_JOURNAL_ENTRIES || journalSize > MAX_JOURNAL_SIZE) {
+            // Compaction is done by writing the whole file, which deletes the journal
+            requestPersistence();
+        }
+    }
+
     private void maybeStartTimerForPersistence() {
         // We write to disk with a delay to avoid frequent write operations. Depending on the priority those delays
         // can be rather long.
@@ -425,6 +537,9 @@ public class PersistenceManager<T extends PersistableEnvelope> {
             // The serialisation is done on the user thread to avoid threading issue with potential mutations of the
             // persistable object. Keeping it on the user thread we are in a synchronize model.
             protobuf.PersistableEnvelope serialized = (protobuf.PersistableEnvelope) persistable.toPersistableMessage();
+            // The serialized data contains all changes of the journal entries requested so far
+            numJournalEntries = 0;
+            journalSize = 0;
 
             // For the write to disk task we use a thread. We do not have any issues anymore if the persistable objects
             // gets mutated while the thread is running as we have serialized it already and do not operate on the
@@ -470,6 +585,8 @@ public class PersistenceManager<T extends PersistableEnvelope> {
             fileOutputStream = new FileOutputStream(tempFile);
 
             serialized.writeDelimitedTo(fileOutputStream);
+            MetricsRegistry.getDefault().counter("bisq_persistence_written_bytes_total",
+                    "Bytes written to the persisted files", "file", fileName).add(serialized.getSerializedSize());
 
             // Attempt to force the bits to hit the disk. In reality the OS or hard disk itself may still decide
             // to not write through to physical media for at least a few seconds, but this is the best we can do.
@@ -482,6 +599,14 @@ public class PersistenceManager<T extends PersistableEnvelope> {
 
             FileUtil.renameFile(tempFile, storageFile);
             usedTempFilePath = tempFile.toPath();
+
+            // The new file contains all changes of the journal. We delete the journal only after the file got
+            // replaced, otherwise a crash or a failed rename would lose the journaled changes. Replaying the journal
+            // on top of the new file is harmless as its put and remove entries are idempotent. All journal entries
+            // requested after the serialisation got queued after this task.
+            if (journal != null) {
+                journal.delete();
+            }
         } catch (Throwable t) {
             // If an error occurred, don't attempt to reuse this path again, in case temp file cleanup fails.
             usedTempFilePath = null;
@@ -507,6 +632,8 @@ public class PersistenceManager<T extends PersistableEnvelope> {
             if (duration > 100) {
                 log.info("Writing the serialized {} completed in {} msec", fileName, duration);
             }
+            MetricsRegistry.getDefault().histogram("bisq_persistence_write_duration_seconds",
+                    "Time to write a persisted file", "file", fileName).observeMillis(duration);
             persistenceRequested = false;
             if (completeHandler != null) {
                 UserThread.execute(completeHandler);
@@ -514,6 +641,31 @@ public class PersistenceManager<T extends PersistableEnvelope> {
         }
     }
 
+    // Called from the write thread
+    private void appendToJournal(JournalEntry journalEntry) {
+        // Without a base file the journal would be dropped at reading
+        if (!storageFile.exists()) {
+            UserThread.execute(this::requestPersistence);
+            return;
+        }
+
+        try {
+            checkNotNull(journal).append(journalEntry);
+        } catch (Throwable t) {
+            log.error("Appending to the journal of {} failed. We write the whole file instead.", fileName, t);
+            UserThread.execute(this::requestPersistence);
+        }
+    }
+
+    // Called from the write thread
+    private void closeJournal() {
+        try {
+            checkNotNull(journal).close();
+        } catch (Throwable t) {
+            log.error("Closing the journal of {} failed.", fileName, t);
+        }
+    }
+
     private ExecutorService getWriteToDiskExecutor() {
         if (writeToDiskExecutor == null) {
             String name = "Write-" + fileName + "_to-disk";
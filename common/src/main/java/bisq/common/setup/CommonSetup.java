@@ -23,6 +23,9 @@ import bisq.common.app.DevEnv;
 import bisq.common.app.Log;
 import bisq.common.app.Version;
 import bisq.common.config.Config;
+import bisq.common.crypto.EquihashProofOfWorkService;
+import bisq.common.metrics.MetricsHttpServer;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.util.GcUtil;
 import bisq.common.util.Profiler;
 import bisq.common.util.Utilities;
@@ -35,6 +38,8 @@ import java.net.URISyntaxException;
 
 import java.nio.file.Paths;
 
+import java.io.IOException;
+
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 
@@ -60,10 +65,14 @@ public class CommonSetup {
         // Full DAO nodes (like seed nodes) do not use the GC triggers as it is expected they have sufficient RAM allocated.
         GcUtil.setDISABLE_GC_CALLS(config.fullDaoNode);
 
+        EquihashProofOfWorkService.setParallelism(config.powSolverThreads);
+
         setSystemProperties();
         setupSigIntHandlers(gracefulShutDownHandler);
 
         DevEnv.setup(config);
+
+        maybeStartMetricsHttpServer(config);
     }
 
     public static void startPeriodicTasks() {
@@ -110,6 +119,18 @@ public class CommonSetup {
         Log.setLevel(Level.toLevel(config.logLevel));
     }
 
+    private static void maybeStartMetricsHttpServer(Config config) {
+        if (config.metricsPort == Config.UNSPECIFIED_PORT) {
+            return;
+        }
+        try {
+            // Uses daemon threads, so it does not need to be stopped at shutdown
+            new MetricsHttpServer(MetricsRegistry.getDefault(), config.metricsPort).start();
+        } catch (IOException e) {
+            log.error("Could not start the metrics HTTP server at port {}", config.metricsPort, e);
+        }
+    }
+
     protected static void setSystemProperties() {
     }
 
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TimingWheelTest {
+    private static final long TICK_MS = 100;
+    private static final int WHEEL_SIZE = 8;
+
+    private final AtomicLong clockMs = new AtomicLong(1_000_000);
+    private final List<Runnable> batches = new ArrayList<>();
+    private final List<String> executed = new ArrayList<>();
+    private TimingWheel timingWheel;
+
+    @BeforeEach
+    public void setup() {
+        timingWheel = new TimingWheel(TICK_MS, WHEEL_SIZE, clockMs::get, batches::add);
+    }
+
+    @Test
+    public void testTimeoutsAreExecutedWhenDue() {
+        timingWheel.schedule(250, () -> executed.add("a"));
+        timingWheel.schedule(0, () -> executed.add("b"));
+        timingWheel.schedule(300, () -> executed.add("c"));
+
+        advanceBy(100);
+        assertEquals(List.of("b"), executed);
+        advanceBy(100);
+        assertEquals(List.of("b"), executed);
+        advanceBy(100);
+        assertEquals(List.of("b", "a", "c"), executed);
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    public void testTimeoutsBeyondOneRevolution() {
+        long delay = 3 * WHEEL_SIZE * TICK_MS + 50;
+        timingWheel.schedule(delay, () -> executed.add("late"));
+        timingWheel.schedule(TICK_MS, () -> executed.add("early"));
+
+        advanceBy(delay - 50);
+        assertEquals(List.of("early"), executed);
+        advanceBy(100);
+        assertEquals(List.of("early", "late"), executed);
+    }
+
+    @Test
+    public void testNothingIsPassedToExecutorIfNoTimeoutIsDue() {
+        timingWheel.schedule(1000, () -> executed.add("a"));
+        advanceBy(500);
+        assertTrue(batches.isEmpty());
+        // A delayed advance catches up all passed ticks in one batch
+        timingWheel.schedule(600, () -> executed.add("b"));
+        clockMs.addAndGet(5000);
+        timingWheel.advance();
+        assertEquals(1, batches.size());
+        batches.get(0).run();
+        assertEquals(List.of("a", "b"), executed);
+    }
+
+    @Test
+    public void testCancel() {
+        TimingWheel.Timeout first = timingWheel.schedule(100, () -> executed.add("a"));
+        TimingWheel.Timeout second = timingWheel.schedule(100, () -> executed.add("b"));
+        TimingWheel.Timeout third = timingWheel.schedule(100, () -> executed.add("c"));
+        assertTrue(second.cancel());
+        assertFalse(second.cancel());
+        assertEquals(2, timingWheel.size());
+
+        advanceBy(100);
+        assertEquals(List.of("a", "c"), executed);
+        assertFalse(first.cancel());
+        assertFalse(third.cancel());
+    }
+
+    @Test
+    public void testExceptionDoesNotPreventOtherTasks() {
+        timingWheel.schedule(100, () -> executed.add("a"));
+        timingWheel.schedule(100, () -> {
+            throw new IllegalStateException();
+        });
+        timingWheel.schedule(100, () -> executed.add("c"));
+
+        advanceBy(100);
+        assertEquals(List.of("a", "c"), executed);
+    }
+
+    private void advanceBy(long ms) {
+        clockMs.addAndGet(ms);
+        timingWheel.advance();
+        batches.forEach(Runnable::run);
+        batches.clear();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.crypto;
+
+import com.google.common.base.Stopwatch;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EquihashProofOfWorkServiceTest {
+    private final EquihashProofOfWorkService service = new EquihashProofOfWorkService(1);
+
+    @Test
+    public void testParallelMint() throws ExecutionException, InterruptedException {
+        byte[] payload = service.getPayload("offerId");
+        byte[] challenge = service.getChallenge("offerId", "ownerId");
+        ProofOfWork proofOfWork = service.mint(payload, challenge, 2.0, 4).get();
+
+        assertTrue(service.verify(proofOfWork, "offerId", "ownerId", 2.0));
+    }
+
+    @Test
+    public void testCancelMint() {
+        byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+        // With that difficulty minting would take hours
+        CompletableFuture<ProofOfWork> future = service.mint(payload, new byte[32], 1.0e12, 2);
+        future.cancel(true);
+
+        assertThrows(CancellationException.class, future::join);
+    }
+
+    @Test
+    @Disabled
+    public void benchmarkParallelMint() throws ExecutionException, InterruptedException {
+        int numCores = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; parallelism <= numCores; parallelism *= 2) {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            for (int i = 0; i < 100; i++) {
+                byte[] payload = ("offerId" + i).getBytes(StandardCharsets.UTF_8);
+                service.mint(payload, new byte[32], 10_000.0, parallelism).get();
+            }
+            stopwatch.stop();
+            System.out.println("Mean time to mint with " + parallelism + " threads: " +
+                    stopwatch.elapsed().dividedBy(100).toMillis() + " ms");
+        }
+    }
+}
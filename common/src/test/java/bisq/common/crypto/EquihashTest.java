@@ -25,6 +25,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ConcurrentHashMultiset;
 import com.google.common.collect.ImmutableMultiset;
 import com.google.common.collect.Multiset;
+import com.google.common.primitives.Longs;
 
 import java.util.Arrays;
 import java.util.stream.Collectors;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.Test;
 
 import static java.lang.Double.POSITIVE_INFINITY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class EquihashTest {
@@ -82,6 +84,23 @@ public class EquihashTest {
         assertEquals(solution.toString(), roundTrippedSolution.toString());
     }
 
+    @Test
+    public void testFindSolutionWithNonceStep() {
+        Equihash equihash = new Equihash(90, 5, 2.0);
+        byte[] seed = new byte[32];
+        Solution solution = equihash.puzzle(seed).findSolution(1, 2, () -> false).orElseThrow();
+
+        long nonce = Longs.fromByteArray(Arrays.copyOf(solution.serialize(), 8));
+        assertEquals(1, nonce % 2);
+        assertTrue(solution.verify());
+    }
+
+    @Test
+    public void testFindSolutionCancelled() {
+        Equihash equihash = new Equihash(90, 5, 2.0);
+        assertFalse(equihash.puzzle(new byte[32]).findSolution(0, 1, () -> true).isPresent());
+    }
+
     @Test
     @Disabled
     public void benchmarkFindSolution() {
@@ -0,0 +1,103 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MetricsRegistryTest {
+    @Test
+    public void testCountersAreSharedByNameAndLabels() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter ping = registry.counter("messages_total", "Messages", "message", "Ping");
+        assertSame(ping, registry.counter("messages_total", "Messages", "message", "Ping"));
+
+        ping.inc();
+        ping.add(2);
+        registry.counter("messages_total", "Messages", "message", "Pong").inc();
+
+        assertEquals("# HELP messages_total Messages\n" +
+                        "# TYPE messages_total counter\n" +
+                        "messages_total{message=\"Ping\"} 3\n" +
+                        "messages_total{message=\"Pong\"} 1\n",
+                registry.scrape());
+    }
+
+    @Test
+    public void testHistogram() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Histogram histogram = registry.histogram("duration_seconds", "Duration", new double[]{0.1, 1});
+        histogram.observe(0.1);
+        histogram.observeMillis(500);
+        histogram.observe(3);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals("# HELP duration_seconds Duration\n" +
+                        "# TYPE duration_seconds histogram\n" +
+                        "duration_seconds_bucket{le=\"0.1\"} 1\n" +
+                        "duration_seconds_bucket{le=\"1\"} 2\n" +
+                        "duration_seconds_bucket{le=\"+Inf\"} 3\n" +
+                        "duration_seconds_sum 3.6\n" +
+                        "duration_seconds_count 3\n",
+                registry.scrape());
+    }
+
+    @Test
+    public void testGaugeAndEscaping() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.gauge("entries", "Entries\nin map", () -> 42, "file", "a\"b");
+
+        assertEquals("# HELP entries Entries\\nin map\n" +
+                        "# TYPE entries gauge\n" +
+                        "entries{file=\"a\\\"b\"} 42\n",
+                registry.scrape());
+    }
+
+    @Test
+    public void testInvalidRegistrations() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("requests_total", "Requests");
+
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("requests_total", "Requests"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("invalid-name", "Invalid"));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("valid_name", "Valid", "label"));
+    }
+
+    @Test
+    public void testConcurrentIncrements() throws InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    registry.counter("bytes_total", "Bytes").inc();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, registry.counter("bytes_total", "Bytes").get());
+        assertTrue(registry.scrape().contains("bytes_total 40000\n"));
+    }
+}
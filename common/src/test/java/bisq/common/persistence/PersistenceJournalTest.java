@@ -0,0 +1,117 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.common.persistence;
+
+import java.nio.file.Files;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersistenceJournalTest {
+    private File file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        file = File.createTempFile("bisq", PersistenceJournal.FILE_POSTFIX);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void appendedEntriesAreReadInOrder() throws IOException {
+        PersistenceJournal journal = new PersistenceJournal(file);
+        journal.append(JournalEntry.put(new byte[]{1, 2}, new byte[]{3, 4, 5}));
+        journal.append(JournalEntry.remove(new byte[]{1, 2}));
+        journal.append(JournalEntry.put(new byte[]{6}, new byte[0]));
+        journal.close();
+
+        PersistenceJournal.ReadResult readResult = PersistenceJournal.read(file);
+        assertFalse(readResult.hasCorruptedTail());
+        List<JournalEntry> journalEntries = readResult.getJournalEntries();
+        assertEquals(3, journalEntries.size());
+        assertEquals(JournalEntry.Type.PUT, journalEntries.get(0).getType());
+        assertArrayEquals(new byte[]{1, 2}, journalEntries.get(0).getKey());
+        assertArrayEquals(new byte[]{3, 4, 5}, journalEntries.get(0).getValue());
+        assertEquals(JournalEntry.Type.REMOVE, journalEntries.get(1).getType());
+        assertArrayEquals(new byte[]{1, 2}, journalEntries.get(1).getKey());
+        assertArrayEquals(new byte[]{6}, journalEntries.get(2).getKey());
+        assertEquals(0, journalEntries.get(2).getValue().length);
+    }
+
+    @Test
+    public void incompleteRecordAtTheEndIsDropped() throws IOException {
+        PersistenceJournal journal = new PersistenceJournal(file);
+        journal.append(JournalEntry.put(new byte[]{1}, new byte[]{2}));
+        journal.close();
+        long validLength = file.length();
+        try (FileOutputStream outputStream = new FileOutputStream(file, true)) {
+            // Header of a record with 100 bytes but without the body
+            outputStream.write(new byte[]{0, 0, 0, 100, 1, 2, 3, 4, 0});
+        }
+
+        PersistenceJournal.ReadResult readResult = PersistenceJournal.read(file);
+        assertTrue(readResult.hasCorruptedTail());
+        assertEquals(validLength, readResult.getValidLength());
+        assertEquals(1, readResult.getJournalEntries().size());
+
+        PersistenceJournal.truncate(file, readResult.getValidLength());
+        journal.append(JournalEntry.put(new byte[]{3}, new byte[]{4}));
+        journal.close();
+        assertEquals(2, PersistenceJournal.read(file).getJournalEntries().size());
+    }
+
+    @Test
+    public void recordWithWrongChecksumIsDropped() throws IOException {
+        PersistenceJournal journal = new PersistenceJournal(file);
+        journal.append(JournalEntry.put(new byte[]{1}, new byte[]{2}));
+        journal.append(JournalEntry.put(new byte[]{3}, new byte[]{4}));
+        journal.close();
+
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        // Flip the last byte of the value of the second record
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file.toPath(), bytes);
+
+        PersistenceJournal.ReadResult readResult = PersistenceJournal.read(file);
+        assertTrue(readResult.hasCorruptedTail());
+        assertEquals(1, readResult.getJournalEntries().size());
+    }
+
+    @Test
+    public void deleteRemovesFile() throws IOException {
+        PersistenceJournal journal = new PersistenceJournal(file);
+        journal.append(JournalEntry.put(new byte[]{1}, new byte[]{2}));
+        journal.delete();
+        assertFalse(file.exists());
+    }
+}
@@ -41,6 +41,7 @@ import bisq.core.user.User;
 import bisq.network.p2p.BootstrapListener;
 import bisq.network.p2p.P2PService;
 import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
 import bisq.network.p2p.storage.persistence.AppendOnlyDataStoreService;
 
 import bisq.common.UserThread;
@@ -149,11 +150,15 @@ public class AccountAgeWitnessService {
     @Getter
     private final AccountAgeWitnessUtils accountAgeWitnessUtils;
 
+    // Witnesses added after startup. The persisted witnesses are looked up in storedAccountAgeWitnessMap.
     private final Map<P2PDataStorage.ByteArray, AccountAgeWitness> accountAgeWitnessMap = new HashMap<>();
+    // Read-only map of the persisted witnesses. We do not copy its values as with memory mapped historical stores
+    // a witness is only decoded when it is looked up.
+    private Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> storedAccountAgeWitnessMap = new HashMap<>();
 
-    // The accountAgeWitnessMap is very large (70k items) and access is a bit expensive. We usually only access less
+    // The persisted witnesses are very many (70k items) and access is a bit expensive. We usually only access less
     // than 100 items, those who have offers online. So we use a cache for a fast lookup and only if
-    // not found there we use the accountAgeWitnessMap and put then the new item into our cache.
+    // not found there we use the witness maps and put then the new item into our cache.
     private final Map<P2PDataStorage.ByteArray, AccountAgeWitness> accountAgeWitnessCache = new ConcurrentHashMap<>();
 
 
@@ -204,10 +209,7 @@ public class AccountAgeWitnessService {
         });
 
         // At startup the P2PDataStorage initializes earlier, otherwise we get the listener called.
-        accountAgeWitnessStorageService.getMapOfAllData().values().stream()
-                .filter(e -> e instanceof AccountAgeWitness)
-                .map(e -> (AccountAgeWitness) e)
-                .forEach(this::addToMap);
+        storedAccountAgeWitnessMap = accountAgeWitnessStorageService.getMapOfAllData();
 
         if (p2PService.isBootstrapped()) {
             onBootStrapped();
@@ -260,13 +262,13 @@ public class AccountAgeWitnessService {
         AccountAgeWitness accountAgeWitness = getMyWitness(paymentAccountPayload);
         P2PDataStorage.ByteArray hash = accountAgeWitness.getHashAsByteArray();
 
-        // We use first our fast lookup cache. If its in accountAgeWitnessCache it is also in accountAgeWitnessMap
+        // We use first our fast lookup cache. If its in accountAgeWitnessCache it is also in our witness maps
         // and we do not publish.
         if (accountAgeWitnessCache.containsKey(hash)) {
             return;
         }
 
-        if (!accountAgeWitnessMap.containsKey(hash)) {
+        if (!accountAgeWitnessMap.containsKey(hash) && !storedAccountAgeWitnessMap.containsKey(hash)) {
             p2PService.addPersistableNetworkPayload(accountAgeWitness, false);
         }
     }
@@ -327,9 +329,15 @@ public class AccountAgeWitnessService {
             return Optional.of(accountAgeWitnessCache.get(hashAsByteArray));
         }
 
-        if (accountAgeWitnessMap.containsKey(hashAsByteArray)) {
-            AccountAgeWitness accountAgeWitness = accountAgeWitnessMap.get(hashAsByteArray);
+        AccountAgeWitness accountAgeWitness = accountAgeWitnessMap.get(hashAsByteArray);
+        if (accountAgeWitness == null) {
+            PersistableNetworkPayload payload = storedAccountAgeWitnessMap.get(hashAsByteArray);
+            if (payload instanceof AccountAgeWitness) {
+                accountAgeWitness = (AccountAgeWitness) payload;
+            }
+        }
 
+        if (accountAgeWitness != null) {
             // We add it to our fast lookup cache
             accountAgeWitnessCache.put(hashAsByteArray, accountAgeWitness);
 
@@ -19,6 +19,7 @@ package bisq.core.account.witness;
 
 import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
 import bisq.network.p2p.storage.persistence.HistoricalDataStoreService;
+import bisq.network.p2p.storage.persistence.MappedPayloadMap;
 
 import bisq.common.config.Config;
 import bisq.common.persistence.PersistenceManager;
@@ -26,13 +27,27 @@ import bisq.common.persistence.PersistenceManager;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import java.nio.ByteBuffer;
+
 import java.io.File;
+import java.io.IOException;
 
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class AccountAgeWitnessStorageService extends HistoricalDataStoreService<AccountAgeWitnessStore> {
     private static final String FILE_NAME = "AccountAgeWitnessStore";
+    private static final MappedPayloadMap.Codec MAPPED_PAYLOAD_CODEC = new MappedPayloadMap.Codec() {
+        @Override
+        public int getHashFieldNumber() {
+            return protobuf.AccountAgeWitness.HASH_FIELD_NUMBER;
+        }
+
+        @Override
+        public PersistableNetworkPayload fromBytes(ByteBuffer bytes) throws IOException {
+            return AccountAgeWitness.fromProto(protobuf.AccountAgeWitness.parseFrom(bytes));
+        }
+    };
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -41,8 +56,9 @@ public class AccountAgeWitnessStorageService extends HistoricalDataStoreService<
 
     @Inject
     public AccountAgeWitnessStorageService(@Named(Config.STORAGE_DIR) File storageDir,
-                                           PersistenceManager<AccountAgeWitnessStore> persistenceManager) {
-        super(storageDir, persistenceManager);
+                                           PersistenceManager<AccountAgeWitnessStore> persistenceManager,
+                                           @Named(Config.USE_MAPPED_HISTORICAL_STORES) boolean useMappedHistoricalStores) {
+        super(storageDir, persistenceManager, useMappedHistoricalStores);
     }
 
 
@@ -74,4 +90,9 @@ public class AccountAgeWitnessStorageService extends HistoricalDataStoreService<
     protected AccountAgeWitnessStore createStore() {
         return new AccountAgeWitnessStore();
     }
+
+    @Override
+    protected MappedPayloadMap.Codec getMappedPayloadCodec() {
+        return MAPPED_PAYLOAD_CODEC;
+    }
 }
@@ -23,6 +23,7 @@ import bisq.core.api.model.TxFeeRateInfo;
 import bisq.core.btc.wallet.TxBroadcaster;
 import bisq.core.monetary.Price;
 import bisq.core.offer.Offer;
+import bisq.core.offer.OfferBookService;
 import bisq.core.offer.OpenOffer;
 import bisq.core.payment.PaymentAccount;
 import bisq.core.payment.payload.PaymentMethod;
@@ -52,6 +53,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -244,6 +246,18 @@ public class CoreApi {
         return coreOffersService.isMyOffer(offer);
     }
 
+    public Predicate<Offer> getOfferFilter(String direction, String currencyCode, boolean all) {
+        return coreOffersService.getOfferFilter(direction, currencyCode, all);
+    }
+
+    public void addOfferBookChangedListener(OfferBookService.OfferBookChangedListener offerBookChangedListener) {
+        coreOffersService.addOfferBookChangedListener(offerBookChangedListener);
+    }
+
+    public void removeOfferBookChangedListener(OfferBookService.OfferBookChangedListener offerBookChangedListener) {
+        coreOffersService.removeOfferBookChangedListener(offerBookChangedListener);
+    }
+
     ///////////////////////////////////////////////////////////////////////////////////////////
     // PaymentAccounts
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -368,6 +382,14 @@ public class CoreApi {
         return coreTradesService.getClosedTradeStateAsString(tradable);
     }
 
+    public void addOpenTradesListener(OpenTradesListener openTradesListener) {
+        coreTradesService.addOpenTradesListener(openTradesListener);
+    }
+
+    public void removeOpenTradesListener(OpenTradesListener openTradesListener) {
+        coreTradesService.removeOpenTradesListener(openTradesListener);
+    }
+
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Wallets
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -384,6 +406,14 @@ public class CoreApi {
         return walletsService.getBalances(currencyCode);
     }
 
+    public void addBalancesListener(BalancesListener balancesListener) {
+        walletsService.addBalancesListener(balancesListener);
+    }
+
+    public void removeBalancesListener(BalancesListener balancesListener) {
+        walletsService.removeBalancesListener(balancesListener);
+    }
+
     public long getAddressBalance(String addressString) {
         return walletsService.getAddressBalance(addressString);
     }
@@ -46,11 +46,13 @@ import javax.inject.Singleton;
 
 import java.math.BigDecimal;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -151,11 +153,9 @@ class CoreOffersService {
     }
 
     Optional<Offer> findAvailableOffer(String id) {
-        return offerBookService.getOffers().stream()
-                .filter(o -> o.getId().equals(id))
+        return offerBookService.findOffer(id)
                 .filter(o -> !o.isMyOffer(keyRing))
-                .filter(o -> offerFilterService.canTakeOffer(o, coreContext.isApiUser()).isValid())
-                .findAny();
+                .filter(o -> offerFilterService.canTakeOffer(o, coreContext.isApiUser()).isValid());
     }
 
     OpenOffer getMyOffer(String id) {
@@ -164,7 +164,7 @@ class CoreOffersService {
     }
 
     Optional<OpenOffer> findMyOpenOffer(String id) {
-        return openOfferManager.getObservableList().stream()
+        return openOfferManager.getOpenOffers().stream()
                 .filter(o -> o.getId().equals(id))
                 .filter(o -> o.getOffer().isMyOffer(keyRing))
                 .findAny();
@@ -176,12 +176,10 @@ class CoreOffersService {
     }
 
     Optional<Offer> findAvailableBsqSwapOffer(String id) {
-        return offerBookService.getOffers().stream()
-                .filter(o -> o.getId().equals(id))
+        return offerBookService.findOffer(id)
                 .filter(o -> !o.isMyOffer(keyRing))
                 .filter(o -> offerFilterService.canTakeOffer(o, coreContext.isApiUser()).isValid())
-                .filter(Offer::isBsqSwapOffer)
-                .findAny();
+                .filter(Offer::isBsqSwapOffer);
     }
 
     Offer getMyBsqSwapOffer(String id) {
@@ -190,11 +188,9 @@ class CoreOffersService {
     }
 
     Optional<Offer> findMyBsqSwapOffer(String id) {
-        return offerBookService.getOffers().stream()
-                .filter(o -> o.getId().equals(id))
+        return offerBookService.findOffer(id)
                 .filter(o -> o.isMyOffer(keyRing))
-                .filter(Offer::isBsqSwapOffer)
-                .findAny();
+                .filter(Offer::isBsqSwapOffer);
     }
 
     List<Offer> getBsqSwapOffers(String direction) {
@@ -207,28 +203,35 @@ class CoreOffersService {
     }
 
     List<Offer> getOffers(String direction, String currencyCode, boolean all) {
+        var upperCaseCurrencyCode = currencyCode.toUpperCase();
+        var offerFilter = getOfferFilter(direction, upperCaseCurrencyCode, all);
+        return getOfferBookOffers(direction, upperCaseCurrencyCode).stream()
+                .filter(offerFilter)
+                .sorted(priceComparator(direction, isFiatCurrency(upperCaseCurrencyCode)))
+                .collect(Collectors.toList());
+    }
+
+    // Returns the filter applied to the offer book offers by getOffers. It is also used to filter the offers added
+    // to the offer book for offer subscriptions.
+    Predicate<Offer> getOfferFilter(String direction, String currencyCode, boolean all) {
         var upperCaseCurrencyCode = currencyCode.toUpperCase();
         var isFiat = isFiatCurrency(upperCaseCurrencyCode);
+        Predicate<Offer> takeOfferFilter = o -> all ||
+                offerFilterService.canTakeOffer(o, coreContext.isApiUser()).isValid();
         if (isFiat) {
-            return offerBookService.getOffers().stream()
-                    .filter(o -> !o.isMyOffer(keyRing))
-                    .filter(o -> offerMatchesDirectionAndCurrency(o, direction, upperCaseCurrencyCode))
-                    .filter(o -> all || offerFilterService.canTakeOffer(o, coreContext.isApiUser()).isValid())
-                    .sorted(priceComparator(direction, true))
-                    .collect(Collectors.toList());
+            return o -> !o.isMyOffer(keyRing) &&
+                    offerMatchesDirectionAndCurrency(o, direction, upperCaseCurrencyCode) &&
+                    takeOfferFilter.test(o);
         } else {
             // In fiat offers, the baseCurrencyCode=BTC, counterCurrencyCode=FiatCode.
             // In altcoin offers, baseCurrencyCode=AltcoinCode, counterCurrencyCode=BTC.
             // This forces an extra filtering step below:  get all BTC offers,
             // then filter on the currencyCode param (the altcoin code).
             if (apiSupportsCryptoCurrency(upperCaseCurrencyCode))
-                return offerBookService.getOffers().stream()
-                        .filter(o -> !o.isMyOffer(keyRing))
-                        .filter(o -> offerMatchesDirectionAndCurrency(o, direction, "BTC"))
-                        .filter(o -> o.getBaseCurrencyCode().equalsIgnoreCase(upperCaseCurrencyCode))
-                        .filter(o -> all || offerFilterService.canTakeOffer(o, coreContext.isApiUser()).isValid())
-                        .sorted(priceComparator(direction, false))
-                        .collect(Collectors.toList());
+                return o -> !o.isMyOffer(keyRing) &&
+                        offerMatchesDirectionAndCurrency(o, direction, "BTC") &&
+                        o.getBaseCurrencyCode().equalsIgnoreCase(upperCaseCurrencyCode) &&
+                        takeOfferFilter.test(o);
             else
                 throw new IllegalArgumentException(
                         format("api does not support the '%s' crypto currency", upperCaseCurrencyCode));
@@ -239,7 +242,7 @@ class CoreOffersService {
         var upperCaseCurrencyCode = currencyCode.toUpperCase();
         var isFiat = isFiatCurrency(upperCaseCurrencyCode);
         if (isFiat) {
-            return openOfferManager.getObservableList().stream()
+            return openOfferManager.getOpenOffers().stream()
                     .filter(o -> o.getOffer().isMyOffer(keyRing))
                     .filter(o -> offerMatchesDirectionAndCurrency(o.getOffer(), direction, upperCaseCurrencyCode))
                     .sorted(openOfferPriceComparator(direction, true))
@@ -250,7 +253,7 @@ class CoreOffersService {
             // This forces an extra filtering step below:  get all BTC offers,
             // then filter on the currencyCode param (the altcoin code).
             if (apiSupportsCryptoCurrency(upperCaseCurrencyCode))
-                return openOfferManager.getObservableList().stream()
+                return openOfferManager.getOpenOffers().stream()
                         .filter(o -> o.getOffer().isMyOffer(keyRing))
                         .filter(o -> offerMatchesDirectionAndCurrency(o.getOffer(), direction, "BTC"))
                         .filter(o -> o.getOffer().getBaseCurrencyCode().equalsIgnoreCase(upperCaseCurrencyCode))
@@ -290,6 +293,14 @@ class CoreOffersService {
         return offer.isMyOffer(keyRing);
     }
 
+    void addOfferBookChangedListener(OfferBookService.OfferBookChangedListener offerBookChangedListener) {
+        offerBookService.addOfferBookChangedListener(offerBookChangedListener);
+    }
+
+    void removeOfferBookChangedListener(OfferBookService.OfferBookChangedListener offerBookChangedListener) {
+        offerBookService.removeOfferBookChangedListener(offerBookChangedListener);
+    }
+
     void createAndPlaceBsqSwapOffer(String directionAsString,
                                     long amountAsLong,
                                     long minAmountAsLong,
@@ -522,6 +533,16 @@ class CoreOffersService {
         }
     }
 
+    // Uses the offer book index instead of iterating over all offers. The currencyCode is the fiat code for fiat
+    // offers and the altcoin code for altcoin offers.
+    private List<Offer> getOfferBookOffers(String direction, String currencyCode) {
+        return Arrays.stream(OfferDirection.values())
+                .filter(offerDirection -> offerDirection.name().equalsIgnoreCase(direction))
+                .findAny()
+                .map(offerDirection -> offerBookService.getOffers(offerDirection, currencyCode))
+                .orElse(List.of());
+    }
+
     private boolean offerMatchesDirectionAndCurrency(Offer offer,
                                                      String direction,
                                                      String currencyCode) {
@@ -52,9 +52,18 @@ import org.bitcoinj.core.Coin;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+
+import javafx.collections.ListChangeListener;
+
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -86,6 +95,10 @@ class CoreTradesService {
     private final TradeManager tradeManager;
     private final TradeUtil tradeUtil;
     private final User user;
+    private final Set<OpenTradesListener> openTradesListeners = new CopyOnWriteArraySet<>();
+    // The state listeners of the open trades by trade id, only set while there are OpenTradesListeners
+    private final Map<String, TradeStateListener> tradeStateListeners = new HashMap<>();
+    private final ListChangeListener<Trade> openTradesChangeListener = this::onOpenTradesChanged;
 
     @Inject
     public CoreTradesService(CoreContext coreContext,
@@ -393,6 +406,45 @@ class CoreTradesService {
         return closedTradableFormatter.getStateAsString(tradable);
     }
 
+    void addOpenTradesListener(OpenTradesListener openTradesListener) {
+        if (openTradesListeners.isEmpty()) {
+            tradeManager.getObservableList().addListener(openTradesChangeListener);
+            tradeManager.getObservableList().forEach(this::addTradeStateListener);
+        }
+        openTradesListeners.add(openTradesListener);
+    }
+
+    void removeOpenTradesListener(OpenTradesListener openTradesListener) {
+        if (openTradesListeners.remove(openTradesListener) && openTradesListeners.isEmpty()) {
+            tradeManager.getObservableList().removeListener(openTradesChangeListener);
+            tradeStateListeners.values().forEach(TradeStateListener::remove);
+            tradeStateListeners.clear();
+        }
+    }
+
+    private void onOpenTradesChanged(ListChangeListener.Change<? extends Trade> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(trade -> {
+                TradeStateListener tradeStateListener = tradeStateListeners.remove(trade.getId());
+                if (tradeStateListener != null) {
+                    tradeStateListener.remove();
+                }
+                openTradesListeners.forEach(listener -> listener.onTradeRemoved(trade));
+            });
+            change.getAddedSubList().forEach(trade -> {
+                addTradeStateListener(trade);
+                openTradesListeners.forEach(listener -> listener.onTradeChanged(trade));
+            });
+        }
+    }
+
+    private void addTradeStateListener(Trade trade) {
+        TradeStateListener previous = tradeStateListeners.put(trade.getId(), new TradeStateListener(trade));
+        if (previous != null) {
+            previous.remove();
+        }
+    }
+
     private Optional<Trade> getOpenTrade(String tradeId) {
         return tradeManager.getTradeById(tradeId);
     }
@@ -478,4 +530,26 @@ class CoreTradesService {
                             offer.getMinAmount().toPlainString().toLowerCase(),
                             offer.getAmount().toPlainString().toLowerCase()));
     }
+
+    private class TradeStateListener implements ChangeListener<Object> {
+        private final Trade trade;
+
+        TradeStateListener(Trade trade) {
+            this.trade = trade;
+            trade.stateProperty().addListener(this);
+            trade.disputeStateProperty().addListener(this);
+            trade.tradePeriodStateProperty().addListener(this);
+        }
+
+        void remove() {
+            trade.stateProperty().removeListener(this);
+            trade.disputeStateProperty().removeListener(this);
+            trade.tradePeriodStateProperty().removeListener(this);
+        }
+
+        @Override
+        public void changed(ObservableValue<?> observable, Object oldValue, Object newValue) {
+            openTradesListeners.forEach(listener -> listener.onTradeChanged(trade));
+        }
+    }
 }
@@ -33,6 +33,7 @@ import bisq.core.btc.exceptions.BsqChangeBelowDustException;
 import bisq.core.btc.exceptions.InsufficientFundsException;
 import bisq.core.btc.exceptions.TransactionVerificationException;
 import bisq.core.btc.exceptions.WalletException;
+import bisq.core.btc.listeners.BsqBalanceListener;
 import bisq.core.btc.model.AddressEntry;
 import bisq.core.btc.model.BsqTransferModel;
 import bisq.core.btc.wallet.BsqTransferService;
@@ -64,18 +65,18 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.ListeningExecutorService;
 
 import org.bouncycastle.crypto.params.KeyParameter;
 
+import javafx.beans.value.ChangeListener;
+
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -116,6 +117,18 @@ class CoreWalletsService {
 
     private final ListeningExecutorService executor = SingleThreadExecutorUtils.getSingleThreadListeningExecutor("CoreWalletsService");
 
+    // The wallet listeners are only set while there are BalancesListeners
+    private final Set<BalancesListener> balancesListeners = new CopyOnWriteArraySet<>();
+    private final ChangeListener<Coin> btcBalanceChangeListener = (observable, oldValue, newValue) ->
+            onBalancesChanged();
+    private final BsqBalanceListener bsqBalanceListener = (availableBalance,
+                                                           availableNonBsqBalance,
+                                                           unverifiedBalance,
+                                                           unconfirmedChangeBalance,
+                                                           lockedForVotingBalance,
+                                                           lockedInBondsBalance,
+                                                           unlockingBondsBalance) -> onBalancesChanged();
+
     @Inject
     public CoreWalletsService(AppStartupState appStartupState,
                               CoreContext coreContext,
@@ -186,6 +199,25 @@ class CoreWalletsService {
         }
     }
 
+    void addBalancesListener(BalancesListener balancesListener) {
+        if (balancesListeners.isEmpty()) {
+            balances.getAvailableBalance().addListener(btcBalanceChangeListener);
+            balances.getReservedBalance().addListener(btcBalanceChangeListener);
+            balances.getLockedBalance().addListener(btcBalanceChangeListener);
+            bsqWalletService.addBsqBalanceListener(bsqBalanceListener);
+        }
+        balancesListeners.add(balancesListener);
+    }
+
+    void removeBalancesListener(BalancesListener balancesListener) {
+        if (balancesListeners.remove(balancesListener) && balancesListeners.isEmpty()) {
+            balances.getAvailableBalance().removeListener(btcBalanceChangeListener);
+            balances.getReservedBalance().removeListener(btcBalanceChangeListener);
+            balances.getLockedBalance().removeListener(btcBalanceChangeListener);
+            bsqWalletService.removeBsqBalanceListener(bsqBalanceListener);
+        }
+    }
+
     long getAddressBalance(String addressString) {
         Address address = getAddressEntry(addressString).getAddress();
         return btcWalletService.getBalanceForAddress(address).value;
@@ -212,31 +244,33 @@ class CoreWalletsService {
         if (!unusedAddressExists)
             btcWalletService.getFreshAddressEntry();
 
-        List<String> addressStrings = btcWalletService
-                .getAvailableAddressEntries()
-                .stream()
-                .map(AddressEntry::getAddressString)
-                .collect(Collectors.toList());
+        List<AddressEntry> addressEntries = btcWalletService.getAvailableAddressEntries();
+        // The balances of all addresses are looked up at once from the address balance index of the wallet.
+        Map<Address, Coin> balances = btcWalletService.getBalances(addressEntries.stream()
+                .map(AddressEntry::getAddress)
+                .collect(Collectors.toList()));
 
-        // getAddressBalance is memoized, because we'll map it over addresses twice.
-        // To get the balances, we'll be using .getUnchecked, because we know that
-        // this::getAddressBalance cannot return null.
-        var balances = memoize(this::getAddressBalance);
+        boolean noAddressHasZeroBalance = addressEntries.stream()
+                .allMatch(addressEntry -> balances.get(addressEntry.getAddress()).isPositive());
 
-        boolean noAddressHasZeroBalance = addressStrings.stream()
-                .allMatch(addressString -> balances.getUnchecked(addressString) != 0);
+        List<AddressBalanceInfo> addressBalanceInfos = addressEntries.stream()
+                .map(addressEntry -> toAddressBalanceInfo(addressEntry, balances.get(addressEntry.getAddress()).value))
+                .collect(Collectors.toList());
 
         if (noAddressHasZeroBalance) {
             var newZeroBalanceAddress = btcWalletService.getFreshAddressEntry();
-            addressStrings.add(newZeroBalanceAddress.getAddressString());
+            addressBalanceInfos.add(toAddressBalanceInfo(newZeroBalanceAddress, 0));
         }
 
-        return addressStrings.stream().map(address ->
-                        new AddressBalanceInfo(address,
-                                balances.getUnchecked(address),
-                                getNumConfirmationsForMostRecentTransaction(address),
-                                btcWalletService.isAddressUnused(getAddressEntry(address).getAddress())))
-                .collect(Collectors.toList());
+        return addressBalanceInfos;
+    }
+
+    private AddressBalanceInfo toAddressBalanceInfo(AddressEntry addressEntry, long satoshiBalance) {
+        String addressString = addressEntry.getAddressString();
+        return new AddressBalanceInfo(addressString,
+                satoshiBalance,
+                getNumConfirmationsForMostRecentTransaction(addressString),
+                btcWalletService.isAddressUnused(addressEntry.getAddress()));
     }
 
     String getUnusedBsqAddress() {
@@ -567,6 +601,10 @@ class CoreWalletsService {
         }
     }
 
+    private void onBalancesChanged() {
+        balancesListeners.forEach(BalancesListener::onBalancesChanged);
+    }
+
     private BsqBalanceInfo getBsqBalances() {
         verifyWalletsAreAvailable();
         verifyEncryptedWalletIsUnlocked();
@@ -662,18 +700,4 @@ class CoreWalletsService {
                             ex.getMessage().toLowerCase()));
         }
     }
-
-    /**
-     * Memoization stores the results of expensive function calls and returns
-     * the cached result when the same input occurs again.
-     *
-     * Resulting LoadingCache is used by calling `.get(input I)` or
-     * `.getUnchecked(input I)`, depending on whether `f` can return null.
-     * That's because CacheLoader throws an exception on null output from `f`.
-     */
-    private static <I, O> LoadingCache<I, O> memoize(Function<I, O> f) {
-        // f::apply is used, because Guava 20.0 Function doesn't yet extend
-        // Java Function.
-        return CacheBuilder.newBuilder().build(CacheLoader.from(f::apply));
-    }
 }
@@ -31,6 +31,7 @@ import bisq.core.trade.model.bisq_v1.Trade;
 
 import bisq.common.UserThread;
 
+import org.bitcoinj.core.Address;
 import org.bitcoinj.core.Coin;
 import org.bitcoinj.core.Transaction;
 
@@ -41,7 +42,11 @@ import javafx.beans.property.SimpleObjectProperty;
 
 import javafx.collections.ListChangeListener;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import lombok.Getter;
@@ -103,20 +108,26 @@ public class Balances {
     }
 
     private void updateAvailableBalance() {
-        long sum = btcWalletService.getAddressEntriesForAvailableBalanceStream()
-                .mapToLong(addressEntry -> btcWalletService.getBalanceForAddress(addressEntry.getAddress()).value)
+        List<Address> addresses = btcWalletService.getAddressEntriesForAvailableBalanceStream()
+                .map(AddressEntry::getAddress)
+                .collect(Collectors.toList());
+        // Same address can be contained more than once and is counted at each occurrence
+        Map<Address, Coin> balances = btcWalletService.getBalances(addresses);
+        long sum = addresses.stream()
+                .mapToLong(address -> balances.get(address).value)
                 .sum();
         availableBalance.set(Coin.valueOf(sum));
     }
 
     private void updateReservedBalance() {
-        long sum = openOfferManager.getObservableList().stream()
+        Set<Address> addresses = openOfferManager.getObservableList().stream()
                 .map(openOffer -> btcWalletService.getAddressEntry(openOffer.getId(), AddressEntry.Context.RESERVED_FOR_TRADE)
                         .orElse(null))
                 .filter(Objects::nonNull)
                 .map(AddressEntry::getAddress)
-                .distinct()
-                .mapToLong(address -> btcWalletService.getBalanceForAddress(address).value)
+                .collect(Collectors.toSet());
+        long sum = btcWalletService.getBalances(addresses).values().stream()
+                .mapToLong(balance -> balance.value)
                 .sum();
         reservedBalance.set(Coin.valueOf(sum));
     }
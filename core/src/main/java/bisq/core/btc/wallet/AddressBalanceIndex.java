@@ -0,0 +1,259 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import org.bitcoinj.core.Address;
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.core.Transaction;
+import org.bitcoinj.core.TransactionConfidence;
+import org.bitcoinj.core.TransactionInput;
+import org.bitcoinj.core.TransactionOutPoint;
+import org.bitcoinj.core.TransactionOutput;
+import org.bitcoinj.core.listeners.TransactionConfidenceEventListener;
+import org.bitcoinj.utils.Threading;
+import org.bitcoinj.wallet.Wallet;
+import org.bitcoinj.wallet.listeners.WalletCoinsReceivedEventListener;
+import org.bitcoinj.wallet.listeners.WalletCoinsSentEventListener;
+import org.bitcoinj.wallet.listeners.WalletReorganizeEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static org.bitcoinj.core.TransactionConfidence.ConfidenceType.BUILDING;
+import static org.bitcoinj.core.TransactionConfidence.ConfidenceType.DEAD;
+import static org.bitcoinj.core.TransactionConfidence.ConfidenceType.IN_CONFLICT;
+import static org.bitcoinj.core.TransactionConfidence.ConfidenceType.PENDING;
+
+/**
+ * Index of the spend candidates of a wallet (the outputs returned by {@link Wallet#calculateAllSpendCandidates()}) by
+ * their address, so the balance of an address can be looked up without iterating over all outputs of the wallet.
+ * <p>
+ * The index is updated from the wallet events for the outputs of the affected transaction and the outputs spent by
+ * it. The events are handled at the wallet thread, so the index is updated together with the wallet. After a
+ * reorganisation or a killed transaction, whose inputs got disconnected, the index gets rebuilt at the next lookup.
+ * <p>
+ * Lookups can be done from any thread.
+ */
+@Slf4j
+class AddressBalanceIndex implements WalletCoinsReceivedEventListener,
+        WalletCoinsSentEventListener,
+        WalletReorganizeEventListener,
+        TransactionConfidenceEventListener {
+    private final Wallet wallet;
+    private final Map<Address, Map<TransactionOutPoint, TransactionOutput>> spendCandidatesByAddress = new HashMap<>();
+    private final Map<TransactionOutPoint, Address> addressByOutPoint = new HashMap<>();
+    private boolean isValid;
+    // Incremented at each change, so a rebuild from a concurrently changed wallet gets discarded
+    private long version;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    AddressBalanceIndex(Wallet wallet) {
+        this.wallet = wallet;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Lifecycle
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    void addListenersToWallet() {
+        wallet.addCoinsReceivedEventListener(Threading.SAME_THREAD, this);
+        wallet.addCoinsSentEventListener(Threading.SAME_THREAD, this);
+        wallet.addReorganizeEventListener(Threading.SAME_THREAD, this);
+        wallet.addTransactionConfidenceEventListener(Threading.SAME_THREAD, this);
+    }
+
+    void removeListenersFromWallet() {
+        wallet.removeCoinsReceivedEventListener(this);
+        wallet.removeCoinsSentEventListener(this);
+        wallet.removeReorganizeEventListener(this);
+        wallet.removeTransactionConfidenceEventListener(this);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Wallet listeners
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void onCoinsReceived(Wallet wallet, Transaction tx, Coin prevBalance, Coin newBalance) {
+        update(tx);
+    }
+
+    @Override
+    public void onCoinsSent(Wallet wallet, Transaction tx, Coin prevBalance, Coin newBalance) {
+        update(tx);
+    }
+
+    @Override
+    public void onReorganize(Wallet wallet) {
+        invalidate();
+    }
+
+    @Override
+    public void onTransactionConfidenceChanged(Wallet wallet, Transaction tx) {
+        TransactionConfidence.ConfidenceType confidenceType = tx.getConfidence().getConfidenceType();
+        if (confidenceType == DEAD) {
+            // The inputs of a killed tx are disconnected, so we cannot find the outputs which got unspent again
+            invalidate();
+        } else if (confidenceType != BUILDING || tx.getConfidence().getDepthInBlocks() <= 1) {
+            // The confidence of all confirmed txs changes at each new block, but a higher depth does not change
+            // the spend candidates
+            update(tx);
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    List<TransactionOutput> getSpendCandidates(Address address) {
+        rebuildIfInvalid();
+        synchronized (this) {
+            Map<TransactionOutPoint, TransactionOutput> outputs = spendCandidatesByAddress.get(address);
+            return outputs != null ? new ArrayList<>(outputs.values()) : new ArrayList<>();
+        }
+    }
+
+    Map<Address, List<TransactionOutput>> getSpendCandidates(Collection<Address> addresses) {
+        rebuildIfInvalid();
+        synchronized (this) {
+            Map<Address, List<TransactionOutput>> result = new LinkedHashMap<>();
+            addresses.forEach(address -> {
+                Map<TransactionOutPoint, TransactionOutput> outputs = spendCandidatesByAddress.get(address);
+                result.put(address, outputs != null ? new ArrayList<>(outputs.values()) : new ArrayList<>());
+            });
+            return result;
+        }
+    }
+
+    synchronized void invalidate() {
+        isValid = false;
+        version++;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // Called at the wallet thread while it holds the wallet lock
+    private void update(Transaction tx) {
+        List<TransactionOutput> affectedOutputs = new ArrayList<>(tx.getOutputs());
+        for (TransactionInput input : tx.getInputs()) {
+            TransactionOutput connectedOutput = input.getConnectedOutput();
+            if (connectedOutput != null) {
+                affectedOutputs.add(connectedOutput);
+            }
+        }
+
+        // We check the outputs before we lock the index, as the wallet must not be accessed while holding the
+        // lock of the index
+        List<Boolean> isSpendCandidateList = new ArrayList<>(affectedOutputs.size());
+        affectedOutputs.forEach(output -> isSpendCandidateList.add(isSpendCandidate(output)));
+
+        synchronized (this) {
+            version++;
+            if (!isValid) {
+                return;
+            }
+            for (int i = 0; i < affectedOutputs.size(); i++) {
+                TransactionOutput output = affectedOutputs.get(i);
+                TransactionOutPoint outPoint = output.getOutPointFor();
+                removeOutput(outPoint);
+                if (isSpendCandidateList.get(i)) {
+                    addOutput(outPoint, output);
+                }
+            }
+        }
+    }
+
+    // Same conditions as used by Wallet.calculateAllSpendCandidates for the outputs of the unspent and pending pools
+    private boolean isSpendCandidate(TransactionOutput output) {
+        Transaction tx = output.getParentTransaction();
+        if (tx == null || !output.isAvailableForSpending() || !output.isMine(wallet)) {
+            return false;
+        }
+        TransactionConfidence.ConfidenceType confidenceType = tx.getConfidence().getConfidenceType();
+        if (confidenceType != BUILDING && confidenceType != PENDING && confidenceType != IN_CONFLICT) {
+            return false;
+        }
+        if (tx.isCoinBase() && !tx.isMature()) {
+            return false;
+        }
+        return wallet.canSignFor(output.getScriptPubKey());
+    }
+
+    private void rebuildIfInvalid() {
+        while (true) {
+            long versionAtStart;
+            synchronized (this) {
+                if (isValid) {
+                    return;
+                }
+                versionAtStart = version;
+            }
+
+            List<TransactionOutput> spendCandidates = wallet.calculateAllSpendCandidates();
+
+            synchronized (this) {
+                if (version == versionAtStart) {
+                    spendCandidatesByAddress.clear();
+                    addressByOutPoint.clear();
+                    spendCandidates.forEach(output -> addOutput(output.getOutPointFor(), output));
+                    isValid = true;
+                    log.info("Rebuilt address balance index with {} spend candidates of {} addresses",
+                            addressByOutPoint.size(), spendCandidatesByAddress.size());
+                    return;
+                }
+            }
+        }
+    }
+
+    private void addOutput(TransactionOutPoint outPoint, TransactionOutput output) {
+        Address address = WalletService.getAddressFromOutput(output);
+        if (address == null) {
+            return;
+        }
+        addressByOutPoint.put(outPoint, address);
+        spendCandidatesByAddress.computeIfAbsent(address, key -> new LinkedHashMap<>()).put(outPoint, output);
+    }
+
+    private void removeOutput(TransactionOutPoint outPoint) {
+        Address address = addressByOutPoint.remove(outPoint);
+        if (address == null) {
+            return;
+        }
+        Map<TransactionOutPoint, TransactionOutput> outputs = spendCandidatesByAddress.get(address);
+        outputs.remove(outPoint);
+        if (outputs.isEmpty()) {
+            spendCandidatesByAddress.remove(address);
+        }
+    }
+}
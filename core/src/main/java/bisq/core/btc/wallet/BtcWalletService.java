@@ -63,6 +63,7 @@ import org.bouncycastle.crypto.params.KeyParameter;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -760,8 +761,7 @@ public class BtcWalletService extends WalletService {
     }
 
     public List<AddressEntry> getFundedAvailableAddressEntries() {
-        return getAvailableAddressEntries().stream()
-                .filter(addressEntry -> getBalanceForAddress(addressEntry.getAddress()).isPositive())
+        return filterFundedAddressEntries(getAvailableAddressEntries().stream())
                 .collect(Collectors.toList());
     }
 
@@ -860,9 +860,12 @@ public class BtcWalletService extends WalletService {
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public Coin getSavingWalletBalance() {
-        return Coin.valueOf(getFundedAvailableAddressEntries().stream()
-                .mapToLong(addressEntry -> getBalanceForAddress(addressEntry.getAddress()).value)
-                .sum());
+        return getBalances(getAvailableAddressEntries().stream()
+                .map(AddressEntry::getAddress)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()))
+                .values().stream()
+                .reduce(Coin.ZERO, Coin::add);
     }
 
     public Stream<AddressEntry> getAddressEntriesForAvailableBalanceStream() {
@@ -871,7 +874,21 @@ public class BtcWalletService extends WalletService {
         Stream<AddressEntry> available = Stream.concat(availableAndPayout,
                 getAddressEntries(AddressEntry.Context.ARBITRATOR).stream());
         available = Stream.concat(available, getAddressEntries(AddressEntry.Context.OFFER_FUNDING).stream());
-        return available.filter(addressEntry -> getBalanceForAddress(addressEntry.getAddress()).isPositive());
+        return filterFundedAddressEntries(available);
+    }
+
+    // Looks up the balances of all address entries at once instead of one by one
+    private Stream<AddressEntry> filterFundedAddressEntries(Stream<AddressEntry> addressEntries) {
+        List<AddressEntry> entries = addressEntries.collect(Collectors.toList());
+        Map<Address, Coin> balances = getBalances(entries.stream()
+                .map(AddressEntry::getAddress)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        return entries.stream()
+                .filter(addressEntry -> {
+                    Coin balance = balances.get(addressEntry.getAddress());
+                    return balance != null && balance.isPositive();
+                });
     }
 
 
@@ -87,7 +87,10 @@ import javafx.beans.property.SimpleIntegerProperty;
 import org.bouncycastle.crypto.params.KeyParameter;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -126,6 +129,8 @@ public abstract class WalletService {
     private final WalletChangeEventListener cacheInvalidationListener;
     private final AtomicReference<Multiset<Address>> txOutputAddressCache = new AtomicReference<>();
     private final AtomicReference<SetMultimap<Address, Transaction>> addressToMatchingTxSetCache = new AtomicReference<>();
+    @Nullable
+    private volatile AddressBalanceIndex addressBalanceIndex;
     @Getter
     protected Wallet wallet;
     @Getter
@@ -165,6 +170,13 @@ public abstract class WalletService {
         wallet.addReorganizeEventListener(walletEventListener);
         wallet.addTransactionConfidenceEventListener(walletEventListener);
         wallet.addChangeEventListener(Threading.SAME_THREAD, cacheInvalidationListener);
+
+        if (addressBalanceIndex != null) {
+            addressBalanceIndex.removeListenersFromWallet();
+        }
+        AddressBalanceIndex newAddressBalanceIndex = new AddressBalanceIndex(wallet);
+        newAddressBalanceIndex.addListenersToWallet();
+        addressBalanceIndex = newAddressBalanceIndex;
     }
 
     public void shutDown() {
@@ -175,6 +187,10 @@ public abstract class WalletService {
             wallet.removeTransactionConfidenceEventListener(walletEventListener);
             wallet.removeChangeEventListener(cacheInvalidationListener);
         }
+        if (addressBalanceIndex != null) {
+            addressBalanceIndex.removeListenersFromWallet();
+            addressBalanceIndex = null;
+        }
     }
 
 
@@ -556,7 +572,34 @@ public abstract class WalletService {
     }
 
     public Coin getBalanceForAddress(Address address) {
-        return wallet != null ? getBalance(wallet.calculateAllSpendCandidates(), address) : Coin.ZERO;
+        if (wallet == null || address == null) {
+            return Coin.ZERO;
+        }
+        AddressBalanceIndex index = addressBalanceIndex;
+        List<TransactionOutput> spendCandidates = index != null ?
+                index.getSpendCandidates(address) :
+                wallet.calculateAllSpendCandidates();
+        return getBalance(spendCandidates, address);
+    }
+
+    // Returns the balances of the given addresses with a single lookup at the address balance index. Addresses
+    // without balance are mapped to Coin.ZERO.
+    public Map<Address, Coin> getBalances(Collection<Address> addresses) {
+        Map<Address, Coin> balances = new HashMap<>();
+        if (wallet == null) {
+            addresses.forEach(address -> balances.put(address, Coin.ZERO));
+            return balances;
+        }
+
+        AddressBalanceIndex index = addressBalanceIndex;
+        if (index != null) {
+            index.getSpendCandidates(addresses)
+                    .forEach((address, spendCandidates) -> balances.put(address, getBalance(spendCandidates, address)));
+        } else {
+            List<TransactionOutput> spendCandidates = wallet.calculateAllSpendCandidates();
+            addresses.forEach(address -> balances.put(address, getBalance(spendCandidates, address)));
+        }
+        return balances;
     }
 
     protected Coin getBalance(List<TransactionOutput> transactionOutputs, Address address) {
@@ -0,0 +1,178 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.full;
+
+import bisq.core.dao.node.parser.exceptions.RequiredReorgFromSnapshotException;
+
+import bisq.common.handlers.ResultHandler;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Requests the blocks from startBlockHeight to chainHeight from Bitcoin Core ahead of the block parser. Up to
+ * windowSize blocks can be requested or waiting for being parsed. Results can arrive out of order, but they are
+ * passed to the blockHandler strictly in height order. As we only request a new block after a block got parsed the
+ * window also limits the number of blocks we keep in memory if parsing is slower than the RPC requests. Pending
+ * requests are canceled at stop, so they do not occupy the threads of the RpcService once a new pipeline is started.
+ * <p>
+ * All methods are expected to be called on the UserThread. RpcService maps the results to the UserThread.
+ */
+@Slf4j
+class BlockRequestPipeline {
+    private static final int LOG_INTERVAL = 1000;
+
+    interface RawBlockHandler {
+        void onRawBlock(RawBlock rawBlock) throws RequiredReorgFromSnapshotException;
+    }
+
+    private final RpcService rpcService;
+    private final int windowSize;
+    private final int chainHeight;
+    private final RawBlockHandler blockHandler;
+    private final ResultHandler resultHandler;
+    private final Consumer<Throwable> errorHandler;
+
+    private final Map<Integer, ListenableFuture<RawBlock>> pendingRequests = new HashMap<>();
+    private final Map<Integer, RawBlock> receivedBlocks = new HashMap<>();
+    private int nextHeightToRequest;
+    private int nextHeightToParse;
+    private boolean stopped;
+
+    private final long startTime = System.currentTimeMillis();
+    private final int startBlockHeight;
+    private long lastLogTime = startTime;
+    private int numBlocksParsedSinceLastLog;
+
+    BlockRequestPipeline(RpcService rpcService,
+                         int windowSize,
+                         int startBlockHeight,
+                         int chainHeight,
+                         RawBlockHandler blockHandler,
+                         ResultHandler resultHandler,
+                         Consumer<Throwable> errorHandler) {
+        this.rpcService = rpcService;
+        this.windowSize = windowSize;
+        this.startBlockHeight = startBlockHeight;
+        this.chainHeight = chainHeight;
+        this.blockHandler = blockHandler;
+        this.resultHandler = resultHandler;
+        this.errorHandler = errorHandler;
+        nextHeightToRequest = startBlockHeight;
+        nextHeightToParse = startBlockHeight;
+    }
+
+    void start() {
+        requestBlocks();
+    }
+
+    void stop() {
+        stopped = true;
+        pendingRequests.values().forEach(future -> future.cancel(true));
+        pendingRequests.clear();
+        receivedBlocks.clear();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void requestBlocks() {
+        while (!stopped &&
+                nextHeightToRequest <= chainHeight &&
+                nextHeightToRequest - nextHeightToParse < windowSize) {
+            int blockHeight = nextHeightToRequest++;
+            ListenableFuture<RawBlock> future = rpcService.requestDtoBlock(blockHeight,
+                    rawBlock -> onBlockReceived(blockHeight, rawBlock),
+                    this::onError);
+            if (future != null) {
+                pendingRequests.put(blockHeight, future);
+            }
+        }
+    }
+
+    private void onBlockReceived(int blockHeight, RawBlock rawBlock) {
+        if (stopped) {
+            return;
+        }
+
+        pendingRequests.remove(blockHeight);
+        receivedBlocks.put(blockHeight, rawBlock);
+        while (!stopped && receivedBlocks.containsKey(nextHeightToParse)) {
+            RawBlock nextRawBlock = receivedBlocks.remove(nextHeightToParse);
+            try {
+                blockHandler.onRawBlock(nextRawBlock);
+            } catch (RequiredReorgFromSnapshotException e) {
+                log.warn("doParseBlock at BlockRequestPipeline failed because of a blockchain reorg. {}", e.toString());
+                stop();
+                return;
+            }
+            nextHeightToParse++;
+            numBlocksParsedSinceLastLog++;
+            maybeLogThroughput();
+        }
+
+        if (stopped) {
+            return;
+        }
+
+        if (nextHeightToParse > chainHeight) {
+            logThroughput();
+            stopped = true;
+            resultHandler.handleResult();
+        } else {
+            requestBlocks();
+        }
+    }
+
+    private void onError(Throwable throwable) {
+        if (stopped) {
+            return;
+        }
+
+        // We stop at the first failed request. The error handler restarts parsing from the last parsed block.
+        stop();
+        errorHandler.accept(throwable);
+    }
+
+    private void maybeLogThroughput() {
+        if (numBlocksParsedSinceLastLog >= LOG_INTERVAL) {
+            long now = System.currentTimeMillis();
+            log.info("Parsed blocks up to height {} of {} at {} blocks/sec",
+                    nextHeightToParse - 1, chainHeight, getBlocksPerSec(numBlocksParsedSinceLastLog, now - lastLogTime));
+            lastLogTime = now;
+            numBlocksParsedSinceLastLog = 0;
+        }
+    }
+
+    private void logThroughput() {
+        int numBlocks = nextHeightToParse - startBlockHeight;
+        log.info("Parsed {} blocks up to height {} at {} blocks/sec",
+                numBlocks, chainHeight, getBlocksPerSec(numBlocks, System.currentTimeMillis() - startTime));
+    }
+
+    private static String getBlocksPerSec(int numBlocks, long durationMs) {
+        return String.format("%.1f", numBlocks * 1000d / Math.max(1, durationMs));
+    }
+}
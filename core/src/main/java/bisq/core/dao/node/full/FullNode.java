@@ -42,6 +42,8 @@ import java.util.function.Consumer;
 
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
+
 /**
  * Main class for a full node which have Bitcoin Core with rpc running and does the blockchain lookup itself.
  * It also provides the BSQ transactions to lite nodes on request and broadcasts new BSQ blocks.
@@ -59,6 +61,8 @@ public class FullNode extends BsqNode {
     private long parseInBatchStartTime;
     private int parseBlocksOnHeadHeightCounter;
     private int numExceptions;
+    @Nullable
+    private BlockRequestPipeline blockRequestPipeline;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -97,6 +101,9 @@ public class FullNode extends BsqNode {
 
     public void shutDown() {
         super.shutDown();
+        if (blockRequestPipeline != null) {
+            blockRequestPipeline.stop();
+        }
         rpcService.shutDown();
         fullNodeNetworkService.shutDown();
     }
@@ -166,6 +173,7 @@ public class FullNode extends BsqNode {
                             doParseBlock(rawBlock).ifPresent(this::onNewBlock);
                         } catch (RequiredReorgFromSnapshotException e) {
                             log.warn("doParseBlock at addBlockHandler failed because of a blockchain reorg. {}", e.toString());
+                            fullNodeNetworkService.onDaoStateReverted();
                         }
                     },
                     this::handleError);
@@ -233,35 +241,25 @@ public class FullNode extends BsqNode {
                              Consumer<Block> newBlockHandler,
                              ResultHandler resultHandler,
                              Consumer<Throwable> errorHandler) {
-        parseBlockRecursively(startBlockHeight, chainHeight, newBlockHandler, resultHandler, errorHandler);
-    }
-
-    private void parseBlockRecursively(int blockHeight,
-                                       int chainHeight,
-                                       Consumer<Block> newBlockHandler,
-                                       ResultHandler resultHandler,
-                                       Consumer<Throwable> errorHandler) {
         if (shutdownInProgress) {
             return;
         }
-        rpcService.requestDtoBlock(blockHeight,
-                rawBlock -> {
-                    try {
-                        doParseBlock(rawBlock).ifPresent(newBlockHandler);
-
-                        // Increment blockHeight and recursively call parseBlockAsync until we reach chainHeight
-                        if (blockHeight < chainHeight) {
-                            int newBlockHeight = blockHeight + 1;
-                            parseBlockRecursively(newBlockHeight, chainHeight, newBlockHandler, resultHandler, errorHandler);
-                        } else {
-                            // We are done
-                            resultHandler.handleResult();
-                        }
-                    } catch (RequiredReorgFromSnapshotException e) {
-                        log.warn("doParseBlock at parseBlockRecursively failed because of a blockchain reorg. {}", e.toString());
-                    }
-                },
+
+        // We only keep one pipeline running. A new parse request (e.g. after an error) replaces the previous one.
+        if (blockRequestPipeline != null) {
+            blockRequestPipeline.stop();
+        }
+
+        // We request up to 2 times the number of parallel requests, so the RPC threads stay busy while the results
+        // are waiting for being parsed in order.
+        blockRequestPipeline = new BlockRequestPipeline(rpcService,
+                2 * rpcService.getMaxParallelBlockRequests(),
+                startBlockHeight,
+                chainHeight,
+                rawBlock -> doParseBlock(rawBlock).ifPresent(newBlockHandler),
+                resultHandler,
                 errorHandler);
+        blockRequestPipeline.start();
     }
 
     private void handleError(Throwable throwable) {
@@ -317,5 +315,6 @@ public class FullNode extends BsqNode {
 
     private void revertToLastSnapshot() {
         daoStateSnapshotService.revertToLastSnapshot();
+        fullNodeNetworkService.onDaoStateReverted();
     }
 }
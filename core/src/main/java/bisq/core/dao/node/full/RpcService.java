@@ -32,6 +32,7 @@ import bisq.common.UserThread;
 import bisq.common.config.Config;
 import bisq.common.handlers.ResultHandler;
 import bisq.common.util.SingleThreadExecutorUtils;
+import bisq.common.util.Utilities;
 
 import org.bitcoinj.core.Utils;
 
@@ -58,15 +59,19 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import org.jetbrains.annotations.NotNull;
 
+import javax.annotation.Nullable;
+
 /**
  * Request blockchain data via RPC from Bitcoin Core for a FullNode.
  * Runs in a custom thread.
@@ -89,9 +94,12 @@ public class RpcService {
     private BitcoindClient client;
     private BitcoindDaemon daemon;
 
-    // We could use multiple threads, but then we need to support ordering of results in a queue
-    // Keep that for optimization after measuring performance differences
     private final ListeningExecutorService executor = SingleThreadExecutorUtils.getSingleThreadListeningExecutor("RpcService");
+    // Used for the block requests at parsing. The ordering of the results is done by the BlockRequestPipeline. The
+    // queue is unbounded, as the window of the BlockRequestPipeline limits the number of pending requests.
+    private final ListeningExecutorService blockRequestExecutor;
+    @Getter
+    private final int maxParallelBlockRequests;
     private volatile boolean shutdownInProgress;
     private final Set<ResultHandler> setupResultHandlers = new CopyOnWriteArraySet<>();
     private final Set<Consumer<Throwable>> setupErrorHandlers = new CopyOnWriteArraySet<>();
@@ -112,7 +120,8 @@ public class RpcService {
                        @Named(Config.RPC_HOST) String rpcHost,
                        @Named(Config.RPC_PORT) int rpcPort,
                        @Named(Config.RPC_BLOCK_NOTIFICATION_PORT) int rpcBlockPort,
-                       @Named(Config.RPC_BLOCK_NOTIFICATION_HOST) String rpcBlockHost) {
+                       @Named(Config.RPC_BLOCK_NOTIFICATION_HOST) String rpcBlockHost,
+                       @Named(Config.RPC_MAX_PARALLEL_BLOCK_REQUESTS) int maxParallelBlockRequests) {
         this.rpcUser = preferences.getRpcUser();
         this.rpcPassword = preferences.getRpcPw();
 
@@ -131,6 +140,12 @@ public class RpcService {
         boolean isBlockHostSet = !rpcBlockHost.isEmpty();
         this.rpcBlockPort = isBlockPortSet ? rpcBlockPort : 5125;
         this.rpcBlockHost = isBlockHostSet ? rpcBlockHost : "127.0.0.1";
+        this.maxParallelBlockRequests = Math.max(1, maxParallelBlockRequests);
+        blockRequestExecutor = Utilities.getListeningExecutorService("RpcService-blocks",
+                this.maxParallelBlockRequests,
+                this.maxParallelBlockRequests,
+                60,
+                new LinkedBlockingQueue<>());
     }
 
 
@@ -150,6 +165,7 @@ public class RpcService {
 
         // A hard shutdown is justified for the RPC service.
         executor.shutdownNow();
+        blockRequestExecutor.shutdownNow();
     }
 
     public void setup(ResultHandler resultHandler, Consumer<Throwable> errorHandler) {
@@ -327,16 +343,19 @@ public class RpcService {
         }
     }
 
-    void requestDtoBlock(int blockHeight,
-                         Consumer<RawBlock> resultHandler,
-                         Consumer<Throwable> errorHandler) {
+    // Returns null if the request was rejected because of the shutdown. The returned future can be canceled, the
+    // handlers are not called in that case.
+    @Nullable
+    ListenableFuture<RawBlock> requestDtoBlock(int blockHeight,
+                                               Consumer<RawBlock> resultHandler,
+                                               Consumer<Throwable> errorHandler) {
         try {
-            ListenableFuture<RawBlock> future = executor.submit(() -> {
+            ListenableFuture<RawBlock> future = blockRequestExecutor.submit(() -> {
                 long startTs = System.currentTimeMillis();
                 String blockHash = client.getBlockHash(blockHeight);
                 var rawDtoBlock = client.getBlock(blockHash, 2);
                 var block = getRawBlockFromRawDtoBlock(rawDtoBlock);
-                log.info("requestDtoBlock from bitcoind at blockHeight {} with {} txs took {} ms",
+                log.debug("requestDtoBlock from bitcoind at blockHeight {} with {} txs took {} ms",
                         blockHeight, block.getRawTxs().size(), System.currentTimeMillis() - startTs);
                 return block;
             });
@@ -349,15 +368,20 @@ public class RpcService {
 
                 @Override
                 public void onFailure(@NotNull Throwable throwable) {
+                    if (future.isCancelled()) {
+                        return;
+                    }
                     log.error("Error at requestDtoBlock: blockHeight={}, error={}", blockHeight, throwable);
                     UserThread.execute(() -> errorHandler.accept(throwable));
                 }
             }, MoreExecutors.directExecutor());
+            return future;
         } catch (RejectedExecutionException e) {
             if (!shutdownInProgress) {
                 log.error("Exception at requestDtoBlock", e);
                 throw e;
             }
+            return null;
         } catch (Exception e) {
             log.error("Exception at requestDtoBlock", e);
             throw e;
@@ -69,6 +69,7 @@ public class FullNodeNetworkService implements MessageListener, PeerManager.List
     private final Broadcaster broadcaster;
     private final MissingDataRequestService missingDataRequestService;
     private final DaoStateService daoStateService;
+    private final GetBlocksResponseCache getBlocksResponseCache;
 
     // Key is connection UID
     private final Map<String, GetBlocksRequestHandler> getBlocksRequestHandlers = new HashMap<>();
@@ -91,6 +92,7 @@ public class FullNodeNetworkService implements MessageListener, PeerManager.List
         this.broadcaster = broadcaster;
         this.missingDataRequestService = missingDataRequestService;
         this.daoStateService = daoStateService;
+        getBlocksResponseCache = new GetBlocksResponseCache(daoStateService);
     }
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -116,6 +118,12 @@ public class FullNodeNetworkService implements MessageListener, PeerManager.List
         broadcaster.broadcast(newBlockBroadcastMessage, networkNode.getNodeAddress());
     }
 
+    // Called after the DaoState was reverted to a snapshot. The cached blocks would not be used anymore as the blocks
+    // got replaced, but we release the memory.
+    public void onDaoStateReverted() {
+        getBlocksResponseCache.clear();
+    }
+
     public void addResponseListener(ResponseListener responseListener) {
         responseListeners.add(responseListener);
     }
@@ -176,7 +184,7 @@ public class FullNodeNetworkService implements MessageListener, PeerManager.List
         }
 
         GetBlocksRequestHandler requestHandler = new GetBlocksRequestHandler(networkNode,
-                daoStateService,
+                getBlocksResponseCache,
                 new GetBlocksRequestHandler.Listener() {
                     @Override
                     public void onComplete(int serializedSize) {
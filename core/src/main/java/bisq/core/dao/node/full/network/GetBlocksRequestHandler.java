@@ -17,15 +17,13 @@
 
 package bisq.core.dao.node.full.network;
 
-import bisq.core.dao.node.full.RawBlock;
 import bisq.core.dao.node.messages.GetBlocksRequest;
 import bisq.core.dao.node.messages.GetBlocksResponse;
-import bisq.core.dao.state.DaoStateService;
-import bisq.core.dao.state.model.blockchain.Block;
 
 import bisq.network.p2p.network.CloseConnectionReason;
 import bisq.network.p2p.network.Connection;
 import bisq.network.p2p.network.NetworkNode;
+import bisq.network.p2p.network.PreEncodedEnvelope;
 
 import bisq.common.Timer;
 import bisq.common.UserThread;
@@ -35,10 +33,7 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 
-import java.util.LinkedList;
-import java.util.List;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -68,7 +63,7 @@ class GetBlocksRequestHandler {
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     private final NetworkNode networkNode;
-    private final DaoStateService daoStateService;
+    private final GetBlocksResponseCache getBlocksResponseCache;
     private final Listener listener;
     private Timer timeoutTimer;
     private boolean stopped;
@@ -78,9 +73,11 @@ class GetBlocksRequestHandler {
     // Constructor
     ///////////////////////////////////////////////////////////////////////////////////////////
 
-    public GetBlocksRequestHandler(NetworkNode networkNode, DaoStateService daoStateService, Listener listener) {
+    public GetBlocksRequestHandler(NetworkNode networkNode,
+                                   GetBlocksResponseCache getBlocksResponseCache,
+                                   Listener listener) {
         this.networkNode = networkNode;
-        this.daoStateService = daoStateService;
+        this.getBlocksResponseCache = getBlocksResponseCache;
         this.listener = listener;
     }
 
@@ -92,15 +89,14 @@ class GetBlocksRequestHandler {
     public void onGetBlocksRequest(GetBlocksRequest getBlocksRequest, Connection connection) {
         long ts = System.currentTimeMillis();
         // We limit number of blocks to 3000 which is about 3 weeks and about 5 MB on data
-        List<RawBlock> rawBlocks = daoStateService.getBlocksFromBlockHeightStream(getBlocksRequest.getFromBlockHeight(), 3000)
-                .map(RawBlock::fromBlock)
-                .collect(Collectors.toCollection(LinkedList::new));
-
-        GetBlocksResponse getBlocksResponse = new GetBlocksResponse(rawBlocks, getBlocksRequest.getNonce());
+        // The response is built from the cached RawBlocks and encodings of the blocks
+        PreEncodedEnvelope preEncodedEnvelope = getBlocksResponseCache.buildGetBlocksResponse(
+                getBlocksRequest.getFromBlockHeight(), 3000, getBlocksRequest.getNonce());
+        GetBlocksResponse getBlocksResponse = (GetBlocksResponse) preEncodedEnvelope.getNetworkEnvelope();
         log.info("Received GetBlocksRequest from {} for blocks from height {}. " +
                         "Building GetBlocksResponse with {} blocks took {} ms.",
                 connection.getPeersNodeAddressOptional(), getBlocksRequest.getFromBlockHeight(),
-                rawBlocks.size(), System.currentTimeMillis() - ts);
+                getBlocksResponse.getBlocks().size(), System.currentTimeMillis() - ts);
 
         if (timeoutTimer != null) {
             timeoutTimer.stop();
@@ -114,7 +110,7 @@ class GetBlocksRequestHandler {
                 },
                 TIMEOUT_MIN, TimeUnit.MINUTES);
 
-        SettableFuture<Connection> future = networkNode.sendMessage(connection, getBlocksResponse);
+        SettableFuture<Connection> future = networkNode.sendMessage(connection, preEncodedEnvelope);
         Futures.addCallback(future, new FutureCallback<>() {
             @Override
             public void onSuccess(Connection connection) {
@@ -122,7 +118,7 @@ class GetBlocksRequestHandler {
                     log.info("Send DataResponse to {} succeeded. getBlocksResponse.getBlocks().size()={}",
                             connection.getPeersNodeAddressOptional(), getBlocksResponse.getBlocks().size());
                     cleanup();
-                    listener.onComplete(getBlocksResponse.toProtoNetworkEnvelope().getSerializedSize());
+                    listener.onComplete(preEncodedEnvelope.getSerializedSize());
                 } else {
                     log.trace("We have stopped already. We ignore that networkNode.sendMessage.onSuccess call.");
                 }
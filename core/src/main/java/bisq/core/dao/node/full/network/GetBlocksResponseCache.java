@@ -0,0 +1,193 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.full.network;
+
+import bisq.core.dao.node.full.RawBlock;
+import bisq.core.dao.node.messages.GetBlocksResponse;
+import bisq.core.dao.state.DaoStateService;
+import bisq.core.dao.state.model.blockchain.Block;
+import bisq.core.dao.state.storage.BlocksPersistence;
+
+import bisq.network.p2p.network.PreEncodedEnvelope;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Used by full nodes (in practice the seed nodes) to reduce the costs of the GetBlocksResponses. After a release many
+ * lite nodes request the blocks from about the same height, so the responses contain mostly the same blocks.
+ * <p>
+ * We keep the RawBlock and its encoding for each served block in buckets of {@link BlocksPersistence#BUCKET_SIZE}
+ * blocks, aligned with the buckets of BlocksPersistence. The GetBlocksResponse is encoded by concatenating the cached
+ * block encodings. A cached block is only used if it is still the same Block instance of the DaoState and has the same
+ * number of txs. At a reorg or when a snapshot gets applied the blocks of the DaoState are replaced by new instances,
+ * so the outdated blocks are not used anymore and get replaced at the next request.
+ * <p>
+ * All methods except the encoding are called on the UserThread.
+ */
+@Slf4j
+class GetBlocksResponseCache {
+    // 3 buckets are sufficient for a response of 3000 blocks. We keep a few more for requests from different heights.
+    private static final int MAX_BUCKETS = 6;
+
+    private final DaoStateService daoStateService;
+    // Least recently used bucket first
+    private final Map<Integer, CachedBlock[]> bucketsByIndex = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, CachedBlock[]> eldest) {
+            return size() > MAX_BUCKETS;
+        }
+    };
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    GetBlocksResponseCache(DaoStateService daoStateService) {
+        this.daoStateService = daoStateService;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // The network envelope of the returned PreEncodedEnvelope is the GetBlocksResponse
+    PreEncodedEnvelope buildGetBlocksResponse(int fromBlockHeight, int numMaxBlocks, int requestNonce) {
+        List<CachedBlock> cachedBlocks = getCachedBlocks(fromBlockHeight, numMaxBlocks);
+        List<RawBlock> rawBlocks = new ArrayList<>(cachedBlocks.size());
+        cachedBlocks.forEach(cachedBlock -> rawBlocks.add(cachedBlock.rawBlock));
+        GetBlocksResponse getBlocksResponse = new GetBlocksResponse(rawBlocks, requestNonce);
+        // The encoding is done at the send message thread
+        return new PreEncodedEnvelope(getBlocksResponse,
+                networkEnvelope -> encodeDelimited(getBlocksResponse, cachedBlocks));
+    }
+
+    void clear() {
+        bucketsByIndex.clear();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private List<CachedBlock> getCachedBlocks(int fromBlockHeight, int numMaxBlocks) {
+        List<CachedBlock> cachedBlocks = new ArrayList<>();
+        int height = Math.max(fromBlockHeight, daoStateService.getGenesisBlockHeight());
+        while (cachedBlocks.size() < numMaxBlocks) {
+            Block block = daoStateService.getBlockAtHeight(height).orElse(null);
+            if (block == null) {
+                break;
+            }
+            cachedBlocks.add(getCachedBlock(height, block));
+            height++;
+        }
+        return cachedBlocks;
+    }
+
+    private CachedBlock getCachedBlock(int height, Block block) {
+        // Same buckets as in BlocksPersistence: 1-1000, 1001-2000,...
+        int bucketIndex = (height - 1) / BlocksPersistence.BUCKET_SIZE;
+        int indexInBucket = (height - 1) % BlocksPersistence.BUCKET_SIZE;
+        CachedBlock[] bucket = bucketsByIndex.computeIfAbsent(bucketIndex,
+                index -> new CachedBlock[BlocksPersistence.BUCKET_SIZE]);
+        CachedBlock cachedBlock = bucket[indexInBucket];
+        // The txs of the last block get added while it is parsed
+        if (cachedBlock == null || cachedBlock.block != block || cachedBlock.numTxs != block.getTxs().size()) {
+            cachedBlock = new CachedBlock(block);
+            bucket[indexInBucket] = cachedBlock;
+        }
+        return cachedBlock;
+    }
+
+    // Writes the same bytes as protobuf.NetworkEnvelope.writeDelimitedTo
+    private static byte[] encodeDelimited(GetBlocksResponse getBlocksResponse, List<CachedBlock> cachedBlocks) {
+        protobuf.NetworkEnvelope envelopeHeader = protobuf.NetworkEnvelope.newBuilder()
+                .setMessageVersion(getBlocksResponse.getMessageVersion())
+                .build();
+        // Contains only the request_nonce which follows the raw_blocks field
+        protobuf.GetBlocksResponse responseWithoutBlocks = protobuf.GetBlocksResponse.newBuilder()
+                .setRequestNonce(getBlocksResponse.getRequestNonce())
+                .build();
+
+        List<byte[]> encodedBlocks = new ArrayList<>(cachedBlocks.size());
+        int responseSize = responseWithoutBlocks.getSerializedSize();
+        for (CachedBlock cachedBlock : cachedBlocks) {
+            byte[] encodedBlock = cachedBlock.getEncoding();
+            encodedBlocks.add(encodedBlock);
+            responseSize += CodedOutputStream.computeByteArraySize(
+                    protobuf.GetBlocksResponse.RAW_BLOCKS_FIELD_NUMBER, encodedBlock);
+        }
+
+        int envelopeSize = envelopeHeader.getSerializedSize() +
+                CodedOutputStream.computeTagSize(protobuf.NetworkEnvelope.GET_BLOCKS_RESPONSE_FIELD_NUMBER) +
+                CodedOutputStream.computeUInt32SizeNoTag(responseSize) +
+                responseSize;
+        byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(envelopeSize) + envelopeSize];
+        CodedOutputStream outputStream = CodedOutputStream.newInstance(bytes);
+        try {
+            outputStream.writeUInt32NoTag(envelopeSize);
+            envelopeHeader.writeTo(outputStream);
+            outputStream.writeTag(protobuf.NetworkEnvelope.GET_BLOCKS_RESPONSE_FIELD_NUMBER,
+                    WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            outputStream.writeUInt32NoTag(responseSize);
+            for (byte[] encodedBlock : encodedBlocks) {
+                outputStream.writeByteArray(protobuf.GetBlocksResponse.RAW_BLOCKS_FIELD_NUMBER, encodedBlock);
+            }
+            responseWithoutBlocks.writeTo(outputStream);
+            outputStream.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // Cannot happen as we write into a byte array of the exact size
+            throw new IllegalStateException("Encoding of GetBlocksResponse failed", e);
+        }
+        log.info("Encoded a GetBlocksResponse with {} blocks and {} kB", cachedBlocks.size(), bytes.length / 1000d);
+        return bytes;
+    }
+
+    private static final class CachedBlock {
+        private final Block block;
+        private final int numTxs;
+        private final RawBlock rawBlock;
+        private byte[] encoding;
+
+        CachedBlock(Block block) {
+            this.block = block;
+            this.numTxs = block.getTxs().size();
+            this.rawBlock = RawBlock.fromBlock(block);
+        }
+
+        // Called from the send message threads. The RawBlock is immutable, so it can be encoded at any thread.
+        synchronized byte[] getEncoding() {
+            if (encoding == null) {
+                encoding = rawBlock.toProtoMessage().toByteArray();
+            }
+            return encoding;
+        }
+    }
+}
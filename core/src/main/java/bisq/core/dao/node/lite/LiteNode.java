@@ -202,10 +202,11 @@ public class LiteNode extends BsqNode {
         // INITIAL_DATA_EXCHANGE to PEER and therefore lower priority for getting closed
         ConnectionState.incrementExpectedInitialDataResponses();
 
-        if (chainHeight == daoStateService.getGenesisBlockHeight()) {
-            liteNodeNetworkService.requestBlocks(chainHeight);
+        int startBlockHeight = chainHeight == daoStateService.getGenesisBlockHeight() ? chainHeight : chainHeight + 1;
+        if (walletsSetup.isDownloadComplete()) {
+            liteNodeNetworkService.requestBlocks(startBlockHeight, bsqWalletService.getBestChainHeight());
         } else {
-            liteNodeNetworkService.requestBlocks(chainHeight + 1);
+            liteNodeNetworkService.requestBlocks(startBlockHeight);
         }
     }
 
@@ -248,16 +249,23 @@ public class LiteNode extends BsqNode {
                             MathUtils.roundDouble(duration / 1000d, 2),
                             MathUtils.roundDouble(duration / 1000d / 60, 2),
                             MathUtils.roundDouble(duration / blockList.size(), 2));
+                    // If the blocks are downloaded from several seed nodes in parallel, that passes the next range
+                    // of blocks to us
+                    onParsingComplete.run();
+                    if (liteNodeNetworkService.isParallelBlocksDownloadInProgress()) {
+                        return;
+                    }
+
                     // We only request again if wallet is synced, otherwise we would get repeated calls we want to avoid.
                     // We deal with that case at the setupWalletBestBlockListener method above.
                     if (walletsSetup.isDownloadComplete() && daoStateService.getChainHeight() < bsqWalletService.getBestChainHeight()) {
                         log.info("We have completed batch processing of {} blocks but we have still {} missing blocks and request again.",
                                 blockList.size(), bsqWalletService.getBestChainHeight() - daoStateService.getChainHeight());
 
-                        liteNodeNetworkService.requestBlocks(daoStateService.getChainHeight() + 1);
+                        liteNodeNetworkService.requestBlocks(daoStateService.getChainHeight() + 1,
+                                bsqWalletService.getBestChainHeight());
                     } else {
                         log.info("We have completed batch processing of {} blocks and we have reached the chain tip of the wallet.", blockList.size());
-                        onParsingComplete.run();
                         onParseBlockChainComplete();
                     }
                 });
@@ -39,10 +39,12 @@ import bisq.common.util.Tuple2;
 
 import javax.inject.Inject;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -63,6 +65,8 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     private static final long RETRY_DELAY_SEC = 10;
     private static final long CLEANUP_TIMER = 120;
     private static final int MAX_RETRY = 12;
+    // Max. number of seed nodes we request blocks from in parallel
+    private static final int MAX_PARALLEL_SEED_NODES = 4;
 
     private int retryCounter = 0;
     private int lastRequestedBlockHeight;
@@ -100,6 +104,8 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     private Timer retryTimer;
     private boolean stopped;
     private final Set<String> receivedBlocks = new HashSet<>();
+    @Nullable
+    private ParallelBlocksDownloader parallelBlocksDownloader;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -132,6 +138,7 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     public void shutDown() {
         stopped = true;
         stopRetryTimer();
+        stopParallelBlocksDownload();
         networkNode.removeMessageListener(this);
         networkNode.removeConnectionListener(this);
         peerManager.removeListener(this);
@@ -161,7 +168,66 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
                 });
     }
 
+    /**
+     * If we miss more blocks than a full node delivers with one response and we know several seed nodes, we request
+     * the blocks from several seed nodes in parallel. The blocks are passed to the listeners in height order and the
+     * next range of blocks is only passed after the onParsingComplete handler of the previous one got called.
+     * Otherwise, we request the blocks from one seed node as in {@link #requestBlocks(int)}.
+     *
+     * @param startBlockHeight      Block height from where we expect new blocks (current block height in bsqState + 1)
+     * @param targetBlockHeight     Block height of the chain tip of the BTC wallet
+     */
+    public void requestBlocks(int startBlockHeight, int targetBlockHeight) {
+        stopParallelBlocksDownload();
+
+        List<NodeAddress> seedNodes = getSeedNodesForParallelDownload();
+        if (stopped ||
+                targetBlockHeight - startBlockHeight < ParallelBlocksDownloader.BLOCKS_PER_REQUEST ||
+                seedNodes.size() < 2) {
+            requestBlocks(startBlockHeight);
+            return;
+        }
+
+        lastRequestedBlockHeight = startBlockHeight;
+        parallelBlocksDownloader = new ParallelBlocksDownloader(this::createRequestBlocksHandler,
+                seedNodes,
+                startBlockHeight,
+                targetBlockHeight,
+                new ParallelBlocksDownloader.Listener() {
+                    @Override
+                    public void onBlocksReceived(GetBlocksResponse getBlocksResponse,
+                                                 int nextBlockHeight,
+                                                 Runnable onParsingComplete) {
+                        stopRetryTimer();
+                        lastReceivedBlockHeight = getBlocksResponse.getBlocks().get(0).getHeight();
+                        lastRequestedBlockHeight = nextBlockHeight;
+                        listeners.forEach(listener -> listener.onRequestedBlocksReceived(getBlocksResponse,
+                                onParsingComplete));
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        parallelBlocksDownloader = null;
+                    }
+
+                    @Override
+                    public void onAborted(int nextBlockHeight, boolean isParsing) {
+                        parallelBlocksDownloader = null;
+                        // If the listener is still parsing it requests the missing blocks after parsing
+                        if (!isParsing) {
+                            requestBlocks(nextBlockHeight);
+                        }
+                    }
+                });
+        parallelBlocksDownloader.start();
+    }
+
+    public boolean isParallelBlocksDownloadInProgress() {
+        return parallelBlocksDownloader != null;
+    }
+
     public void reset() {
+        stopParallelBlocksDownload();
         lastRequestedBlockHeight = 0;
         lastReceivedBlockHeight = 0;
         retryCounter = 0;
@@ -180,6 +246,9 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     @Override
     public void onDisconnect(CloseConnectionReason closeConnectionReason, Connection connection) {
         closeHandler(connection);
+        if (parallelBlocksDownloader != null) {
+            connection.getPeersNodeAddressOptional().ifPresent(parallelBlocksDownloader::onSeedNodeDisconnected);
+        }
 
         if (peerManager.isPeerBanned(closeConnectionReason, connection)) {
             connection.getPeersNodeAddressOptional().ifPresent(nodeAddress -> {
@@ -197,6 +266,7 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     @Override
     public void onAllConnectionsLost() {
         log.info("onAllConnectionsLost");
+        stopParallelBlocksDownload();
         closeAllHandlers();
         stopRetryTimer();
         stopped = true;
@@ -206,6 +276,7 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     @Override
     public void onNewConnectionAfterAllConnectionsLost() {
         log.info("onNewConnectionAfterAllConnectionsLost");
+        stopParallelBlocksDownload();
         closeAllHandlers();
         stopped = false;
         tryWithNewSeedNode(lastRequestedBlockHeight);
@@ -214,6 +285,7 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
     @Override
     public void onAwakeFromStandby() {
         log.info("onAwakeFromStandby");
+        stopParallelBlocksDownload();
         closeAllHandlers();
         stopped = false;
         tryWithNewSeedNode(lastRequestedBlockHeight);
@@ -378,6 +450,43 @@ public class LiteNodeNetworkService implements MessageListener, ConnectionListen
                 RETRY_DELAY_SEC);
     }
 
+    private RequestBlocksHandler createRequestBlocksHandler(NodeAddress nodeAddress,
+                                                           int startBlockHeight,
+                                                           RequestBlocksHandler.Listener listener) {
+        RequestBlocksHandler requestBlocksHandler = new RequestBlocksHandler(networkNode,
+                peerManager,
+                nodeAddress,
+                startBlockHeight,
+                listener);
+        requestBlocksHandler.requestBlocks();
+        return requestBlocksHandler;
+    }
+
+    // Seed nodes we are connected to come first
+    private List<NodeAddress> getSeedNodesForParallelDownload() {
+        List<NodeAddress> connectedSeedNodes = networkNode.getConfirmedConnections().stream()
+                .filter(peerManager::isSeedNode)
+                .flatMap(connection -> connection.getPeersNodeAddressOptional().stream())
+                .collect(Collectors.toList());
+        List<NodeAddress> otherSeedNodes = seedNodeAddresses.stream()
+                .filter(e -> peerManager.isSeedNode(e) && !peerManager.isSelf(e))
+                .filter(e -> !connectedSeedNodes.contains(e))
+                .collect(Collectors.toList());
+        Collections.shuffle(connectedSeedNodes);
+        Collections.shuffle(otherSeedNodes);
+
+        Set<NodeAddress> seedNodes = new LinkedHashSet<>(connectedSeedNodes);
+        seedNodes.addAll(otherSeedNodes);
+        return new ArrayList<>(seedNodes).subList(0, Math.min(seedNodes.size(), MAX_PARALLEL_SEED_NODES));
+    }
+
+    private void stopParallelBlocksDownload() {
+        if (parallelBlocksDownloader != null) {
+            parallelBlocksDownloader.stop();
+            parallelBlocksDownloader = null;
+        }
+    }
+
     private void stopRetryTimer() {
         if (retryTimer != null) {
             retryTimer.stop();
@@ -0,0 +1,421 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.lite.network;
+
+import bisq.core.dao.node.full.RawBlock;
+import bisq.core.dao.node.messages.GetBlocksResponse;
+
+import bisq.network.p2p.NodeAddress;
+import bisq.network.p2p.network.Connection;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Requests disjoint ranges of blocks from several seed nodes in parallel and passes them to the listener strictly in
+ * height order. The next range is only passed after the listener has parsed the previous one.
+ * <p>
+ * A GetBlocksRequest only contains the start height and a full node responds with max. {@link #BLOCKS_PER_REQUEST}
+ * blocks, so we split the heights into ranges of that size. Blocks exceeding a range are dropped. If a seed node
+ * responds with fewer blocks than requested (it is behind), the missing blocks are requested again as a new range,
+ * except for the last range where we accept the shorter chain.
+ * <p>
+ * Each response must be a connected chain of blocks. At each range boundary we check that the first block of the range
+ * connects to the last passed block. If not, the seed nodes disagree on the block hashes and we request the range
+ * again from another seed node. Seed nodes which failed, sent invalid data or disagreed are not used anymore for that
+ * download. If no seed node is left, the download is aborted and the caller falls back to the sequential requests.
+ * <p>
+ * All methods are expected to be called on the UserThread.
+ */
+@Slf4j
+class ParallelBlocksDownloader {
+    // Max. number of blocks a full node responds with (see GetBlocksRequestHandler)
+    static final int BLOCKS_PER_REQUEST = 3000;
+    // A range of 3000 blocks is about 5 MB, so we limit the requested and not yet parsed ranges
+    private static final int MAX_BUFFERED_RANGES = 6;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Listener
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    interface BlocksRequester {
+        RequestBlocksHandler requestBlocks(NodeAddress nodeAddress,
+                                           int startBlockHeight,
+                                           RequestBlocksHandler.Listener listener);
+    }
+
+    interface Listener {
+        // onParsingComplete must be called after the blocks got parsed to receive the next range
+        void onBlocksReceived(GetBlocksResponse getBlocksResponse, int nextBlockHeight, Runnable onParsingComplete);
+
+        void onComplete();
+
+        // isParsing is true if the listener has not completed parsing the last passed range yet
+        void onAborted(int nextBlockHeight, boolean isParsing);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Class fields
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final BlocksRequester blocksRequester;
+    private final List<NodeAddress> seedNodes;
+    private final int targetBlockHeight;
+    private final Listener listener;
+
+    private final Set<NodeAddress> excludedSeedNodes = new HashSet<>();
+    private final Map<NodeAddress, PendingRequest> pendingRequests = new HashMap<>();
+    // Ranges which need to be requested again, by start height
+    private final TreeMap<Integer, Range> rangesToRequest = new TreeMap<>();
+    private final Map<Integer, ReceivedRange> receivedRanges = new HashMap<>();
+    private int nextRangeStartHeight;
+    private int nextBlockHeight;
+    @Nullable
+    private String lastBlockHash;
+    private boolean isParsing;
+    private boolean lastRangePassed;
+    private boolean stopped;
+
+    private final long startTime = System.currentTimeMillis();
+    private int numBlocks;
+    private long numBytes;
+    private int numHashMismatches;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    ParallelBlocksDownloader(BlocksRequester blocksRequester,
+                             List<NodeAddress> seedNodes,
+                             int startBlockHeight,
+                             int targetBlockHeight,
+                             Listener listener) {
+        this.blocksRequester = blocksRequester;
+        this.seedNodes = new ArrayList<>(seedNodes);
+        this.targetBlockHeight = targetBlockHeight;
+        this.listener = listener;
+        nextRangeStartHeight = startBlockHeight;
+        nextBlockHeight = startBlockHeight;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    void start() {
+        log.info("We request blocks from height {} to {} from {} seed nodes in parallel",
+                nextBlockHeight, targetBlockHeight, seedNodes.size());
+        requestRanges();
+    }
+
+    void stop() {
+        stopped = true;
+        pendingRequests.values().forEach(pendingRequest -> pendingRequest.requestBlocksHandler.terminate());
+        pendingRequests.clear();
+        receivedRanges.clear();
+        rangesToRequest.clear();
+    }
+
+    void onSeedNodeDisconnected(NodeAddress nodeAddress) {
+        PendingRequest pendingRequest = pendingRequests.get(nodeAddress);
+        if (pendingRequest != null) {
+            pendingRequest.requestBlocksHandler.terminate();
+            onFault(nodeAddress, pendingRequest.range, "Connection to seed node got closed");
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void requestRanges() {
+        for (NodeAddress seedNode : seedNodes) {
+            if (stopped) {
+                return;
+            }
+            if (excludedSeedNodes.contains(seedNode) || pendingRequests.containsKey(seedNode)) {
+                continue;
+            }
+            Range range = getNextRange();
+            if (range == null) {
+                break;
+            }
+            requestRange(seedNode, range);
+        }
+
+        if (!stopped && pendingRequests.isEmpty() && hasRangesToRequest() &&
+                excludedSeedNodes.containsAll(seedNodes)) {
+            abort("No seed node left for requesting blocks");
+        }
+    }
+
+    @Nullable
+    private Range getNextRange() {
+        // Ranges which need to be requested again are not limited by MAX_BUFFERED_RANGES, as the received ranges
+        // might wait for them
+        if (!rangesToRequest.isEmpty()) {
+            return rangesToRequest.pollFirstEntry().getValue();
+        }
+        if (nextRangeStartHeight > targetBlockHeight ||
+                pendingRequests.size() + receivedRanges.size() >= MAX_BUFFERED_RANGES) {
+            return null;
+        }
+        Range range = new Range(nextRangeStartHeight,
+                Math.min(nextRangeStartHeight + BLOCKS_PER_REQUEST - 1, targetBlockHeight));
+        nextRangeStartHeight = range.endHeight + 1;
+        return range;
+    }
+
+    private boolean hasRangesToRequest() {
+        return !rangesToRequest.isEmpty() || nextRangeStartHeight <= targetBlockHeight;
+    }
+
+    private void requestRange(NodeAddress seedNode, Range range) {
+        PendingRequest pendingRequest = new PendingRequest(range);
+        pendingRequests.put(seedNode, pendingRequest);
+        pendingRequest.requestBlocksHandler = blocksRequester.requestBlocks(seedNode,
+                range.startHeight,
+                new RequestBlocksHandler.Listener() {
+                    @Override
+                    public void onComplete(GetBlocksResponse getBlocksResponse) {
+                        onResponse(seedNode, range, getBlocksResponse);
+                    }
+
+                    @Override
+                    public void onFault(String errorMessage, @Nullable Connection connection) {
+                        ParallelBlocksDownloader.this.onFault(seedNode, range, errorMessage);
+                    }
+                });
+    }
+
+    private void onResponse(NodeAddress seedNode, Range range, GetBlocksResponse getBlocksResponse) {
+        PendingRequest pendingRequest = pendingRequests.get(seedNode);
+        if (stopped || pendingRequest == null || pendingRequest.range != range) {
+            return;
+        }
+        pendingRequests.remove(seedNode);
+        numBytes += pendingRequest.requestBlocksHandler.getReceivedBytes();
+
+        List<RawBlock> blocks = new ArrayList<>();
+        for (RawBlock block : getBlocksResponse.getBlocks()) {
+            if (block.getHeight() > range.endHeight) {
+                break;
+            }
+            blocks.add(block);
+        }
+
+        boolean isLastRange = range.endHeight == targetBlockHeight;
+        if (!isConnectedChain(range.startHeight, blocks)) {
+            excludeSeedNode(seedNode, range, "Received blocks are not a connected chain of the requested heights");
+        } else if (blocks.isEmpty() && !isLastRange) {
+            excludeSeedNode(seedNode, range, "Seed node has not the requested blocks");
+        } else {
+            int lastHeight = blocks.isEmpty() ? range.startHeight - 1 : blocks.get(blocks.size() - 1).getHeight();
+            if (lastHeight < range.endHeight && !isLastRange) {
+                log.info("Seed node {} responded only with blocks up to height {} for range {}. " +
+                        "We request the missing blocks again.", seedNode, lastHeight, range);
+                Range missingRange = new Range(lastHeight + 1, range.endHeight);
+                rangesToRequest.put(missingRange.startHeight, missingRange);
+            }
+            receivedRanges.put(range.startHeight, new ReceivedRange(seedNode,
+                    range,
+                    blocks,
+                    getBlocksResponse.getRequestNonce()));
+            maybePassNextRange();
+        }
+        requestRanges();
+    }
+
+    private void onFault(NodeAddress seedNode, Range range, String errorMessage) {
+        PendingRequest pendingRequest = pendingRequests.get(seedNode);
+        if (stopped || pendingRequest == null || pendingRequest.range != range) {
+            return;
+        }
+        pendingRequests.remove(seedNode);
+        excludeSeedNode(seedNode, range, errorMessage);
+        requestRanges();
+    }
+
+    private void excludeSeedNode(NodeAddress seedNode, Range range, String reason) {
+        log.warn("We do not request blocks from seed node {} anymore and request range {} again. Reason: {}",
+                seedNode, range, reason);
+        excludedSeedNodes.add(seedNode);
+        rangesToRequest.put(range.startHeight, range);
+    }
+
+    private void maybePassNextRange() {
+        if (stopped || isParsing) {
+            return;
+        }
+        ReceivedRange receivedRange = receivedRanges.remove(nextBlockHeight);
+        if (receivedRange == null) {
+            return;
+        }
+
+        List<RawBlock> blocks = receivedRange.blocks;
+        if (blocks.isEmpty()) {
+            // The last range was empty as the seed node did not have newer blocks
+            complete();
+            return;
+        }
+
+        Range range = receivedRange.range;
+        RawBlock lastBlock = blocks.get(blocks.size() - 1);
+        if (lastBlockHash != null && !lastBlockHash.equals(blocks.get(0).getPreviousBlockHash())) {
+            numHashMismatches++;
+            // If the range was not complete the missing blocks are requested already as a separate range
+            Range rangeToRequest = range.endHeight == targetBlockHeight ?
+                    range :
+                    new Range(range.startHeight, lastBlock.getHeight());
+            excludeSeedNode(receivedRange.seedNode, rangeToRequest,
+                    "Block at height " + nextBlockHeight + " does not connect to the block hash " + lastBlockHash +
+                            " we received from another seed node");
+            requestRanges();
+            return;
+        }
+
+        lastBlockHash = lastBlock.getHash();
+        nextBlockHeight = lastBlock.getHeight() + 1;
+        lastRangePassed = range.endHeight == targetBlockHeight;
+        numBlocks += blocks.size();
+        isParsing = true;
+        logProgress();
+
+        int passedNextBlockHeight = nextBlockHeight;
+        listener.onBlocksReceived(new GetBlocksResponse(blocks, receivedRange.requestNonce),
+                nextBlockHeight,
+                () -> onParsingComplete(passedNextBlockHeight));
+    }
+
+    private void onParsingComplete(int passedNextBlockHeight) {
+        // We ignore repeated calls
+        if (stopped || !isParsing || passedNextBlockHeight != nextBlockHeight) {
+            return;
+        }
+        isParsing = false;
+        if (lastRangePassed) {
+            complete();
+        } else {
+            maybePassNextRange();
+            requestRanges();
+        }
+    }
+
+    private void complete() {
+        stop();
+        log.info("Completed download of blocks up to height {}. {}", nextBlockHeight - 1, getThroughput());
+        listener.onComplete();
+    }
+
+    private void abort(String reason) {
+        boolean wasParsing = isParsing;
+        stop();
+        log.warn("We abort the parallel download of blocks at height {}. Reason: {}. {}",
+                nextBlockHeight, reason, getThroughput());
+        listener.onAborted(nextBlockHeight, wasParsing);
+    }
+
+    private void logProgress() {
+        log.info("We received blocks up to height {} of {}. {}", nextBlockHeight - 1, targetBlockHeight,
+                getThroughput());
+    }
+
+    private String getThroughput() {
+        long duration = Math.max(1, System.currentTimeMillis() - startTime);
+        return String.format("%d blocks at %.1f blocks/sec, %.1f kB/sec; " +
+                        "seed nodes: %d, excluded: %d, hash mismatches: %d",
+                numBlocks,
+                numBlocks * 1000d / duration,
+                numBytes / (double) duration,
+                seedNodes.size(),
+                excludedSeedNodes.size(),
+                numHashMismatches);
+    }
+
+    private static boolean isConnectedChain(int startBlockHeight, List<RawBlock> blocks) {
+        String previousBlockHash = null;
+        for (int i = 0; i < blocks.size(); i++) {
+            RawBlock block = blocks.get(i);
+            if (block.getHeight() != startBlockHeight + i) {
+                return false;
+            }
+            if (previousBlockHash != null && !previousBlockHash.equals(block.getPreviousBlockHash())) {
+                return false;
+            }
+            previousBlockHash = block.getHash();
+        }
+        return true;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Inner classes
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final class Range {
+        private final int startHeight;
+        private final int endHeight;
+
+        private Range(int startHeight, int endHeight) {
+            this.startHeight = startHeight;
+            this.endHeight = endHeight;
+        }
+
+        @Override
+        public String toString() {
+            return startHeight + "-" + endHeight;
+        }
+    }
+
+    private static final class PendingRequest {
+        private final Range range;
+        private RequestBlocksHandler requestBlocksHandler;
+
+        private PendingRequest(Range range) {
+            this.range = range;
+        }
+    }
+
+    private static final class ReceivedRange {
+        private final NodeAddress seedNode;
+        private final Range range;
+        private final List<RawBlock> blocks;
+        private final int requestNonce;
+
+        private ReceivedRange(NodeAddress seedNode, Range range, List<RawBlock> blocks, int requestNonce) {
+            this.seedNode = seedNode;
+            this.range = range;
+            this.blocks = blocks;
+            this.requestNonce = requestNonce;
+        }
+    }
+}
@@ -80,6 +80,11 @@ public class RequestBlocksHandler implements MessageListener {
     private Timer timeoutTimer;
     private final int nonce = new Random().nextInt();
     private boolean stopped;
+    private long receivedBytesAtRequest = -1;
+    // Bytes received on the connection between the request and the response. Other messages received in between are
+    // included, so it is only an approximation of the size of the GetBlocksResponse.
+    @Getter
+    private long receivedBytes;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -137,6 +142,7 @@ public class RequestBlocksHandler implements MessageListener {
             @Override
             public void onSuccess(Connection connection) {
                 log.debug("Sending of GetBlocksRequest message to peer {} succeeded.", nodeAddress.getFullAddress());
+                receivedBytesAtRequest = connection.getStatistic().getReceivedBytes();
             }
 
             @Override
@@ -190,6 +196,9 @@ public class RequestBlocksHandler implements MessageListener {
             }
 
             terminate();
+            if (receivedBytesAtRequest >= 0) {
+                receivedBytes = Math.max(0, connection.getStatistic().getReceivedBytes() - receivedBytesAtRequest);
+            }
             log.info("\n#################################################################\n" +
                             "We received from peer {} a BlocksResponse with {} blocks" +
                             "\n#################################################################\n",
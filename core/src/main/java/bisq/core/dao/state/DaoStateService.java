@@ -45,6 +45,7 @@ import javax.inject.Inject;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -77,7 +78,9 @@ public class DaoStateService implements DaoSetupService {
     @Getter
     private boolean parseBlockChainComplete;
     private boolean allowDaoStateChange;
-    private final Map<String, Set<String>> cachedTxIdSetByAddress = new HashMap<>();
+    // Created at the first request and then updated with each new tx
+    @Nullable
+    private Map<String, Set<String>> txIdSetByAddress;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -147,6 +150,8 @@ public class DaoStateService implements DaoSetupService {
 
         daoState.getDecryptedBallotsWithMeritsList().clear();
         daoState.getDecryptedBallotsWithMeritsList().addAll(snapshot.getDecryptedBallotsWithMeritsList());
+
+        invalidateTxIdSetByAddress();
     }
 
     public DaoState getClone() {
@@ -271,6 +276,7 @@ public class DaoStateService implements DaoSetupService {
                 // We need to ensure that the txs in all blocks are in sync with the txs in our txMap (cache).
                 block.addTx(tx);
                 daoState.addToTxCache(tx);
+                addToTxIdSetByAddress(tx);
             } else {
                 // Not clear if this case can happen but at onNewBlockWithEmptyTxs we handle such a potential edge
                 // case as well, so we need to reflect that here as well.
@@ -302,10 +308,6 @@ public class DaoStateService implements DaoSetupService {
         // generate a hash of the state.
         allowDaoStateChange = false;
         daoStateListeners.forEach(l -> l.onDaoStateChanged(block));
-
-        if (!block.getTxs().isEmpty()) {
-            cachedTxIdSetByAddress.clear();
-        }
     }
 
     // Called after parsing of all pending blocks is completed
@@ -405,6 +407,13 @@ public class DaoStateService implements DaoSetupService {
         return daoState.getTxCache().size();
     }
 
+    // Returns a page of the txs with the given types (or all txs if txTypes is empty), most recent first
+    public List<Tx> getMostRecentTxs(Set<TxType> txTypes, int skip, int limit) {
+        checkArgument(skip >= 0, "skip must not be negative");
+        checkArgument(limit >= 0, "limit must not be negative");
+        return daoState.getMostRecentTxs(txTypes, skip, limit);
+    }
+
     public List<Tx> getInvalidTxs() {
         return getUnorderedTxStream().filter(tx -> tx.getTxType() == TxType.INVALID).collect(Collectors.toList());
     }
@@ -655,6 +664,10 @@ public class DaoStateService implements DaoSetupService {
     public void addIssuance(Issuance issuance) {
         assertDaoStateChange();
         daoState.getIssuanceMap().put(issuance.getTxId(), issuance);
+
+        // The issuance candidate output becomes a BSQ output, so the addresses of older txs change. Issuances are
+        // added only once per cycle, so we just recreate the index.
+        invalidateTxIdSetByAddress();
     }
 
     public Collection<Issuance> getIssuanceItems() {
@@ -1042,48 +1055,57 @@ public class DaoStateService implements DaoSetupService {
     // Addresses
     ///////////////////////////////////////////////////////////////////////////////////////////
 
-    public Map<String, Set<String>> getTxIdSetByAddress() {
-        // We clear it at each new (non-empty) block, so it gets recreated
-        if (!cachedTxIdSetByAddress.isEmpty()) {
-            return cachedTxIdSetByAddress;
+    public synchronized Map<String, Set<String>> getTxIdSetByAddress() {
+        if (txIdSetByAddress == null) {
+            txIdSetByAddress = new HashMap<>();
+            getUnorderedTxStream().forEach(this::addToTxIdSetByAddress);
         }
+        return Collections.unmodifiableMap(txIdSetByAddress);
+    }
 
-        Map<TxOutputKey, String> txIdByConnectedTxOutputKey = new HashMap<>();
-        // Add tx ids and addresses from tx outputs
-        getUnorderedTxStream()
-                .forEach(tx -> {
-                    tx.getTxOutputs().stream()
-                            .filter(this::isBsqTxOutputType)
-                            .filter(txOutput -> txOutput.getAddress() != null)
-                            .filter(txOutput -> !txOutput.getAddress().isEmpty())
-                            .forEach(txOutput -> {
-                                String address = txOutput.getAddress();
-                                Set<String> txIdSet = cachedTxIdSetByAddress.getOrDefault(address, new HashSet<>());
-                                String txId = tx.getId();
-                                txIdSet.add(txId);
-                                cachedTxIdSetByAddress.put(address, txIdSet);
-                                tx.getTxInputs().forEach(txInput -> {
-                                    txIdByConnectedTxOutputKey.put(txInput.getConnectedTxOutputKey(), txId);
-                                });
-                            });
-                });
+    public synchronized Set<String> getTxIdSetForAddress(String address) {
+        return new HashSet<>(getTxIdSetByAddress().getOrDefault(address, Set.of()));
+    }
 
-        // Add tx ids and addresses from connected outputs (inputs)
-        getUnorderedTxOutputStream()
-                .filter(this::isBsqTxOutputType)
-                .filter(txOutput -> txOutput.getAddress() != null)
-                .filter(txOutput -> !txOutput.getAddress().isEmpty())
-                .forEach(txOutput -> {
-                    String txId = txIdByConnectedTxOutputKey.get(txOutput.getKey());
-                    if (txId != null) {
-                        String address = txOutput.getAddress();
-                        Set<String> txIdSet = cachedTxIdSetByAddress.getOrDefault(address, new HashSet<>());
-                        txIdSet.add(txId);
-                        cachedTxIdSetByAddress.put(address, txIdSet);
-                    }
-                });
+    // A tx is added to the addresses of its BSQ outputs. If it has any, it is also added to the addresses of the
+    // BSQ outputs spent by its inputs.
+    private synchronized void addToTxIdSetByAddress(Tx tx) {
+        if (txIdSetByAddress == null) {
+            return;
+        }
+
+        String txId = tx.getId();
+        boolean hasBsqOutputWithAddress = false;
+        for (TxOutput txOutput : tx.getTxOutputs()) {
+            if (isBsqTxOutputWithAddress(txOutput)) {
+                txIdSetByAddress.computeIfAbsent(txOutput.getAddress(), address -> new HashSet<>()).add(txId);
+                hasBsqOutputWithAddress = true;
+            }
+        }
+        if (!hasBsqOutputWithAddress) {
+            return;
+        }
+
+        tx.getTxInputs().forEach(txInput -> {
+            TxOutputKey connectedTxOutputKey = txInput.getConnectedTxOutputKey();
+            getTx(connectedTxOutputKey.getTxId()).stream()
+                    .flatMap(connectedTx -> connectedTx.getTxOutputs().stream())
+                    .filter(txOutput -> txOutput.getKey().equals(connectedTxOutputKey))
+                    .filter(this::isBsqTxOutputWithAddress)
+                    .findAny()
+                    .ifPresent(connectedTxOutput -> txIdSetByAddress.computeIfAbsent(connectedTxOutput.getAddress(),
+                            address -> new HashSet<>()).add(txId));
+        });
+    }
+
+    private synchronized void invalidateTxIdSetByAddress() {
+        txIdSetByAddress = null;
+    }
 
-        return cachedTxIdSetByAddress;
+    private boolean isBsqTxOutputWithAddress(TxOutput txOutput) {
+        return isBsqTxOutputType(txOutput) &&
+                txOutput.getAddress() != null &&
+                !txOutput.getAddress().isEmpty();
     }
 
     ///////////////////////////////////////////////////////////////////////////////////////////
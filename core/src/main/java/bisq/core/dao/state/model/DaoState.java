@@ -23,6 +23,7 @@ import bisq.core.dao.state.model.blockchain.Tx;
 import bisq.core.dao.state.model.blockchain.TxOutput;
 import bisq.core.dao.state.model.blockchain.TxOutputKey;
 import bisq.core.dao.state.model.blockchain.TxOutputType;
+import bisq.core.dao.state.model.blockchain.TxType;
 import bisq.core.dao.state.model.governance.Cycle;
 import bisq.core.dao.state.model.governance.DecryptedBallotsWithMerits;
 import bisq.core.dao.state.model.governance.EvaluatedProposal;
@@ -51,6 +52,8 @@ import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
+
 /**
  * Root class for mutable state of the DAO.
  * Holds both blockchain data as well as data derived from the governance process (voting).
@@ -120,6 +123,13 @@ public class DaoState implements PersistablePayload {
     private transient final Map<Integer, Block> blocksByHeight; // Blocks indexed by height
     @JsonExclude
     private transient final Map<TxOutputType, Set<TxOutput>> txOutputsByTxOutputType = new HashMap<>();
+    // Cached encodings of the state elements used for the hash chain
+    @JsonExclude
+    private transient final HashChainSerializationCache hashChainSerializationCache = new HashChainSerializationCache();
+    // Txs ordered by time, created at the first request as only the explorer REST API uses it
+    @JsonExclude
+    @Nullable
+    private transient TxTimeIndex txTimeIndex;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -256,23 +266,46 @@ public class DaoState implements PersistablePayload {
         // Reorgs are handled by rebuilding the hash chain from last snapshot.
         // Using the full blocks list becomes quite heavy. 7000 blocks are
         // about 1.4 MB and creating the hash takes 30 sec. By using just the last block we reduce the time to 7 sec.
-        return getBsqStateBuilderExcludingBlocks().addBlocks(getLastBlock().toProtoMessage()).build().toByteArray();
+        // The result is the same as getBsqStateBuilderExcludingBlocks().addBlocks(getLastBlock().toProtoMessage())
+        // .build().toByteArray() but we only encode the elements which got changed since the last call.
+        return hashChainSerializationCache.getSerializedStateForHashChain(this);
     }
 
-    public void addToTxCache(Tx tx) {
+    // Synchronized with getMostRecentTxs, which can be called from the threads of the REST API
+    public synchronized void addToTxCache(Tx tx) {
         // We shouldn't get duplicate txIds, but use putIfAbsent instead of put for consistency with the map merge
         // function used in the constructor to initialise txCache (and to exactly match the pre-caching behaviour).
-        txCache.putIfAbsent(tx.getId(), tx);
+        boolean isNewTx = txCache.putIfAbsent(tx.getId(), tx) == null;
 
         addToTxOutputsByTxOutputTypeMap(tx);
+
+        if (isNewTx && txTimeIndex != null) {
+            txTimeIndex.add(tx);
+        }
     }
 
-    public void setTxCache(Map<String, Tx> txCache) {
+    public synchronized void setTxCache(Map<String, Tx> txCache) {
         this.txCache.clear();
         this.txCache.putAll(txCache);
 
         txOutputsByTxOutputType.clear();
         this.txCache.values().forEach(this::addToTxOutputsByTxOutputTypeMap);
+
+        // Gets recreated at the next request
+        txTimeIndex = null;
+    }
+
+    /**
+     * @param txTypes   The TxTypes of the requested txs. If empty, txs of all types are returned.
+     * @param skip      Number of most recent matching txs to skip
+     * @param limit     Max. number of txs to return
+     * @return The matching txs ordered by block time, most recent first
+     */
+    public synchronized List<Tx> getMostRecentTxs(Set<TxType> txTypes, int skip, int limit) {
+        if (txTimeIndex == null) {
+            txTimeIndex = new TxTimeIndex(txCache.values());
+        }
+        return txTimeIndex.getMostRecentTxs(txTypes, skip, limit);
     }
 
     private void addToTxOutputsByTxOutputTypeMap(Tx tx) {
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state.model;
+
+import bisq.core.dao.state.model.blockchain.Block;
+import bisq.core.dao.state.model.blockchain.TxOutputKey;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the serialized DaoState used for the hash chain by concatenating cached encodings of its elements.
+ * <p>
+ * The protobuf encoding of a message is the concatenation of the encodings of its fields in field number order, and
+ * a repeated or map field is encoded as a sequence of single elements. So we encode each element once as a DaoState
+ * which contains only that element, keep the bytes as long as the element is part of the state and only encode the
+ * elements which have been added or replaced since the last call. All elements are immutable
+ * ({@link ImmutableDaoStateModel}), so an unchanged reference guarantees unchanged bytes.
+ * <p>
+ * The result must be byte-identical to {@code getBsqStateBuilderExcludingBlocks().addBlocks(lastBlock).build()
+ * .toByteArray()} as it is used for the DAO consensus hashes. The map fields of the protobuf builder are filled from
+ * a HashMap created by Collectors.toMap and keep its iteration order. We get exactly the same order by inserting the
+ * same keys in the same order into a default HashMap.
+ */
+@Slf4j
+class HashChainSerializationCache {
+    private final Map<TxOutputKey, CachedEntry> unspentTxOutputEntries = new HashMap<>();
+    private final Map<TxOutputKey, CachedEntry> spentInfoEntries = new HashMap<>();
+    private final Map<String, CachedEntry> issuanceEntries = new HashMap<>();
+    private final Map<Object, CachedEntry> listElements = new IdentityHashMap<>();
+    private int generation;
+
+    byte[] getSerializedStateForHashChain(DaoState daoState) {
+        generation++;
+        List<byte[]> chunks = new ArrayList<>();
+
+        // Field order of protobuf.DaoState: chain_height, blocks, cycles, unspent_tx_output_map, issuance_map,
+        // confiscated_lockup_tx_list, spent_info_map, param_change_list, evaluated_proposal_list,
+        // decrypted_ballots_with_merits_list
+        chunks.add(protobuf.DaoState.newBuilder().setChainHeight(daoState.getChainHeight()).build().toByteArray());
+
+        // The last block changes at each call, so there is nothing to cache
+        Block lastBlock = daoState.getLastBlock();
+        chunks.add(protobuf.DaoState.newBuilder().addBlocks(lastBlock.toProtoMessage()).build().toByteArray());
+
+        daoState.getCycles().forEach(cycle -> chunks.add(getListElement(cycle,
+                e -> protobuf.DaoState.newBuilder().addCycles(e.toProtoMessage()))));
+
+        addMapEntries(daoState.getUnspentTxOutputMap(),
+                unspentTxOutputEntries,
+                TxOutputKey::toString,
+                (key, txOutput) -> protobuf.DaoState.newBuilder().putUnspentTxOutputMap(key, txOutput.toProtoMessage()),
+                chunks);
+
+        addMapEntries(daoState.getIssuanceMap(),
+                issuanceEntries,
+                Function.identity(),
+                (key, issuance) -> protobuf.DaoState.newBuilder().putIssuanceMap(key, issuance.toProtoMessage()),
+                chunks);
+
+        // Strings are cheap to encode and the list is small
+        chunks.add(protobuf.DaoState.newBuilder()
+                .addAllConfiscatedLockupTxList(daoState.getConfiscatedLockupTxList())
+                .build()
+                .toByteArray());
+
+        addMapEntries(daoState.getSpentInfoMap(),
+                spentInfoEntries,
+                TxOutputKey::toString,
+                (key, spentInfo) -> protobuf.DaoState.newBuilder().putSpentInfoMap(key, spentInfo.toProtoMessage()),
+                chunks);
+
+        daoState.getParamChangeList().forEach(paramChange -> chunks.add(getListElement(paramChange,
+                e -> protobuf.DaoState.newBuilder().addParamChangeList(e.toProtoMessage()))));
+        daoState.getEvaluatedProposalList().forEach(evaluatedProposal -> chunks.add(getListElement(evaluatedProposal,
+                e -> protobuf.DaoState.newBuilder().addEvaluatedProposalList(e.toProtoMessage()))));
+        daoState.getDecryptedBallotsWithMeritsList().forEach(decryptedBallotsWithMerits -> chunks.add(getListElement(decryptedBallotsWithMerits,
+                e -> protobuf.DaoState.newBuilder().addDecryptedBallotsWithMeritsList(e.toProtoMessage()))));
+
+        removeStaleEntries();
+
+        int size = chunks.stream().mapToInt(chunk -> chunk.length).sum();
+        byte[] result = new byte[size];
+        int position = 0;
+        for (byte[] chunk : chunks) {
+            System.arraycopy(chunk, 0, result, position, chunk.length);
+            position += chunk.length;
+        }
+        return result;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private <K, V> void addMapEntries(TreeMap<K, V> map,
+                                      Map<K, CachedEntry> cache,
+                                      Function<K, String> keyToString,
+                                      EntryEncoder<V> encoder,
+                                      List<byte[]> chunks) {
+        // Same key order and same insertion order as at Collectors.toMap in DaoState.getBsqStateBuilderExcludingBlocks
+        Map<String, byte[]> entriesInProtoOrder = new HashMap<>();
+        map.forEach((key, value) -> {
+            CachedEntry cachedEntry = cache.get(key);
+            if (cachedEntry == null || cachedEntry.value != value) {
+                String keyAsString = cachedEntry != null ? cachedEntry.keyAsString : keyToString.apply(key);
+                cachedEntry = new CachedEntry(value, keyAsString,
+                        encoder.encode(keyAsString, value).build().toByteArray());
+                cache.put(key, cachedEntry);
+            }
+            cachedEntry.generation = generation;
+            entriesInProtoOrder.putIfAbsent(cachedEntry.keyAsString, cachedEntry.bytes);
+        });
+        chunks.addAll(entriesInProtoOrder.values());
+    }
+
+    private <T> byte[] getListElement(T element, Function<T, protobuf.DaoState.Builder> encoder) {
+        CachedEntry cachedEntry = listElements.get(element);
+        if (cachedEntry == null) {
+            cachedEntry = new CachedEntry(element, null, encoder.apply(element).build().toByteArray());
+            listElements.put(element, cachedEntry);
+        }
+        cachedEntry.generation = generation;
+        return cachedEntry.bytes;
+    }
+
+    // Elements which have not been used at the current call have been removed from the state
+    private void removeStaleEntries() {
+        unspentTxOutputEntries.values().removeIf(cachedEntry -> cachedEntry.generation != generation);
+        spentInfoEntries.values().removeIf(cachedEntry -> cachedEntry.generation != generation);
+        issuanceEntries.values().removeIf(cachedEntry -> cachedEntry.generation != generation);
+        listElements.values().removeIf(cachedEntry -> cachedEntry.generation != generation);
+    }
+
+    private interface EntryEncoder<V> {
+        protobuf.DaoState.Builder encode(String key, V value);
+    }
+
+    private static class CachedEntry {
+        private final Object value;
+        private final String keyAsString;
+        private final byte[] bytes;
+        private int generation;
+
+        private CachedEntry(Object value, String keyAsString, byte[] bytes) {
+            this.value = value;
+            this.keyAsString = keyAsString;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state.model;
+
+import bisq.core.dao.state.model.blockchain.Tx;
+import bisq.core.dao.state.model.blockchain.TxType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Index of the txs ordered by their block time, for all txs and partitioned by TxType, so a page of the most recent
+ * txs can be read without sorting all txs.
+ * <p>
+ * The lists are in ascending order, so the txs of a new block get appended at the end. Block times are not strictly
+ * increasing, so a tx gets inserted at its sorted position if its block is older than the last indexed tx.
+ */
+class TxTimeIndex {
+    // Txs of the same block have the same time, so we use the txId as tie-breaker to get a stable order
+    private static final Comparator<Tx> COMPARATOR = Comparator.comparingLong(Tx::getTime).thenComparing(Tx::getId);
+
+    private final List<Tx> txs = new ArrayList<>();
+    // TxType can be null for txs which have not been parsed, so we cannot use an EnumMap
+    private final Map<TxType, List<Tx>> txsByTxType = new HashMap<>();
+
+    TxTimeIndex(Collection<Tx> txs) {
+        txs.forEach(this::add);
+    }
+
+    void add(Tx tx) {
+        insert(txs, tx);
+        insert(txsByTxType.computeIfAbsent(tx.getTxType(), txType -> new ArrayList<>()), tx);
+    }
+
+    /**
+     * @param txTypes   The TxTypes of the requested txs. If empty, txs of all types are returned.
+     * @param skip      Number of most recent matching txs to skip
+     * @param limit     Max. number of txs to return
+     * @return The matching txs, most recent first
+     */
+    List<Tx> getMostRecentTxs(Set<TxType> txTypes, int skip, int limit) {
+        if (txTypes.isEmpty()) {
+            return getPage(txs, skip, limit);
+        }
+        if (txTypes.size() == 1) {
+            return getPage(txsByTxType.getOrDefault(txTypes.iterator().next(), List.of()), skip, limit);
+        }
+
+        // We merge the partitions of the requested types from their most recent tx on. The number of partitions is
+        // small, so we compare the heads linearly.
+        List<List<Tx>> partitions = txTypes.stream()
+                .map(txsByTxType::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        int[] positions = partitions.stream().mapToInt(List::size).toArray();
+        List<Tx> result = new ArrayList<>();
+        int skipped = 0;
+        while (result.size() < limit) {
+            int mostRecent = -1;
+            for (int i = 0; i < partitions.size(); i++) {
+                if (positions[i] > 0 && (mostRecent < 0 ||
+                        COMPARATOR.compare(partitions.get(i).get(positions[i] - 1),
+                                partitions.get(mostRecent).get(positions[mostRecent] - 1)) > 0)) {
+                    mostRecent = i;
+                }
+            }
+            if (mostRecent < 0) {
+                break;
+            }
+            positions[mostRecent]--;
+            if (skipped < skip) {
+                skipped++;
+            } else {
+                result.add(partitions.get(mostRecent).get(positions[mostRecent]));
+            }
+        }
+        return result;
+    }
+
+    private static void insert(List<Tx> list, Tx tx) {
+        if (list.isEmpty() || COMPARATOR.compare(list.get(list.size() - 1), tx) < 0) {
+            list.add(tx);
+            return;
+        }
+        int index = Collections.binarySearch(list, tx, COMPARATOR);
+        if (index < 0) {
+            list.add(-index - 1, tx);
+        }
+    }
+
+    private static List<Tx> getPage(List<Tx> list, int skip, int limit) {
+        List<Tx> result = new ArrayList<>(Math.max(0, Math.min(limit, list.size() - skip)));
+        for (int i = list.size() - 1 - skip; i >= 0 && result.size() < limit; i--) {
+            result.add(list.get(i));
+        }
+        return result;
+    }
+}
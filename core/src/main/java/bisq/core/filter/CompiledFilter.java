@@ -0,0 +1,169 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.filter;
+
+import bisq.core.payment.payload.PaymentAccountPayload;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import java.lang.reflect.Method;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * Lookup sets of the ban lists of a filter, created once when a filter gets applied. The lists of the filter are
+ * small, but the checks are called for each offer at each refresh and for each connection.
+ * <p>
+ * Instances are immutable, so they can be used from any thread.
+ */
+@Slf4j
+final class CompiledFilter {
+    static final CompiledFilter EMPTY = new CompiledFilter(null);
+
+    private final Set<String> bannedOfferIds;
+    private final Set<String> nodeAddressesBannedFromTrading;
+    private final Set<String> nodeAddressesBannedFromNetwork;
+    private final Set<String> bannedAutoConfExplorers;
+    private final Set<String> bannedCurrencies;
+    private final Set<String> bannedPaymentMethods;
+    private final Set<String> bannedAccountWitnessSignerPubKeys;
+    private final Set<String> bannedPrivilegedDevPubKeys;
+    // Values by getter method name by payment method id
+    private final Map<String, Map<String, Set<String>>> bannedPaymentAccounts;
+    private final Map<String, Map<String, Set<String>>> delayedPayoutPaymentAccounts;
+
+    CompiledFilter(@Nullable Filter filter) {
+        if (filter == null) {
+            bannedOfferIds = Set.of();
+            nodeAddressesBannedFromTrading = Set.of();
+            nodeAddressesBannedFromNetwork = Set.of();
+            bannedAutoConfExplorers = Set.of();
+            bannedCurrencies = Set.of();
+            bannedPaymentMethods = Set.of();
+            bannedAccountWitnessSignerPubKeys = Set.of();
+            bannedPrivilegedDevPubKeys = Set.of();
+            bannedPaymentAccounts = Map.of();
+            delayedPayoutPaymentAccounts = Map.of();
+            return;
+        }
+
+        bannedOfferIds = toSet(filter.getBannedOfferIds());
+        nodeAddressesBannedFromTrading = toSet(filter.getNodeAddressesBannedFromTrading());
+        nodeAddressesBannedFromNetwork = toSet(filter.getNodeAddressesBannedFromNetwork());
+        bannedAutoConfExplorers = toSet(filter.getBannedAutoConfExplorers());
+        bannedCurrencies = toSet(filter.getBannedCurrencies());
+        bannedPaymentMethods = toSet(filter.getBannedPaymentMethods());
+        bannedAccountWitnessSignerPubKeys = toSet(filter.getBannedAccountWitnessSignerPubKeys());
+        bannedPrivilegedDevPubKeys = toSet(filter.getBannedPrivilegedDevPubKeys());
+        bannedPaymentAccounts = toPaymentAccountValuesMap(filter.getBannedPaymentAccounts());
+        delayedPayoutPaymentAccounts = toPaymentAccountValuesMap(filter.getDelayedPayoutPaymentAccounts());
+    }
+
+    boolean isOfferIdBanned(String offerId) {
+        return bannedOfferIds.contains(offerId);
+    }
+
+    boolean isNodeAddressBannedFromTrading(String fullAddress) {
+        return nodeAddressesBannedFromTrading.contains(fullAddress);
+    }
+
+    boolean isNodeAddressBannedFromNetwork(String fullAddress) {
+        return nodeAddressesBannedFromNetwork.contains(fullAddress);
+    }
+
+    boolean isAutoConfExplorerBanned(String address) {
+        return bannedAutoConfExplorers.contains(address);
+    }
+
+    boolean isCurrencyBanned(String currencyCode) {
+        return bannedCurrencies.contains(currencyCode);
+    }
+
+    boolean isPaymentMethodBanned(String paymentMethodId) {
+        return bannedPaymentMethods.contains(paymentMethodId);
+    }
+
+    boolean isWitnessSignerPubKeyBanned(String witnessSignerPubKeyAsHex) {
+        return bannedAccountWitnessSignerPubKeys.contains(witnessSignerPubKeyAsHex);
+    }
+
+    boolean isPrivilegedDevPubKeyBanned(String pubKeyAsHex) {
+        return bannedPrivilegedDevPubKeys.contains(pubKeyAsHex);
+    }
+
+    boolean isPaymentAccountBanned(PaymentAccountPayload paymentAccountPayload) {
+        return matches(bannedPaymentAccounts, paymentAccountPayload);
+    }
+
+    boolean isDelayedPayoutPaymentAccount(PaymentAccountPayload paymentAccountPayload) {
+        return matches(delayedPayoutPaymentAccounts, paymentAccountPayload);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static boolean matches(Map<String, Map<String, Set<String>>> paymentAccountValuesMap,
+                                   PaymentAccountPayload paymentAccountPayload) {
+        Map<String, Set<String>> valuesByGetMethodName =
+                paymentAccountValuesMap.get(paymentAccountPayload.getPaymentMethodId());
+        if (valuesByGetMethodName == null) {
+            return false;
+        }
+        // We invoke each getter method (no args), e.g. getHolderName, only once
+        return valuesByGetMethodName.entrySet().stream().anyMatch(entry -> {
+            try {
+                Method method = paymentAccountPayload.getClass().getMethod(entry.getKey());
+                String valueFromInvoke = (String) method.invoke(paymentAccountPayload);
+                return entry.getValue().contains(valueFromInvoke);
+            } catch (Throwable e) {
+                log.error(e.getMessage());
+                return false;
+            }
+        });
+    }
+
+    private static Set<String> toSet(@Nullable Collection<String> list) {
+        return list != null ? Collections.unmodifiableSet(new HashSet<>(list)) : Set.of();
+    }
+
+    // The values are compared case-insensitive, as PaymentAccountFilter values have always been matched with
+    // equalsIgnoreCase
+    private static Map<String, Map<String, Set<String>>> toPaymentAccountValuesMap(
+            @Nullable Collection<PaymentAccountFilter> paymentAccountFilters) {
+        if (paymentAccountFilters == null) {
+            return Map.of();
+        }
+        Map<String, Map<String, Set<String>>> map = new HashMap<>();
+        paymentAccountFilters.forEach(paymentAccountFilter -> map
+                .computeIfAbsent(paymentAccountFilter.getPaymentMethodId(), paymentMethodId -> new HashMap<>())
+                .computeIfAbsent(paymentAccountFilter.getGetMethodName(),
+                        getMethodName -> new TreeSet<>(String.CASE_INSENSITIVE_ORDER))
+                .add(paymentAccountFilter.getValue()));
+        return map;
+    }
+}
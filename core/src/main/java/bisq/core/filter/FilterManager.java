@@ -61,6 +61,7 @@ import java.math.BigInteger;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -68,8 +69,6 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 
-import java.lang.reflect.Method;
-
 import lombok.extern.slf4j.Slf4j;
 
 import javax.annotation.Nullable;
@@ -105,6 +104,9 @@ public class FilterManager {
     private final PriceFeedNodeAddressProvider priceFeedNodeAddressProvider;
     private final boolean ignoreDevMsg;
     private final ObjectProperty<Filter> filterProperty = new SimpleObjectProperty<>();
+    // Lookup sets of the current filter. Replaced together with the filter, and read by the ban checks which are also
+    // called from network threads.
+    private volatile CompiledFilter compiledFilter = CompiledFilter.EMPTY;
     private final List<Listener> listeners = new CopyOnWriteArrayList<>();
     private final List<String> publicKeys;
     private ECKey filterSigningKey;
@@ -168,12 +170,13 @@ public class FilterManager {
         p2PService.addHashSetChangedListener(new HashMapChangedListener() {
             @Override
             public void onAdded(Collection<ProtectedStorageEntry> protectedStorageEntries) {
+                // A batch from a GetDataResponse can contain several filters. We apply them in the order of their
+                // creation date, so the result does not depend on the order of the entries in the batch.
                 protectedStorageEntries.stream()
                         .filter(protectedStorageEntry -> protectedStorageEntry.getProtectedStoragePayload() instanceof Filter)
-                        .forEach(protectedStorageEntry -> {
-                            Filter filter = (Filter) protectedStorageEntry.getProtectedStoragePayload();
-                            onFilterAddedFromNetwork(filter);
-                        });
+                        .map(protectedStorageEntry -> (Filter) protectedStorageEntry.getProtectedStoragePayload())
+                        .sorted(Comparator.comparingLong(Filter::getCreationDate))
+                        .forEach(filter -> onFilterAddedFromNetwork(filter));
             }
 
             @Override
@@ -260,12 +263,7 @@ public class FilterManager {
     }
 
     public boolean isPrivilegedDevPubKeyBanned(String pubKeyAsHex) {
-        Filter filter = getFilter();
-        if (filter == null) {
-            return false;
-        }
-
-        return filter.getBannedPrivilegedDevPubKeys().contains(pubKeyAsHex);
+        return compiledFilter.isPrivilegedDevPubKeyBanned(pubKeyAsHex);
     }
 
     public boolean canAddDevFilter(String privKeyString) {
@@ -396,41 +394,27 @@ public class FilterManager {
     }
 
     public boolean isCurrencyBanned(String currencyCode) {
-        return getFilter() != null &&
-                getFilter().getBannedCurrencies() != null &&
-                getFilter().getBannedCurrencies().stream()
-                        .anyMatch(e -> e.equals(currencyCode));
+        return compiledFilter.isCurrencyBanned(currencyCode);
     }
 
     public boolean isPaymentMethodBanned(PaymentMethod paymentMethod) {
-        return getFilter() != null &&
-                getFilter().getBannedPaymentMethods() != null &&
-                getFilter().getBannedPaymentMethods().stream()
-                        .anyMatch(e -> e.equals(paymentMethod.getId()));
+        return compiledFilter.isPaymentMethodBanned(paymentMethod.getId());
     }
 
     public boolean isOfferIdBanned(String offerId) {
-        return getFilter() != null &&
-                getFilter().getBannedOfferIds().stream()
-                        .anyMatch(e -> e.equals(offerId));
+        return compiledFilter.isOfferIdBanned(offerId);
     }
 
     public boolean isNodeAddressBanned(NodeAddress nodeAddress) {
-        return getFilter() != null &&
-                getFilter().getNodeAddressesBannedFromTrading().stream()
-                        .anyMatch(e -> e.equals(nodeAddress.getFullAddress()));
+        return compiledFilter.isNodeAddressBannedFromTrading(nodeAddress.getFullAddress());
     }
 
     public boolean isNodeAddressBannedFromNetwork(NodeAddress nodeAddress) {
-        return getFilter() != null &&
-                getFilter().getNodeAddressesBannedFromNetwork().stream()
-                        .anyMatch(e -> e.equals(nodeAddress.getFullAddress()));
+        return compiledFilter.isNodeAddressBannedFromNetwork(nodeAddress.getFullAddress());
     }
 
     public boolean isAutoConfExplorerBanned(String address) {
-        return getFilter() != null &&
-                getFilter().getBannedAutoConfExplorers().stream()
-                        .anyMatch(e -> e.equals(address));
+        return compiledFilter.isAutoConfExplorerBanned(address);
     }
 
     public boolean requireUpdateToNewVersionForTrading() {
@@ -462,46 +446,17 @@ public class FilterManager {
     }
 
     public boolean arePeersPaymentAccountDataBanned(PaymentAccountPayload paymentAccountPayload) {
-        return getFilter() != null &&
-                paymentAccountPayload != null &&
-                getFilter().getBannedPaymentAccounts().stream()
-                        .filter(paymentAccountFilter -> paymentAccountFilter.getPaymentMethodId().equals(paymentAccountPayload.getPaymentMethodId()))
-                        .anyMatch(paymentAccountFilter -> {
-                            try {
-                                Method method = paymentAccountPayload.getClass().getMethod(paymentAccountFilter.getGetMethodName());
-                                // We invoke getter methods (no args), e.g. getHolderName
-                                String valueFromInvoke = (String) method.invoke(paymentAccountPayload);
-                                return valueFromInvoke.equalsIgnoreCase(paymentAccountFilter.getValue());
-                            } catch (Throwable e) {
-                                log.error(e.getMessage());
-                                return false;
-                            }
-                        });
+        return paymentAccountPayload != null &&
+                compiledFilter.isPaymentAccountBanned(paymentAccountPayload);
     }
 
     public boolean isDelayedPayoutPaymentAccount(PaymentAccountPayload paymentAccountPayload) {
-        return getFilter() != null &&
-                paymentAccountPayload != null &&
-                getFilter().getDelayedPayoutPaymentAccounts().stream()
-                        .filter(paymentAccountFilter -> paymentAccountFilter.getPaymentMethodId().equals(paymentAccountPayload.getPaymentMethodId()))
-                        .anyMatch(paymentAccountFilter -> {
-                            try {
-                                Method method = paymentAccountPayload.getClass().getMethod(paymentAccountFilter.getGetMethodName());
-                                // We invoke getter methods (no args), e.g. getHolderName
-                                String valueFromInvoke = (String) method.invoke(paymentAccountPayload);
-                                return valueFromInvoke.equalsIgnoreCase(paymentAccountFilter.getValue());
-                            } catch (Throwable e) {
-                                log.error(e.getMessage());
-                                return false;
-                            }
-                        });
+        return paymentAccountPayload != null &&
+                compiledFilter.isDelayedPayoutPaymentAccount(paymentAccountPayload);
     }
 
     public boolean isWitnessSignerPubKeyBanned(String witnessSignerPubKeyAsHex) {
-        return getFilter() != null &&
-                getFilter().getBannedAccountWitnessSignerPubKeys() != null &&
-                getFilter().getBannedAccountWitnessSignerPubKeys().stream()
-                        .anyMatch(e -> e.equals(witnessSignerPubKeyAsHex));
+        return compiledFilter.isWitnessSignerPubKeyBanned(witnessSignerPubKeyAsHex);
     }
 
     public boolean isProofOfWorkValid(Offer offer) {
@@ -569,7 +524,7 @@ public class FilterManager {
         // We do not require strict guarantees here (e.g. clocks not synced) as only trusted developers have the key
         // for deploying filters and this is only in place to avoid unintended situations of multiple filters
         // from multiple devs or if same dev publishes new filter from different app without the persisted devFilter.
-        filterProperty.set(filterFromNetwork);
+        setFilter(filterFromNetwork);
 
         // Seed nodes are requested at startup before we get the filter so we only apply the banned
         // nodes at the next startup and don't update the list in the P2P network domain.
@@ -616,7 +571,13 @@ public class FilterManager {
         if (filter.equals(user.getDevelopersFilter())) {
             user.setDevelopersFilter(null);
         }
-        filterProperty.set(null);
+        setFilter(null);
+    }
+
+    private void setFilter(@Nullable Filter filter) {
+        // We update the lookup sets before the filterProperty, so the listeners see the new filter at the ban checks
+        compiledFilter = filter != null ? new CompiledFilter(filter) : CompiledFilter.EMPTY;
+        filterProperty.set(filter);
     }
 
     // Clears options files from banned nodes
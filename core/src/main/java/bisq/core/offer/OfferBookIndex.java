@@ -0,0 +1,119 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import lombok.EqualsAndHashCode;
+
+import javax.annotation.Nullable;
+
+/**
+ * Index of the offer payloads in the P2P network data map, keyed by offer id and grouped by direction, currency code
+ * and payment method. It is updated incrementally from the add and remove events of the data map, so lookups do not
+ * need to iterate over all protected storage entries.
+ * <p>
+ * Updates are done from the UserThread, but lookups can be done from any thread (e.g. gRPC calls).
+ */
+class OfferBookIndex {
+    private final Map<String, OfferPayloadBase> offerPayloadById = new ConcurrentHashMap<>();
+    private final Map<MarketKey, Map<String, OfferPayloadBase>> offerPayloadsByMarket = new ConcurrentHashMap<>();
+
+    void add(OfferPayloadBase offerPayloadBase) {
+        OfferPayloadBase previous = offerPayloadById.put(offerPayloadBase.getId(), offerPayloadBase);
+        if (previous != null) {
+            removeFromMarket(previous);
+        }
+        offerPayloadsByMarket.computeIfAbsent(MarketKey.of(offerPayloadBase), key -> new ConcurrentHashMap<>())
+                .put(offerPayloadBase.getId(), offerPayloadBase);
+    }
+
+    void remove(OfferPayloadBase offerPayloadBase) {
+        // If an offer with the same id got added before the old one got removed we must not remove the new one
+        if (offerPayloadById.remove(offerPayloadBase.getId(), offerPayloadBase)) {
+            removeFromMarket(offerPayloadBase);
+        }
+    }
+
+    Collection<OfferPayloadBase> getAll() {
+        return Collections.unmodifiableCollection(offerPayloadById.values());
+    }
+
+    Optional<OfferPayloadBase> findById(String id) {
+        return Optional.ofNullable(offerPayloadById.get(id));
+    }
+
+    // If paymentMethodId is null we return the offers of all payment methods
+    List<OfferPayloadBase> getByMarket(OfferDirection direction,
+                                       String currencyCode,
+                                       @Nullable String paymentMethodId) {
+        if (paymentMethodId != null) {
+            Map<String, OfferPayloadBase> offerPayloads = offerPayloadsByMarket.get(
+                    new MarketKey(direction, currencyCode, paymentMethodId));
+            return offerPayloads != null ? List.copyOf(offerPayloads.values()) : List.of();
+        }
+
+        return offerPayloadsByMarket.entrySet().stream()
+                .filter(e -> e.getKey().matches(direction, currencyCode, paymentMethodId))
+                .flatMap(e -> e.getValue().values().stream())
+                .collect(Collectors.toList());
+    }
+
+    int size() {
+        return offerPayloadById.size();
+    }
+
+    private void removeFromMarket(OfferPayloadBase offerPayloadBase) {
+        offerPayloadsByMarket.computeIfPresent(MarketKey.of(offerPayloadBase), (key, offerPayloads) -> {
+            offerPayloads.remove(offerPayloadBase.getId(), offerPayloadBase);
+            return offerPayloads.isEmpty() ? null : offerPayloads;
+        });
+    }
+
+    @EqualsAndHashCode
+    private static final class MarketKey {
+        private final OfferDirection direction;
+        private final String currencyCode;
+        private final String paymentMethodId;
+
+        private static MarketKey of(OfferPayloadBase offerPayloadBase) {
+            return new MarketKey(offerPayloadBase.getDirection(),
+                    offerPayloadBase.getCurrencyCode(),
+                    offerPayloadBase.getPaymentMethodId());
+        }
+
+        private MarketKey(OfferDirection direction, String currencyCode, String paymentMethodId) {
+            this.direction = direction;
+            this.currencyCode = currencyCode;
+            this.paymentMethodId = paymentMethodId;
+        }
+
+        private boolean matches(OfferDirection direction, String currencyCode, @Nullable String paymentMethodId) {
+            return this.direction == direction &&
+                    Objects.equals(this.currencyCode, currencyCode) &&
+                    (paymentMethodId == null || Objects.equals(this.paymentMethodId, paymentMethodId));
+        }
+    }
+}
@@ -25,6 +25,8 @@ import bisq.core.util.JsonUtil;
 
 import bisq.network.p2p.BootstrapListener;
 import bisq.network.p2p.P2PService;
+import bisq.network.p2p.peers.BroadcastHandler;
+import bisq.network.p2p.peers.Broadcaster;
 import bisq.network.p2p.storage.HashMapChangedListener;
 import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
 
@@ -43,6 +45,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -60,6 +63,16 @@ public class OfferBookService {
         void onAdded(Offer offer);
 
         void onRemoved(Offer offer);
+
+        // Called once for all offers of a batch, e.g. of a GetDataResponse. Listeners updating the UI should override
+        // it to apply the whole batch at once.
+        default void onAdded(Collection<Offer> offers) {
+            offers.forEach(this::onAdded);
+        }
+
+        default void onRemoved(Collection<Offer> offers) {
+            offers.forEach(this::onRemoved);
+        }
     }
 
     private final P2PService p2PService;
@@ -67,6 +80,7 @@ public class OfferBookService {
     private final List<OfferBookChangedListener> offerBookChangedListeners = new LinkedList<>();
     private final FilterManager filterManager;
     private final JsonFileManager jsonFileManager;
+    private final OfferBookIndex offerBookIndex = new OfferBookIndex();
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -84,29 +98,32 @@ public class OfferBookService {
         this.filterManager = filterManager;
         jsonFileManager = new JsonFileManager(storageDir);
 
+        p2PService.getDataMap().values().forEach(this::addToIndex);
         p2PService.addHashSetChangedListener(new HashMapChangedListener() {
             @Override
             public void onAdded(Collection<ProtectedStorageEntry> protectedStorageEntries) {
-                protectedStorageEntries.forEach(protectedStorageEntry -> offerBookChangedListeners.forEach(listener -> {
-                    if (protectedStorageEntry.getProtectedStoragePayload() instanceof OfferPayloadBase) {
-                        OfferPayloadBase offerPayloadBase = (OfferPayloadBase) protectedStorageEntry.getProtectedStoragePayload();
-                        Offer offer = new Offer(offerPayloadBase);
-                        offer.setPriceFeedService(priceFeedService);
-                        listener.onAdded(offer);
+                protectedStorageEntries.forEach(OfferBookService.this::addToIndex);
+                offerBookChangedListeners.forEach(listener -> {
+                    List<Offer> offers = toOffersOfEntries(protectedStorageEntries);
+                    if (offers.size() == 1) {
+                        listener.onAdded(offers.get(0));
+                    } else if (!offers.isEmpty()) {
+                        listener.onAdded(offers);
                     }
-                }));
+                });
             }
 
             @Override
             public void onRemoved(Collection<ProtectedStorageEntry> protectedStorageEntries) {
-                protectedStorageEntries.forEach(protectedStorageEntry -> offerBookChangedListeners.forEach(listener -> {
-                    if (protectedStorageEntry.getProtectedStoragePayload() instanceof OfferPayloadBase) {
-                        OfferPayloadBase offerPayloadBase = (OfferPayloadBase) protectedStorageEntry.getProtectedStoragePayload();
-                        Offer offer = new Offer(offerPayloadBase);
-                        offer.setPriceFeedService(priceFeedService);
-                        listener.onRemoved(offer);
+                protectedStorageEntries.forEach(OfferBookService.this::removeFromIndex);
+                offerBookChangedListeners.forEach(listener -> {
+                    List<Offer> offers = toOffersOfEntries(protectedStorageEntries);
+                    if (offers.size() == 1) {
+                        listener.onRemoved(offers.get(0));
+                    } else if (!offers.isEmpty()) {
+                        listener.onRemoved(offers);
                     }
-                }));
+                });
             }
         });
 
@@ -150,6 +167,34 @@ public class OfferBookService {
         }
     }
 
+    // Unlike addOffer the resultHandler is only called once the offer was sufficiently broadcast. The handlers are
+    // called on the UserThread.
+    public void republishOffer(Offer offer,
+                               ResultHandler resultHandler,
+                               ErrorMessageHandler errorMessageHandler) {
+        if (filterManager.requireUpdateToNewVersionForTrading()) {
+            errorMessageHandler.handleErrorMessage(Res.get("popup.warning.mandatoryUpdate.trading"));
+            return;
+        }
+
+        BroadcastHandler.Listener listener = new BroadcastHandler.Listener() {
+            @Override
+            public void onSufficientlyBroadcast(List<Broadcaster.BroadcastRequest> broadcastRequests) {
+                UserThread.execute(resultHandler::handleResult);
+            }
+
+            @Override
+            public void onNotSufficientlyBroadcast(int numOfCompletedBroadcasts, int numOfFailedBroadcast) {
+                UserThread.execute(() -> errorMessageHandler.handleErrorMessage("Offer was not sufficiently " +
+                        "broadcast. numOfCompletedBroadcasts=" + numOfCompletedBroadcasts +
+                        ", numOfFailedBroadcast=" + numOfFailedBroadcast));
+            }
+        };
+        if (!p2PService.addProtectedStorageEntry(offer.getOfferPayloadBase(), listener)) {
+            errorMessageHandler.handleErrorMessage("Add offer failed");
+        }
+    }
+
     public void refreshTTL(OfferPayloadBase offerPayloadBase,
                            ResultHandler resultHandler,
                            ErrorMessageHandler errorMessageHandler) {
@@ -166,6 +211,24 @@ public class OfferBookService {
         }
     }
 
+    // Refreshes all offers with one RefreshOffersMessage. The errorMessageHandler is called if any refresh failed.
+    public void refreshTTL(Collection<OfferPayloadBase> offerPayloadBases,
+                           ResultHandler resultHandler,
+                           ErrorMessageHandler errorMessageHandler) {
+        if (filterManager.requireUpdateToNewVersionForTrading()) {
+            errorMessageHandler.handleErrorMessage(Res.get("popup.warning.mandatoryUpdate.trading"));
+            return;
+        }
+
+        int numRefreshed = p2PService.refreshTTL(offerPayloadBases);
+        if (numRefreshed == offerPayloadBases.size()) {
+            resultHandler.handleResult();
+        } else {
+            errorMessageHandler.handleErrorMessage("Refresh TTL failed for " +
+                    (offerPayloadBases.size() - numRefreshed) + " of " + offerPayloadBases.size() + " offers.");
+        }
+    }
+
     public void activateOffer(Offer offer,
                               @Nullable ResultHandler resultHandler,
                               @Nullable ErrorMessageHandler errorMessageHandler) {
@@ -190,16 +253,23 @@ public class OfferBookService {
         }
     }
 
+    // We create new Offer instances at each call as the Offer carries mutable state (e.g. the offer state) which
+    // must not be shared between the different users of the offer book.
     public List<Offer> getOffers() {
-        return p2PService.getDataMap().values().stream()
-                .filter(data -> data.getProtectedStoragePayload() instanceof OfferPayloadBase)
-                .map(data -> {
-                    OfferPayloadBase offerPayloadBase = (OfferPayloadBase) data.getProtectedStoragePayload();
-                    Offer offer = new Offer(offerPayloadBase);
-                    offer.setPriceFeedService(priceFeedService);
-                    return offer;
-                })
-                .collect(Collectors.toList());
+        return toOffers(offerBookIndex.getAll());
+    }
+
+    public Optional<Offer> findOffer(String offerId) {
+        return offerBookIndex.findById(offerId).map(this::toOffer);
+    }
+
+    // The currencyCode is the altcoin code for altcoin offers, see Offer.getCurrencyCode()
+    public List<Offer> getOffers(OfferDirection direction, String currencyCode) {
+        return toOffers(offerBookIndex.getByMarket(direction, currencyCode, null));
+    }
+
+    public List<Offer> getOffers(OfferDirection direction, String currencyCode, String paymentMethodId) {
+        return toOffers(offerBookIndex.getByMarket(direction, currencyCode, paymentMethodId));
     }
 
     public void removeOfferAtShutDown(OfferPayloadBase offerPayloadBase) {
@@ -214,6 +284,10 @@ public class OfferBookService {
         offerBookChangedListeners.add(offerBookChangedListener);
     }
 
+    public void removeOfferBookChangedListener(OfferBookChangedListener offerBookChangedListener) {
+        offerBookChangedListeners.remove(offerBookChangedListener);
+    }
+
     public List<OfferForJson> getOfferForJsonList() {
         return getOffers().stream()
                 .map(offer -> {
@@ -245,6 +319,39 @@ public class OfferBookService {
     // Private
     ///////////////////////////////////////////////////////////////////////////////////////////
 
+    private void addToIndex(ProtectedStorageEntry protectedStorageEntry) {
+        if (protectedStorageEntry.getProtectedStoragePayload() instanceof OfferPayloadBase) {
+            offerBookIndex.add((OfferPayloadBase) protectedStorageEntry.getProtectedStoragePayload());
+        }
+    }
+
+    private void removeFromIndex(ProtectedStorageEntry protectedStorageEntry) {
+        if (protectedStorageEntry.getProtectedStoragePayload() instanceof OfferPayloadBase) {
+            offerBookIndex.remove((OfferPayloadBase) protectedStorageEntry.getProtectedStoragePayload());
+        }
+    }
+
+    private List<Offer> toOffers(Collection<OfferPayloadBase> offerPayloads) {
+        return offerPayloads.stream()
+                .map(this::toOffer)
+                .collect(Collectors.toList());
+    }
+
+    // Each listener gets its own Offer instances, as the listeners can change the state of the offer
+    private List<Offer> toOffersOfEntries(Collection<ProtectedStorageEntry> protectedStorageEntries) {
+        return protectedStorageEntries.stream()
+                .map(ProtectedStorageEntry::getProtectedStoragePayload)
+                .filter(payload -> payload instanceof OfferPayloadBase)
+                .map(payload -> toOffer((OfferPayloadBase) payload))
+                .collect(Collectors.toList());
+    }
+
+    private Offer toOffer(OfferPayloadBase offerPayloadBase) {
+        Offer offer = new Offer(offerPayloadBase);
+        offer.setPriceFeedService(priceFeedService);
+        return offer;
+    }
+
     private void doDumpStatistics() {
         // We filter the case that it is a MarketBasedPrice but the price is not available
         // That should only be possible if the price feed provider is not available
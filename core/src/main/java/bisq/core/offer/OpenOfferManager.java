@@ -139,6 +139,8 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
     private final TradableList<OpenOffer> openOffers = new TradableList<>();
     private boolean stopped;
     private Timer periodicRepublishOffersTimer, periodicRefreshOffersTimer, retryRepublishOffersTimer;
+    @Nullable
+    private RepublishOffersHandler republishOffersHandler;
     @Setter
     private Consumer<String> chainNotSyncedHandler;
     @Getter
@@ -280,6 +282,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         stopPeriodicRefreshOffersTimer();
         stopPeriodicRepublishOffersTimer();
         stopRetryRepublishOffersTimer();
+        cancelRepublishOffersHandler();
 
         // we remove own offers from offerbook when we go offline
         // Normally we use a delay for broadcasting to the peers, but at shut down we want to get it fast out
@@ -388,6 +391,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         stopPeriodicRefreshOffersTimer();
         stopPeriodicRepublishOffersTimer();
         stopRetryRepublishOffersTimer();
+        cancelRepublishOffersHandler();
 
         restart();
     }
@@ -729,8 +733,14 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         return openOffers.getObservableList();
     }
 
+    // Can be called from any thread
+    public List<OpenOffer> getOpenOffers() {
+        return openOffers.getSnapshot();
+    }
+
+    // Can be called from any thread
     public Optional<OpenOffer> getOpenOfferById(String offerId) {
-        return openOffers.stream().filter(e -> e.getId().equals(offerId)).findFirst();
+        return getOpenOffers().stream().filter(e -> e.getId().equals(offerId)).findFirst();
     }
 
 
@@ -1079,34 +1089,25 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         }
         stopPeriodicRefreshOffersTimer();
 
-        List<OpenOffer> openOffersList = new ArrayList<>(openOffers.getList());
-        processListForRepublishOffers(openOffersList);
-    }
-
-    private void processListForRepublishOffers(List<OpenOffer> list) {
-        if (list.isEmpty()) {
-            return;
-        }
-
-        OpenOffer openOffer = list.remove(0);
-        if (openOffers.contains(openOffer)) {
-            maybeRepublishOffer(openOffer, () -> processListForRepublishOffers(list));
-        } else {
-            // If the offer was removed in the meantime or if its deactivated we skip and call
-            // processListForRepublishOffers again with the list where we removed the offer already.
-            processListForRepublishOffers(list);
-        }
+        // A new republish supersedes a running one, as all offers get republished again
+        cancelRepublishOffersHandler();
+        republishOffersHandler = new RepublishOffersHandler(
+                (openOffer, resultHandler, errorMessageHandler) -> offerBookService.republishOffer(openOffer.getOffer(),
+                        () -> {
+                            // Refresh means we send only the data needed to refresh the TTL (hash, signature and sequence no.)
+                            if (!stopped && periodicRefreshOffersTimer == null) {
+                                startPeriodicRefreshOffersTimer();
+                            }
+                            resultHandler.handleResult();
+                        },
+                        errorMessageHandler),
+                openOffer -> !stopped && openOffers.contains(openOffer) && !preventedFromPublishing(openOffer),
+                () -> republishOffersHandler = null);
+        republishOffersHandler.start(new ArrayList<>(openOffers.getList()));
     }
 
     public void maybeRepublishOffer(OpenOffer openOffer) {
-        maybeRepublishOffer(openOffer, null);
-    }
-
-    private void maybeRepublishOffer(OpenOffer openOffer, @Nullable Runnable completeHandler) {
         if (preventedFromPublishing(openOffer)) {
-            if (completeHandler != null) {
-                completeHandler.run();
-            }
             return;
         }
 
@@ -1117,9 +1118,6 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
                         if (periodicRefreshOffersTimer == null) {
                             startPeriodicRefreshOffersTimer();
                         }
-                        if (completeHandler != null) {
-                            completeHandler.run();
-                        }
                     }
                 },
                 errorMessage -> {
@@ -1128,10 +1126,6 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
                         stopRetryRepublishOffersTimer();
                         retryRepublishOffersTimer = UserThread.runAfter(OpenOfferManager.this::republishOffers,
                                 RETRY_REPUBLISH_DELAY_SEC);
-
-                        if (completeHandler != null) {
-                            completeHandler.run();
-                        }
                     }
                 });
     }
@@ -1155,23 +1149,7 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         if (periodicRefreshOffersTimer == null)
             periodicRefreshOffersTimer = UserThread.runPeriodically(() -> {
                         if (!stopped) {
-                            int size = openOffers.size();
-                            //we clone our list as openOffers might change during our delayed call
-                            final ArrayList<OpenOffer> openOffersList = new ArrayList<>(openOffers.getList());
-                            for (int i = 0; i < size; i++) {
-                                // we delay to avoid reaching throttle limits
-                                // roughly 4 offers per second
-
-                                long delay = 300;
-                                final long minDelay = (i + 1) * delay;
-                                final long maxDelay = (i + 2) * delay;
-                                final OpenOffer openOffer = openOffersList.get(i);
-                                UserThread.runAfterRandomDelay(() -> {
-                                    // we need to check if in the meantime the offer has been removed
-                                    if (openOffers.contains(openOffer))
-                                        maybeRefreshOffer(openOffer);
-                                }, minDelay, maxDelay, TimeUnit.MILLISECONDS);
-                            }
+                            refreshOffers();
                         } else {
                             log.debug("We have stopped already. We ignore that periodicRefreshOffersTimer.run call.");
                         }
@@ -1182,12 +1160,19 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
             log.trace("periodicRefreshOffersTimer already stated");
     }
 
-    private void maybeRefreshOffer(OpenOffer openOffer) {
-        if (preventedFromPublishing(openOffer)) {
+    // All offers are refreshed at once with a RefreshOffersMessage, so we don't need to spread the refreshes over
+    // time anymore to avoid reaching throttle limits.
+    private void refreshOffers() {
+        List<OfferPayloadBase> offerPayloadBases = openOffers.stream()
+                .filter(openOffer -> !preventedFromPublishing(openOffer))
+                .map(openOffer -> openOffer.getOffer().getOfferPayloadBase())
+                .collect(Collectors.toList());
+        if (offerPayloadBases.isEmpty()) {
             return;
         }
-        offerBookService.refreshTTL(openOffer.getOffer().getOfferPayloadBase(),
-                () -> log.debug("Successful refreshed TTL for offer"),
+
+        offerBookService.refreshTTL(offerPayloadBases,
+                () -> log.debug("Successful refreshed TTL for {} offers", offerPayloadBases.size()),
                 log::warn);
     }
 
@@ -1219,6 +1204,13 @@ public class OpenOfferManager implements PeerManager.Listener, DecryptedDirectMe
         }
     }
 
+    private void cancelRepublishOffersHandler() {
+        if (republishOffersHandler != null) {
+            republishOffersHandler.cancel();
+            republishOffersHandler = null;
+        }
+    }
+
     private void stopPeriodicRepublishOffersTimer() {
         if (periodicRepublishOffersTimer != null) {
             periodicRepublishOffersTimer.stop();
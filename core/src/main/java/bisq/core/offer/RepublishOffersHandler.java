@@ -0,0 +1,219 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer;
+
+import bisq.common.Timer;
+import bisq.common.UserThread;
+import bisq.common.handlers.ErrorMessageHandler;
+import bisq.common.handlers.ResultHandler;
+import bisq.common.metrics.Histogram;
+import bisq.common.metrics.MetricsRegistry;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Republishes our open offers and tracks until all of them were sufficiently broadcast. All offers are published at
+ * once, so the Broadcaster sends them in one BundleOfEnvelopes per peer, which counts as one message for the throttle
+ * of the receiving connection. Offers which failed are retried with an increasing delay.
+ * <p>
+ * Not thread safe, all methods and handlers are called on the UserThread.
+ */
+@Slf4j
+class RepublishOffersHandler {
+    static final int MAX_ATTEMPTS = 3;
+    static final long RETRY_BASE_DELAY_SEC = 10;
+    // The BroadcastHandler does not notify its listeners in all cases, e.g. if all connections got lost. It times out
+    // after about 2 min., so we wait a bit longer before we consider the attempt as failed.
+    static final long ATTEMPT_TIMEOUT_SEC = 150;
+
+    private static final Histogram REPUBLISH_DURATION = MetricsRegistry.getDefault().histogram(
+            "bisq_offer_republish_duration_seconds", "Time until all open offers were republished",
+            new double[]{1, 5, 10, 30, 60, 120, 300, 600, 1800});
+
+    interface Publisher {
+        // The resultHandler is called once the offer was sufficiently broadcast
+        void publish(OpenOffer openOffer, ResultHandler resultHandler, ErrorMessageHandler errorMessageHandler);
+    }
+
+    private final Publisher publisher;
+    // Offers which have been removed or are deactivated in the meantime get skipped
+    private final Predicate<OpenOffer> isPublishable;
+    private final Runnable completeHandler;
+
+    private final Map<String, Integer> numAttemptsByOfferId = new HashMap<>();
+    private final Set<Timer> timers = new HashSet<>();
+    private int numInFlight;
+    private int numScheduledRetries;
+    private int numPublished;
+    private int numFailed;
+    private long startTs;
+    private boolean started;
+    private boolean stopped;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    RepublishOffersHandler(Publisher publisher,
+                           Predicate<OpenOffer> isPublishable,
+                           Runnable completeHandler) {
+        this.publisher = publisher;
+        this.isPublishable = isPublishable;
+        this.completeHandler = completeHandler;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    void start(List<OpenOffer> openOffers) {
+        startTs = System.currentTimeMillis();
+        log.info("Republish {} offers", openOffers.size());
+        openOffers.forEach(this::maybePublish);
+        // The handlers can be called synchronously from publish, so we check for completion only after all offers
+        // have been published
+        started = true;
+        maybeComplete();
+    }
+
+    void cancel() {
+        stopped = true;
+        timers.forEach(Timer::stop);
+        timers.clear();
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void maybePublish(OpenOffer openOffer) {
+        if (!stopped && isPublishable.test(openOffer)) {
+            publish(openOffer);
+        }
+    }
+
+    private void publish(OpenOffer openOffer) {
+        numInFlight++;
+        int attempt = numAttemptsByOfferId.merge(openOffer.getId(), 1, Integer::sum);
+        // Only the first of the result, the error and the timeout is applied
+        AttemptResultHandler attemptResultHandler = new AttemptResultHandler(openOffer, attempt);
+        attemptResultHandler.timeoutTimer = runAfter(() -> attemptResultHandler.onFailure("Timeout"),
+                ATTEMPT_TIMEOUT_SEC);
+        publisher.publish(openOffer,
+                attemptResultHandler::onSuccess,
+                attemptResultHandler::onFailure);
+    }
+
+    private void onSuccess() {
+        numInFlight--;
+        numPublished++;
+        maybeComplete();
+    }
+
+    private void onFailure(OpenOffer openOffer, int attempt, String errorMessage) {
+        numInFlight--;
+        if (attempt < MAX_ATTEMPTS) {
+            long delay = RETRY_BASE_DELAY_SEC << (attempt - 1);
+            log.warn("Republishing offer {} failed at attempt {}. We retry after {} sec. Error: {}",
+                    openOffer.getShortId(), attempt, delay, errorMessage);
+            numScheduledRetries++;
+            runAfter(() -> {
+                numScheduledRetries--;
+                maybePublish(openOffer);
+                maybeComplete();
+            }, delay);
+        } else {
+            log.error("Republishing offer {} failed after {} attempts. Error: {}",
+                    openOffer.getShortId(), attempt, errorMessage);
+            numFailed++;
+        }
+        maybeComplete();
+    }
+
+    private void maybeComplete() {
+        if (!started || stopped || numInFlight > 0 || numScheduledRetries > 0) {
+            return;
+        }
+
+        stopped = true;
+        timers.forEach(Timer::stop);
+        timers.clear();
+        long duration = System.currentTimeMillis() - startTs;
+        REPUBLISH_DURATION.observeMillis(duration);
+        log.info("Republishing offers completed after {} sec. {} offers were sufficiently broadcast, {} failed",
+                duration / 1000d, numPublished, numFailed);
+        completeHandler.run();
+    }
+
+    private Timer runAfter(Runnable runnable, long delaySec) {
+        Timer timer = UserThread.runAfter(() -> {
+            if (!stopped) {
+                runnable.run();
+            }
+        }, delaySec, TimeUnit.SECONDS);
+        timers.add(timer);
+        return timer;
+    }
+
+    private class AttemptResultHandler {
+        private final OpenOffer openOffer;
+        private final int attempt;
+        private Timer timeoutTimer;
+        private boolean done;
+
+        AttemptResultHandler(OpenOffer openOffer, int attempt) {
+            this.openOffer = openOffer;
+            this.attempt = attempt;
+        }
+
+        void onSuccess() {
+            if (applyResult()) {
+                RepublishOffersHandler.this.onSuccess();
+            }
+        }
+
+        void onFailure(String errorMessage) {
+            if (applyResult()) {
+                RepublishOffersHandler.this.onFailure(openOffer, attempt, errorMessage);
+            }
+        }
+
+        private boolean applyResult() {
+            if (done || stopped) {
+                return false;
+            }
+            done = true;
+            if (timeoutTimer != null) {
+                timeoutTimer.stop();
+                timers.remove(timeoutTimer);
+            }
+            return true;
+        }
+    }
+}
@@ -43,6 +43,7 @@ import bisq.network.p2p.P2PService;
 
 import bisq.common.UserThread;
 import bisq.common.app.Version;
+import bisq.common.crypto.ProofOfWork;
 import bisq.common.crypto.ProofOfWorkService;
 import bisq.common.crypto.PubKeyRing;
 import bisq.common.handlers.ErrorMessageHandler;
@@ -57,12 +58,16 @@ import javafx.beans.value.ChangeListener;
 
 import javafx.collections.ListChangeListener;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -85,6 +90,8 @@ public class OpenBsqSwapOfferService {
     private final PubKeyRing pubKeyRing;
 
     private final Map<String, OpenBsqSwapOffer> openBsqSwapOffersById = new HashMap<>();
+    // Minting of the proof of work can take long, so we keep the futures to be able to cancel it
+    private final Map<String, CompletableFuture<ProofOfWork>> pendingProofOfWorkByOfferId = new ConcurrentHashMap<>();
     private final ListChangeListener<OpenOffer> offerListChangeListener;
     private final ChangeListener<Filter> filterChangeListener;
     private final DaoStateListener daoStateListener;
@@ -177,6 +184,16 @@ public class OpenBsqSwapOfferService {
         p2PService.removeP2PServiceListener(bootstrapListener);
         daoFacade.removeBsqStateListener(daoStateListener);
         filterManager.filterProperty().removeListener(filterChangeListener);
+        new ArrayList<>(pendingProofOfWorkByOfferId.keySet()).forEach(this::cancelProofOfWork);
+    }
+
+    // Stops a pending minting of the proof of work for a new or republished offer. The result handler of the
+    // offer request does not get called in that case.
+    public void cancelProofOfWork(String offerId) {
+        CompletableFuture<ProofOfWork> future = pendingProofOfWorkByOfferId.remove(offerId);
+        if (future != null && future.cancel(true)) {
+            log.info("Minting of proof of work for offer {} got cancelled", offerId);
+        }
     }
 
     public void requestNewOffer(String offerId,
@@ -199,11 +216,13 @@ public class OpenBsqSwapOfferService {
         NodeAddress makerAddress = Objects.requireNonNull(p2PService.getAddress());
         offerUtil.validateBasicOfferData(PaymentMethod.BSQ_SWAP, "BSQ");
 
-        double difficulty = getPowDifficulty();
-        getPowService().mint(offerId, makerAddress.getFullAddress(), difficulty)
+        mintProofOfWork(offerId, offerId, makerAddress.getFullAddress())
                 .whenComplete((proofOfWork, throwable) -> {
                     // We got called from a non user thread...
                     UserThread.execute(() -> {
+                        if (throwable instanceof CancellationException) {
+                            return;
+                        }
                         if (throwable != null) {
                             log.error(throwable.toString());
                             return;
@@ -318,6 +337,7 @@ public class OpenBsqSwapOfferService {
                 .filter(openOffer -> openOffer.getOffer().isBsqSwapOffer())
                 .map(OpenOffer::getId)
                 .forEach(offerId -> {
+                    cancelProofOfWork(offerId);
                     if (openBsqSwapOffersById.containsKey(offerId)) {
                         openBsqSwapOffersById.get(offerId).removeListeners();
                         openBsqSwapOffersById.remove(offerId);
@@ -347,11 +367,13 @@ public class OpenBsqSwapOfferService {
 
         String newOfferId = OfferUtil.getOfferIdWithMutationCounter(openOffer.getId());
         NodeAddress nodeAddress = Objects.requireNonNull(openOffer.getOffer().getMakerNodeAddress());
-        double difficulty = getPowDifficulty();
-        getPowService().mint(newOfferId, nodeAddress.getFullAddress(), difficulty)
+        mintProofOfWork(openOffer.getId(), newOfferId, nodeAddress.getFullAddress())
                 .whenComplete((proofOfWork, throwable) -> {
                     // We got called from a non user thread...
                     UserThread.execute(() -> {
+                        if (throwable instanceof CancellationException) {
+                            return;
+                        }
                         if (throwable != null) {
                             log.error(throwable.toString());
                             return;
@@ -382,6 +404,16 @@ public class OpenBsqSwapOfferService {
     // Utils
     ///////////////////////////////////////////////////////////////////////////////////////////
 
+    private CompletableFuture<ProofOfWork> mintProofOfWork(String offerId, String itemId, String ownerId) {
+        CompletableFuture<ProofOfWork> future = getPowService().mint(itemId, ownerId, getPowDifficulty());
+        CompletableFuture<ProofOfWork> previous = pendingProofOfWorkByOfferId.put(offerId, future);
+        if (previous != null) {
+            previous.cancel(true);
+        }
+        future.whenComplete((proofOfWork, throwable) -> pendingProofOfWorkByOfferId.remove(offerId, future));
+        return future;
+    }
+
     private boolean isProofOfWorkInvalid(Offer offer) {
         return !filterManager.isProofOfWorkValid(offer);
     }
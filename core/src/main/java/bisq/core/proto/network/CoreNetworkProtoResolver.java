@@ -87,6 +87,7 @@ import bisq.network.p2p.peers.peerexchange.messages.GetPeersResponse;
 import bisq.network.p2p.storage.messages.AddDataMessage;
 import bisq.network.p2p.storage.messages.AddPersistableNetworkPayloadMessage;
 import bisq.network.p2p.storage.messages.RefreshOfferMessage;
+import bisq.network.p2p.storage.messages.RefreshOffersMessage;
 import bisq.network.p2p.storage.messages.RemoveDataMessage;
 import bisq.network.p2p.storage.messages.RemoveMailboxDataMessage;
 import bisq.network.p2p.storage.payload.MailboxStoragePayload;
@@ -144,6 +145,8 @@ public class CoreNetworkProtoResolver extends CoreProtoResolver implements Netwo
                     return OfferAvailabilityResponse.fromProto(proto.getOfferAvailabilityResponse(), messageVersion);
                 case REFRESH_OFFER_MESSAGE:
                     return RefreshOfferMessage.fromProto(proto.getRefreshOfferMessage(), messageVersion);
+                case REFRESH_OFFERS_MESSAGE:
+                    return RefreshOffersMessage.fromProto(proto.getRefreshOffersMessage(), messageVersion);
 
                 case ADD_DATA_MESSAGE:
                     return AddDataMessage.fromProto(proto.getAddDataMessage(), this, messageVersion);
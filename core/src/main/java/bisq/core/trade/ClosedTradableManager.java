@@ -53,7 +53,6 @@ import javafx.collections.ObservableList;
 
 import java.time.Instant;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
@@ -160,25 +159,25 @@ public class ClosedTradableManager implements PersistedDataHost {
     }
 
     public List<Tradable> getTradableList() {
-        return ImmutableList.copyOf(new ArrayList<>(getObservableList()));
+        return closedTradables.getSnapshot();
     }
 
     public List<Trade> getClosedTrades() {
-        return ImmutableList.copyOf(getObservableList().stream()
+        return ImmutableList.copyOf(closedTradables.getSnapshot().stream()
                 .filter(e -> e instanceof Trade)
                 .map(e -> (Trade) e)
                 .collect(Collectors.toList()));
     }
 
     public List<OpenOffer> getCanceledOpenOffers() {
-        return ImmutableList.copyOf(getObservableList().stream()
+        return ImmutableList.copyOf(closedTradables.getSnapshot().stream()
                 .filter(e -> (e instanceof OpenOffer) && ((OpenOffer) e).getState().equals(CANCELED))
                 .map(e -> (OpenOffer) e)
                 .collect(Collectors.toList()));
     }
 
     public Optional<Tradable> getTradableById(String id) {
-        return closedTradables.stream().filter(e -> e.getId().equals(id)).findFirst();
+        return closedTradables.getSnapshot().stream().filter(e -> e.getId().equals(id)).findFirst();
     }
 
     // if user has closed trades of greater size to the default trade limit and has never customized their
@@ -108,7 +108,6 @@ import javafx.collections.ObservableList;
 
 import org.bouncycastle.crypto.params.KeyParameter;
 
-import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -911,8 +910,9 @@ public class TradeManager implements PersistedDataHost, DecryptedDirectMessageLi
                 .map(tradeModel -> (Trade) tradeModel);
     }
 
+    // Immutable snapshot of the pending trades, can be called from any thread
     public List<Trade> getTrades() {
-        return Collections.unmodifiableList(getObservableList());
+        return tradableList.getSnapshot();
     }
 
     private void removeTrade(Trade trade) {
@@ -928,8 +928,8 @@ public class TradeManager implements PersistedDataHost, DecryptedDirectMessageLi
     }
 
     private Stream<TradeModel> getPendingAndBsqSwapTrades() {
-        return Stream.concat(tradableList.stream(),
-                bsqSwapTradeManager.getObservableList().stream());
+        return Stream.concat(tradableList.getSnapshot().stream(),
+                bsqSwapTradeManager.getBsqSwapTrades().stream());
     }
 
     // TODO Remove once tradableList is refactored to a final field
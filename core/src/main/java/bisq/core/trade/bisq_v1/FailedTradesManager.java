@@ -44,7 +44,6 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -133,11 +132,11 @@ public class FailedTradesManager implements PersistedDataHost {
     }
 
     public List<Trade> getTrades() {
-        return getObservableList().stream().collect(Collectors.toList());
+        return failedTrades.getSnapshot();
     }
 
     public Optional<Trade> getTradeById(String id) {
-        return failedTrades.stream().filter(e -> e.getId().equals(id)).findFirst();
+        return failedTrades.getSnapshot().stream().filter(e -> e.getId().equals(id)).findFirst();
     }
 
     public Stream<Trade> getTradesStreamWithFundsLockedIn() {
@@ -45,7 +45,6 @@ import javafx.beans.property.SimpleObjectProperty;
 
 import javafx.collections.ObservableList;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -127,15 +126,15 @@ public class BsqSwapTradeManager implements PersistedDataHost {
     }
 
     public List<BsqSwapTrade> getBsqSwapTrades() {
-        return ImmutableList.copyOf(new ArrayList<>(getObservableList()));
+        return bsqSwapTrades.getSnapshot();
     }
 
     public List<Tradable> getTradableList() {
-        return ImmutableList.copyOf(new ArrayList<>(getObservableList()));
+        return ImmutableList.copyOf(bsqSwapTrades.getSnapshot());
     }
 
     public Optional<BsqSwapTrade> findBsqSwapTradeById(String id) {
-        return bsqSwapTrades.stream().filter(e -> e.getId().equals(id)).findFirst();
+        return bsqSwapTrades.getSnapshot().stream().filter(e -> e.getId().equals(id)).findFirst();
     }
 
     public Stream<BsqSwapTrade> getUnconfirmedBsqSwapTrades() {
@@ -43,12 +43,17 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public final class TradableList<T extends Tradable> extends PersistableListAsObservable<T> {
+    // Immutable copy of the list which gets replaced at each change of the list. The list is only changed at the
+    // UserThread, but the snapshot can be read from any thread (e.g. gRPC calls).
+    private volatile List<T> snapshot;
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Constructor
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public TradableList() {
+        publishSnapshotOnChange();
     }
 
 
@@ -58,6 +63,7 @@ public final class TradableList<T extends Tradable> extends PersistableListAsObs
 
     protected TradableList(Collection<T> collection) {
         super(collection);
+        publishSnapshotOnChange();
     }
 
     @Override
@@ -103,6 +109,16 @@ public final class TradableList<T extends Tradable> extends PersistableListAsObs
         return new TradableList<>(list);
     }
 
+    public List<T> getSnapshot() {
+        return snapshot;
+    }
+
+    // Our listener is the first one, so other listeners see already the new snapshot
+    private void publishSnapshotOnChange() {
+        snapshot = List.copyOf(getList());
+        addListener(change -> snapshot = List.copyOf(getList()));
+    }
+
     @Override
     public String toString() {
         return "TradableList{" +
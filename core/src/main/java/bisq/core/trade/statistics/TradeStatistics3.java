@@ -298,7 +298,9 @@ public final class TradeStatistics3 implements ProcessOncePersistableNetworkPayl
                             @Nullable String refundAgent,
                             @Nullable Map<String, String> extraDataMap,
                             @Nullable byte[] hash) {
-        this.currency = currency;
+        // We keep a few hundred thousand objects in memory but there are only a few currency codes and payment
+        // methods, so we intern them to share the String instances.
+        this.currency = currency.intern();
         this.price = price;
         this.amount = amount;
         String tempPaymentMethod;
@@ -307,7 +309,7 @@ public final class TradeStatistics3 implements ProcessOncePersistableNetworkPayl
         } catch (IllegalArgumentException e) {
             tempPaymentMethod = paymentMethod;
         }
-        this.paymentMethod = tempPaymentMethod;
+        this.paymentMethod = tempPaymentMethod.intern();
         this.date = date;
         this.mediator = mediator;
         this.refundAgent = refundAgent;
@@ -19,6 +19,7 @@ package bisq.core.trade.statistics;
 
 import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
 import bisq.network.p2p.storage.persistence.HistoricalDataStoreService;
+import bisq.network.p2p.storage.persistence.MappedPayloadMap;
 
 import bisq.common.config.Config;
 import bisq.common.persistence.PersistenceManager;
@@ -27,7 +28,10 @@ import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.nio.ByteBuffer;
+
 import java.io.File;
+import java.io.IOException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,6 +39,17 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TradeStatistics3StorageService extends HistoricalDataStoreService<TradeStatistics3Store> {
     private static final String FILE_NAME = "TradeStatistics3Store";
+    private static final MappedPayloadMap.Codec MAPPED_PAYLOAD_CODEC = new MappedPayloadMap.Codec() {
+        @Override
+        public int getHashFieldNumber() {
+            return protobuf.TradeStatistics3.HASH_FIELD_NUMBER;
+        }
+
+        @Override
+        public PersistableNetworkPayload fromBytes(ByteBuffer bytes) throws IOException {
+            return TradeStatistics3.fromProto(protobuf.TradeStatistics3.parseFrom(bytes));
+        }
+    };
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -43,8 +58,9 @@ public class TradeStatistics3StorageService extends HistoricalDataStoreService<T
 
     @Inject
     public TradeStatistics3StorageService(@Named(Config.STORAGE_DIR) File storageDir,
-                                          PersistenceManager<TradeStatistics3Store> persistenceManager) {
-        super(storageDir, persistenceManager);
+                                          PersistenceManager<TradeStatistics3Store> persistenceManager,
+                                          @Named(Config.USE_MAPPED_HISTORICAL_STORES) boolean useMappedHistoricalStores) {
+        super(storageDir, persistenceManager, useMappedHistoricalStores);
     }
 
 
@@ -77,6 +93,11 @@ public class TradeStatistics3StorageService extends HistoricalDataStoreService<T
         return new TradeStatistics3Store();
     }
 
+    @Override
+    protected MappedPayloadMap.Codec getMappedPayloadCodec() {
+        return MAPPED_PAYLOAD_CODEC;
+    }
+
     public void persistNow() {
         persistenceManager.persistNow(() -> {
         });
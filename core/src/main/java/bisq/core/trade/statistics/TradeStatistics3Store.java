@@ -20,6 +20,10 @@ package bisq.core.trade.statistics;
 import bisq.network.p2p.storage.P2PDataStorage;
 import bisq.network.p2p.storage.persistence.PersistableNetworkPayloadStore;
 
+import bisq.common.persistence.JournalEntry;
+import bisq.common.persistence.JournaledPersistableEnvelope;
+
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 
 import java.util.List;
@@ -33,7 +37,7 @@ import lombok.extern.slf4j.Slf4j;
  * definition and provide a hashMap for the domain access.
  */
 @Slf4j
-public class TradeStatistics3Store extends PersistableNetworkPayloadStore<TradeStatistics3> {
+public class TradeStatistics3Store extends PersistableNetworkPayloadStore<TradeStatistics3> implements JournaledPersistableEnvelope {
 
     public TradeStatistics3Store() {
     }
@@ -70,4 +74,21 @@ public class TradeStatistics3Store extends PersistableNetworkPayloadStore<TradeS
     public boolean containsKey(P2PDataStorage.ByteArray hash) {
         return map.containsKey(hash);
     }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // JournaledPersistableEnvelope
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // The journal entries are created by the MapStoreService with the PersistableNetworkPayload as value
+    @Override
+    public void applyJournalEntry(JournalEntry journalEntry) throws InvalidProtocolBufferException {
+        P2PDataStorage.ByteArray hash = new P2PDataStorage.ByteArray(journalEntry.getKey());
+        if (journalEntry.getType() == JournalEntry.Type.PUT) {
+            protobuf.PersistableNetworkPayload proto = protobuf.PersistableNetworkPayload.parseFrom(journalEntry.getValue());
+            map.put(hash, TradeStatistics3.fromProto(proto.getTradeStatistics3()));
+        } else {
+            map.remove(hash);
+        }
+    }
 }
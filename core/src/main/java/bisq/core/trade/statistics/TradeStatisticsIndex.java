@@ -0,0 +1,170 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade.statistics;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Date index of the trade statistics, partitioned by currency. Each partition keeps a sorted array of the trade dates
+ * and the TradeStatistics3 in the same order, so a date range of a currency is found by binary search in
+ * O(log n + k) instead of iterating over all trade statistics.
+ * <p>
+ * New trade statistics have usually the most recent date, so they get appended at the end of their partition.
+ * <p>
+ * The index is updated at the UserThread but queried also from other threads (REST API, chart calculations), so the
+ * access is synchronized.
+ */
+final class TradeStatisticsIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<String, Partition> partitionsByCurrency = new HashMap<>();
+    private int size;
+
+    // Returns false if the tradeStatistics is already contained
+    synchronized boolean add(TradeStatistics3 tradeStatistics) {
+        boolean added = partitionsByCurrency.computeIfAbsent(tradeStatistics.getCurrency(), currency -> new Partition())
+                .add(tradeStatistics);
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    // Sorted by date ascending
+    synchronized List<TradeStatistics3> get(String currencyCode, Range<Long> dateRange) {
+        Partition partition = partitionsByCurrency.get(currencyCode);
+        if (partition == null) {
+            return new ArrayList<>();
+        }
+        List<TradeStatistics3> result = new ArrayList<>();
+        partition.addTo(result, dateRange);
+        return result;
+    }
+
+    // Sorted by date ascending
+    synchronized List<TradeStatistics3> get(Range<Long> dateRange) {
+        List<TradeStatistics3> result = new ArrayList<>();
+        partitionsByCurrency.values().forEach(partition -> partition.addTo(result, dateRange));
+        // The list consists of one sorted run per currency, which gets merged efficiently by the sort
+        Collections.sort(result);
+        return result;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Partition
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private static final class Partition {
+        private long[] dates = new long[INITIAL_CAPACITY];
+        private TradeStatistics3[] tradeStatistics = new TradeStatistics3[INITIAL_CAPACITY];
+        private int size;
+
+        boolean add(TradeStatistics3 item) {
+            long date = item.getDateAsLong();
+            int index = size;
+            // We keep the order of TradeStatistics3.compareTo, which sorts by date first
+            if (size > 0 && dates[size - 1] >= date) {
+                index = firstIndexOfDateAtLeast(date);
+                while (index < size && dates[index] == date) {
+                    int compareResult = tradeStatistics[index].compareTo(item);
+                    if (compareResult == 0) {
+                        return false;
+                    } else if (compareResult > 0) {
+                        break;
+                    }
+                    index++;
+                }
+            }
+
+            if (size == dates.length) {
+                int newCapacity = dates.length * 2;
+                dates = Arrays.copyOf(dates, newCapacity);
+                tradeStatistics = Arrays.copyOf(tradeStatistics, newCapacity);
+            }
+            if (index < size) {
+                System.arraycopy(dates, index, dates, index + 1, size - index);
+                System.arraycopy(tradeStatistics, index, tradeStatistics, index + 1, size - index);
+            }
+            dates[index] = date;
+            tradeStatistics[index] = item;
+            size++;
+            return true;
+        }
+
+        void addTo(List<TradeStatistics3> result, Range<Long> dateRange) {
+            int fromIndex = 0;
+            if (dateRange.hasLowerBound()) {
+                long lowerEndpoint = dateRange.lowerEndpoint();
+                fromIndex = dateRange.lowerBoundType() == BoundType.CLOSED ?
+                        firstIndexOfDateAtLeast(lowerEndpoint) :
+                        firstIndexOfDateAfter(lowerEndpoint);
+            }
+            int toIndex = size;
+            if (dateRange.hasUpperBound()) {
+                long upperEndpoint = dateRange.upperEndpoint();
+                toIndex = dateRange.upperBoundType() == BoundType.CLOSED ?
+                        firstIndexOfDateAfter(upperEndpoint) :
+                        firstIndexOfDateAtLeast(upperEndpoint);
+            }
+            if (fromIndex < toIndex) {
+                result.addAll(Arrays.asList(tradeStatistics).subList(fromIndex, toIndex));
+            }
+        }
+
+        private int firstIndexOfDateAtLeast(long date) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dates[mid] < date) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int firstIndexOfDateAfter(long date) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (dates[mid] <= date) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -33,7 +33,6 @@ import bisq.network.p2p.storage.persistence.AppendOnlyDataStoreService;
 
 import bisq.common.config.Config;
 import bisq.common.file.JsonFileManager;
-import bisq.common.util.RangeUtils;
 
 import com.google.inject.Inject;
 
@@ -75,6 +74,7 @@ public class TradeStatisticsManager {
     private final boolean dumpStatistics;
     private final NavigableSet<TradeStatistics3> navigableTradeStatisticsSet = new TreeSet<>();
     private final ObservableSet<TradeStatistics3> observableTradeStatisticsSet = FXCollections.observableSet(navigableTradeStatisticsSet);
+    private final TradeStatisticsIndex tradeStatisticsIndex = new TradeStatisticsIndex();
     private JsonFileManager jsonFileManager;
 
     @Inject
@@ -110,17 +110,24 @@ public class TradeStatisticsManager {
                 if (!tradeStatistics.isValid()) {
                     return;
                 }
-                observableTradeStatisticsSet.add(tradeStatistics);
+                if (observableTradeStatisticsSet.add(tradeStatistics)) {
+                    tradeStatisticsIndex.add(tradeStatistics);
+                }
                 priceFeedService.setBisqMarketPrice(tradeStatistics.getCurrency(), tradeStatistics.getTradePrice());
                 maybeDumpStatistics();
             }
         });
 
+        // Our sorted set and the index are the model of the charts and market prices, so we need all trade statistics
+        // in the heap. We iterate the values of the map without copying them, so with memory mapped historical
+        // stores each payload gets decoded only once.
         tradeStatistics3StorageService.getMapOfAllData().values().stream()
                 .filter(e -> e instanceof TradeStatistics3)
                 .map(e -> (TradeStatistics3) e)
                 .filter(TradeStatistics3::isValid)
                 .forEach(observableTradeStatisticsSet::add);
+        // We add the sorted entries, so they get appended at the end of the index partitions
+        navigableTradeStatisticsSet.forEach(tradeStatisticsIndex::add);
 
         // get the most recent price for each ccy and notify priceFeedService
         // (this relies on the trade statistics set being sorted by date)
@@ -138,11 +145,21 @@ public class TradeStatisticsManager {
         return observableTradeStatisticsSet;
     }
 
+    // Sorted by date descending
     public List<TradeStatistics3> getTradeStatisticsList(long dateStart, long dateEnd) {
-        return new ArrayList<>(RangeUtils.subSet(navigableTradeStatisticsSet)
-                .withKey(TradeStatistics3::getDateAsLong)
-                .overRange(Range.openClosed(Math.min(dateStart, dateEnd), dateEnd))
-                .descendingSet());
+        List<TradeStatistics3> list = tradeStatisticsIndex.get(Range.openClosed(Math.min(dateStart, dateEnd), dateEnd));
+        Collections.reverse(list);
+        return list;
+    }
+
+    // Sorted by date ascending. Can be called from any thread.
+    public List<TradeStatistics3> getTradeStatisticsList(String currencyCode) {
+        return tradeStatisticsIndex.get(currencyCode, Range.all());
+    }
+
+    // Sorted by date ascending. Can be called from any thread.
+    public List<TradeStatistics3> getAllTradeStatisticsList() {
+        return tradeStatisticsIndex.get(Range.all());
     }
 
     private void maybeDumpStatistics() {
@@ -0,0 +1,92 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.btc.wallet;
+
+import org.bitcoinj.core.Address;
+import org.bitcoinj.core.Coin;
+import org.bitcoinj.core.Context;
+import org.bitcoinj.core.NetworkParameters;
+import org.bitcoinj.core.Transaction;
+import org.bitcoinj.core.TransactionOutput;
+import org.bitcoinj.params.RegTestParams;
+import org.bitcoinj.script.Script;
+import org.bitcoinj.testing.FakeTxBuilder;
+import org.bitcoinj.wallet.Wallet;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AddressBalanceIndexTest {
+    private final NetworkParameters params = RegTestParams.get();
+    private Wallet wallet;
+    private AddressBalanceIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        Context.propagate(new Context(params));
+        wallet = Wallet.createDeterministic(params, Script.ScriptType.P2WPKH);
+        index = new AddressBalanceIndex(wallet);
+        index.addListenersToWallet();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        index.removeListenersFromWallet();
+    }
+
+    @Test
+    public void testReceivedOutputIsAddedToValidIndex() {
+        Address address = wallet.freshReceiveAddress();
+        Address otherAddress = wallet.freshReceiveAddress();
+        // Builds the index from the still empty wallet
+        assertTrue(index.getSpendCandidates(address).isEmpty());
+
+        Transaction tx = FakeTxBuilder.createFakeTx(params, Coin.COIN, address);
+        wallet.receivePending(tx, null);
+
+        List<TransactionOutput> spendCandidates = index.getSpendCandidates(address);
+        assertEquals(1, spendCandidates.size());
+        assertEquals(Coin.COIN, spendCandidates.get(0).getValue());
+        assertEquals(wallet.calculateAllSpendCandidates(), spendCandidates);
+
+        Map<Address, List<TransactionOutput>> spendCandidatesByAddress = index.getSpendCandidates(
+                List.of(address, otherAddress));
+        assertEquals(spendCandidates, spendCandidatesByAddress.get(address));
+        assertTrue(spendCandidatesByAddress.get(otherAddress).isEmpty());
+    }
+
+    @Test
+    public void testInvalidatedIndexIsRebuiltAtLookup() {
+        Address address = wallet.freshReceiveAddress();
+        wallet.receivePending(FakeTxBuilder.createFakeTx(params, Coin.COIN, address), null);
+        wallet.receivePending(FakeTxBuilder.createFakeTx(params, Coin.CENT, address), null);
+
+        index.invalidate();
+
+        List<TransactionOutput> spendCandidates = index.getSpendCandidates(address);
+        assertEquals(2, spendCandidates.size());
+        assertTrue(spendCandidates.containsAll(wallet.calculateAllSpendCandidates()));
+    }
+}
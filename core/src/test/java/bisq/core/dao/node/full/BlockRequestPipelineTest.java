@@ -0,0 +1,150 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.full;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class BlockRequestPipelineTest {
+    private RpcService rpcService;
+    private Map<Integer, Consumer<RawBlock>> pendingResultHandlers;
+    private Map<Integer, Consumer<Throwable>> pendingErrorHandlers;
+    private Map<Integer, SettableFuture<RawBlock>> futures;
+    private List<Integer> parsedHeights;
+    private AtomicInteger numCompleted;
+    private List<Throwable> errors;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setUp() {
+        pendingResultHandlers = new HashMap<>();
+        pendingErrorHandlers = new HashMap<>();
+        futures = new HashMap<>();
+        parsedHeights = new ArrayList<>();
+        numCompleted = new AtomicInteger();
+        errors = new ArrayList<>();
+
+        rpcService = mock(RpcService.class);
+        doAnswer(invocation -> {
+            int height = invocation.getArgument(0);
+            pendingResultHandlers.put(height, invocation.getArgument(1));
+            pendingErrorHandlers.put(height, invocation.getArgument(2));
+            SettableFuture<RawBlock> future = SettableFuture.create();
+            futures.put(height, future);
+            return future;
+        }).when(rpcService).requestDtoBlock(anyInt(), any(Consumer.class), any(Consumer.class));
+    }
+
+    @Test
+    public void blocksAreParsedInOrderAndWindowIsRespected() {
+        BlockRequestPipeline pipeline = createPipeline(100, 109, 4);
+        pipeline.start();
+        assertEquals(4, pendingResultHandlers.size());
+
+        // Out of order results are kept until the missing block arrives
+        complete(103);
+        complete(101);
+        assertTrue(parsedHeights.isEmpty());
+        assertEquals(4, pendingResultHandlers.size());
+
+        complete(100);
+        assertEquals(List.of(100, 101), parsedHeights);
+        // Block 103 is received but not parsed yet, so it still counts for the window
+        assertEquals(List.of(102, 104, 105), new ArrayList<>(new TreeSet<>(pendingResultHandlers.keySet())));
+
+        while (!pendingResultHandlers.isEmpty()) {
+            complete(pendingResultHandlers.keySet().stream().mapToInt(i -> i).max().orElseThrow());
+        }
+        assertEquals(List.of(100, 101, 102, 103, 104, 105, 106, 107, 108, 109), parsedHeights);
+        assertEquals(1, numCompleted.get());
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    public void pipelineStopsAtFirstError() {
+        BlockRequestPipeline pipeline = createPipeline(100, 109, 4);
+        pipeline.start();
+
+        complete(100);
+        pendingErrorHandlers.remove(102).accept(new RuntimeException("test"));
+        pendingErrorHandlers.remove(103).accept(new RuntimeException("test"));
+        complete(101);
+
+        assertEquals(List.of(100), parsedHeights);
+        assertEquals(1, errors.size());
+        assertEquals(0, numCompleted.get());
+        assertTrue(futures.get(101).isCancelled());
+    }
+
+    @Test
+    public void stopCancelsPendingRequests() {
+        BlockRequestPipeline pipeline = createPipeline(100, 109, 4);
+        pipeline.start();
+
+        complete(100);
+        complete(102);
+        pipeline.stop();
+
+        assertEquals(List.of(100), parsedHeights);
+        assertFalse(futures.get(100).isCancelled());
+        // The received block 102 has no pending request anymore
+        assertFalse(futures.get(102).isCancelled());
+        assertTrue(futures.get(101).isCancelled());
+        assertTrue(futures.get(103).isCancelled());
+        assertTrue(futures.get(104).isCancelled());
+        assertEquals(0, numCompleted.get());
+        assertTrue(errors.isEmpty());
+    }
+
+    private BlockRequestPipeline createPipeline(int startBlockHeight, int chainHeight, int windowSize) {
+        return new BlockRequestPipeline(rpcService,
+                windowSize,
+                startBlockHeight,
+                chainHeight,
+                rawBlock -> parsedHeights.add(rawBlock.getHeight()),
+                numCompleted::incrementAndGet,
+                errors::add);
+    }
+
+    private void complete(int height) {
+        pendingErrorHandlers.remove(height);
+        RawBlock rawBlock = new RawBlock(height, height * 600L, "hash" + height, "hash" + (height - 1),
+                ImmutableList.of());
+        futures.get(height).set(rawBlock);
+        pendingResultHandlers.remove(height).accept(rawBlock);
+    }
+}
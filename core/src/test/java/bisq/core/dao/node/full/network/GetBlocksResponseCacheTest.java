@@ -0,0 +1,109 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.full.network;
+
+import bisq.core.dao.node.messages.GetBlocksResponse;
+import bisq.core.dao.state.DaoStateService;
+import bisq.core.dao.state.model.blockchain.Block;
+
+import bisq.network.p2p.network.PreEncodedEnvelope;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GetBlocksResponseCacheTest {
+    private static final int GENESIS_HEIGHT = 990;
+    private static final int CHAIN_HEIGHT = 3500;
+
+    private final Map<Integer, Block> blocksByHeight = new HashMap<>();
+    private GetBlocksResponseCache cache;
+
+    @BeforeEach
+    public void setup() {
+        for (int height = GENESIS_HEIGHT; height <= CHAIN_HEIGHT; height++) {
+            blocksByHeight.put(height, block(height));
+        }
+        DaoStateService daoStateService = mock(DaoStateService.class);
+        when(daoStateService.getGenesisBlockHeight()).thenReturn(GENESIS_HEIGHT);
+        when(daoStateService.getBlockAtHeight(anyInt()))
+                .thenAnswer(invocation -> Optional.ofNullable(blocksByHeight.get(invocation.<Integer>getArgument(0))));
+        cache = new GetBlocksResponseCache(daoStateService);
+    }
+
+    @Test
+    public void testEncodingParsesToSameMessage() throws IOException {
+        assertEncoding(cache.buildGetBlocksResponse(1200, 3000, 42), 1200, CHAIN_HEIGHT - 1200 + 1);
+        // Blocks are taken from the genesis height on
+        assertEncoding(cache.buildGetBlocksResponse(0, 100, 43), GENESIS_HEIGHT, 100);
+        assertEncoding(cache.buildGetBlocksResponse(CHAIN_HEIGHT + 1, 3000, 44), 0, 0);
+    }
+
+    @Test
+    public void testReplacedBlocksAreNotUsed() {
+        GetBlocksResponse first = getBlocksResponse(cache.buildGetBlocksResponse(1000, 10, 1));
+        GetBlocksResponse second = getBlocksResponse(cache.buildGetBlocksResponse(1000, 10, 2));
+        assertSame(first.getBlocks().get(5), second.getBlocks().get(5));
+
+        // A reorg or an applied snapshot replaces the blocks by new instances
+        blocksByHeight.put(1005, block(1005));
+        GetBlocksResponse third = getBlocksResponse(cache.buildGetBlocksResponse(1000, 10, 3));
+        assertNotSame(first.getBlocks().get(5), third.getBlocks().get(5));
+        assertSame(first.getBlocks().get(4), third.getBlocks().get(4));
+    }
+
+    private static void assertEncoding(PreEncodedEnvelope preEncodedEnvelope,
+                                       int fromBlockHeight,
+                                       int numBlocks) throws IOException {
+        GetBlocksResponse getBlocksResponse = getBlocksResponse(preEncodedEnvelope);
+        assertEquals(numBlocks, getBlocksResponse.getBlocks().size());
+        if (numBlocks > 0) {
+            assertEquals(fromBlockHeight, getBlocksResponse.getBlocks().get(0).getHeight());
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        preEncodedEnvelope.writeDelimitedTo(outputStream);
+        protobuf.NetworkEnvelope expected = getBlocksResponse.toProtoNetworkEnvelope();
+        protobuf.NetworkEnvelope parsed = protobuf.NetworkEnvelope.parseDelimitedFrom(
+                new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(expected, parsed);
+        assertEquals(expected.getSerializedSize(), preEncodedEnvelope.getSerializedSize());
+    }
+
+    private static GetBlocksResponse getBlocksResponse(PreEncodedEnvelope preEncodedEnvelope) {
+        return (GetBlocksResponse) preEncodedEnvelope.getNetworkEnvelope();
+    }
+
+    private static Block block(int height) {
+        return new Block(height, 1000L * height, "hash" + height, "hash" + (height - 1));
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.node.lite.network;
+
+import bisq.core.dao.node.full.RawBlock;
+import bisq.core.dao.node.messages.GetBlocksResponse;
+import bisq.core.dao.state.model.blockchain.Block;
+
+import bisq.network.p2p.NodeAddress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static bisq.core.dao.node.lite.network.ParallelBlocksDownloader.BLOCKS_PER_REQUEST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ParallelBlocksDownloaderTest {
+    private static final int START_HEIGHT = 1001;
+    // 3 full ranges and a last range of 500 blocks
+    private static final int TARGET_HEIGHT = START_HEIGHT + 3 * BLOCKS_PER_REQUEST + 499;
+
+    private final NodeAddress seedNode1 = new NodeAddress("seedNode1.onion", 8000);
+    private final NodeAddress seedNode2 = new NodeAddress("seedNode2.onion", 8000);
+    private final NodeAddress seedNode3 = new NodeAddress("seedNode3.onion", 8000);
+
+    private final List<Request> requests = new ArrayList<>();
+    private final List<RawBlock> parsedBlocks = new ArrayList<>();
+    private Runnable onParsingComplete;
+    private boolean completed;
+    private int abortedAtHeight = -1;
+    private ParallelBlocksDownloader downloader;
+
+    @BeforeEach
+    public void setup() {
+        ParallelBlocksDownloader.BlocksRequester blocksRequester = (nodeAddress, startBlockHeight, listener) -> {
+            requests.add(new Request(nodeAddress, startBlockHeight, listener));
+            return mock(RequestBlocksHandler.class);
+        };
+        downloader = new ParallelBlocksDownloader(blocksRequester,
+                List.of(seedNode1, seedNode2, seedNode3),
+                START_HEIGHT,
+                TARGET_HEIGHT,
+                new ParallelBlocksDownloader.Listener() {
+                    @Override
+                    public void onBlocksReceived(GetBlocksResponse getBlocksResponse,
+                                                 int nextBlockHeight,
+                                                 Runnable onParsingComplete) {
+                        parsedBlocks.addAll(getBlocksResponse.getBlocks());
+                        ParallelBlocksDownloaderTest.this.onParsingComplete = onParsingComplete;
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed = true;
+                    }
+
+                    @Override
+                    public void onAborted(int nextBlockHeight, boolean isParsing) {
+                        abortedAtHeight = nextBlockHeight;
+                    }
+                });
+    }
+
+    @Test
+    public void testRangesArePassedInHeightOrder() {
+        downloader.start();
+        assertEquals(3, requests.size());
+        assertEquals(START_HEIGHT + 2 * BLOCKS_PER_REQUEST, requests.get(2).startBlockHeight);
+
+        // The responses contain up to BLOCKS_PER_REQUEST blocks, also beyond the requested range
+        respond(requests.get(2), chain("h", requests.get(2).startBlockHeight, BLOCKS_PER_REQUEST));
+        respond(requests.get(1), chain("h", requests.get(1).startBlockHeight, BLOCKS_PER_REQUEST));
+        assertTrue(parsedBlocks.isEmpty());
+
+        respond(requests.get(0), chain("h", START_HEIGHT, BLOCKS_PER_REQUEST));
+        assertEquals(BLOCKS_PER_REQUEST, parsedBlocks.size());
+        // The last range got requested when the first seed node got free
+        Request lastRequest = requests.get(3);
+        assertEquals(START_HEIGHT + 3 * BLOCKS_PER_REQUEST, lastRequest.startBlockHeight);
+
+        parseAll();
+        assertEquals(3 * BLOCKS_PER_REQUEST, parsedBlocks.size());
+        assertFalse(completed);
+
+        respond(lastRequest, chain("h", lastRequest.startBlockHeight, BLOCKS_PER_REQUEST));
+        parseAll();
+        assertTrue(completed);
+        assertParsedChain(TARGET_HEIGHT);
+    }
+
+    @Test
+    public void testMissingBlocksOfShortResponseAreRequestedAgain() {
+        downloader.start();
+        respond(requests.get(0), chain("h", START_HEIGHT, 1000));
+        parseAll();
+        assertEquals(1000, parsedBlocks.size());
+
+        Request missingBlocksRequest = requests.get(3);
+        assertEquals(START_HEIGHT + 1000, missingBlocksRequest.startBlockHeight);
+        respond(requests.get(1), chain("h", requests.get(1).startBlockHeight, BLOCKS_PER_REQUEST));
+        respond(missingBlocksRequest, chain("h", START_HEIGHT + 1000, BLOCKS_PER_REQUEST));
+        parseAll();
+        assertEquals(2 * BLOCKS_PER_REQUEST, parsedBlocks.size());
+
+        // A short response for the last range is accepted
+        respond(requests.get(2), chain("h", requests.get(2).startBlockHeight, BLOCKS_PER_REQUEST));
+        Request lastRequest = requests.get(requests.size() - 1);
+        respond(lastRequest, chain("h", lastRequest.startBlockHeight, 100));
+        parseAll();
+        assertTrue(completed);
+        assertParsedChain(lastRequest.startBlockHeight + 99);
+    }
+
+    @Test
+    public void testRangeNotConnectingToPreviousRangeIsRequestedAgain() {
+        downloader.start();
+        Request secondRangeRequest = requests.get(1);
+        respond(requests.get(0), chain("h", START_HEIGHT, BLOCKS_PER_REQUEST));
+        respond(requests.get(2), chain("h", requests.get(2).startBlockHeight, BLOCKS_PER_REQUEST));
+        respond(requests.get(3), chain("h", requests.get(3).startBlockHeight, BLOCKS_PER_REQUEST));
+        // seedNode2 has a different chain
+        assertEquals(seedNode2, secondRangeRequest.nodeAddress);
+        respond(secondRangeRequest, chain("f", secondRangeRequest.startBlockHeight, BLOCKS_PER_REQUEST));
+        parseAll();
+        assertEquals(BLOCKS_PER_REQUEST, parsedBlocks.size());
+
+        Request repeatedRequest = requests.get(requests.size() - 1);
+        assertEquals(secondRangeRequest.startBlockHeight, repeatedRequest.startBlockHeight);
+        assertNotEquals(seedNode2, repeatedRequest.nodeAddress);
+
+        respond(repeatedRequest, chain("h", secondRangeRequest.startBlockHeight, BLOCKS_PER_REQUEST));
+        parseAll();
+        assertTrue(completed);
+        assertParsedChain(TARGET_HEIGHT);
+        assertTrue(requests.stream()
+                .skip(requests.indexOf(secondRangeRequest) + 1)
+                .noneMatch(request -> request.nodeAddress.equals(seedNode2)));
+    }
+
+    @Test
+    public void testDownloadIsAbortedIfNoSeedNodeIsLeft() {
+        downloader.start();
+        respond(requests.get(0), chain("h", START_HEIGHT, BLOCKS_PER_REQUEST));
+        parseAll();
+
+        requests.get(1).listener.onFault("failed", null);
+        requests.get(2).listener.onFault("failed", null);
+        assertEquals(-1, abortedAtHeight);
+        requests.get(3).listener.onFault("failed", null);
+
+        assertEquals(START_HEIGHT + BLOCKS_PER_REQUEST, abortedAtHeight);
+        assertFalse(completed);
+    }
+
+    private void parseAll() {
+        while (onParsingComplete != null) {
+            Runnable runnable = onParsingComplete;
+            onParsingComplete = null;
+            runnable.run();
+        }
+    }
+
+    private void assertParsedChain(int lastHeight) {
+        assertEquals(lastHeight - START_HEIGHT + 1, parsedBlocks.size());
+        for (int i = 0; i < parsedBlocks.size(); i++) {
+            RawBlock block = parsedBlocks.get(i);
+            assertEquals(START_HEIGHT + i, block.getHeight());
+            assertEquals("h" + block.getHeight(), block.getHash());
+        }
+    }
+
+    private static void respond(Request request, List<RawBlock> blocks) {
+        request.listener.onComplete(new GetBlocksResponse(blocks, 1));
+    }
+
+    private static List<RawBlock> chain(String hashPrefix, int startHeight, int numBlocks) {
+        return IntStream.range(startHeight, startHeight + numBlocks)
+                .mapToObj(height -> RawBlock.fromBlock(new Block(height,
+                        height * 1000L,
+                        hashPrefix + height,
+                        hashPrefix + (height - 1))))
+                .collect(Collectors.toList());
+    }
+
+    private static class Request {
+        private final NodeAddress nodeAddress;
+        private final int startBlockHeight;
+        private final RequestBlocksHandler.Listener listener;
+
+        private Request(NodeAddress nodeAddress, int startBlockHeight, RequestBlocksHandler.Listener listener) {
+            this.nodeAddress = nodeAddress;
+            this.startBlockHeight = startBlockHeight;
+            this.listener = listener;
+        }
+    }
+}
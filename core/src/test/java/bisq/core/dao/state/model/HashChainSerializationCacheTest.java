@@ -0,0 +1,120 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state.model;
+
+import bisq.core.dao.state.model.blockchain.Block;
+import bisq.core.dao.state.model.blockchain.SpentInfo;
+import bisq.core.dao.state.model.blockchain.TxOutput;
+import bisq.core.dao.state.model.blockchain.TxOutputKey;
+import bisq.core.dao.state.model.governance.Cycle;
+import bisq.core.dao.state.model.governance.Issuance;
+import bisq.core.dao.state.model.governance.IssuanceType;
+import bisq.core.dao.state.model.governance.ParamChange;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class HashChainSerializationCacheTest {
+    private final Random random = new Random(1);
+    private DaoState daoState;
+    private int height;
+
+    @BeforeEach
+    public void setup() {
+        daoState = new DaoState();
+        height = 100;
+        addBlock();
+    }
+
+    @Test
+    public void testSerializationIsByteIdenticalToProtobuf() {
+        assertSerializationIsByteIdentical();
+
+        for (int i = 0; i < 2000; i++) {
+            addTxOutput(i);
+        }
+        daoState.getCycles().add(new Cycle(height, ImmutableList.of()));
+        daoState.getIssuanceMap().put("issuance", new Issuance("issuance", height, 1000, null, IssuanceType.COMPENSATION));
+        daoState.getConfiscatedLockupTxList().add("confiscated");
+        daoState.getParamChangeList().add(new ParamChange("param", "value", height));
+        assertSerializationIsByteIdentical();
+
+        // Simulate blocks which spend, replace and add outputs
+        for (int block = 0; block < 5; block++) {
+            addBlock();
+            List<TxOutputKey> keys = new ArrayList<>(daoState.getUnspentTxOutputMap().keySet());
+            for (int i = 0; i < 50; i++) {
+                TxOutputKey key = keys.get(random.nextInt(keys.size()));
+                if (daoState.getUnspentTxOutputMap().remove(key) != null) {
+                    daoState.getSpentInfoMap().put(key, new SpentInfo(height, "spending" + i, 0));
+                }
+            }
+            for (int i = 0; i < 50; i++) {
+                addTxOutput(2000 + block * 50 + i);
+            }
+            TxOutputKey replacedKey = keys.get(random.nextInt(keys.size()));
+            daoState.getUnspentTxOutputMap().put(replacedKey,
+                    createTxOutput(replacedKey.getTxId(), replacedKey.getIndex(), 42));
+            daoState.getCycles().add(new Cycle(height, ImmutableList.of()));
+            daoState.setChainHeight(height);
+            assertSerializationIsByteIdentical();
+        }
+
+        daoState.getUnspentTxOutputMap().clear();
+        daoState.getParamChangeList().clear();
+        assertSerializationIsByteIdentical();
+    }
+
+    private void assertSerializationIsByteIdentical() {
+        byte[] expected = DaoState.getBsqStateCloneExcludingBlocks(daoState).toBuilder()
+                .addBlocks(daoState.getLastBlock().toProtoMessage())
+                .build()
+                .toByteArray();
+        assertArrayEquals(expected, daoState.getSerializedStateForHashChain());
+    }
+
+    private void addBlock() {
+        height++;
+        daoState.addBlock(new Block(height, height * 600L, "hash" + height, "hash" + (height - 1)));
+    }
+
+    private void addTxOutput(int i) {
+        TxOutput txOutput = createTxOutput("tx" + random.nextInt(), i % 3, 1000 + i);
+        daoState.getUnspentTxOutputMap().put(txOutput.getKey(), txOutput);
+    }
+
+    private TxOutput createTxOutput(String txId, int index, long value) {
+        return TxOutput.fromProto(protobuf.BaseTxOutput.newBuilder()
+                .setIndex(index)
+                .setValue(value)
+                .setTxId(txId)
+                .setBlockHeight(height)
+                .setTxOutput(protobuf.TxOutput.newBuilder()
+                        .setTxOutputType(protobuf.TxOutputType.BSQ_OUTPUT)
+                        .setLockTime(-1))
+                .build());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.dao.state.model;
+
+import bisq.core.dao.state.model.blockchain.BaseTx;
+import bisq.core.dao.state.model.blockchain.Tx;
+import bisq.core.dao.state.model.blockchain.TxType;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TxTimeIndexTest {
+    private final Random random = new Random(1);
+    private DaoState daoState;
+    private List<Tx> txs;
+
+    @BeforeEach
+    public void setup() {
+        daoState = new DaoState();
+        txs = new ArrayList<>();
+        TxType[] txTypes = {TxType.TRANSFER_BSQ, TxType.PAY_TRADE_FEE, TxType.PROPOSAL, TxType.INVALID};
+        for (int i = 0; i < 500; i++) {
+            // Block times are mostly increasing, but can go back a bit
+            long time = 1000L * i + random.nextInt(5000);
+            txs.add(tx("tx" + i, time, txTypes[random.nextInt(txTypes.length)]));
+        }
+    }
+
+    @Test
+    public void testPagesMatchSortedTxs() {
+        // Half of the txs are added before the index is created at the first request, half after it
+        txs.subList(0, 250).forEach(daoState::addToTxCache);
+        assertPagesMatchSortedTxs(Set.of());
+        txs.subList(250, txs.size()).forEach(daoState::addToTxCache);
+
+        assertPagesMatchSortedTxs(Set.of());
+        assertPagesMatchSortedTxs(Set.of(TxType.PROPOSAL));
+        assertPagesMatchSortedTxs(Set.of(TxType.TRANSFER_BSQ, TxType.INVALID, TxType.PAY_TRADE_FEE));
+        assertTrue(daoState.getMostRecentTxs(Set.of(TxType.UNLOCK), 0, 10).isEmpty());
+    }
+
+    @Test
+    public void testIndexIsRecreatedAfterSetTxCache() {
+        txs.forEach(daoState::addToTxCache);
+        assertEquals(10, daoState.getMostRecentTxs(Set.of(), 0, 10).size());
+
+        List<Tx> snapshotTxs = txs.subList(0, 100);
+        daoState.setTxCache(snapshotTxs.stream().collect(Collectors.toMap(BaseTx::getId, Function.identity())));
+
+        assertEquals(sorted(snapshotTxs, Set.of()), daoState.getMostRecentTxs(Set.of(), 0, 1000));
+    }
+
+    private void assertPagesMatchSortedTxs(Set<TxType> txTypes) {
+        List<Tx> expected = sorted(new ArrayList<>(daoState.getTxCache().values()), txTypes);
+        for (int skip = 0; skip <= expected.size() + 10; skip += 7) {
+            List<Tx> page = daoState.getMostRecentTxs(txTypes, skip, 10);
+            assertEquals(expected.subList(Math.min(skip, expected.size()), Math.min(skip + 10, expected.size())), page);
+        }
+    }
+
+    private static List<Tx> sorted(List<Tx> txs, Set<TxType> txTypes) {
+        return txs.stream()
+                .filter(tx -> txTypes.isEmpty() || txTypes.contains(tx.getTxType()))
+                .sorted(Comparator.comparingLong(Tx::getTime).thenComparing(Tx::getId).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private static Tx tx(String txId, long time, TxType txType) {
+        return Tx.fromProto(protobuf.BaseTx.newBuilder()
+                .setId(txId)
+                .setTime(time)
+                .setTx(protobuf.Tx.newBuilder()
+                        .setTxType(txType.toProtoMessage()))
+                .build());
+    }
+}
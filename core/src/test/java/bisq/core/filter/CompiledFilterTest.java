@@ -0,0 +1,121 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.filter;
+
+import bisq.core.payment.payload.ClearXchangeAccountPayload;
+import bisq.core.payment.payload.PaymentMethod;
+
+import bisq.common.crypto.Sig;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CompiledFilterTest {
+    @Test
+    public void testEmptyFilterBansNothing() {
+        CompiledFilter compiledFilter = CompiledFilter.EMPTY;
+
+        assertFalse(compiledFilter.isOfferIdBanned("offerId"));
+        assertFalse(compiledFilter.isCurrencyBanned("EUR"));
+        assertFalse(compiledFilter.isNodeAddressBannedFromNetwork("test.onion:9999"));
+        assertFalse(compiledFilter.isPaymentAccountBanned(clearXchangeAccountPayload("Alice")));
+    }
+
+    @Test
+    public void testLookups() {
+        CompiledFilter compiledFilter = new CompiledFilter(createFilter());
+
+        assertTrue(compiledFilter.isOfferIdBanned("offerId"));
+        assertFalse(compiledFilter.isOfferIdBanned("otherOfferId"));
+        assertTrue(compiledFilter.isNodeAddressBannedFromTrading("trader.onion:9999"));
+        assertTrue(compiledFilter.isNodeAddressBannedFromNetwork("peer.onion:9999"));
+        assertFalse(compiledFilter.isNodeAddressBannedFromNetwork("trader.onion:9999"));
+        assertTrue(compiledFilter.isCurrencyBanned("EUR"));
+        assertFalse(compiledFilter.isCurrencyBanned("eur"));
+        assertTrue(compiledFilter.isPaymentMethodBanned(PaymentMethod.SEPA_ID));
+        assertTrue(compiledFilter.isAutoConfExplorerBanned("explorer.onion"));
+        assertTrue(compiledFilter.isWitnessSignerPubKeyBanned("witnessSignerPubKey"));
+        assertTrue(compiledFilter.isPrivilegedDevPubKeyBanned("devPubKey"));
+    }
+
+    @Test
+    public void testPaymentAccountValuesAreMatchedCaseInsensitive() {
+        CompiledFilter compiledFilter = new CompiledFilter(createFilter());
+
+        assertTrue(compiledFilter.isPaymentAccountBanned(clearXchangeAccountPayload("Alice")));
+        assertTrue(compiledFilter.isPaymentAccountBanned(clearXchangeAccountPayload("ALICE")));
+        assertFalse(compiledFilter.isPaymentAccountBanned(clearXchangeAccountPayload("Bob")));
+        assertTrue(compiledFilter.isDelayedPayoutPaymentAccount(clearXchangeAccountPayload("bob")));
+        assertFalse(compiledFilter.isDelayedPayoutPaymentAccount(clearXchangeAccountPayload("Alice")));
+    }
+
+    private static ClearXchangeAccountPayload clearXchangeAccountPayload(String holderName) {
+        ClearXchangeAccountPayload payload = new ClearXchangeAccountPayload(PaymentMethod.CLEAR_X_CHANGE_ID,
+                UUID.randomUUID().toString());
+        payload.setHolderName(holderName);
+        return payload;
+    }
+
+    private static Filter createFilter() {
+        return new Filter(
+                List.of("offerId"),
+                List.of("trader.onion:9999"),
+                List.of(new PaymentAccountFilter(PaymentMethod.CLEAR_X_CHANGE_ID, "getHolderName", "alice")),
+                List.of("EUR"),
+                List.of(PaymentMethod.SEPA_ID),
+                Collections.emptyList(),
+                Collections.emptyList(),
+                Collections.emptyList(),
+                false,
+                Collections.emptyList(),
+                false,
+                "",
+                "",
+                Collections.emptyList(),
+                Collections.emptyList(),
+                List.of("witnessSignerPubKey"),
+                Collections.emptyList(),
+                Sig.generateKeyPair().getPublic(),
+                "",
+                List.of("devPubKey"),
+                false,
+                List.of("explorer.onion"),
+                Set.of("peer.onion:9999"),
+                false,
+                false,
+                false,
+                1,
+                Collections.emptyList(),
+                1,
+                1,
+                1,
+                1,
+                List.of(new PaymentAccountFilter(PaymentMethod.CLEAR_X_CHANGE_ID, "getHolderName", "Bob")),
+                Collections.emptyList(),
+                Collections.emptyList(),
+                UUID.randomUUID().toString()
+        );
+    }
+}
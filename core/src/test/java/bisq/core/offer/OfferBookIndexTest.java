@@ -0,0 +1,77 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer;
+
+import org.junit.jupiter.api.Test;
+
+import static bisq.core.offer.OfferMaker.baseCurrencyCode;
+import static bisq.core.offer.OfferMaker.btcUsdOffer;
+import static bisq.core.offer.OfferMaker.counterCurrencyCode;
+import static bisq.core.offer.OfferMaker.direction;
+import static bisq.core.offer.OfferMaker.id;
+import static bisq.core.offer.OfferMaker.price;
+import static com.natpryce.makeiteasy.MakeItEasy.make;
+import static com.natpryce.makeiteasy.MakeItEasy.with;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OfferBookIndexTest {
+
+    @Test
+    public void offersAreGroupedByMarket() {
+        OfferBookIndex index = new OfferBookIndex();
+        OfferPayloadBase buyUsd = make(btcUsdOffer.but(with(id, "1"))).getOfferPayloadBase();
+        OfferPayloadBase sellUsd = make(btcUsdOffer.but(with(id, "2"), with(direction, OfferDirection.SELL))).getOfferPayloadBase();
+        OfferPayloadBase buyXmr = make(btcUsdOffer.but(with(id, "3"),
+                with(baseCurrencyCode, "XMR"),
+                with(counterCurrencyCode, "BTC"))).getOfferPayloadBase();
+        index.add(buyUsd);
+        index.add(sellUsd);
+        index.add(buyXmr);
+
+        assertEquals(3, index.size());
+        assertEquals(buyUsd, index.findById("1").orElseThrow());
+        assertEquals(1, index.getByMarket(OfferDirection.BUY, "USD", null).size());
+        assertEquals(1, index.getByMarket(OfferDirection.BUY, "USD", "SEPA").size());
+        assertTrue(index.getByMarket(OfferDirection.BUY, "USD", "F2F").isEmpty());
+        assertEquals(sellUsd, index.getByMarket(OfferDirection.SELL, "USD", null).get(0));
+        assertEquals(buyXmr, index.getByMarket(OfferDirection.BUY, "XMR", null).get(0));
+
+        index.remove(sellUsd);
+        assertEquals(2, index.size());
+        assertTrue(index.getByMarket(OfferDirection.SELL, "USD", null).isEmpty());
+    }
+
+    @Test
+    public void removingReplacedOfferKeepsNewOffer() {
+        OfferBookIndex index = new OfferBookIndex();
+        OfferPayloadBase oldOffer = make(btcUsdOffer.but(with(id, "1"))).getOfferPayloadBase();
+        OfferPayloadBase editedOffer = make(btcUsdOffer.but(with(id, "1"), with(price, 200000L))).getOfferPayloadBase();
+        index.add(oldOffer);
+        index.add(editedOffer);
+        index.remove(oldOffer);
+
+        assertEquals(editedOffer, index.findById("1").orElseThrow());
+        assertEquals(1, index.getByMarket(OfferDirection.BUY, "USD", null).size());
+
+        index.remove(editedOffer);
+        assertFalse(index.findById("1").isPresent());
+        assertTrue(index.getByMarket(OfferDirection.BUY, "USD", null).isEmpty());
+    }
+}
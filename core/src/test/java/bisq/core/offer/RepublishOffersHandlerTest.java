@@ -0,0 +1,228 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.offer;
+
+import bisq.common.Timer;
+import bisq.common.TimingWheelTimer;
+import bisq.common.UserThread;
+import bisq.common.handlers.ErrorMessageHandler;
+import bisq.common.handlers.ResultHandler;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static bisq.core.offer.OfferMaker.btcUsdOffer;
+import static bisq.core.offer.RepublishOffersHandler.ATTEMPT_TIMEOUT_SEC;
+import static bisq.core.offer.RepublishOffersHandler.MAX_ATTEMPTS;
+import static bisq.core.offer.RepublishOffersHandler.RETRY_BASE_DELAY_SEC;
+import static com.natpryce.makeiteasy.MakeItEasy.make;
+import static com.natpryce.makeiteasy.MakeItEasy.with;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RepublishOffersHandlerTest {
+    private static final List<ManualTimer> timers = new ArrayList<>();
+
+    private final List<Publish> publishes = new ArrayList<>();
+    private final Set<OpenOffer> unpublishableOffers = new HashSet<>();
+    private int numCompleted;
+
+    @BeforeEach
+    public void setup() {
+        UserThread.setTimerClass(ManualTimer.class);
+        timers.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        UserThread.setTimerClass(TimingWheelTimer.class);
+    }
+
+    @Test
+    public void testAllOffersArePublishedImmediately() {
+        List<OpenOffer> openOffers = createOpenOffers(5);
+        createHandler().start(openOffers);
+        assertEquals(openOffers, publishes.stream().map(publish -> publish.openOffer).collect(Collectors.toList()));
+
+        publishes.subList(0, 4).forEach(publish -> publish.resultHandler.handleResult());
+        assertEquals(0, numCompleted);
+
+        publishes.get(4).resultHandler.handleResult();
+        assertEquals(5, publishes.size());
+        assertEquals(1, numCompleted);
+    }
+
+    @Test
+    public void testSynchronousResultsCompleteAfterAllOffersArePublished() {
+        List<OpenOffer> openOffers = createOpenOffers(3);
+        new RepublishOffersHandler(
+                (openOffer, resultHandler, errorMessageHandler) -> {
+                    publishes.add(new Publish(openOffer, resultHandler, errorMessageHandler));
+                    resultHandler.handleResult();
+                },
+                openOffer -> true,
+                () -> numCompleted++)
+                .start(openOffers);
+        assertEquals(3, publishes.size());
+        assertEquals(1, numCompleted);
+    }
+
+    @Test
+    public void testUnpublishableOffersAreSkipped() {
+        List<OpenOffer> openOffers = createOpenOffers(3);
+        unpublishableOffers.add(openOffers.get(0));
+        unpublishableOffers.add(openOffers.get(2));
+        createHandler().start(openOffers);
+        assertEquals(1, publishes.size());
+        assertEquals(openOffers.get(1), publishes.get(0).openOffer);
+
+        publishes.get(0).resultHandler.handleResult();
+        assertEquals(1, numCompleted);
+    }
+
+    @Test
+    public void testFailedOfferIsRetriedWithBackoff() {
+        List<OpenOffer> openOffers = createOpenOffers(2);
+        createHandler().start(openOffers);
+        publishes.get(1).resultHandler.handleResult();
+
+        Publish lastAttempt = publishes.get(0);
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            lastAttempt.errorMessageHandler.handleErrorMessage("failed");
+            // No new publish before the retry delay has passed
+            assertEquals(1 + attempt, publishes.size());
+            runTimer(RETRY_BASE_DELAY_SEC << (attempt - 1));
+            lastAttempt = publishes.get(publishes.size() - 1);
+            assertEquals(openOffers.get(0), lastAttempt.openOffer);
+        }
+        assertEquals(0, numCompleted);
+
+        lastAttempt.errorMessageHandler.handleErrorMessage("failed");
+        assertEquals(1 + MAX_ATTEMPTS, publishes.size());
+        assertEquals(1, numCompleted);
+    }
+
+    @Test
+    public void testTimedOutAttemptIsRetriedAndLateResultIgnored() {
+        List<OpenOffer> openOffers = createOpenOffers(1);
+        createHandler().start(openOffers);
+        Publish firstAttempt = publishes.get(0);
+
+        runTimer(ATTEMPT_TIMEOUT_SEC);
+        firstAttempt.resultHandler.handleResult();
+        runTimer(RETRY_BASE_DELAY_SEC);
+        assertEquals(2, publishes.size());
+        assertEquals(0, numCompleted);
+
+        publishes.get(1).resultHandler.handleResult();
+        publishes.get(1).errorMessageHandler.handleErrorMessage("failed");
+        assertEquals(1, numCompleted);
+        assertEquals(2, publishes.size());
+    }
+
+    @Test
+    public void testCancelStopsRetries() {
+        RepublishOffersHandler handler = createHandler();
+        handler.start(createOpenOffers(1));
+        publishes.get(0).errorMessageHandler.handleErrorMessage("failed");
+
+        handler.cancel();
+        assertTrue(timers.stream().allMatch(timer -> timer.stopped));
+        assertEquals(1, publishes.size());
+        assertEquals(0, numCompleted);
+    }
+
+    @Test
+    public void testEmptyListCompletesImmediately() {
+        createHandler().start(new ArrayList<>());
+        assertTrue(publishes.isEmpty());
+        assertEquals(1, numCompleted);
+    }
+
+    private RepublishOffersHandler createHandler() {
+        return new RepublishOffersHandler(
+                (openOffer, resultHandler, errorMessageHandler) ->
+                        publishes.add(new Publish(openOffer, resultHandler, errorMessageHandler)),
+                openOffer -> !unpublishableOffers.contains(openOffer),
+                () -> numCompleted++);
+    }
+
+    private static List<OpenOffer> createOpenOffers(int numOffers) {
+        return IntStream.range(0, numOffers)
+                .mapToObj(i -> new OpenOffer(make(btcUsdOffer.but(with(OfferMaker.id, "offer" + i)))))
+                .collect(Collectors.toList());
+    }
+
+    private static void runTimer(long delaySec) {
+        List<ManualTimer> dueTimers = timers.stream()
+                .filter(timer -> !timer.stopped && timer.delay.equals(Duration.ofSeconds(delaySec)))
+                .collect(Collectors.toList());
+        assertFalse(dueTimers.isEmpty());
+        dueTimers.forEach(timer -> {
+            timer.stopped = true;
+            timer.action.run();
+        });
+    }
+
+    private static class Publish {
+        private final OpenOffer openOffer;
+        private final ResultHandler resultHandler;
+        private final ErrorMessageHandler errorMessageHandler;
+
+        private Publish(OpenOffer openOffer, ResultHandler resultHandler, ErrorMessageHandler errorMessageHandler) {
+            this.openOffer = openOffer;
+            this.resultHandler = resultHandler;
+            this.errorMessageHandler = errorMessageHandler;
+        }
+    }
+
+    public static class ManualTimer implements Timer {
+        private Duration delay;
+        private Runnable action;
+        private boolean stopped;
+
+        @Override
+        public Timer runLater(Duration delay, Runnable action) {
+            this.delay = delay;
+            this.action = action;
+            timers.add(this);
+            return this;
+        }
+
+        @Override
+        public Timer runPeriodically(Duration interval, Runnable runnable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+    }
+}
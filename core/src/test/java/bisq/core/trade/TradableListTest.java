@@ -22,9 +22,13 @@ import bisq.core.offer.OpenOffer;
 import bisq.core.offer.bisq_v1.OfferPayload;
 import bisq.core.trade.model.TradableList;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static protobuf.PersistableEnvelope.MessageCase.TRADABLE_LIST;
@@ -46,4 +50,21 @@ public class TradableListTest {
         assertEquals(message.getMessageCase(), TRADABLE_LIST);
         assertEquals(1, message.getTradableList().getTradableList().size());
     }
+
+    @Test
+    public void snapshotIsReplacedAtEachChange() {
+        OpenOffer openOffer1 = mock(OpenOffer.class);
+        OpenOffer openOffer2 = mock(OpenOffer.class);
+        TradableList<OpenOffer> openOfferTradableList = new TradableList<>();
+        List<OpenOffer> emptySnapshot = openOfferTradableList.getSnapshot();
+
+        openOfferTradableList.add(openOffer1);
+        openOfferTradableList.getObservableList().add(openOffer2);
+        assertEquals(List.of(openOffer1, openOffer2), openOfferTradableList.getSnapshot());
+        assertTrue(emptySnapshot.isEmpty());
+
+        openOfferTradableList.remove(openOffer1);
+        assertEquals(List.of(openOffer2), openOfferTradableList.getSnapshot());
+        assertThrows(UnsupportedOperationException.class, () -> openOfferTradableList.getSnapshot().add(openOffer1));
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.core.trade.statistics;
+
+import bisq.core.payment.payload.PaymentMethod;
+
+import com.google.common.collect.Range;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TradeStatisticsIndexTest {
+    private static final List<String> CURRENCIES = List.of("EUR", "USD", "XMR");
+
+    @Test
+    public void testRangeQueriesMatchSortedSet() {
+        TradeStatisticsIndex index = new TradeStatisticsIndex();
+        NavigableSet<TradeStatistics3> set = new TreeSet<>();
+        Random random = new Random(1);
+        // Dates out of order and with duplicates
+        for (int i = 0; i < 1000; i++) {
+            TradeStatistics3 tradeStatistics = tradeStatistics(CURRENCIES.get(random.nextInt(CURRENCIES.size())),
+                    random.nextInt(200),
+                    1000 + random.nextInt(100));
+            assertEquals(set.add(tradeStatistics), index.add(tradeStatistics));
+        }
+        assertEquals(set.size(), index.size());
+
+        assertEquals(new ArrayList<>(set), index.get(Range.all()));
+        assertEquals(filter(set, null, Range.openClosed(50L, 120L)), index.get(Range.openClosed(50L, 120L)));
+        assertEquals(filter(set, "EUR", Range.closedOpen(50L, 120L)), index.get("EUR", Range.closedOpen(50L, 120L)));
+        assertEquals(filter(set, "XMR", Range.atLeast(199L)), index.get("XMR", Range.atLeast(199L)));
+        assertEquals(filter(set, "USD", Range.lessThan(0L)), index.get("USD", Range.lessThan(0L)));
+        assertTrue(index.get("BTC", Range.all()).isEmpty());
+        assertTrue(index.get(Range.open(300L, 400L)).isEmpty());
+    }
+
+    @Test
+    public void testDuplicateIsNotAdded() {
+        TradeStatisticsIndex index = new TradeStatisticsIndex();
+        assertTrue(index.add(tradeStatistics("EUR", 10, 1000)));
+        assertTrue(index.add(tradeStatistics("EUR", 5, 1000)));
+        assertFalse(index.add(tradeStatistics("EUR", 10, 1000)));
+        assertEquals(2, index.size());
+    }
+
+    private static List<TradeStatistics3> filter(NavigableSet<TradeStatistics3> set,
+                                                 String currencyCode,
+                                                 Range<Long> dateRange) {
+        return set.stream()
+                .filter(e -> currencyCode == null || e.getCurrency().equals(currencyCode))
+                .filter(e -> dateRange.contains(e.getDateAsLong()))
+                .collect(Collectors.toList());
+    }
+
+    private static TradeStatistics3 tradeStatistics(String currencyCode, long date, long amount) {
+        return new TradeStatistics3(currencyCode,
+                10000,
+                amount,
+                PaymentMethod.SEPA_ID,
+                date,
+                null,
+                null,
+                null,
+                null);
+    }
+}
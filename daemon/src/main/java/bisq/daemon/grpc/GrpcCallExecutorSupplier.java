@@ -0,0 +1,120 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.daemon.grpc;
+
+import bisq.common.UserThread;
+import bisq.common.metrics.Histogram;
+import bisq.common.metrics.MetricsRegistry;
+import bisq.common.util.Utilities;
+
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallExecutorSupplier;
+
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import static bisq.proto.grpc.GetVersionGrpc.getGetVersionMethod;
+import static bisq.proto.grpc.HelpGrpc.getGetMethodHelpMethod;
+import static bisq.proto.grpc.OffersGrpc.getGetBsqSwapOffersMethod;
+import static bisq.proto.grpc.OffersGrpc.getGetMyBsqSwapOfferMethod;
+import static bisq.proto.grpc.OffersGrpc.getGetMyBsqSwapOffersMethod;
+import static bisq.proto.grpc.OffersGrpc.getGetMyOfferMethod;
+import static bisq.proto.grpc.OffersGrpc.getGetMyOffersMethod;
+import static bisq.proto.grpc.TradesGrpc.getGetTradeMethod;
+import static bisq.proto.grpc.TradesGrpc.getGetTradesMethod;
+import static bisq.proto.grpc.WalletsGrpc.getGetBalancesMethod;
+import static bisq.proto.grpc.WalletsGrpc.getGetDaoStatusMethod;
+import static bisq.proto.grpc.WalletsGrpc.getGetNetworkMethod;
+
+/**
+ * Selects the executor of a gRPC call. Calls of read-only methods are executed by a separate thread pool, so a burst
+ * of queries from bots does not delay the P2P message processing on the UserThread and vice versa. All other calls
+ * change state and are executed on the UserThread.
+ * <p>
+ * The read-only methods only read immutable snapshots or thread safe data of the core services (e.g. the
+ * TradableList snapshots, the offer book index or the wallet balances). GetOffers, GetOffer, GetBsqSwapOffer and
+ * GetOfferCategory are not served by the pool as the taker filter uses the account age witness and signed witness
+ * caches, which are not thread safe. GetMarketPrice changes the currency code of the PriceFeedService.
+ */
+@Slf4j
+final class GrpcCallExecutorSupplier implements ServerCallExecutorSupplier {
+    private static final int NUM_READ_ONLY_CALL_THREADS = 4;
+    private static final int READ_ONLY_CALL_QUEUE_CAPACITY = 1000;
+
+    private static final Set<String> READ_ONLY_METHODS = Set.of(
+            getGetMyBsqSwapOfferMethod().getFullMethodName(),
+            getGetMyOfferMethod().getFullMethodName(),
+            getGetBsqSwapOffersMethod().getFullMethodName(),
+            getGetMyBsqSwapOffersMethod().getFullMethodName(),
+            getGetMyOffersMethod().getFullMethodName(),
+            getGetTradeMethod().getFullMethodName(),
+            getGetTradesMethod().getFullMethodName(),
+            getGetBalancesMethod().getFullMethodName(),
+            getGetDaoStatusMethod().getFullMethodName(),
+            getGetNetworkMethod().getFullMethodName(),
+            getGetMethodHelpMethod().getFullMethodName(),
+            getGetVersionMethod().getFullMethodName());
+
+    private static final String QUEUE_WAIT_METRIC = "bisq_grpc_executor_queue_wait_seconds";
+    private static final String QUEUE_WAIT_HELP = "Time a task of a gRPC call waited for its executor";
+
+    private final ThreadPoolExecutor readOnlyCallExecutor = Utilities.getThreadPoolExecutor("GrpcReadOnlyCalls",
+            NUM_READ_ONLY_CALL_THREADS,
+            NUM_READ_ONLY_CALL_THREADS,
+            READ_ONLY_CALL_QUEUE_CAPACITY,
+            60);
+    private final Executor userThreadExecutor;
+    private final Executor readOnlyExecutor;
+
+    GrpcCallExecutorSupplier() {
+        MetricsRegistry metricsRegistry = MetricsRegistry.getDefault();
+        // The UserThread executor is set at startup, so we look it up at each execution
+        userThreadExecutor = withQueueWaitMetric(UserThread::execute,
+                metricsRegistry.histogram(QUEUE_WAIT_METRIC, QUEUE_WAIT_HELP, "executor", "user_thread"));
+        readOnlyExecutor = withQueueWaitMetric(readOnlyCallExecutor,
+                metricsRegistry.histogram(QUEUE_WAIT_METRIC, QUEUE_WAIT_HELP, "executor", "read_only"));
+    }
+
+    @Override
+    public <ReqT, RespT> Executor getExecutor(ServerCall<ReqT, RespT> call, Metadata metadata) {
+        return isReadOnly(call.getMethodDescriptor().getFullMethodName()) ? readOnlyExecutor : userThreadExecutor;
+    }
+
+    void shutDown() {
+        Utilities.shutdownAndAwaitTermination(readOnlyCallExecutor, 1, TimeUnit.SECONDS);
+    }
+
+    static boolean isReadOnly(String fullMethodName) {
+        return READ_ONLY_METHODS.contains(fullMethodName);
+    }
+
+    private static Executor withQueueWaitMetric(Executor executor, Histogram queueWait) {
+        return command -> {
+            long ts = System.nanoTime();
+            executor.execute(() -> {
+                queueWait.observe((System.nanoTime() - ts) / 1e9);
+                command.run();
+            });
+        };
+    }
+}
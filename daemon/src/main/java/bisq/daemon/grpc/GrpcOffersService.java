@@ -20,6 +20,7 @@ package bisq.daemon.grpc;
 import bisq.core.api.CoreApi;
 import bisq.core.api.model.OfferInfo;
 import bisq.core.offer.Offer;
+import bisq.core.offer.OfferBookService;
 import bisq.core.offer.OpenOffer;
 
 import bisq.proto.grpc.CancelOfferReply;
@@ -45,6 +46,8 @@ import bisq.proto.grpc.GetOfferReply;
 import bisq.proto.grpc.GetOfferRequest;
 import bisq.proto.grpc.GetOffersReply;
 import bisq.proto.grpc.GetOffersRequest;
+import bisq.proto.grpc.OffersUpdate;
+import bisq.proto.grpc.SubscribeOffersRequest;
 
 import io.grpc.ServerInterceptor;
 import io.grpc.stub.StreamObserver;
@@ -52,8 +55,13 @@ import io.grpc.stub.StreamObserver;
 import javax.inject.Inject;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -252,6 +260,16 @@ class GrpcOffersService extends OffersImplBase {
         }
     }
 
+    @Override
+    public void subscribeOffers(SubscribeOffersRequest req,
+                                StreamObserver<OffersUpdate> responseObserver) {
+        try {
+            new OffersSubscription(req.getDirection(), req.getCurrencyCode(), req.getAll(), responseObserver).start();
+        } catch (Throwable cause) {
+            exceptionHandler.handleException(log, cause, responseObserver);
+        }
+    }
+
     @Override
     public void createBsqSwapOffer(CreateBsqSwapOfferRequest req,
                                    StreamObserver<CreateBsqSwapOfferReply> responseObserver) {
@@ -352,6 +370,7 @@ class GrpcOffersService extends OffersImplBase {
                             put(getGetMyOfferMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getGetOffersMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getGetMyOffersMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
+                            put(getSubscribeOffersMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getCreateOfferMethod().getFullMethodName(), new GrpcCallRateMeter(1, MINUTES));
                             put(getEditOfferMethod().getFullMethodName(), new GrpcCallRateMeter(1, MINUTES));
                             put(getCancelOfferMethod().getFullMethodName(), new GrpcCallRateMeter(1, MINUTES));
@@ -369,4 +388,83 @@ class GrpcOffersService extends OffersImplBase {
         else
             return UNKNOWN;
     }
+
+    private class OffersSubscription extends GrpcSubscription<OffersUpdate>
+            implements OfferBookService.OfferBookChangedListener {
+        private final String direction;
+        private final String currencyCode;
+        private final boolean all;
+        private final Predicate<Offer> offerFilter;
+        private final Set<String> sentOfferIds = new HashSet<>();
+        // The latest changed offer by offer id, null if the offer got removed
+        private final Map<String, Offer> changedOffers = new LinkedHashMap<>();
+
+        OffersSubscription(String direction,
+                           String currencyCode,
+                           boolean all,
+                           StreamObserver<OffersUpdate> responseObserver) {
+            super(responseObserver, exceptionHandler, log);
+            this.direction = direction;
+            this.currencyCode = currencyCode;
+            this.all = all;
+            this.offerFilter = coreApi.getOfferFilter(direction, currencyCode, all);
+        }
+
+        @Override
+        public void onAdded(Offer offer) {
+            if (offerFilter.test(offer)) {
+                changedOffers.put(offer.getId(), offer);
+                onChanged();
+            }
+        }
+
+        @Override
+        public void onRemoved(Offer offer) {
+            if (sentOfferIds.contains(offer.getId()) || changedOffers.containsKey(offer.getId())) {
+                changedOffers.put(offer.getId(), null);
+                onChanged();
+            }
+        }
+
+        @Override
+        protected OffersUpdate buildSnapshot() {
+            List<Offer> offers = coreApi.getOffers(direction, currencyCode, all);
+            offers.forEach(offer -> sentOfferIds.add(offer.getId()));
+            return OffersUpdate.newBuilder()
+                    .addAllOffers(offers.stream()
+                            .map(offer -> toOfferInfo(offer).toProtoMessage())
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+
+        @Override
+        protected OffersUpdate buildUpdate() {
+            OffersUpdate.Builder builder = OffersUpdate.newBuilder();
+            changedOffers.forEach((offerId, offer) -> {
+                if (offer != null) {
+                    sentOfferIds.add(offerId);
+                    builder.addOffers(toOfferInfo(offer).toProtoMessage());
+                } else if (sentOfferIds.remove(offerId)) {
+                    builder.addRemovedOfferIds(offerId);
+                }
+            });
+            changedOffers.clear();
+            return builder.getOffersCount() > 0 || builder.getRemovedOfferIdsCount() > 0 ? builder.build() : null;
+        }
+
+        @Override
+        protected boolean hasChanges() {
+            return !changedOffers.isEmpty();
+        }
+
+        @Override
+        protected void addListeners() {
+            coreApi.addOfferBookChangedListener(this);
+        }
+
+        @Override
+        protected void removeListeners() {
+            coreApi.removeOfferBookChangedListener(this);
+        }
+    }
 }
@@ -21,6 +21,7 @@ import bisq.core.api.CoreContext;
 
 import bisq.common.UserThread;
 import bisq.common.config.Config;
+import bisq.common.metrics.MetricsRegistry;
 
 import io.grpc.Server;
 import io.grpc.ServerBuilder;
@@ -37,6 +38,7 @@ import static io.grpc.ServerInterceptors.interceptForward;
 
 
 
+import bisq.daemon.grpc.interceptor.CallDurationMetricsInterceptor;
 import bisq.daemon.grpc.interceptor.PasswordAuthInterceptor;
 
 @Singleton
@@ -44,6 +46,7 @@ import bisq.daemon.grpc.interceptor.PasswordAuthInterceptor;
 public class GrpcServer {
 
     private final Server server;
+    private final GrpcCallExecutorSupplier callExecutorSupplier = new GrpcCallExecutorSupplier();
 
     @Inject
     public GrpcServer(CoreContext coreContext,
@@ -60,6 +63,7 @@ public class GrpcServer {
                       GrpcWalletsService walletsService) {
         this.server = ServerBuilder.forPort(config.apiPort)
                 .executor(UserThread.getExecutor())
+                .callExecutor(callExecutorSupplier)
                 .addService(interceptForward(disputeAgentsService, disputeAgentsService.interceptors()))
                 .addService(interceptForward(helpService, helpService.interceptors()))
                 .addService(interceptForward(offersService, offersService.interceptors()))
@@ -70,6 +74,7 @@ public class GrpcServer {
                 .addService(interceptForward(versionService, versionService.interceptors()))
                 .addService(interceptForward(walletsService, walletsService.interceptors()))
                 .intercept(passwordAuthInterceptor)
+                .intercept(new CallDurationMetricsInterceptor(MetricsRegistry.getDefault()))
                 .build();
         coreContext.setApiUser(true);
     }
@@ -86,6 +91,7 @@ public class GrpcServer {
     public void shutdown() {
         log.info("Server shutdown started");
         server.shutdown();
+        callExecutorSupplier.shutDown();
         log.info("Server shutdown complete");
     }
 }
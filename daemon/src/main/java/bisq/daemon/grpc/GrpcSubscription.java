@@ -0,0 +1,132 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.daemon.grpc;
+
+import bisq.common.Timer;
+import bisq.common.UserThread;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import org.slf4j.Logger;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Base class of the server-streaming subscriptions. The first update is a snapshot of the current state, the following
+ * updates contain the changes since the previous update.
+ * <p>
+ * The changes are collected by the subclasses and are sent at most every {@link #FLUSH_DELAY_MS}, so a burst of
+ * changes, e.g. of the offers of a GetDataResponse, results in a single update. If the client does not read the
+ * updates fast enough (the call is not ready), no update is sent and the changes are collected until the call gets
+ * ready again. A subclass keeps only the latest state of each changed item, so the pending changes are bounded by the
+ * number of items and not by the number of changes.
+ * <p>
+ * The subscribe methods are executed on the UserThread, like the core listeners and the handlers of the call, so no
+ * synchronization is needed.
+ */
+@Slf4j
+abstract class GrpcSubscription<R> {
+    static final long FLUSH_DELAY_MS = 200;
+
+    private final ServerCallStreamObserver<R> responseObserver;
+    private final GrpcExceptionHandler exceptionHandler;
+    private final Logger serviceLog;
+    @Nullable
+    private Timer flushTimer;
+    private boolean closed;
+
+    GrpcSubscription(StreamObserver<R> responseObserver, GrpcExceptionHandler exceptionHandler, Logger serviceLog) {
+        this.responseObserver = (ServerCallStreamObserver<R>) responseObserver;
+        this.exceptionHandler = exceptionHandler;
+        this.serviceLog = serviceLog;
+    }
+
+    // Sends the snapshot and adds the core listeners. Exceptions of the snapshot are thrown to the caller.
+    void start() {
+        R snapshot = buildSnapshot();
+        responseObserver.setOnCancelHandler(this::close);
+        responseObserver.setOnReadyHandler(this::onReady);
+        addListeners();
+        responseObserver.onNext(snapshot);
+    }
+
+    // Called by the subclasses after they collected a change
+    protected void onChanged() {
+        if (!closed && flushTimer == null) {
+            flushTimer = UserThread.runAfter(this::flush, FLUSH_DELAY_MS, MILLISECONDS);
+        }
+    }
+
+    protected abstract R buildSnapshot();
+
+    // Returns the update with the collected changes and clears them, or null if there is nothing to send
+    @Nullable
+    protected abstract R buildUpdate();
+
+    protected abstract boolean hasChanges();
+
+    protected abstract void addListeners();
+
+    protected abstract void removeListeners();
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private void onReady() {
+        // If a flush is scheduled we leave it to the timer, so we still send at most one update per delay
+        if (flushTimer == null && hasChanges()) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        flushTimer = null;
+        if (closed || !hasChanges() || !responseObserver.isReady()) {
+            return;
+        }
+        try {
+            R update = buildUpdate();
+            if (update != null) {
+                responseObserver.onNext(update);
+            }
+        } catch (Throwable cause) {
+            close();
+            exceptionHandler.handleException(serviceLog, cause, responseObserver);
+        }
+    }
+
+    private void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (flushTimer != null) {
+            flushTimer.stop();
+            flushTimer = null;
+        }
+        removeListeners();
+        log.debug("Closed {}", getClass().getSimpleName());
+    }
+}
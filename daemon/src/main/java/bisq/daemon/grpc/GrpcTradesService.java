@@ -18,6 +18,7 @@
 package bisq.daemon.grpc;
 
 import bisq.core.api.CoreApi;
+import bisq.core.api.OpenTradesListener;
 import bisq.core.api.model.CanceledTradeInfo;
 import bisq.core.api.model.TradeInfo;
 import bisq.core.offer.Offer;
@@ -39,8 +40,10 @@ import bisq.proto.grpc.GetTradeReply;
 import bisq.proto.grpc.GetTradeRequest;
 import bisq.proto.grpc.GetTradesReply;
 import bisq.proto.grpc.GetTradesRequest;
+import bisq.proto.grpc.SubscribeTradesRequest;
 import bisq.proto.grpc.TakeOfferReply;
 import bisq.proto.grpc.TakeOfferRequest;
+import bisq.proto.grpc.TradesUpdate;
 import bisq.proto.grpc.UnFailTradeReply;
 import bisq.proto.grpc.UnFailTradeRequest;
 import bisq.proto.grpc.WithdrawFundsReply;
@@ -53,7 +56,9 @@ import javax.inject.Inject;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -171,6 +176,16 @@ class GrpcTradesService extends TradesImplBase {
         }
     }
 
+    @Override
+    public void subscribeTrades(SubscribeTradesRequest req,
+                                StreamObserver<TradesUpdate> responseObserver) {
+        try {
+            new TradesSubscription(responseObserver).start();
+        } catch (Throwable cause) {
+            exceptionHandler.handleException(log, cause, responseObserver);
+        }
+    }
+
     @Override
     public void confirmPaymentStarted(ConfirmPaymentStartedRequest req,
                                       StreamObserver<ConfirmPaymentStartedReply> responseObserver) {
@@ -274,6 +289,7 @@ class GrpcTradesService extends TradesImplBase {
                         new HashMap<>() {{
                             put(getGetTradeMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getGetTradesMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
+                            put(getSubscribeTradesMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getTakeOfferMethod().getFullMethodName(), new GrpcCallRateMeter(1, MINUTES));
                             put(getConfirmPaymentStartedMethod().getFullMethodName(), new GrpcCallRateMeter(1, MINUTES));
                             put(getConfirmPaymentReceivedMethod().getFullMethodName(), new GrpcCallRateMeter(1, MINUTES));
@@ -374,6 +390,10 @@ class GrpcTradesService extends TradesImplBase {
                 .build();
     }
 
+    private TradeInfo toOpenTradeInfo(TradeModel tradeModel) {
+        return toTradeInfo(tradeModel, getMyRole(tradeModel), wasMyOffer(tradeModel), "Pending");
+    }
+
     private boolean wasMyOffer(TradeModel tradeModel) {
         return coreApi.isMyOffer(tradeModel.getOffer());
     }
@@ -381,4 +401,65 @@ class GrpcTradesService extends TradesImplBase {
     private String getMyRole(TradeModel tradeModel) {
         return coreApi.getTradeRole(tradeModel);
     }
+
+    private class TradesSubscription extends GrpcSubscription<TradesUpdate> implements OpenTradesListener {
+        // The latest state of the changed open trades by trade id, null if the trade is not open anymore
+        private final Map<String, Trade> changedTrades = new LinkedHashMap<>();
+
+        TradesSubscription(StreamObserver<TradesUpdate> responseObserver) {
+            super(responseObserver, exceptionHandler, log);
+        }
+
+        @Override
+        public void onTradeChanged(Trade trade) {
+            changedTrades.put(trade.getId(), trade);
+            onChanged();
+        }
+
+        @Override
+        public void onTradeRemoved(Trade trade) {
+            changedTrades.put(trade.getId(), null);
+            onChanged();
+        }
+
+        @Override
+        protected TradesUpdate buildSnapshot() {
+            return TradesUpdate.newBuilder()
+                    .addAllTrades(coreApi.getOpenTrades().stream()
+                            .map(GrpcTradesService.this::toOpenTradeInfo)
+                            .sorted(comparing(TradeInfo::getDate))
+                            .map(TradeInfo::toProtoMessage)
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+
+        @Override
+        protected TradesUpdate buildUpdate() {
+            TradesUpdate.Builder builder = TradesUpdate.newBuilder();
+            changedTrades.forEach((tradeId, trade) -> {
+                if (trade != null) {
+                    builder.addTrades(toOpenTradeInfo(trade).toProtoMessage());
+                } else {
+                    builder.addRemovedTradeIds(tradeId);
+                }
+            });
+            changedTrades.clear();
+            return builder.build();
+        }
+
+        @Override
+        protected boolean hasChanges() {
+            return !changedTrades.isEmpty();
+        }
+
+        @Override
+        protected void addListeners() {
+            coreApi.addOpenTradesListener(this);
+        }
+
+        @Override
+        protected void removeListeners() {
+            coreApi.removeOpenTradesListener(this);
+        }
+    }
 }
@@ -17,12 +17,14 @@
 
 package bisq.daemon.grpc;
 
+import bisq.core.api.BalancesListener;
 import bisq.core.api.CoreApi;
 import bisq.core.api.model.AddressBalanceInfo;
 import bisq.core.api.model.TxFeeRateInfo;
 import bisq.core.btc.exceptions.TxBroadcastException;
 import bisq.core.btc.wallet.TxBroadcaster;
 
+import bisq.proto.grpc.BalancesUpdate;
 import bisq.proto.grpc.GetAddressBalanceReply;
 import bisq.proto.grpc.GetAddressBalanceRequest;
 import bisq.proto.grpc.GetBalancesReply;
@@ -53,6 +55,7 @@ import bisq.proto.grpc.SetTxFeeRatePreferenceReply;
 import bisq.proto.grpc.SetTxFeeRatePreferenceRequest;
 import bisq.proto.grpc.SetWalletPasswordReply;
 import bisq.proto.grpc.SetWalletPasswordRequest;
+import bisq.proto.grpc.SubscribeBalancesRequest;
 import bisq.proto.grpc.UnlockWalletReply;
 import bisq.proto.grpc.UnlockWalletRequest;
 import bisq.proto.grpc.UnsetTxFeeRatePreferenceReply;
@@ -143,6 +146,16 @@ class GrpcWalletsService extends WalletsImplBase {
         }
     }
 
+    @Override
+    public void subscribeBalances(SubscribeBalancesRequest req,
+                                  StreamObserver<BalancesUpdate> responseObserver) {
+        try {
+            new BalancesSubscription(req.getCurrencyCode(), responseObserver).start();
+        } catch (Throwable cause) {
+            exceptionHandler.handleException(log, cause, responseObserver);
+        }
+    }
+
     @Override
     public void getAddressBalance(GetAddressBalanceRequest req,
                                   StreamObserver<GetAddressBalanceReply> responseObserver) {
@@ -420,6 +433,7 @@ class GrpcWalletsService extends WalletsImplBase {
                             put(getGetNetworkMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getGetDaoStatusMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getGetBalancesMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
+                            put(getSubscribeBalancesMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getGetAddressBalanceMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getGetFundingAddressesMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
                             put(getGetUnusedBsqAddressMethod().getFullMethodName(), new GrpcCallRateMeter(1, SECONDS));
@@ -440,4 +454,58 @@ class GrpcWalletsService extends WalletsImplBase {
                         }}
                 )));
     }
+
+    private class BalancesSubscription extends GrpcSubscription<BalancesUpdate> implements BalancesListener {
+        private final String currencyCode;
+        private BalancesUpdate lastUpdate;
+        private boolean changed;
+
+        BalancesSubscription(String currencyCode, StreamObserver<BalancesUpdate> responseObserver) {
+            super(responseObserver, exceptionHandler, log);
+            this.currencyCode = currencyCode;
+        }
+
+        @Override
+        public void onBalancesChanged() {
+            changed = true;
+            onChanged();
+        }
+
+        @Override
+        protected BalancesUpdate buildSnapshot() {
+            lastUpdate = BalancesUpdate.newBuilder()
+                    .setBalances(coreApi.getBalances(currencyCode).toProtoMessage())
+                    .build();
+            return lastUpdate;
+        }
+
+        @Override
+        protected BalancesUpdate buildUpdate() {
+            changed = false;
+            BalancesUpdate update = BalancesUpdate.newBuilder()
+                    .setBalances(coreApi.getBalances(currencyCode).toProtoMessage())
+                    .build();
+            // The wallets notify also changes of balances not contained in the BalancesInfo
+            if (update.equals(lastUpdate)) {
+                return null;
+            }
+            lastUpdate = update;
+            return update;
+        }
+
+        @Override
+        protected boolean hasChanges() {
+            return changed;
+        }
+
+        @Override
+        protected void addListeners() {
+            coreApi.addBalancesListener(this);
+        }
+
+        @Override
+        protected void removeListeners() {
+            coreApi.removeBalancesListener(this);
+        }
+    }
 }
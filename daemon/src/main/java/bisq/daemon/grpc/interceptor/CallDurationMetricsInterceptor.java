@@ -0,0 +1,72 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.daemon.grpc.interceptor;
+
+import bisq.common.metrics.Histogram;
+import bisq.common.metrics.MetricsRegistry;
+
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the duration of each rpc server call per method, from the start of the call at its executor until the call
+ * gets closed.
+ * <p>
+ * Only unary calls are recorded. A streaming call like a subscription stays open as long as the client is
+ * subscribed, so its duration would distort the histogram.
+ */
+public final class CallDurationMetricsInterceptor implements ServerInterceptor {
+    private final MetricsRegistry metricsRegistry;
+    private final Map<String, Histogram> callDurationByMethod = new ConcurrentHashMap<>();
+
+    public CallDurationMetricsInterceptor(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> serverCall,
+                                                                 Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> serverCallHandler) {
+        if (serverCall.getMethodDescriptor().getType() != MethodDescriptor.MethodType.UNARY) {
+            return serverCallHandler.startCall(serverCall, headers);
+        }
+
+        Histogram callDuration = callDurationByMethod.computeIfAbsent(
+                serverCall.getMethodDescriptor().getFullMethodName(),
+                fullMethodName -> metricsRegistry.histogram("bisq_grpc_call_duration_seconds",
+                        "Time from the start of a gRPC call until it was closed",
+                        "method", fullMethodName));
+        long ts = System.nanoTime();
+        ServerCall<ReqT, RespT> timedServerCall = new ForwardingServerCall.SimpleForwardingServerCall<>(serverCall) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                callDuration.observe((System.nanoTime() - ts) / 1e9);
+                super.close(status, trailers);
+            }
+        };
+        return serverCallHandler.startCall(timedServerCall, headers);
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.daemon.grpc;
+
+import bisq.common.Timer;
+import bisq.common.TimingWheelTimer;
+import bisq.common.UserThread;
+
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+public class GrpcSubscriptionTest {
+    private static final List<Runnable> scheduledFlushes = new ArrayList<>();
+
+    private ServerCallStreamObserver<String> responseObserver;
+    private TestSubscription subscription;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        UserThread.setTimerClass(ManualTimer.class);
+        scheduledFlushes.clear();
+        responseObserver = mock(ServerCallStreamObserver.class);
+        when(responseObserver.isReady()).thenReturn(true);
+        subscription = new TestSubscription(responseObserver);
+        subscription.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        UserThread.setTimerClass(TimingWheelTimer.class);
+    }
+
+    @Test
+    public void testChangesAreCoalesced() {
+        subscription.change("a");
+        subscription.change("b");
+        subscription.change("c");
+        assertEquals(1, scheduledFlushes.size());
+
+        runScheduledFlushes();
+        var inOrder = inOrder(responseObserver);
+        inOrder.verify(responseObserver).onNext("snapshot");
+        inOrder.verify(responseObserver).onNext("a,b,c");
+
+        subscription.change("d");
+        runScheduledFlushes();
+        verify(responseObserver).onNext("d");
+    }
+
+    @Test
+    public void testChangesAreKeptUntilCallIsReady() {
+        when(responseObserver.isReady()).thenReturn(false);
+        subscription.change("a");
+        runScheduledFlushes();
+        subscription.change("b");
+        runScheduledFlushes();
+        verify(responseObserver, times(1)).onNext(any());
+
+        when(responseObserver.isReady()).thenReturn(true);
+        captureHandler(true).run();
+        verify(responseObserver).onNext("a,b");
+    }
+
+    @Test
+    public void testCancelRemovesListeners() {
+        assertTrue(subscription.listening);
+        captureHandler(false).run();
+        assertFalse(subscription.listening);
+
+        subscription.change("a");
+        assertTrue(scheduledFlushes.isEmpty());
+        verify(responseObserver, never()).onNext("a");
+    }
+
+    private Runnable captureHandler(boolean onReadyHandler) {
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        if (onReadyHandler) {
+            verify(responseObserver).setOnReadyHandler(captor.capture());
+        } else {
+            verify(responseObserver).setOnCancelHandler(captor.capture());
+        }
+        return captor.getValue();
+    }
+
+    private static void runScheduledFlushes() {
+        List<Runnable> flushes = new ArrayList<>(scheduledFlushes);
+        scheduledFlushes.clear();
+        flushes.forEach(Runnable::run);
+    }
+
+    public static class ManualTimer implements Timer {
+        private Runnable action;
+
+        @Override
+        public Timer runLater(Duration delay, Runnable action) {
+            this.action = action;
+            scheduledFlushes.add(action);
+            return this;
+        }
+
+        @Override
+        public Timer runPeriodically(Duration interval, Runnable runnable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void stop() {
+            scheduledFlushes.remove(action);
+        }
+    }
+
+    private static class TestSubscription extends GrpcSubscription<String> {
+        private final List<String> changes = new ArrayList<>();
+        private boolean listening;
+
+        TestSubscription(ServerCallStreamObserver<String> responseObserver) {
+            super(responseObserver, mock(GrpcExceptionHandler.class), log);
+        }
+
+        void change(String item) {
+            changes.add(item);
+            onChanged();
+        }
+
+        @Override
+        protected String buildSnapshot() {
+            return "snapshot";
+        }
+
+        @Override
+        protected String buildUpdate() {
+            String update = String.join(",", changes);
+            changes.clear();
+            return update;
+        }
+
+        @Override
+        protected boolean hasChanges() {
+            return !changes.isEmpty();
+        }
+
+        @Override
+        protected void addListeners() {
+            listening = true;
+        }
+
+        @Override
+        protected void removeListeners() {
+            listening = false;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import bisq.desktop.util.DisplayUtils;
 import bisq.core.locale.CurrencyUtil;
 import bisq.core.monetary.Altcoin;
 import bisq.core.trade.statistics.TradeStatistics3;
+import bisq.core.trade.statistics.TradeStatisticsManager;
 
 import bisq.common.util.MathUtils;
 import bisq.common.util.Tuple2;
@@ -103,12 +104,12 @@ public class ChartCalculations {
         });
     }
 
-    static CompletableFuture<List<TradeStatistics3>> getTradeStatisticsForCurrency(Set<TradeStatistics3> tradeStatisticsSet,
+    static CompletableFuture<List<TradeStatistics3>> getTradeStatisticsForCurrency(TradeStatisticsManager tradeStatisticsManager,
                                                                                    String currencyCode,
                                                                                    boolean showAllTradeCurrencies) {
-        return CompletableFuture.supplyAsync(() -> tradeStatisticsSet.stream()
-                .filter(e -> showAllTradeCurrencies || e.getCurrency().equals(currencyCode))
-                .collect(Collectors.toList()));
+        return CompletableFuture.supplyAsync(() -> showAllTradeCurrencies ?
+                tradeStatisticsManager.getAllTradeStatisticsList() :
+                tradeStatisticsManager.getTradeStatisticsList(currencyCode));
     }
 
     static CompletableFuture<UpdateChartResult> getUpdateChartResult(List<TradeStatistics3> tradeStatisticsByCurrency,
@@ -236,7 +236,7 @@ class TradesChartsViewModel extends ActivatableViewModel {
                                                                             @Nullable CompletableFuture<Boolean> completeFuture) {
         CompletableFuture<Boolean> future = new CompletableFuture<>();
         long ts = System.currentTimeMillis();
-        ChartCalculations.getTradeStatisticsForCurrency(tradeStatisticsManager.getObservableTradeStatisticsSet(),
+        ChartCalculations.getTradeStatisticsForCurrency(tradeStatisticsManager,
                         currencyCode,
                         showAllTradeCurrenciesProperty.get())
                 .whenComplete((list, throwable) -> {
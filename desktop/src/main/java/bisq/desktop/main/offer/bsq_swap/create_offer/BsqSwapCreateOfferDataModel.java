@@ -115,6 +115,10 @@ class BsqSwapCreateOfferDataModel extends BsqSwapOfferDataModel {
                 });
     }
 
+    void cancelRequestNewOffer() {
+        openBsqSwapOfferService.cancelProofOfWork(getOfferId());
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // UI actions
@@ -253,6 +253,8 @@ public class BsqSwapCreateOfferView extends BsqSwapOfferView<BsqSwapCreateOfferV
 
     @Override
     protected void onCancel2() {
+        // The minting of the proof of work got started when the fee info screen was shown
+        model.cancelRequestNewOffer();
         close();
     }
 
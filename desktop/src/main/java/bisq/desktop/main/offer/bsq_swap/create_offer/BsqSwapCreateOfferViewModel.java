@@ -196,6 +196,14 @@ class BsqSwapCreateOfferViewModel extends BsqSwapOfferViewModel<BsqSwapCreateOff
         });
     }
 
+    void cancelRequestNewOffer() {
+        if (miningPowTimer != null) {
+            miningPowTimer.stop();
+        }
+        miningPoW.set(false);
+        dataModel.cancelRequestNewOffer();
+    }
+
     void onPlaceOffer() {
         errorMessage.set(null);
         createOfferRequested = true;
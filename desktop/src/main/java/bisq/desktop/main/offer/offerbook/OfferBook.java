@@ -31,10 +31,13 @@ import javax.inject.Singleton;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -70,43 +73,51 @@ public class OfferBook {
         offerBookService.addOfferBookChangedListener(new OfferBookService.OfferBookChangedListener() {
             @Override
             public void onAdded(Offer offer) {
+                onAdded(List.of(offer));
+            }
+
+            @Override
+            public void onAdded(Collection<Offer> offers) {
                 printOfferBookListItems("Before onAdded");
                 // We get onAdded called every time a new ProtectedStorageEntry is received.
                 // Mostly it is the same OfferPayload but the ProtectedStorageEntry is different.
                 // We filter here to only add new offers if the same offer (using equals) was not already added and it
                 // is not banned.
-
-                if (filterManager.isOfferIdBanned(offer.getId())) {
-                    log.debug("Ignored banned offer. ID={}", offer.getId());
-                    return;
-                }
-
-                if (offer.isBsqSwapOffer() && !filterManager.isProofOfWorkValid(offer)) {
-                    log.info("Proof of work of offer with id {} is not valid.", offer.getId());
-                    return;
-                }
-
-                if (OfferRestrictions.requiresNodeAddressUpdate() && !Utils.isV3Address(offer.getMakerNodeAddress().getHostName())) {
-                    log.debug("Ignored offer with Tor v2 node address. ID={}", offer.getId());
-                    return;
-                }
-
-                // Use offer.equals(offer) to see if the OfferBook list contains an exact
-                // match -- offer.equals(offer) includes comparisons of payload, state
-                // and errorMessage.
-                boolean hasSameOffer = offerBookListItems.stream().anyMatch(item -> item.getOffer().equals(offer));
-                if (!hasSameOffer) {
-                    OfferBookListItem newOfferBookListItem = new OfferBookListItem(offer);
-                    removeDuplicateItem(newOfferBookListItem);
-                    offerBookListItems.add(newOfferBookListItem);  // Add replacement.
+                // The offers of a batch are applied with a single update of the list, as each update triggers the
+                // sorting and filtering of the offer book views.
+                Set<Offer> offersInList = offerBookListItems.stream()
+                        .map(OfferBookListItem::getOffer)
+                        .collect(Collectors.toSet());
+                // A later offer in the batch replaces an earlier one with the same offer ID
+                Map<String, OfferBookListItem> newItemsByOfferId = new LinkedHashMap<>();
+                offers.stream()
+                        .filter(OfferBook.this::isAddedOfferAllowed)
+                        .forEach(offer -> {
+                            // Use offer.equals(offer) to see if the OfferBook list contains an exact
+                            // match -- offer.equals(offer) includes comparisons of payload, state
+                            // and errorMessage.
+                            OfferBookListItem pendingItem = newItemsByOfferId.get(offer.getId());
+                            boolean hasSameOffer = pendingItem != null ?
+                                    pendingItem.getOffer().equals(offer) :
+                                    offersInList.contains(offer);
+                            if (hasSameOffer) {
+                                log.debug("We have the exact same offer already in our list and ignore the onAdded call. ID={}", offer.getId());
+                                return;
+                            }
+                            newItemsByOfferId.remove(offer.getId());
+                            newItemsByOfferId.put(offer.getId(), new OfferBookListItem(offer));
+                        });
+
+                if (!newItemsByOfferId.isEmpty()) {
+                    removeDuplicateItems(newItemsByOfferId.keySet());
+                    offerBookListItems.addAll(newItemsByOfferId.values());  // Add replacements.
                     if (log.isDebugEnabled()) {  // TODO delete debug stmt in future PR.
-                        log.debug("onAdded: Added new offer {}\n"
-                                        + "\twith newItem.payloadHash: {}",
-                                offer.getId(),
-                                newOfferBookListItem.hashOfPayload.getHex());
+                        newItemsByOfferId.values().forEach(newOfferBookListItem ->
+                                log.debug("onAdded: Added new offer {}\n"
+                                                + "\twith newItem.payloadHash: {}",
+                                        newOfferBookListItem.getOffer().getId(),
+                                        newOfferBookListItem.hashOfPayload.getHex()));
                     }
-                } else {
-                    log.debug("We have the exact same offer already in our list and ignore the onAdded call. ID={}", offer.getId());
                 }
                 printOfferBookListItems("After onAdded");
             }
@@ -134,15 +145,33 @@ public class OfferBook {
         toRemove.forEach(offerBookListItems::remove);
     }
 
-    private void removeDuplicateItem(OfferBookListItem newOfferBookListItem) {
-        String offerId = newOfferBookListItem.getOffer().getId();
+    private boolean isAddedOfferAllowed(Offer offer) {
+        if (filterManager.isOfferIdBanned(offer.getId())) {
+            log.debug("Ignored banned offer. ID={}", offer.getId());
+            return false;
+        }
+
+        if (offer.isBsqSwapOffer() && !filterManager.isProofOfWorkValid(offer)) {
+            log.info("Proof of work of offer with id {} is not valid.", offer.getId());
+            return false;
+        }
+
+        if (OfferRestrictions.requiresNodeAddressUpdate() && !Utils.isV3Address(offer.getMakerNodeAddress().getHostName())) {
+            log.debug("Ignored offer with Tor v2 node address. ID={}", offer.getId());
+            return false;
+        }
+        return true;
+    }
+
+    private void removeDuplicateItems(Set<String> offerIds) {
         // We need to remove any view items with a matching offerId before
-        // a newOfferBookListItem is added to the view.
+        // the new items are added to the view.
         List<OfferBookListItem> duplicateItems = offerBookListItems.stream()
-                .filter(item -> item.getOffer().getId().equals(offerId))
+                .filter(item -> offerIds.contains(item.getOffer().getId()))
                 .collect(Collectors.toList());
+        offerBookListItems.removeAll(duplicateItems);
         duplicateItems.forEach(oldOfferItem -> {
-            offerBookListItems.remove(oldOfferItem);
+            String offerId = oldOfferItem.getOffer().getId();
             if (log.isDebugEnabled()) {  // TODO delete debug stmt in future PR.
                 log.debug("onAdded: Removed old offer {}\n"
                                 + "\twith payload hash {} from list.\n"
@@ -94,5 +94,8 @@ public class P2PModule extends AppModule {
         bindConstant().annotatedWith(named(TOR_STREAM_ISOLATION)).to(config.torStreamIsolation);
         bindConstant().annotatedWith(named("MAX_SEQUENCE_NUMBER_MAP_SIZE_BEFORE_PURGE")).to(1000);
         bind(Boolean.class).annotatedWith(named(REPUBLISH_MAILBOX_ENTRIES)).toInstance(config.republishMailboxEntries);
+        bindConstant().annotatedWith(named(MAILBOX_DECRYPTION_THREADS)).to(config.mailboxDecryptionThreads);
+        bindConstant().annotatedWith(named(USE_MAPPED_HISTORICAL_STORES)).to(config.useMappedHistoricalStores);
+        bindConstant().annotatedWith(named(USE_JOURNALED_PERSISTENCE)).to(config.useJournaledPersistence);
     }
 }
@@ -26,6 +26,7 @@ import bisq.network.p2p.network.ConnectionListener;
 import bisq.network.p2p.network.MessageListener;
 import bisq.network.p2p.network.NetworkNode;
 import bisq.network.p2p.network.SetupListener;
+import bisq.network.p2p.peers.BroadcastHandler;
 import bisq.network.p2p.peers.Broadcaster;
 import bisq.network.p2p.peers.PeerManager;
 import bisq.network.p2p.peers.getdata.RequestDataManager;
@@ -34,6 +35,7 @@ import bisq.network.p2p.peers.peerexchange.PeerExchangeManager;
 import bisq.network.p2p.storage.HashMapChangedListener;
 import bisq.network.p2p.storage.P2PDataStorage;
 import bisq.network.p2p.storage.messages.RefreshOfferMessage;
+import bisq.network.p2p.storage.messages.RefreshOffersMessage;
 import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
 import bisq.network.p2p.storage.payload.ProtectedStorageEntry;
 import bisq.network.p2p.storage.payload.ProtectedStoragePayload;
@@ -50,6 +52,7 @@ import bisq.common.proto.network.NetworkEnvelope;
 import com.google.inject.Inject;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
@@ -65,6 +68,9 @@ import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -204,6 +210,10 @@ public class P2PService implements SetupListener, MessageListener, ConnectionLis
             p2PDataStorage.shutDown();
         }
 
+        if (mailboxMessageService != null) {
+            mailboxMessageService.shutDown();
+        }
+
         if (peerManager != null) {
             peerManager.shutDown();
         }
@@ -465,10 +475,16 @@ public class P2PService implements SetupListener, MessageListener, ConnectionLis
     }
 
     public boolean addProtectedStorageEntry(ProtectedStoragePayload protectedStoragePayload) {
+        return addProtectedStorageEntry(protectedStoragePayload, null);
+    }
+
+    // The listener gets called once the broadcast of the entry has completed
+    public boolean addProtectedStorageEntry(ProtectedStoragePayload protectedStoragePayload,
+                                            @Nullable BroadcastHandler.Listener listener) {
         if (isBootstrapped()) {
             try {
                 ProtectedStorageEntry protectedStorageEntry = p2PDataStorage.getProtectedStorageEntry(protectedStoragePayload, keyRing.getSignatureKeyPair());
-                return p2PDataStorage.addProtectedStorageEntry(protectedStorageEntry, networkNode.getNodeAddress(), null);
+                return p2PDataStorage.addProtectedStorageEntry(protectedStorageEntry, networkNode.getNodeAddress(), listener);
             } catch (CryptoException e) {
                 log.error("Signing at getDataWithSignedSeqNr failed. That should never happen.");
                 return false;
@@ -492,6 +508,35 @@ public class P2PService implements SetupListener, MessageListener, ConnectionLis
         }
     }
 
+    /**
+     * Refreshes the TTL of all given payloads with RefreshOffersMessages. Each refresh is signed individually, but
+     * they are applied in one pass and broadcast as one message instead of one message per payload.
+     *
+     * @return the number of payloads which got refreshed
+     */
+    public int refreshTTL(Collection<? extends ProtectedStoragePayload> protectedStoragePayloads) {
+        if (isBootstrapped()) {
+            List<RefreshOfferMessage> refreshTTLMessages = new ArrayList<>();
+            for (ProtectedStoragePayload protectedStoragePayload : protectedStoragePayloads) {
+                try {
+                    refreshTTLMessages.add(p2PDataStorage.getRefreshTTLMessage(protectedStoragePayload, keyRing.getSignatureKeyPair()));
+                } catch (CryptoException e) {
+                    log.error("Signing at getRefreshTTLMessage failed. That should never happen.");
+                }
+            }
+
+            int numRefreshed = 0;
+            for (List<RefreshOfferMessage> partition : Lists.partition(refreshTTLMessages,
+                    RefreshOffersMessage.MAX_REFRESH_OFFER_MESSAGES)) {
+                numRefreshed += p2PDataStorage.refreshTTL(new RefreshOffersMessage(new ArrayList<>(partition)),
+                        networkNode.getNodeAddress());
+            }
+            return numRefreshed;
+        } else {
+            throw new NetworkNotReadyException();
+        }
+    }
+
     public boolean removeData(ProtectedStoragePayload protectedStoragePayload) {
         if (isBootstrapped()) {
             try {
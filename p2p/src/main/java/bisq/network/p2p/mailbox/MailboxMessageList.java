@@ -17,12 +17,18 @@
 
 package bisq.network.p2p.mailbox;
 
+import bisq.common.persistence.JournalEntry;
+import bisq.common.persistence.JournaledPersistableEnvelope;
 import bisq.common.proto.ProtobufferException;
 import bisq.common.proto.network.NetworkProtoResolver;
 import bisq.common.proto.persistable.PersistableList;
 
 import com.google.protobuf.Message;
 
+import java.nio.charset.StandardCharsets;
+
+import java.io.IOException;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -31,9 +37,17 @@ import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
 @Slf4j
 @EqualsAndHashCode(callSuper = true)
-public class MailboxMessageList extends PersistableList<MailboxItem> {
+public class MailboxMessageList extends PersistableList<MailboxItem> implements JournaledPersistableEnvelope {
+    // Only set if created from the persisted data, required for applying the journal entries
+    @Nullable
+    @EqualsAndHashCode.Exclude
+    private NetworkProtoResolver networkProtoResolver;
 
     public MailboxMessageList() {
         super();
@@ -60,7 +74,7 @@ public class MailboxMessageList extends PersistableList<MailboxItem> {
 
     public static MailboxMessageList fromProto(protobuf.MailboxMessageList proto,
                                                NetworkProtoResolver networkProtoResolver) {
-        return new MailboxMessageList(new ArrayList<>(proto.getMailboxItemList().stream()
+        MailboxMessageList mailboxMessageList = new MailboxMessageList(new ArrayList<>(proto.getMailboxItemList().stream()
                 .map(e -> {
                     try {
                         return MailboxItem.fromProto(e, networkProtoResolver);
@@ -72,5 +86,31 @@ public class MailboxMessageList extends PersistableList<MailboxItem> {
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList())));
+        mailboxMessageList.networkProtoResolver = networkProtoResolver;
+        return mailboxMessageList;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // JournaledPersistableEnvelope
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static JournalEntry toAddedJournalEntry(MailboxItem mailboxItem) {
+        return JournalEntry.put(mailboxItem.getUid().getBytes(StandardCharsets.UTF_8),
+                mailboxItem.toProtoMessage().toByteArray());
+    }
+
+    public static JournalEntry toRemovedJournalEntry(String uid) {
+        return JournalEntry.remove(uid.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void applyJournalEntry(JournalEntry journalEntry) throws IOException {
+        String uid = new String(journalEntry.getKey(), StandardCharsets.UTF_8);
+        getList().removeIf(mailboxItem -> mailboxItem.getUid().equals(uid));
+        if (journalEntry.getType() == JournalEntry.Type.PUT) {
+            add(MailboxItem.fromProto(protobuf.MailboxItem.parseFrom(journalEntry.getValue()),
+                    checkNotNull(networkProtoResolver)));
+        }
     }
 }
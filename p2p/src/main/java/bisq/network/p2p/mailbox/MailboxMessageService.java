@@ -57,6 +57,8 @@ import javax.inject.Singleton;
 import com.google.common.base.Joiner;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 
@@ -70,17 +72,17 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
-import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import org.jetbrains.annotations.NotNull;
@@ -122,6 +124,9 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
     private final KeyRing keyRing;
     private final Clock clock;
     private final boolean republishMailboxEntries;
+    private final int numDecryptionThreads;
+    private final ListeningExecutorService decryptionExecutor;
+    private final ReceiversPubKeyFilter receiversPubKeyFilter;
 
     private final Set<DecryptedMailboxListener> decryptedMailboxListeners = new CopyOnWriteArraySet<>();
     private final MailboxMessageList mailboxMessageList = new MailboxMessageList();
@@ -130,6 +135,14 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
     private boolean isBootstrapped;
     private boolean allServicesInitialized;
     private boolean initAfterBootstrapped;
+    // Number of mailbox entries decrypted per second at the last batch processing
+    @Getter
+    private volatile long decryptedEntriesPerSecond;
+    // Number of mailbox entries since startup which were skipped as they are not addressed to us, which we tried to
+    // decrypt and which we decrypted successfully
+    private final AtomicLong numSkippedEntries = new AtomicLong();
+    private final AtomicLong numDecryptionAttempts = new AtomicLong();
+    private final AtomicLong numDecryptedEntries = new AtomicLong();
 
     @Inject
     public MailboxMessageService(NetworkNode networkNode,
@@ -140,7 +153,8 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
                                  PersistenceManager<MailboxMessageList> persistenceManager,
                                  KeyRing keyRing,
                                  Clock clock,
-                                 @Named(Config.REPUBLISH_MAILBOX_ENTRIES) boolean republishMailboxEntries) {
+                                 @Named(Config.REPUBLISH_MAILBOX_ENTRIES) boolean republishMailboxEntries,
+                                 @Named(Config.MAILBOX_DECRYPTION_THREADS) int mailboxDecryptionThreads) {
         this.networkNode = networkNode;
         this.peerManager = peerManager;
         this.p2PDataStorage = p2PDataStorage;
@@ -150,6 +164,14 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
         this.keyRing = keyRing;
         this.clock = clock;
         this.republishMailboxEntries = republishMailboxEntries;
+        receiversPubKeyFilter = new ReceiversPubKeyFilter(List.of(keyRing.getSignatureKeyPair().getPublic()));
+        numDecryptionThreads = Math.max(1, mailboxDecryptionThreads);
+        // We use an unbounded queue as we might get several batches while the first is still in process
+        decryptionExecutor = Utilities.getListeningExecutorService("MailboxDecryption",
+                numDecryptionThreads,
+                numDecryptionThreads,
+                60,
+                new LinkedBlockingQueue<>());
 
         this.persistenceManager.initialize(mailboxMessageList, PersistenceManager.Source.PRIVATE_LOW_PRIO);
     }
@@ -370,10 +392,26 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
                 .collect(Collectors.toSet());
     }
 
+    public long getNumSkippedEntries() {
+        return numSkippedEntries.get();
+    }
+
+    public long getNumDecryptionAttempts() {
+        return numDecryptionAttempts.get();
+    }
+
+    public long getNumDecryptedEntries() {
+        return numDecryptedEntries.get();
+    }
+
     public void addDecryptedMailboxListener(DecryptedMailboxListener listener) {
         decryptedMailboxListeners.add(listener);
     }
 
+    public void shutDown() {
+        decryptionExecutor.shutdownNow();
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // HashMapChangedListener implementation for ProtectedStorageEntry items
@@ -391,6 +429,9 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
             threadedBatchProcessMailboxEntries(entries);
         } else if (entries.size() == 1) {
             processSingleMailboxEntry(entries);
+            log.debug("Since startup we skipped {} mailbox entries not addressed to us, " +
+                            "tried to decrypt {} entries and decrypted {} entries.",
+                    numSkippedEntries.get(), numDecryptionAttempts.get(), numDecryptedEntries.get());
         }
     }
 
@@ -425,28 +466,37 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
         }
     }
 
-    // We run the batch processing of all mailbox messages we have received at startup in a thread to not block the UI.
-    // For about 1000 messages decryption takes about 1 sec.
+    // We run the batch processing of all mailbox messages we have received at startup in our decryption threads to
+    // not block the UI. For about 1000 messages decryption takes about 1 sec on one thread. We split the entries into
+    // one chunk per thread and apply the results in the order of the entries on the UserThread.
     private void threadedBatchProcessMailboxEntries(Collection<ProtectedMailboxStorageEntry> protectedMailboxStorageEntries) {
         long ts = System.currentTimeMillis();
-        SettableFuture<Set<MailboxItem>> future = SettableFuture.create();
-
-        new Thread(() -> {
-            try {
-                var mailboxItems = getMailboxItems(protectedMailboxStorageEntries);
-                log.info("Batch processing of {} mailbox entries took {} ms",
-                        protectedMailboxStorageEntries.size(),
-                        System.currentTimeMillis() - ts);
-                future.set(mailboxItems);
-
-            } catch (Throwable throwable) {
-                future.setException(throwable);
-            }
-        }, "processMailboxEntry-" + new Random().nextInt(1000)).start();
+        List<ProtectedMailboxStorageEntry> entries = new ArrayList<>(protectedMailboxStorageEntries);
+        int chunkSize = (entries.size() + numDecryptionThreads - 1) / numDecryptionThreads;
+        List<ListenableFuture<List<MailboxItem>>> futures = new ArrayList<>();
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            List<ProtectedMailboxStorageEntry> chunk = entries.subList(from, Math.min(from + chunkSize, entries.size()));
+            futures.add(decryptionExecutor.submit(() -> getMailboxItems(chunk)));
+        }
 
-        Futures.addCallback(future, new FutureCallback<>() {
-            public void onSuccess(Set<MailboxItem> decryptedMailboxMessageWithEntries) {
-                UserThread.execute(() -> decryptedMailboxMessageWithEntries.forEach(e -> handleMailboxItem(e)));
+        Futures.addCallback(Futures.allAsList(futures), new FutureCallback<>() {
+            public void onSuccess(List<List<MailboxItem>> mailboxItemsPerChunk) {
+                long duration = System.currentTimeMillis() - ts;
+                decryptedEntriesPerSecond = entries.size() * 1000L / Math.max(1, duration);
+                log.info("Batch processing of {} mailbox entries in {} chunks took {} ms ({} entries/sec). " +
+                                "Since startup we skipped {} entries not addressed to us, " +
+                                "tried to decrypt {} entries and decrypted {} entries.",
+                        entries.size(),
+                        futures.size(),
+                        duration,
+                        decryptedEntriesPerSecond,
+                        numSkippedEntries.get(),
+                        numDecryptionAttempts.get(),
+                        numDecryptedEntries.get());
+                List<MailboxItem> mailboxItems = mailboxItemsPerChunk.stream()
+                        .flatMap(List::stream)
+                        .collect(Collectors.toList());
+                UserThread.execute(() -> handleMailboxItems(mailboxItems));
             }
 
             public void onFailure(@NotNull Throwable throwable) {
@@ -455,12 +505,10 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
         }, MoreExecutors.directExecutor());
     }
 
-    private Set<MailboxItem> getMailboxItems(Collection<ProtectedMailboxStorageEntry> protectedMailboxStorageEntries) {
-        Set<MailboxItem> mailboxItems = new HashSet<>();
-        protectedMailboxStorageEntries.stream()
+    private List<MailboxItem> getMailboxItems(Collection<ProtectedMailboxStorageEntry> protectedMailboxStorageEntries) {
+        return protectedMailboxStorageEntries.stream()
                 .map(this::tryDecryptProtectedMailboxStorageEntry)
-                .forEach(mailboxItems::add);
-        return mailboxItems;
+                .collect(Collectors.toList());
     }
 
     private MailboxItem tryDecryptProtectedMailboxStorageEntry(ProtectedMailboxStorageEntry protectedMailboxStorageEntry) {
@@ -473,9 +521,17 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
             // We had persisted a past failed decryption attempt on that message so we don't try again and return early
             return new MailboxItem(protectedMailboxStorageEntry, null);
         }
+        if (!receiversPubKeyFilter.isAddressedToUs(protectedMailboxStorageEntry)) {
+            // The receiversPubKey is not ours, so we could not decrypt it anyway. As that check is cheap we do not
+            // persist the uid at the ignoredMailboxService.
+            numSkippedEntries.incrementAndGet();
+            return new MailboxItem(protectedMailboxStorageEntry, null);
+        }
         try {
+            numDecryptionAttempts.incrementAndGet();
             DecryptedMessageWithPubKey decryptedMessageWithPubKey = encryptionService.decryptAndVerify(sealedAndSigned);
             checkArgument(decryptedMessageWithPubKey.getNetworkEnvelope() instanceof MailboxMessage);
+            numDecryptedEntries.incrementAndGet();
             return new MailboxItem(protectedMailboxStorageEntry, decryptedMessageWithPubKey);
         } catch (CryptoException ignore) {
             // Expected if message was not intended for us
@@ -488,16 +544,25 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
         return new MailboxItem(protectedMailboxStorageEntry, null);
     }
 
+    // Used for the batches of the GetDataResponses. We persist the whole list once instead of writing a journal entry
+    // for each new item.
+    private void handleMailboxItems(List<MailboxItem> mailboxItems) {
+        boolean anyAdded = false;
+        for (MailboxItem mailboxItem : mailboxItems) {
+            anyAdded |= addMailboxItem(mailboxItem);
+            if (mailboxItem.isMine()) {
+                processMyMailboxItem(mailboxItem, mailboxItem.getUid());
+            }
+        }
+        if (anyAdded) {
+            persistenceManager.requestPersistence();
+        }
+    }
+
     private void handleMailboxItem(MailboxItem mailboxItem) {
         String uid = mailboxItem.getUid();
-        if (!mailboxItemsByUid.containsKey(uid)) {
-            mailboxItemsByUid.put(uid, mailboxItem);
-            mailboxMessageList.add(mailboxItem);
-            log.trace("## handleMailboxItem uid={}\nhash={}",
-                    uid,
-                    P2PDataStorage.get32ByteHashAsByteArray(mailboxItem.getProtectedMailboxStorageEntry().getProtectedStoragePayload()));
-
-            requestPersistence();
+        if (addMailboxItem(mailboxItem)) {
+            persistenceManager.requestPersistence(() -> MailboxMessageList.toAddedJournalEntry(mailboxItem));
         }
 
         // In case we had the item already stored we still prefer to apply it again to the domain.
@@ -509,6 +574,20 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
         }
     }
 
+    private boolean addMailboxItem(MailboxItem mailboxItem) {
+        String uid = mailboxItem.getUid();
+        if (mailboxItemsByUid.containsKey(uid)) {
+            return false;
+        }
+
+        mailboxItemsByUid.put(uid, mailboxItem);
+        mailboxMessageList.add(mailboxItem);
+        log.trace("## addMailboxItem uid={}\nhash={}",
+                uid,
+                P2PDataStorage.get32ByteHashAsByteArray(mailboxItem.getProtectedMailboxStorageEntry().getProtectedStoragePayload()));
+        return true;
+    }
+
     private void processMyMailboxItem(MailboxItem mailboxItem, String uid) {
         DecryptedMessageWithPubKey decryptedMessageWithPubKey = checkNotNull(mailboxItem.getDecryptedMessageWithPubKey());
         MailboxMessage mailboxMessage = (MailboxMessage) decryptedMessageWithPubKey.getNetworkEnvelope();
@@ -658,7 +737,7 @@ public class MailboxMessageService implements HashMapChangedListener, PersistedD
                 P2PDataStorage.get32ByteHashAsByteArray(mailboxItem.getProtectedMailboxStorageEntry().getProtectedStoragePayload()),
                 mailboxItemsByUid.keySet()
         );
-        requestPersistence();
+        persistenceManager.requestPersistence(() -> MailboxMessageList.toRemovedJournalEntry(uid));
     }
 
     private void requestPersistence() {
@@ -0,0 +1,50 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.mailbox;
+
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.ProtectedMailboxStorageEntry;
+
+import bisq.common.crypto.Sig;
+
+import java.security.PublicKey;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The sender of a mailbox message sets the signature pubKey of the receiver as receiversPubKey of the
+ * ProtectedMailboxStorageEntry, as the receiver needs it for removing the entry. We use it to skip the entries which
+ * are not addressed to us without trying to decrypt them, as that is the case for nearly all mailbox entries.
+ * <p>
+ * Instances are immutable, so they can be used from the decryption threads.
+ */
+final class ReceiversPubKeyFilter {
+    private final Set<P2PDataStorage.ByteArray> ownPubKeys;
+
+    ReceiversPubKeyFilter(Collection<PublicKey> ownPubKeys) {
+        this.ownPubKeys = ownPubKeys.stream()
+                .map(pubKey -> new P2PDataStorage.ByteArray(Sig.getPublicKeyBytes(pubKey)))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    boolean isAddressedToUs(ProtectedMailboxStorageEntry protectedMailboxStorageEntry) {
+        return ownPubKeys.contains(new P2PDataStorage.ByteArray(protectedMailboxStorageEntry.getReceiversPubKeyBytes()));
+    }
+}
@@ -37,6 +37,8 @@ import bisq.common.app.Capabilities;
 import bisq.common.app.HasCapabilities;
 import bisq.common.app.Version;
 import bisq.common.config.Config;
+import bisq.common.metrics.Histogram;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.proto.ProtobufferException;
 import bisq.common.proto.network.NetworkEnvelope;
 import bisq.common.proto.network.NetworkProtoResolver;
@@ -76,6 +78,7 @@ import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 
 import java.lang.ref.WeakReference;
@@ -110,6 +113,11 @@ public class Connection implements HasCapabilities, Runnable, MessageListener {
     private static final int SOCKET_TIMEOUT = (int) TimeUnit.SECONDS.toMillis(240);
     private static final int SHUTDOWN_TIMEOUT = 100;
 
+    private static final Histogram SEND_MESSAGE_DURATION = MetricsRegistry.getDefault().histogram(
+            "bisq_network_send_message_duration_seconds", "Time from sendMessage until the message was written");
+    private static final Histogram RECEIVE_MESSAGE_DURATION = MetricsRegistry.getDefault().histogram(
+            "bisq_network_receive_message_duration_seconds", "Time to read and handle a received message");
+
     public static int getPermittedMessageSize() {
         return PERMITTED_MESSAGE_SIZE;
     }
@@ -232,9 +240,42 @@ public class Connection implements HasCapabilities, Runnable, MessageListener {
         long ts = System.currentTimeMillis();
         log.debug(">> Send networkEnvelope of type: {}", networkEnvelope.getClass().getSimpleName());
 
+        if (!canSendMessage(networkEnvelope)) {
+            return;
+        }
+
+        if (!testCapability(networkEnvelope)) {
+            log.debug("Capability for networkEnvelope is required but not supported");
+            return;
+        }
+
+        doSendMessage(networkEnvelope, ts, () -> protoOutputStream.writeEnvelope(networkEnvelope));
+    }
+
+    // Used for broadcasts where the same envelope is sent to many peers. The caller has to ensure that the
+    // envelope passes the capability check of that connection, as we cannot remove elements from an encoded
+    // BundleOfEnvelopes.
+    void sendMessage(PreEncodedEnvelope preEncodedEnvelope) {
+        long ts = System.currentTimeMillis();
+        NetworkEnvelope networkEnvelope = preEncodedEnvelope.getNetworkEnvelope();
+        log.debug(">> Send pre-encoded networkEnvelope of type: {}", networkEnvelope.getClass().getSimpleName());
+
+        if (!canSendMessage(networkEnvelope)) {
+            return;
+        }
+
+        if (!testCapabilityWithoutUpdate(networkEnvelope)) {
+            log.debug("Capability for networkEnvelope is required but not supported");
+            return;
+        }
+
+        doSendMessage(networkEnvelope, ts, () -> protoOutputStream.writePreEncodedEnvelope(preEncodedEnvelope));
+    }
+
+    private boolean canSendMessage(NetworkEnvelope networkEnvelope) {
         if (stopped) {
             log.debug("called sendMessage but was already stopped");
-            return;
+            return false;
         }
 
         if (banFilter != null &&
@@ -242,14 +283,12 @@ public class Connection implements HasCapabilities, Runnable, MessageListener {
                 banFilter.isPeerBanned(peersNodeAddressOptional.get())) {
             log.warn("We tried to send a message to a banned peer. message={}", networkEnvelope.getClass().getSimpleName());
             reportInvalidRequest(RuleViolation.PEER_BANNED);
-            return;
+            return false;
         }
+        return true;
+    }
 
-        if (!testCapability(networkEnvelope)) {
-            log.debug("Capability for networkEnvelope is required but not supported");
-            return;
-        }
-        int networkEnvelopeSize = networkEnvelope.toProtoNetworkEnvelope().getSerializedSize();
+    private void doSendMessage(NetworkEnvelope networkEnvelope, long ts, IntSupplier writeEnvelope) {
         try {
             // Throttle outbound network_messages
             long now = System.currentTimeMillis();
@@ -266,9 +305,12 @@ public class Connection implements HasCapabilities, Runnable, MessageListener {
             lastSendTimeStamp = now;
 
             if (!stopped) {
-                protoOutputStream.writeEnvelope(networkEnvelope);
+                // The size is returned by the write, so we do not need to serialize the envelope a second time
+                int networkEnvelopeSize = writeEnvelope.getAsInt();
                 UserThread.execute(() -> messageListeners.forEach(e -> e.onMessageSent(networkEnvelope, this)));
-                UserThread.execute(() -> connectionStatistics.addSendMsgMetrics(System.currentTimeMillis() - ts, networkEnvelopeSize));
+                long duration = System.currentTimeMillis() - ts;
+                SEND_MESSAGE_DURATION.observeMillis(duration);
+                UserThread.execute(() -> connectionStatistics.addSendMsgMetrics(duration, networkEnvelopeSize));
             }
         } catch (Throwable t) {
             handleException(t);
@@ -290,6 +332,19 @@ public class Connection implements HasCapabilities, Runnable, MessageListener {
                 .orElse(true);
     }
 
+    // Same as testCapability but instead of removing the failing elements of a BundleOfEnvelopes we reject the
+    // whole bundle
+    private boolean testCapabilityWithoutUpdate(NetworkEnvelope networkEnvelope) {
+        if (networkEnvelope instanceof BundleOfEnvelopes) {
+            List<NetworkEnvelope> envelopes = ((BundleOfEnvelopes) networkEnvelope).getEnvelopes();
+            return !envelopes.isEmpty() && envelopes.stream().allMatch(this::testCapabilityWithoutUpdate);
+        }
+
+        return extractCapabilityRequiringPayload(networkEnvelope)
+                .map(this::testCapability)
+                .orElse(true);
+    }
+
     private boolean testCapability(CapabilityRequiringPayload capabilityRequiringPayload) {
         boolean result = capabilities.containsAll(capabilityRequiringPayload.getRequiredCapabilities());
         if (!result) {
@@ -851,7 +906,9 @@ public class Connection implements HasCapabilities, Runnable, MessageListener {
                         }
 
                         onMessage(networkEnvelope, this);
-                        UserThread.execute(() -> connectionStatistics.addReceivedMsgMetrics(System.currentTimeMillis() - ts, size));
+                        long duration = System.currentTimeMillis() - ts;
+                        RECEIVE_MESSAGE_DURATION.observeMillis(duration);
+                        UserThread.execute(() -> connectionStatistics.addReceivedMsgMetrics(duration, size));
                     }
                 } catch (InvalidClassException e) {
                     log.error(e.getMessage());
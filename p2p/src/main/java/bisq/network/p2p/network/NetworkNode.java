@@ -290,13 +290,30 @@ public abstract class NetworkNode implements MessageListener, Socks5ProxyInterna
     public SettableFuture<Connection> sendMessage(Connection connection,
                                                   NetworkEnvelope networkEnvelope,
                                                   ListeningExecutorService executor) {
+        return sendMessage(connection, () -> connection.sendMessage(networkEnvelope), executor);
+    }
+
+    public SettableFuture<Connection> sendMessage(Connection connection, PreEncodedEnvelope preEncodedEnvelope) {
+        return sendMessage(connection, preEncodedEnvelope, sendMessageExecutor);
+    }
+
+    // The preEncodedEnvelope is serialized only once, even if it is sent to many connections
+    public SettableFuture<Connection> sendMessage(Connection connection,
+                                                  PreEncodedEnvelope preEncodedEnvelope,
+                                                  ListeningExecutorService executor) {
+        return sendMessage(connection, () -> connection.sendMessage(preEncodedEnvelope), executor);
+    }
+
+    private SettableFuture<Connection> sendMessage(Connection connection,
+                                                   Runnable sendMessageHandler,
+                                                   ListeningExecutorService executor) {
         SettableFuture<Connection> resultFuture = SettableFuture.create();
         try {
             ListenableFuture<Connection> future = executor.submit(() -> {
                 String id = connection.getPeersNodeAddressOptional().isPresent() ? connection.getPeersNodeAddressOptional().get().getFullAddress() : connection.getUid();
                 Thread.currentThread().setName("NetworkNode:SendMessage-to-" + Utilities.toTruncatedString(id, 15));
 
-                connection.sendMessage(networkEnvelope);
+                sendMessageHandler.run();
                 return connection;
             });
 
@@ -0,0 +1,110 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.network;
+
+import bisq.common.proto.network.NetworkEnvelope;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import lombok.Getter;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Holds a network envelope together with its length delimited protobuf encoding, so that the same envelope can be
+ * sent to many peers but is serialized only once. The encoding is created lazily by the first connection which
+ * writes the envelope, so it happens at the send message thread and not at the UserThread.
+ * <p>
+ * The envelope must not be changed after the PreEncodedEnvelope has been created.
+ */
+@ThreadSafe
+public final class PreEncodedEnvelope {
+
+    /**
+     * Allows to provide a custom encoding, e.g. one built from cached encodings of the elements of the envelope.
+     */
+    public interface Encoder {
+        // Must return a length delimited encoding of the envelope like protobuf.NetworkEnvelope.writeDelimitedTo
+        byte[] encodeDelimited(NetworkEnvelope networkEnvelope);
+    }
+
+    @Getter
+    private final NetworkEnvelope networkEnvelope;
+    private final Encoder encoder;
+    private byte[] delimitedBytes;
+    private int serializedSize;
+
+    public PreEncodedEnvelope(NetworkEnvelope networkEnvelope) {
+        this(networkEnvelope, PreEncodedEnvelope::encodeDelimited);
+    }
+
+    public PreEncodedEnvelope(NetworkEnvelope networkEnvelope, Encoder encoder) {
+        this.networkEnvelope = networkEnvelope;
+        this.encoder = encoder;
+    }
+
+    // Size of the protobuf message without the length prefix, same as protobuf.NetworkEnvelope.getSerializedSize()
+    public synchronized int getSerializedSize() {
+        encodeIfNeeded();
+        return serializedSize;
+    }
+
+    // Writes the same bytes as protobuf.NetworkEnvelope.writeDelimitedTo
+    public void writeDelimitedTo(OutputStream outputStream) throws IOException {
+        outputStream.write(getDelimitedBytes());
+    }
+
+    private synchronized byte[] getDelimitedBytes() {
+        encodeIfNeeded();
+        return delimitedBytes;
+    }
+
+    private void encodeIfNeeded() {
+        if (delimitedBytes != null) {
+            return;
+        }
+
+        byte[] bytes = encoder.encodeDelimited(networkEnvelope);
+        try {
+            serializedSize = CodedInputStream.newInstance(bytes).readRawVarint32();
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid encoding of " + networkEnvelope.getClass().getSimpleName(), e);
+        }
+        delimitedBytes = bytes;
+    }
+
+    private static byte[] encodeDelimited(NetworkEnvelope networkEnvelope) {
+        protobuf.NetworkEnvelope proto = networkEnvelope.toProtoNetworkEnvelope();
+        int size = proto.getSerializedSize();
+        byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(size) + size];
+        CodedOutputStream codedOutputStream = CodedOutputStream.newInstance(bytes);
+        try {
+            codedOutputStream.writeUInt32NoTag(size);
+            proto.writeTo(codedOutputStream);
+            codedOutputStream.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // Cannot happen as we write into a byte array of the exact size
+            throw new IllegalStateException("Encoding of " + networkEnvelope.getClass().getSimpleName() + " failed", e);
+        }
+        return bytes;
+    }
+}
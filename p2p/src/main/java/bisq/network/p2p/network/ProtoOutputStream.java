@@ -49,23 +49,29 @@ class ProtoOutputStream {
         this.statistic = statistic;
     }
 
-    void writeEnvelope(NetworkEnvelope envelope) {
-        lock.lock();
-
-        try {
-            writeEnvelopeOrThrow(envelope);
-        } catch (IOException e) {
-            if (!isConnectionActive.get()) {
-                // Connection was closed by us.
-                return;
-            }
-
-            log.error("Failed to write envelope", e);
-            throw new BisqRuntimeException("Failed to write envelope", e);
+    /**
+     * @return the serialized size of the envelope or 0 if the connection was already closed by us
+     */
+    int writeEnvelope(NetworkEnvelope envelope) {
+        return write(envelope, () -> {
+            protobuf.NetworkEnvelope proto = envelope.toProtoNetworkEnvelope();
+            proto.writeDelimitedTo(outputStream);
+            return proto.getSerializedSize();
+        });
+    }
 
-        } finally {
-            lock.unlock();
-        }
+    /**
+     * Writes the already encoded bytes, so sending the same envelope to many peers serializes it only once.
+     *
+     * @return the serialized size of the envelope or 0 if the connection was already closed by us
+     */
+    int writePreEncodedEnvelope(PreEncodedEnvelope preEncodedEnvelope) {
+        // We trigger the encoding before we acquire the lock
+        int serializedSize = preEncodedEnvelope.getSerializedSize();
+        return write(preEncodedEnvelope.getNetworkEnvelope(), () -> {
+            preEncodedEnvelope.writeDelimitedTo(outputStream);
+            return serializedSize;
+        });
     }
 
     void onConnectionShutdown() {
@@ -86,21 +92,40 @@ class ProtoOutputStream {
         }
     }
 
-    private void writeEnvelopeOrThrow(NetworkEnvelope envelope) throws IOException {
+    private int write(NetworkEnvelope envelope, EnvelopeWriter envelopeWriter) {
+        lock.lock();
+
+        try {
+            return writeEnvelopeOrThrow(envelope, envelopeWriter);
+        } catch (IOException e) {
+            if (!isConnectionActive.get()) {
+                // Connection was closed by us.
+                return 0;
+            }
+
+            log.error("Failed to write envelope", e);
+            throw new BisqRuntimeException("Failed to write envelope", e);
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int writeEnvelopeOrThrow(NetworkEnvelope envelope, EnvelopeWriter envelopeWriter) throws IOException {
         long ts = System.currentTimeMillis();
-        protobuf.NetworkEnvelope proto = envelope.toProtoNetworkEnvelope();
-        proto.writeDelimitedTo(outputStream);
+        int serializedSize = envelopeWriter.write();
         outputStream.flush();
         long duration = System.currentTimeMillis() - ts;
         if (duration > 10000) {
             log.info("Sending {} to peer took {} sec.", envelope.getClass().getSimpleName(), duration / 1000d);
         }
-        statistic.addSentBytes(proto.getSerializedSize());
+        statistic.addSentBytes(serializedSize);
         statistic.addSentMessage(envelope);
 
         if (!(envelope instanceof KeepAliveMessage)) {
             statistic.updateLastActivityTimestamp();
         }
+        return serializedSize;
     }
 
     private boolean tryToAcquireLock() {
@@ -111,4 +136,9 @@ class ProtoOutputStream {
             return false;
         }
     }
+
+    private interface EnvelopeWriter {
+        // Writes the length delimited envelope and returns its serialized size
+        int write() throws IOException;
+    }
 }
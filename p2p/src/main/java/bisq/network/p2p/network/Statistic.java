@@ -18,6 +18,8 @@
 package bisq.network.p2p.network;
 
 import bisq.common.UserThread;
+import bisq.common.metrics.Counter;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.proto.network.NetworkEnvelope;
 import bisq.common.util.Utilities;
 
@@ -30,6 +32,7 @@ import javafx.beans.property.SimpleLongProperty;
 
 import java.util.Date;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -38,6 +41,9 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Network statistics per connection. As we are also interested in total network statistics
  * we use static properties to get traffic of all connections combined.
+ * <p>
+ * The totals are counted in lock-free counters of the {@link MetricsRegistry}, so the network threads do not need to
+ * go through the UserThread for each message. The static properties are updated from the counters once per second.
  */
 @Slf4j
 public class Statistic {
@@ -48,12 +54,17 @@ public class Statistic {
 
 
     private final static long startTime = System.currentTimeMillis();
+    private final static Counter totalSentBytesCounter = MetricsRegistry.getDefault().counter(
+            "bisq_network_sent_bytes_total", "Bytes sent to all peers");
+    private final static Counter totalReceivedBytesCounter = MetricsRegistry.getDefault().counter(
+            "bisq_network_received_bytes_total", "Bytes received from all peers");
+    // Counters by message class name
+    private final static Map<String, Counter> totalSentMessages = new ConcurrentHashMap<>();
+    private final static Map<String, Counter> totalReceivedMessages = new ConcurrentHashMap<>();
     private final static LongProperty totalSentBytes = new SimpleLongProperty(0);
     private final static DoubleProperty totalSentBytesPerSec = new SimpleDoubleProperty(0);
     private final static LongProperty totalReceivedBytes = new SimpleLongProperty(0);
     private final static DoubleProperty totalReceivedBytesPerSec = new SimpleDoubleProperty(0);
-    private final static Map<String, Integer> totalReceivedMessages = new ConcurrentHashMap<>();
-    private final static Map<String, Integer> totalSentMessages = new ConcurrentHashMap<>();
     private final static LongProperty numTotalSentMessages = new SimpleLongProperty(0);
     private final static DoubleProperty numTotalSentMessagesPerSec = new SimpleDoubleProperty(0);
     private final static LongProperty numTotalReceivedMessages = new SimpleLongProperty(0);
@@ -61,8 +72,10 @@ public class Statistic {
 
     static {
         UserThread.runPeriodically(() -> {
-            numTotalSentMessages.set(totalSentMessages.values().stream().mapToInt(Integer::intValue).sum());
-            numTotalReceivedMessages.set(totalReceivedMessages.values().stream().mapToInt(Integer::intValue).sum());
+            totalSentBytes.set(totalSentBytesCounter.get());
+            totalReceivedBytes.set(totalReceivedBytesCounter.get());
+            numTotalSentMessages.set(totalSentMessages.values().stream().mapToLong(Counter::get).sum());
+            numTotalReceivedMessages.set(totalReceivedMessages.values().stream().mapToLong(Counter::get).sum());
 
             long passed = (System.currentTimeMillis() - startTime) / 1000;
             numTotalSentMessagesPerSec.set(((double) numTotalSentMessages.get()) / passed);
@@ -83,14 +96,28 @@ public class Statistic {
                             "Number of received messages/Received messages: {} / {};" + ls +
                             "Number of received messages per sec: {}" + ls,
                     Utilities.readableFileSize(totalSentBytes.get()),
-                    numTotalSentMessages.get(), totalSentMessages,
+                    numTotalSentMessages.get(), getCounts(totalSentMessages),
                     numTotalSentMessagesPerSec.get(),
                     Utilities.readableFileSize(totalReceivedBytes.get()),
-                    numTotalReceivedMessages.get(), totalReceivedMessages,
+                    numTotalReceivedMessages.get(), getCounts(totalReceivedMessages),
                     numTotalReceivedMessagesPerSec.get());
         }, TimeUnit.MINUTES.toSeconds(60));
     }
 
+    private static Map<String, Long> getCounts(Map<String, Counter> countersByMessage) {
+        Map<String, Long> counts = new TreeMap<>();
+        countersByMessage.forEach((messageClassName, counter) -> counts.put(messageClassName, counter.get()));
+        return counts;
+    }
+
+    private static Counter getMessageCounter(Map<String, Counter> countersByMessage,
+                                             String messageClassName,
+                                             String name,
+                                             String help) {
+        return countersByMessage.computeIfAbsent(messageClassName,
+                key -> MetricsRegistry.getDefault().counter(name, help, "message", messageClassName));
+    }
+
     public static LongProperty totalSentBytesProperty() {
         return totalSentBytes;
     }
@@ -154,48 +181,28 @@ public class Statistic {
     }
 
     void addSentBytes(int value) {
-        UserThread.execute(() -> {
-            sentBytes.set(sentBytes.get() + value);
-            totalSentBytes.set(totalSentBytes.get() + value);
-        });
+        totalSentBytesCounter.add(value);
+        UserThread.execute(() -> sentBytes.set(sentBytes.get() + value));
     }
 
     void addReceivedBytes(int value) {
-        UserThread.execute(() -> {
-            receivedBytes.set(receivedBytes.get() + value);
-            totalReceivedBytes.set(totalReceivedBytes.get() + value);
-        });
+        totalReceivedBytesCounter.add(value);
+        UserThread.execute(() -> receivedBytes.set(receivedBytes.get() + value));
     }
 
     // TODO would need msg inspection to get useful information...
     void addReceivedMessage(NetworkEnvelope networkEnvelope) {
         String messageClassName = networkEnvelope.getClass().getSimpleName();
-        int counter = 1;
-        if (receivedMessages.containsKey(messageClassName)) {
-            counter = receivedMessages.get(messageClassName) + 1;
-        }
-        receivedMessages.put(messageClassName, counter);
-
-        counter = 1;
-        if (totalReceivedMessages.containsKey(messageClassName)) {
-            counter = totalReceivedMessages.get(messageClassName) + 1;
-        }
-        totalReceivedMessages.put(messageClassName, counter);
+        receivedMessages.merge(messageClassName, 1, Integer::sum);
+        getMessageCounter(totalReceivedMessages, messageClassName,
+                "bisq_network_received_messages_total", "Messages received from all peers").inc();
     }
 
     void addSentMessage(NetworkEnvelope networkEnvelope) {
         String messageClassName = networkEnvelope.getClass().getSimpleName();
-        int counter = 1;
-        if (sentMessages.containsKey(messageClassName)) {
-            counter = sentMessages.get(messageClassName) + 1;
-        }
-        sentMessages.put(messageClassName, counter);
-
-        counter = 1;
-        if (totalSentMessages.containsKey(messageClassName)) {
-            counter = totalSentMessages.get(messageClassName) + 1;
-        }
-        totalSentMessages.put(messageClassName, counter);
+        sentMessages.merge(messageClassName, 1, Integer::sum);
+        getMessageCounter(totalSentMessages, messageClassName,
+                "bisq_network_sent_messages_total", "Messages sent to all peers").inc();
     }
 
     public void setRoundTripTime(int roundTripTime) {
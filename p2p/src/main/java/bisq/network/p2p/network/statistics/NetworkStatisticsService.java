@@ -17,11 +17,15 @@
 
 package bisq.network.p2p.network.statistics;
 
+import bisq.common.metrics.Counter;
+import bisq.common.metrics.MetricsRegistry;
+import bisq.common.proto.network.NetworkEnvelope;
 import bisq.common.util.Utilities;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -45,11 +49,35 @@ public class NetworkStatisticsService {
     private final ConnectionStatsAccumulator connectionStatsAccumulator =
             new ConnectionStatsAccumulator(allConnectionStatistics);
 
-    private final Map<String, Integer> totalSentMessages = new HashMap<>();
-    private final Map<String, Integer> totalReceivedMessages = new HashMap<>();
+    // Counters by message class name. They are the labelled counters of the MetricsRegistry, so the totals are exported
+    // on the metrics endpoint. The counts by connection are kept in the ConnectionStatistics.
+    private final Map<String, Counter> totalSentMessages = new ConcurrentHashMap<>();
+    private final Map<String, Counter> totalReceivedMessages = new ConcurrentHashMap<>();
+    private final ConnectionStatistics.Listener messageCounter = new ConnectionStatistics.Listener() {
+        @Override
+        public void onNewSentBytes(long numberOfNewBytes) {
+        }
+
+        @Override
+        public void onNewReceivedBytes(long numberOfNewBytes) {
+        }
+
+        @Override
+        public void onAddSentMessage(NetworkEnvelope networkEnvelope) {
+            getMessageCounter(totalSentMessages, networkEnvelope,
+                    "bisq_network_sent_messages_total", "Messages sent to all peers").inc();
+        }
+
+        @Override
+        public void onAddReceivedMessage(NetworkEnvelope networkEnvelope) {
+            getMessageCounter(totalReceivedMessages, networkEnvelope,
+                    "bisq_network_received_messages_total", "Messages received from all peers").inc();
+        }
+    };
 
     public ConnectionStatistics newConnectionStatistics() {
         var connectionStatistics = new ConnectionStatistics();
+        connectionStatistics.addListener(messageCounter);
         allConnectionStatistics.add(connectionStatistics);
         return connectionStatistics;
     }
@@ -88,11 +116,26 @@ public class NetworkStatisticsService {
                             "Number of received messages/Received messages: {} / {};" + ls +
                             "Number of received messages per sec: {}" + ls,
                     Utilities.readableFileSize(allStats.getTotalSentBytes()),
-                    allStats.getTotalSentMessages(), totalSentMessages,
+                    allStats.getTotalSentMessages(), getCounts(totalSentMessages),
                     allStats.getTotalSentMessagesPerSec(),
                     Utilities.readableFileSize(allStats.getTotalReceivedBytes()),
-                    allStats.getTotalReceivedMessages(), totalReceivedMessages,
+                    allStats.getTotalReceivedMessages(), getCounts(totalReceivedMessages),
                     allStats.getTotalReceivedMessagesPerSec());
         };
     }
+
+    private static Counter getMessageCounter(Map<String, Counter> countersByMessage,
+                                             NetworkEnvelope networkEnvelope,
+                                             String name,
+                                             String help) {
+        String messageClassName = networkEnvelope.getClass().getSimpleName();
+        return countersByMessage.computeIfAbsent(messageClassName,
+                key -> MetricsRegistry.getDefault().counter(name, help, "message", messageClassName));
+    }
+
+    private static Map<String, Long> getCounts(Map<String, Counter> countersByMessage) {
+        Map<String, Long> counts = new TreeMap<>();
+        countersByMessage.forEach((messageClassName, counter) -> counts.put(messageClassName, counter.get()));
+        return counts;
+    }
 }
@@ -21,10 +21,16 @@ import bisq.network.p2p.BundleOfEnvelopes;
 import bisq.network.p2p.NodeAddress;
 import bisq.network.p2p.network.Connection;
 import bisq.network.p2p.network.NetworkNode;
+import bisq.network.p2p.network.PreEncodedEnvelope;
 import bisq.network.p2p.storage.messages.BroadcastMessage;
+import bisq.network.p2p.storage.messages.RefreshOffersMessage;
 
 import bisq.common.Timer;
 import bisq.common.UserThread;
+import bisq.common.app.Capability;
+import bisq.common.metrics.Counter;
+import bisq.common.metrics.Histogram;
+import bisq.common.metrics.MetricsRegistry;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -33,8 +39,11 @@ import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -54,6 +63,16 @@ import org.jetbrains.annotations.Nullable;
 public class BroadcastHandler implements PeerManager.Listener {
     private static final long BASE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis(120);
 
+    private static final Counter BROADCASTS = MetricsRegistry.getDefault().counter(
+            "bisq_p2p_broadcasts_total", "Broadcasts of a batch of BroadcastMessages");
+    private static final Counter COMPLETED_PEER_SENDS = MetricsRegistry.getDefault().counter(
+            "bisq_p2p_broadcast_peer_sends_total", "Broadcast messages sent to a peer by result", "result", "completed");
+    private static final Counter FAILED_PEER_SENDS = MetricsRegistry.getDefault().counter(
+            "bisq_p2p_broadcast_peer_sends_total", "Broadcast messages sent to a peer by result", "result", "failed");
+    private static final Histogram BROADCAST_DURATION = MetricsRegistry.getDefault().histogram(
+            "bisq_p2p_broadcast_duration_seconds", "Time from the start of a broadcast until it is completed",
+            new double[]{0.1, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300});
+
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Listener
@@ -87,6 +106,12 @@ public class BroadcastHandler implements PeerManager.Listener {
     @Nullable
     private Timer timeoutTimer;
     private final Set<SettableFuture<Connection>> sendMessageFutures = new CopyOnWriteArraySet<>();
+    // Most peers get the same list of broadcast requests, so we encode the message only once for each distinct
+    // list. The key is the set of indices of the requests in the list of broadcastRequests. An additional bit at
+    // the index broadcastRequests.size() is set if RefreshOffersMessages get expanded for the peer.
+    // Only accessed from the UserThread.
+    private final Map<BitSet, PreEncodedEnvelope> preEncodedEnvelopes = new HashMap<>();
+    private long startTs;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -114,6 +139,8 @@ public class BroadcastHandler implements PeerManager.Listener {
             return;
         }
 
+        BROADCASTS.inc();
+        startTs = System.currentTimeMillis();
         List<Connection> confirmedConnections = new ArrayList<>(networkNode.getConfirmedConnections());
         Collections.shuffle(confirmedConnections);
 
@@ -173,7 +200,7 @@ public class BroadcastHandler implements PeerManager.Listener {
                 }
 
                 try {
-                    sendToPeer(connection, broadcastRequestsForConnection, executor);
+                    sendToPeer(connection, broadcastRequests, broadcastRequestsForConnection, executor);
                 } catch (RejectedExecutionException e) {
                     log.error("RejectedExecutionException at broadcast ", e);
                     cleanup();
@@ -249,27 +276,33 @@ public class BroadcastHandler implements PeerManager.Listener {
     }
 
     // We exclude the requests containing a message we received from that connection
-    // Also we filter out messages which requires a capability but peer does not support it.
+    // Also we filter out messages which requires a capability but peer does not support it. RefreshOffersMessages
+    // are kept as we send the contained RefreshOfferMessages to peers not supporting them.
     private List<Broadcaster.BroadcastRequest> getBroadcastRequestsForConnection(Connection connection,
                                                                                  List<Broadcaster.BroadcastRequest> broadcastRequests) {
         return broadcastRequests.stream()
                 .filter(broadcastRequest -> !connection.getPeersNodeAddressOptional().isPresent() ||
                         !connection.getPeersNodeAddressOptional().get().equals(broadcastRequest.getSender()))
-                .filter(broadcastRequest -> connection.testCapability(broadcastRequest.getMessage()))
+                .filter(broadcastRequest -> broadcastRequest.getMessage() instanceof RefreshOffersMessage ||
+                        connection.testCapability(broadcastRequest.getMessage()))
                 .collect(Collectors.toList());
     }
 
     private void sendToPeer(Connection connection,
+                            List<Broadcaster.BroadcastRequest> broadcastRequests,
                             List<Broadcaster.BroadcastRequest> broadcastRequestsForConnection,
                             ListeningExecutorService executor) {
-        // Can be BundleOfEnvelopes or a single BroadcastMessage
-        BroadcastMessage broadcastMessage = getMessage(broadcastRequestsForConnection);
-        SettableFuture<Connection> future = networkNode.sendMessage(connection, broadcastMessage, executor);
+        boolean expandRefreshOffersMessages = !connection.getCapabilities().contains(Capability.BULK_REFRESH_OFFERS);
+        PreEncodedEnvelope preEncodedEnvelope = getPreEncodedEnvelope(broadcastRequests,
+                broadcastRequestsForConnection,
+                expandRefreshOffersMessages);
+        SettableFuture<Connection> future = networkNode.sendMessage(connection, preEncodedEnvelope, executor);
         sendMessageFutures.add(future);
         Futures.addCallback(future, new FutureCallback<>() {
             @Override
             public void onSuccess(Connection connection) {
                 numOfCompletedBroadcasts.incrementAndGet();
+                COMPLETED_PEER_SENDS.inc();
 
                 if (stopped.get()) {
                     return;
@@ -283,6 +316,7 @@ public class BroadcastHandler implements PeerManager.Listener {
             public void onFailure(@NotNull Throwable throwable) {
                 log.warn("Broadcast to " + connection.getPeersNodeAddressOptional() + " failed. ", throwable);
                 numOfFailedBroadcasts.incrementAndGet();
+                FAILED_PEER_SENDS.inc();
 
                 if (stopped.get()) {
                     return;
@@ -294,14 +328,46 @@ public class BroadcastHandler implements PeerManager.Listener {
         }, MoreExecutors.directExecutor());
     }
 
-    private BroadcastMessage getMessage(List<Broadcaster.BroadcastRequest> broadcastRequests) {
-        if (broadcastRequests.size() == 1) {
+    private PreEncodedEnvelope getPreEncodedEnvelope(List<Broadcaster.BroadcastRequest> broadcastRequests,
+                                                     List<Broadcaster.BroadcastRequest> broadcastRequestsForConnection,
+                                                     boolean expandRefreshOffersMessages) {
+        // broadcastRequestsForConnection is a filtered list of broadcastRequests with the same order
+        BitSet key = new BitSet(broadcastRequests.size() + 1);
+        int index = 0;
+        boolean containsRefreshOffersMessage = false;
+        for (Broadcaster.BroadcastRequest broadcastRequest : broadcastRequestsForConnection) {
+            while (broadcastRequests.get(index) != broadcastRequest) {
+                index++;
+            }
+            key.set(index++);
+            containsRefreshOffersMessage |= broadcastRequest.getMessage() instanceof RefreshOffersMessage;
+        }
+        boolean expand = expandRefreshOffersMessages && containsRefreshOffersMessage;
+        if (expand) {
+            key.set(broadcastRequests.size());
+        }
+        // Can be BundleOfEnvelopes or a single BroadcastMessage. The encoding is done at the first send.
+        return preEncodedEnvelopes.computeIfAbsent(key,
+                k -> new PreEncodedEnvelope(getMessage(broadcastRequestsForConnection, expand)));
+    }
+
+    private BroadcastMessage getMessage(List<Broadcaster.BroadcastRequest> broadcastRequests,
+                                        boolean expandRefreshOffersMessages) {
+        List<BroadcastMessage> messages = new ArrayList<>();
+        broadcastRequests.forEach(broadcastRequest -> {
+            BroadcastMessage message = broadcastRequest.getMessage();
+            if (expandRefreshOffersMessages && message instanceof RefreshOffersMessage) {
+                messages.addAll(((RefreshOffersMessage) message).getRefreshOfferMessages());
+            } else {
+                messages.add(message);
+            }
+        });
+
+        if (messages.size() == 1) {
             // If we only have 1 message we avoid the overhead of the BundleOfEnvelopes and send the message directly
-            return broadcastRequests.get(0).getMessage();
+            return messages.get(0);
         } else {
-            return new BundleOfEnvelopes(broadcastRequests.stream()
-                    .map(Broadcaster.BroadcastRequest::getMessage)
-                    .collect(Collectors.toList()));
+            return new BundleOfEnvelopes(new ArrayList<>(messages));
         }
     }
 
@@ -344,6 +410,10 @@ public class BroadcastHandler implements PeerManager.Listener {
 
         stopped.set(true);
 
+        if (startTs > 0) {
+            BROADCAST_DURATION.observeMillis(System.currentTimeMillis() - startTs);
+        }
+
         if (timeoutTimer != null) {
             timeoutTimer.stop();
             timeoutTimer = null;
@@ -353,6 +423,7 @@ public class BroadcastHandler implements PeerManager.Listener {
                 .filter(future -> !future.isCancelled() && !future.isDone())
                 .forEach(future -> future.cancel(true));
         sendMessageFutures.clear();
+        preEncodedEnvelopes.clear();
 
         peerManager.removeListener(this);
         resultHandler.onCompleted(this);
@@ -20,12 +20,16 @@ package bisq.network.p2p.peers.getdata;
 import bisq.network.p2p.network.CloseConnectionReason;
 import bisq.network.p2p.network.Connection;
 import bisq.network.p2p.network.NetworkNode;
+import bisq.network.p2p.network.PreEncodedEnvelope;
 import bisq.network.p2p.peers.getdata.messages.GetDataRequest;
 import bisq.network.p2p.peers.getdata.messages.GetDataResponse;
 import bisq.network.p2p.storage.P2PDataStorage;
 
 import bisq.common.Timer;
 import bisq.common.UserThread;
+import bisq.common.metrics.Counter;
+import bisq.common.metrics.Histogram;
+import bisq.common.metrics.MetricsRegistry;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -39,12 +43,19 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.jetbrains.annotations.NotNull;
 
+import javax.annotation.Nullable;
+
 @Slf4j
 public class GetDataRequestHandler {
     private static final long TIMEOUT = 240;
 
     private static final int MAX_ENTRIES = 20_000; // Tradestatistics are about 20 000 in 2 months.
 
+    private static final Counter GET_DATA_REQUESTS = MetricsRegistry.getDefault().counter(
+            "bisq_p2p_get_data_requests_total", "GetDataRequests handled");
+    private static final Histogram BUILD_RESPONSE_DURATION = MetricsRegistry.getDefault().histogram(
+            "bisq_p2p_get_data_response_build_duration_seconds", "Time to build a GetDataResponse");
+
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Listener
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -63,6 +74,8 @@ public class GetDataRequestHandler {
     private final NetworkNode networkNode;
     private final P2PDataStorage dataStorage;
     private final Listener listener;
+    @Nullable
+    private final GetDataResponseCache getDataResponseCache;
     private Timer timeoutTimer;
     private boolean stopped;
 
@@ -72,9 +85,17 @@ public class GetDataRequestHandler {
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public GetDataRequestHandler(NetworkNode networkNode, P2PDataStorage dataStorage, Listener listener) {
+        this(networkNode, dataStorage, listener, null);
+    }
+
+    GetDataRequestHandler(NetworkNode networkNode,
+                          P2PDataStorage dataStorage,
+                          Listener listener,
+                          @Nullable GetDataResponseCache getDataResponseCache) {
         this.networkNode = networkNode;
         this.dataStorage = dataStorage;
         this.listener = listener;
+        this.getDataResponseCache = getDataResponseCache;
     }
 
 
@@ -84,18 +105,27 @@ public class GetDataRequestHandler {
 
     public void handle(GetDataRequest getDataRequest, final Connection connection) {
         long ts = System.currentTimeMillis();
+        GET_DATA_REQUESTS.inc();
         String connectionInfo = "connectionInfo" + connection.getPeersNodeAddressOptional()
                 .map(e -> "node address " + e.getFullAddress())
                 .orElseGet(() -> "connection UID " + connection.getUid());
 
         AtomicBoolean wasPersistableNetworkPayloadsTruncated = new AtomicBoolean(false);
         AtomicBoolean wasProtectedStorageEntriesTruncated = new AtomicBoolean(false);
-        GetDataResponse getDataResponse = dataStorage.buildGetDataResponse(
-                getDataRequest,
-                MAX_ENTRIES,
-                wasPersistableNetworkPayloadsTruncated,
-                wasProtectedStorageEntriesTruncated,
-                connection.getCapabilities());
+        GetDataResponse getDataResponse = getDataResponseCache != null ?
+                getDataResponseCache.buildGetDataResponse(
+                        getDataRequest,
+                        MAX_ENTRIES,
+                        wasPersistableNetworkPayloadsTruncated,
+                        wasProtectedStorageEntriesTruncated,
+                        connection.getCapabilities()) :
+                dataStorage.buildGetDataResponse(
+                        getDataRequest,
+                        MAX_ENTRIES,
+                        wasPersistableNetworkPayloadsTruncated,
+                        wasProtectedStorageEntriesTruncated,
+                        connection.getCapabilities());
+        BUILD_RESPONSE_DURATION.observeMillis(System.currentTimeMillis() - ts);
 
         if (wasPersistableNetworkPayloadsTruncated.get()) {
             log.info("The getDataResponse for peer {} got truncated.", connectionInfo);
@@ -119,14 +149,18 @@ public class GetDataRequestHandler {
                     TIMEOUT, TimeUnit.SECONDS);
         }
 
-        SettableFuture<Connection> future = networkNode.sendMessage(connection, getDataResponse);
+        // The response can be several MB, so we make sure it gets serialized only once
+        PreEncodedEnvelope preEncodedEnvelope = getDataResponseCache != null ?
+                getDataResponseCache.toPreEncodedEnvelope(getDataResponse) :
+                new PreEncodedEnvelope(getDataResponse);
+        SettableFuture<Connection> future = networkNode.sendMessage(connection, preEncodedEnvelope);
         Futures.addCallback(future, new FutureCallback<>() {
             @Override
             public void onSuccess(Connection connection) {
                 if (!stopped) {
                     log.trace("Send DataResponse to {} succeeded. getDataResponse={}",
                             connection.getPeersNodeAddressOptional(), getDataResponse);
-                    listener.onComplete(getDataResponse.toProtoNetworkEnvelope().getSerializedSize());
+                    listener.onComplete(preEncodedEnvelope.getSerializedSize());
                     cleanup();
                 } else {
                     log.trace("We have stopped already. We ignore that networkNode.sendMessage.onSuccess call.");
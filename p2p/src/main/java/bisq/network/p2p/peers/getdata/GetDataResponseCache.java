@@ -0,0 +1,238 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.peers.getdata;
+
+import bisq.network.p2p.network.PreEncodedEnvelope;
+import bisq.network.p2p.peers.getdata.messages.GetDataRequest;
+import bisq.network.p2p.peers.getdata.messages.GetDataResponse;
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.persistence.AppendOnlyDataStoreListener;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+
+import bisq.common.app.Capabilities;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+/**
+ * Used by seed nodes to reduce the costs of the GetDataResponses. After a release many nodes with the same version
+ * send their PreliminaryGetDataRequest within a short time, so the responses contain mostly the same
+ * PersistableNetworkPayloads.
+ * <p>
+ * We keep the encoding of each PersistableNetworkPayload, so it gets serialized only once for all responses. As
+ * PersistableNetworkPayloads are immutable and addressed by their hash the cached encoding never gets outdated.
+ * The GetDataResponse is then encoded by appending the cached payload encodings to the encoded rest of the response.
+ * <p>
+ * We also keep a short-lived snapshot of the PersistableNetworkPayloads which can be sent to a requester with a
+ * given version and set of capabilities, so we do not need to merge and filter the data stores for each request.
+ * New payloads get added to the snapshots. As the append-only data stores never remove payloads after startup, the
+ * snapshots stay complete.
+ * <p>
+ * All methods except the encoding are called on the UserThread.
+ */
+@Slf4j
+class GetDataResponseCache implements AppendOnlyDataStoreListener {
+    private static final long SNAPSHOT_TTL_MS = TimeUnit.MINUTES.toMillis(2);
+    private static final int MAX_SNAPSHOTS = 10;
+    private static final long MAX_ENCODED_PAYLOADS_BYTES = 128 * 1024 * 1024;
+
+    private final P2PDataStorage dataStorage;
+    private final Cache<P2PDataStorage.ByteArray, byte[]> encodedPayloadsByHash = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_ENCODED_PAYLOADS_BYTES)
+            .<P2PDataStorage.ByteArray, byte[]>weigher((key, value) -> key.bytes.length + value.length)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+    private final Map<SnapshotKey, Snapshot> snapshots = new HashMap<>();
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    GetDataResponseCache(P2PDataStorage dataStorage) {
+        this.dataStorage = dataStorage;
+
+        dataStorage.addAppendOnlyDataStoreListener(this);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // AppendOnlyDataStoreListener implementation
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public void onAdded(PersistableNetworkPayload payload) {
+        P2PDataStorage.ByteArray hash = new P2PDataStorage.ByteArray(payload.getHash());
+        snapshots.forEach((key, snapshot) -> {
+            if (P2PDataStorage.shouldTransmitPayloadToPeer(key.capabilities, payload)) {
+                snapshot.map.put(hash, payload);
+            }
+        });
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // API
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    GetDataResponse buildGetDataResponse(GetDataRequest getDataRequest,
+                                         int maxEntriesPerType,
+                                         AtomicBoolean wasPersistableNetworkPayloadsTruncated,
+                                         AtomicBoolean wasProtectedStorageEntriesTruncated,
+                                         Capabilities peerCapabilities) {
+        return dataStorage.buildGetDataResponse(getDataRequest,
+                maxEntriesPerType,
+                wasPersistableNetworkPayloadsTruncated,
+                wasProtectedStorageEntriesTruncated,
+                peerCapabilities,
+                getMapForDataResponse(getDataRequest.getVersion(), peerCapabilities),
+                payload -> getEncodedPayload(payload).length);
+    }
+
+    PreEncodedEnvelope toPreEncodedEnvelope(GetDataResponse getDataResponse) {
+        return new PreEncodedEnvelope(getDataResponse, networkEnvelope -> encodeDelimited(getDataResponse));
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> getMapForDataResponse(@Nullable String requestersVersion,
+                                                                                         Capabilities peerCapabilities) {
+        long now = System.currentTimeMillis();
+        snapshots.values().removeIf(snapshot -> now - snapshot.creationTime > SNAPSHOT_TTL_MS);
+
+        SnapshotKey key = new SnapshotKey(requestersVersion, new Capabilities(peerCapabilities));
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            log.info("We use the cached map for the GetDataResponse for version {} with {} entries",
+                    requestersVersion, snapshot.map.size());
+            return snapshot.map;
+        }
+
+        // The map of the data storage is a read-only view. Our snapshot is used for many requests with different
+        // excluded keys, so we copy all payloads the peer can receive.
+        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map = new HashMap<>();
+        dataStorage.getMapForDataResponse(requestersVersion).forEach((hash, payload) -> {
+            if (P2PDataStorage.shouldTransmitPayloadToPeer(peerCapabilities, payload)) {
+                map.put(hash, payload);
+            }
+        });
+        if (snapshots.size() >= MAX_SNAPSHOTS) {
+            snapshots.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().creationTime))
+                    .ifPresent(oldest -> snapshots.remove(oldest.getKey()));
+        }
+        snapshots.put(key, new Snapshot(map, now));
+        return map;
+    }
+
+    private byte[] getEncodedPayload(PersistableNetworkPayload payload) {
+        P2PDataStorage.ByteArray hash = new P2PDataStorage.ByteArray(payload.getHash());
+        byte[] encoded = encodedPayloadsByHash.getIfPresent(hash);
+        if (encoded == null) {
+            encoded = payload.toProtoMessage().toByteArray();
+            encodedPayloadsByHash.put(hash, encoded);
+        }
+        return encoded;
+    }
+
+    // The protobuf wire format allows the fields in any order, so we can append the repeated
+    // persistable_network_payload_items field after the other fields of the GetDataResponse.
+    private byte[] encodeDelimited(GetDataResponse getDataResponse) {
+        protobuf.NetworkEnvelope envelopeWithoutPayloads = getDataResponse.toProtoNetworkEnvelopeWithoutPersistableNetworkPayloads();
+        protobuf.GetDataResponse responseWithoutPayloads = envelopeWithoutPayloads.getGetDataResponse();
+        protobuf.NetworkEnvelope envelopeHeader = protobuf.NetworkEnvelope.newBuilder()
+                .setMessageVersion(envelopeWithoutPayloads.getMessageVersion())
+                .build();
+
+        List<byte[]> encodedPayloads = new ArrayList<>(getDataResponse.getPersistableNetworkPayloadSet().size());
+        int responseSize = responseWithoutPayloads.getSerializedSize();
+        for (PersistableNetworkPayload payload : getDataResponse.getPersistableNetworkPayloadSet()) {
+            byte[] encodedPayload = getEncodedPayload(payload);
+            encodedPayloads.add(encodedPayload);
+            responseSize += CodedOutputStream.computeByteArraySize(
+                    protobuf.GetDataResponse.PERSISTABLE_NETWORK_PAYLOAD_ITEMS_FIELD_NUMBER, encodedPayload);
+        }
+
+        int envelopeSize = envelopeHeader.getSerializedSize() +
+                CodedOutputStream.computeTagSize(protobuf.NetworkEnvelope.GET_DATA_RESPONSE_FIELD_NUMBER) +
+                CodedOutputStream.computeUInt32SizeNoTag(responseSize) +
+                responseSize;
+        byte[] bytes = new byte[CodedOutputStream.computeUInt32SizeNoTag(envelopeSize) + envelopeSize];
+        CodedOutputStream outputStream = CodedOutputStream.newInstance(bytes);
+        try {
+            outputStream.writeUInt32NoTag(envelopeSize);
+            envelopeHeader.writeTo(outputStream);
+            outputStream.writeTag(protobuf.NetworkEnvelope.GET_DATA_RESPONSE_FIELD_NUMBER,
+                    WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            outputStream.writeUInt32NoTag(responseSize);
+            responseWithoutPayloads.writeTo(outputStream);
+            for (byte[] encodedPayload : encodedPayloads) {
+                outputStream.writeByteArray(protobuf.GetDataResponse.PERSISTABLE_NETWORK_PAYLOAD_ITEMS_FIELD_NUMBER,
+                        encodedPayload);
+            }
+            outputStream.checkNoSpaceLeft();
+        } catch (IOException e) {
+            // Cannot happen as we write into a byte array of the exact size
+            throw new IllegalStateException("Encoding of GetDataResponse failed", e);
+        }
+        return bytes;
+    }
+
+    @EqualsAndHashCode
+    private static final class SnapshotKey {
+        @Nullable
+        private final String requestersVersion;
+        private final Capabilities capabilities;
+
+        private SnapshotKey(@Nullable String requestersVersion, Capabilities capabilities) {
+            this.requestersVersion = requestersVersion;
+            this.capabilities = capabilities;
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map;
+        private final long creationTime;
+
+        private Snapshot(Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map, long creationTime) {
+            this.map = map;
+            this.creationTime = creationTime;
+        }
+    }
+}
@@ -113,6 +113,9 @@ public class RequestDataManager implements MessageListener, ConnectionListener,
     private boolean allDataReceived;
     private boolean stopped;
     private int numRepeatedRequests = 0;
+    // Only used by seed nodes
+    @Nullable
+    private GetDataResponseCache getDataResponseCache;
 
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Constructor
@@ -139,6 +142,9 @@ public class RequestDataManager implements MessageListener, ConnectionListener,
             if (myAddress != null) {
                 seedNodeAddresses.remove(myAddress);
                 if (seedNodeRepository.isSeedNode(myAddress)) {
+                    if (getDataResponseCache == null) {
+                        getDataResponseCache = new GetDataResponseCache(dataStorage);
+                    }
                     NUM_SEEDS_FOR_PRELIMINARY_REQUEST = 3;
                     NUM_ADDITIONAL_SEEDS_FOR_UPDATE_REQUEST = 2;
                     MAX_REPEATED_REQUESTS = 100;
@@ -308,7 +314,8 @@ public class RequestDataManager implements MessageListener, ConnectionListener,
                                         log.warn("We have stopped already. We ignore that getDataRequestHandler.handle.onFault call.");
                                     }
                                 }
-                            });
+                            },
+                            getDataResponseCache);
                     getDataRequestHandlers.put(uid, getDataRequestHandler);
                     getDataRequestHandler.handle(getDataRequest, connection);
                 } else {
@@ -96,7 +96,25 @@ public final class GetDataResponse extends NetworkEnvelope implements SupportedC
 
     @Override
     public protobuf.NetworkEnvelope toProtoNetworkEnvelope() {
-        final protobuf.GetDataResponse.Builder builder = protobuf.GetDataResponse.newBuilder()
+        protobuf.NetworkEnvelope proto = getNetworkEnvelopeBuilder()
+                .setGetDataResponse(getGetDataResponseBuilder()
+                        .addAllPersistableNetworkPayloadItems(persistableNetworkPayloadSet.stream()
+                                .map(PersistableNetworkPayload::toProtoMessage)
+                                .collect(Collectors.toList())))
+                .build();
+        log.info("Sending a GetDataResponse with {}", Utilities.readableFileSize(proto.getSerializedSize()));
+        return proto;
+    }
+
+    // Used if the encoded persistable_network_payload_items are appended by the caller
+    public protobuf.NetworkEnvelope toProtoNetworkEnvelopeWithoutPersistableNetworkPayloads() {
+        return getNetworkEnvelopeBuilder()
+                .setGetDataResponse(getGetDataResponseBuilder())
+                .build();
+    }
+
+    private protobuf.GetDataResponse.Builder getGetDataResponseBuilder() {
+        return protobuf.GetDataResponse.newBuilder()
                 .addAllDataSet(dataSet.stream()
                         .map(protectedStorageEntry -> protectedStorageEntry instanceof ProtectedMailboxStorageEntry ?
                                 protobuf.StorageEntryWrapper.newBuilder()
@@ -107,19 +125,10 @@ public final class GetDataResponse extends NetworkEnvelope implements SupportedC
                                         .setProtectedStorageEntry((protobuf.ProtectedStorageEntry) protectedStorageEntry.toProtoMessage())
                                         .build())
                         .collect(Collectors.toList()))
-                .addAllPersistableNetworkPayloadItems(persistableNetworkPayloadSet.stream()
-                        .map(PersistableNetworkPayload::toProtoMessage)
-                        .collect(Collectors.toList()))
                 .setRequestNonce(requestNonce)
                 .setIsGetUpdatedDataResponse(isGetUpdatedDataResponse)
                 .setWasTruncated(wasTruncated)
                 .addAllSupportedCapabilities(Capabilities.toIntList(supportedCapabilities));
-
-        protobuf.NetworkEnvelope proto = getNetworkEnvelopeBuilder()
-                .setGetDataResponse(builder)
-                .build();
-        log.info("Sending a GetDataResponse with {}", Utilities.readableFileSize(proto.getSerializedSize()));
-        return proto;
     }
 
     public static GetDataResponse fromProto(protobuf.GetDataResponse proto,
@@ -34,6 +34,7 @@ import bisq.network.p2p.storage.messages.AddOncePayload;
 import bisq.network.p2p.storage.messages.AddPersistableNetworkPayloadMessage;
 import bisq.network.p2p.storage.messages.BroadcastMessage;
 import bisq.network.p2p.storage.messages.RefreshOfferMessage;
+import bisq.network.p2p.storage.messages.RefreshOffersMessage;
 import bisq.network.p2p.storage.messages.RemoveDataMessage;
 import bisq.network.p2p.storage.messages.RemoveMailboxDataMessage;
 import bisq.network.p2p.storage.payload.CapabilityRequiringPayload;
@@ -48,6 +49,7 @@ import bisq.network.p2p.storage.payload.ProtectedStoragePayload;
 import bisq.network.p2p.storage.payload.RequiresOwnerIsOnlinePayload;
 import bisq.network.p2p.storage.persistence.AppendOnlyDataStoreListener;
 import bisq.network.p2p.storage.persistence.AppendOnlyDataStoreService;
+import bisq.network.p2p.storage.persistence.CompositePayloadMap;
 import bisq.network.p2p.storage.persistence.HistoricalDataStoreService;
 import bisq.network.p2p.storage.persistence.PersistableNetworkPayloadStore;
 import bisq.network.p2p.storage.persistence.ProtectedDataStoreService;
@@ -62,6 +64,8 @@ import bisq.common.app.Capabilities;
 import bisq.common.crypto.CryptoException;
 import bisq.common.crypto.Hash;
 import bisq.common.crypto.Sig;
+import bisq.common.metrics.Counter;
+import bisq.common.metrics.MetricsRegistry;
 import bisq.common.persistence.PersistenceManager;
 import bisq.common.proto.network.GetDataResponsePriority;
 import bisq.common.proto.network.NetworkEnvelope;
@@ -82,6 +86,9 @@ import javax.inject.Inject;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
 
 import org.fxmisc.easybind.EasyBind;
 import org.fxmisc.easybind.monadic.MonadicBinding;
@@ -107,12 +114,14 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import lombok.EqualsAndHashCode;
@@ -134,6 +143,21 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
     @VisibleForTesting
     public static final int CHECK_TTL_INTERVAL_SEC = 60;
 
+    // Below that size the overhead of the thread handoff is not worth it
+    private static final int MIN_ENTRIES_FOR_PARALLEL_VERIFICATION = 50;
+    private static final int NUM_SIGNATURE_VERIFICATION_THREADS = Math.max(1,
+            Runtime.getRuntime().availableProcessors() - 1);
+    // Shared by all instances. Created at the first GetDataResponse with enough entries.
+    @Nullable
+    private static ListeningExecutorService signatureVerificationExecutor;
+
+    private static final Counter PROTECTED_ENTRIES_ADDED = MetricsRegistry.getDefault().counter(
+            "bisq_p2p_protected_entries_added_total", "ProtectedStorageEntries added or updated in the map");
+    private static final Counter PROTECTED_ENTRIES_REMOVED = MetricsRegistry.getDefault().counter(
+            "bisq_p2p_protected_entries_removed_total", "ProtectedStorageEntries removed from the map");
+    private static final Counter PERSISTABLE_PAYLOADS_ADDED = MetricsRegistry.getDefault().counter(
+            "bisq_p2p_persistable_payloads_added_total", "PersistableNetworkPayloads added to the append-only stores");
+
     private boolean initialRequestApplied = false;
 
     private final Broadcaster broadcaster;
@@ -194,6 +218,9 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
         networkNode.addConnectionListener(this);
 
         this.persistenceManager.initialize(sequenceNumberMap, PersistenceManager.Source.PRIVATE_LOW_PRIO);
+
+        MetricsRegistry.getDefault().gauge("bisq_p2p_protected_entries", "Number of ProtectedStorageEntries in the map",
+                map::size);
     }
 
 
@@ -305,15 +332,34 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
             AtomicBoolean wasPersistableNetworkPayloadsTruncated,
             AtomicBoolean wasProtectedStorageEntriesTruncated,
             Capabilities peerCapabilities) {
-
-        Set<P2PDataStorage.ByteArray> excludedKeysAsByteArray =
-                P2PDataStorage.ByteArray.convertBytesSetToByteArraySet(getDataRequest.getExcludedKeys());
-
         // Pre v 1.4.0 requests do not have set the requesters version field so it is null.
         // The methods in HistoricalDataStoreService will return all historical data in that case.
         // mapForDataResponse contains the filtered by version data from HistoricalDataStoreService as well as all other
         // maps of the remaining appendOnlyDataStoreServices.
-        Map<ByteArray, PersistableNetworkPayload> mapForDataResponse = getMapForDataResponse(getDataRequest.getVersion());
+        return buildGetDataResponse(getDataRequest,
+                maxEntriesPerType,
+                wasPersistableNetworkPayloadsTruncated,
+                wasProtectedStorageEntriesTruncated,
+                peerCapabilities,
+                getMapForDataResponse(getDataRequest.getVersion()),
+                payload -> payload.toProtoMessage().getSerializedSize());
+    }
+
+    /**
+     * Same as above but with a mapForDataResponse and a function for the serialized size of the
+     * PersistableNetworkPayloads provided by the caller. Used by seed nodes which cache both.
+     */
+    public GetDataResponse buildGetDataResponse(
+            GetDataRequest getDataRequest,
+            int maxEntriesPerType,
+            AtomicBoolean wasPersistableNetworkPayloadsTruncated,
+            AtomicBoolean wasProtectedStorageEntriesTruncated,
+            Capabilities peerCapabilities,
+            Map<ByteArray, PersistableNetworkPayload> mapForDataResponse,
+            ToIntFunction<PersistableNetworkPayload> persistableNetworkPayloadSerializedSize) {
+
+        Set<P2PDataStorage.ByteArray> excludedKeysAsByteArray =
+                P2PDataStorage.ByteArray.convertBytesSetToByteArraySet(getDataRequest.getExcludedKeys());
 
         // Give a bit of tolerance for message overhead
         double maxSize = Connection.getMaxPermittedMessageSize() * 0.6;
@@ -324,6 +370,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
                 filterKnownHashes(
                         mapForDataResponse,
                         Function.identity(),
+                        persistableNetworkPayloadSerializedSize,
                         excludedKeysAsByteArray,
                         peerCapabilities,
                         maxEntriesPerType,
@@ -344,6 +391,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
                 filterKnownHashes(
                         map,
                         ProtectedStorageEntry::getProtectedStoragePayload,
+                        entry -> entry.toProtoMessage().getSerializedSize(),
                         excludedKeysAsByteArray,
                         peerCapabilities,
                         maxEntriesPerType,
@@ -392,8 +440,10 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
         return map;
     }
 
+    // Returns a read-only view over the maps of the services. We do not copy the maps as that would decode all
+    // payloads of memory mapped historical stores, even though most of them get filtered out by the excluded keys.
     public Map<ByteArray, PersistableNetworkPayload> getMapForDataResponse(String requestersVersion) {
-        Map<ByteArray, PersistableNetworkPayload> map = new HashMap<>();
+        List<Map<ByteArray, PersistableNetworkPayload>> maps = new ArrayList<>();
         appendOnlyDataStoreService.getServices()
                 .forEach(service -> {
                     Map<ByteArray, PersistableNetworkPayload> serviceMap;
@@ -403,11 +453,11 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
                     } else {
                         serviceMap = service.getMap();
                     }
-                    map.putAll(serviceMap);
+                    maps.add(serviceMap);
                     log.info("We added {} entries from {} to be filtered by excluded keys",
                             serviceMap.size(), service.getClass().getSimpleName());
                 });
-        return map;
+        return new CompositePayloadMap(maps);
     }
 
     /**
@@ -417,6 +467,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
     static private <T extends NetworkPayload> Set<T> filterKnownHashes(
             Map<ByteArray, T> toFilter,
             Function<T, ? extends NetworkPayload> asPayload,
+            ToIntFunction<T> serializedSize,
             Set<ByteArray> knownHashes,
             Capabilities peerCapabilities,
             int maxEntries,
@@ -430,19 +481,22 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
         AtomicLong totalSize = new AtomicLong();
         AtomicBoolean exceededSizeLimit = new AtomicBoolean();
 
-        Set<Map.Entry<ByteArray, T>> entries = toFilter.entrySet();
+        // Map.Entry.value can be ProtectedStorageEntry or PersistableNetworkPayload. We call it item in the steam iterations.
+        // We filter by the keys first, so we only access the values of the entries the peer does not know. Values of
+        // memory mapped historical stores get decoded on access.
+        List<T> unknownItems = toFilter.entrySet().stream()
+                .filter(entry -> !knownHashes.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toList());
         Map<String, AtomicInteger> numItemsByClassName = new HashMap<>();
-        entries.forEach(entry -> {
-            String name = asPayload.apply(entry.getValue()).getClass().getSimpleName();
+        unknownItems.forEach(item -> {
+            String name = asPayload.apply(item).getClass().getSimpleName();
             numItemsByClassName.putIfAbsent(name, new AtomicInteger());
             numItemsByClassName.get(name).incrementAndGet();
         });
-        log.info("numItemsByClassName: {}", numItemsByClassName);
+        log.info("numItemsByClassName of items not known by the peer: {}", numItemsByClassName);
 
-        // Map.Entry.value can be ProtectedStorageEntry or PersistableNetworkPayload. We call it item in the steam iterations.
-        List<T> filteredItems = entries.stream()
-                .filter(entry -> !knownHashes.contains(entry.getKey()))
-                .map(Map.Entry::getValue)
+        List<T> filteredItems = unknownItems.stream()
                 .filter(item -> shouldTransmitPayloadToPeer(peerCapabilities, asPayload.apply(item)))
                 .collect(Collectors.toList());
         List<T> resultItems = new ArrayList<>();
@@ -472,7 +526,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
                     if (exceededSizeLimit.get()) {
                         return false;
                     }
-                    if (totalSize.addAndGet(item.toProtoMessage().getSerializedSize()) > limit) {
+                    if (totalSize.addAndGet(serializedSize.applyAsInt(item)) > limit) {
                         exceededSizeLimit.set(true);
                         return false;
                     }
@@ -493,7 +547,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
                         if (exceededSizeLimit.get()) {
                             return false;
                         }
-                        if (totalSize.addAndGet(item.toProtoMessage().getSerializedSize()) > limit) {
+                        if (totalSize.addAndGet(serializedSize.applyAsInt(item)) > limit) {
                             exceededSizeLimit.set(true);
                             return false;
                         }
@@ -555,7 +609,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
     /**
      * Returns true if a Payload should be transmit to a peer given the peer's supported capabilities.
      */
-    private static boolean shouldTransmitPayloadToPeer(Capabilities peerCapabilities, NetworkPayload payload) {
+    public static boolean shouldTransmitPayloadToPeer(Capabilities peerCapabilities, NetworkPayload payload) {
 
         // Sanity check to ensure this isn't used outside P2PDataStorage
         if (!(payload instanceof ProtectedStoragePayload || payload instanceof PersistableNetworkPayload))
@@ -592,12 +646,12 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
                     broadcaster.broadcast(new AddDataMessage(protectedStorageEntry), sender, null);
                 }, 60);
             }
-
-            // We don't broadcast here (last param) as we are only connected to the seed node and would be pointless
-            addProtectedStorageEntry(protectedStorageEntry, sender, null, false);
-
         });
-        log.info("Processing {} protectedStorageEntries took {} ms.", protectedStorageEntries.size(), this.clock.millis() - ts);
+
+        // We don't broadcast here as we are only connected to the seed node and would be pointless
+        List<ProtectedStorageEntry> addedEntries = addProtectedStorageEntries(protectedStorageEntries, sender);
+        log.info("Processing {} protectedStorageEntries ({} added) took {} ms.",
+                protectedStorageEntries.size(), addedEntries.size(), this.clock.millis() - ts);
 
         ts = this.clock.millis();
         persistableNetworkPayloadSet.forEach(e -> {
@@ -684,6 +738,8 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
                     remove(((RemoveMailboxDataMessage) networkEnvelope).getProtectedMailboxStorageEntry(), peersNodeAddress);
                 } else if (networkEnvelope instanceof RefreshOfferMessage) {
                     refreshTTL((RefreshOfferMessage) networkEnvelope, peersNodeAddress);
+                } else if (networkEnvelope instanceof RefreshOffersMessage) {
+                    refreshTTL((RefreshOffersMessage) networkEnvelope, peersNodeAddress);
                 } else if (networkEnvelope instanceof AddPersistableNetworkPayloadMessage) {
                     addPersistableNetworkPayload(((AddPersistableNetworkPayloadMessage) networkEnvelope).getPersistableNetworkPayload(),
                             peersNodeAddress, true, false, true);
@@ -787,6 +843,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
         if (!payloadHashAlreadyInStore) {
             wasAdded = appendOnlyDataStoreService.put(hashAsByteArray, payload);
             if (wasAdded) {
+                PERSISTABLE_PAYLOADS_ADDED.inc();
                 appendOnlyDataStoreListeners.forEach(e -> e.onAdded(payload));
             }
         }
@@ -837,6 +894,49 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
 
         //log.trace("## call addProtectedStorageEntry hash={}, map={}", hashOfPayload, printMap());
 
+        if (!passesPreValidationChecks(protectedStorageEntry, hashOfPayload, sender)) {
+            return false;
+        }
+
+        // Verify the ProtectedStorageEntry is well formed and valid for the add operation
+        if (!protectedStorageEntry.isValidForAddOperation()) {
+            log.trace("## !isValidForAddOperation hash={}", hashOfPayload);
+            return false;
+        }
+
+        if (!passesPostValidationChecks(protectedStorageEntry, hashOfPayload)) {
+            return false;
+        }
+
+        // This is an updated entry. Record it and signal listeners.
+        map.put(hashOfPayload, protectedStorageEntry);
+        PROTECTED_ENTRIES_ADDED.inc();
+        hashMapChangedListeners.forEach(e -> e.onAdded(Collections.singletonList(protectedStorageEntry)));
+
+        // Record the updated sequence number and persist it. Higher delay so we can batch more items.
+        putSequenceNumber(hashOfPayload, new MapValue(protectedStorageEntry.getSequenceNumber(), this.clock.millis()));
+
+        //log.trace("## ProtectedStorageEntry added to map. hash={}, map={}", hashOfPayload, printMap());
+
+        // Optionally, broadcast the add/update depending on the calling environment
+        if (allowBroadcast) {
+            broadcaster.broadcast(new AddDataMessage(protectedStorageEntry), sender, listener);
+            log.trace("## broadcasted ProtectedStorageEntry. hash={}", hashOfPayload);
+        }
+        // Persist ProtectedStorageEntries carrying PersistablePayload payloads
+        if (protectedStoragePayload instanceof PersistablePayload)
+            protectedDataStoreService.put(hashOfPayload, protectedStorageEntry);
+
+        return true;
+    }
+
+    // Checks which do not require the signature verification. They are repeated when a batch of verified entries gets
+    // applied, as the batch can contain several entries for the same payload.
+    private boolean passesPreValidationChecks(ProtectedStorageEntry protectedStorageEntry,
+                                              ByteArray hashOfPayload,
+                                              @Nullable NodeAddress sender) {
+        ProtectedStoragePayload protectedStoragePayload = protectedStorageEntry.getProtectedStoragePayload();
+
         // We do that check early as it is a very common case for returning, so we return early
         // If we have seen a more recent operation for this payload and we have a payload locally, ignore it
         ProtectedStorageEntry storedEntry = map.get(hashOfPayload);
@@ -868,12 +968,11 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
             return false;
         }
 
-        // Verify the ProtectedStorageEntry is well formed and valid for the add operation
-        if (!protectedStorageEntry.isValidForAddOperation()) {
-            log.trace("## !isValidForAddOperation hash={}", hashOfPayload);
-            return false;
-        }
+        return true;
+    }
 
+    private boolean passesPostValidationChecks(ProtectedStorageEntry protectedStorageEntry, ByteArray hashOfPayload) {
+        ProtectedStorageEntry storedEntry = map.get(hashOfPayload);
         // If we have already seen an Entry with the same hash, verify the metadata is equal
         if (storedEntry != null && !protectedStorageEntry.matchesRelevantPubKey(storedEntry)) {
             log.trace("## !matchesRelevantPubKey hash={}", hashOfPayload);
@@ -887,26 +986,102 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
             return false;
         }
 
-        // This is an updated entry. Record it and signal listeners.
-        map.put(hashOfPayload, protectedStorageEntry);
-        hashMapChangedListeners.forEach(e -> e.onAdded(Collections.singletonList(protectedStorageEntry)));
+        return true;
+    }
 
-        // Record the updated sequence number and persist it. Higher delay so we can batch more items.
-        sequenceNumberMap.put(hashOfPayload, new MapValue(protectedStorageEntry.getSequenceNumber(), this.clock.millis()));
-        requestPersistence();
+    /**
+     * Adds the ProtectedStorageEntries of a GetDataResponse without broadcasting them. The signatures of the entries
+     * passing the cheap checks are verified in parallel. The valid entries are applied in one batch, the
+     * SequenceNumberMap gets persisted once and the listeners get notified once with all added entries.
+     *
+     * @return the added entries
+     */
+    private List<ProtectedStorageEntry> addProtectedStorageEntries(Collection<ProtectedStorageEntry> protectedStorageEntries,
+                                                                   @Nullable NodeAddress sender) {
+        List<ProtectedStorageEntry> candidates = new ArrayList<>();
+        List<ByteArray> hashesOfCandidates = new ArrayList<>();
+        protectedStorageEntries.forEach(protectedStorageEntry -> {
+            ByteArray hashOfPayload = get32ByteHashAsByteArray(protectedStorageEntry.getProtectedStoragePayload());
+            if (passesPreValidationChecks(protectedStorageEntry, hashOfPayload, sender)) {
+                candidates.add(protectedStorageEntry);
+                hashesOfCandidates.add(hashOfPayload);
+            }
+        });
 
-        //log.trace("## ProtectedStorageEntry added to map. hash={}, map={}", hashOfPayload, printMap());
+        boolean[] validForAddOperation = verifyForAddOperation(candidates);
 
-        // Optionally, broadcast the add/update depending on the calling environment
-        if (allowBroadcast) {
-            broadcaster.broadcast(new AddDataMessage(protectedStorageEntry), sender, listener);
-            log.trace("## broadcasted ProtectedStorageEntry. hash={}", hashOfPayload);
+        List<ProtectedStorageEntry> addedEntries = new ArrayList<>();
+        long now = clock.millis();
+        for (int i = 0; i < candidates.size(); i++) {
+            ProtectedStorageEntry protectedStorageEntry = candidates.get(i);
+            ByteArray hashOfPayload = hashesOfCandidates.get(i);
+            if (!validForAddOperation[i]) {
+                log.trace("## !isValidForAddOperation hash={}", hashOfPayload);
+                continue;
+            }
+            if (!passesPreValidationChecks(protectedStorageEntry, hashOfPayload, sender) ||
+                    !passesPostValidationChecks(protectedStorageEntry, hashOfPayload)) {
+                continue;
+            }
+
+            map.put(hashOfPayload, protectedStorageEntry);
+            sequenceNumberMap.put(hashOfPayload, new MapValue(protectedStorageEntry.getSequenceNumber(), now));
+            if (protectedStorageEntry.getProtectedStoragePayload() instanceof PersistablePayload)
+                protectedDataStoreService.put(hashOfPayload, protectedStorageEntry);
+            addedEntries.add(protectedStorageEntry);
         }
-        // Persist ProtectedStorageEntries carrying PersistablePayload payloads
-        if (protectedStoragePayload instanceof PersistablePayload)
-            protectedDataStoreService.put(hashOfPayload, protectedStorageEntry);
 
-        return true;
+        if (!addedEntries.isEmpty()) {
+            PROTECTED_ENTRIES_ADDED.add(addedEntries.size());
+            // We write the whole SequenceNumberMap once instead of a journal entry per added entry
+            requestPersistence();
+            hashMapChangedListeners.forEach(e -> e.onAdded(addedEntries));
+        }
+        return addedEntries;
+    }
+
+    // Returns the result of isValidForAddOperation for each entry. The calling thread waits for the result.
+    private static boolean[] verifyForAddOperation(List<ProtectedStorageEntry> protectedStorageEntries) {
+        boolean[] results = new boolean[protectedStorageEntries.size()];
+        if (protectedStorageEntries.size() < MIN_ENTRIES_FOR_PARALLEL_VERIFICATION) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = protectedStorageEntries.get(i).isValidForAddOperation();
+            }
+            return results;
+        }
+
+        int chunkSize = (results.length + NUM_SIGNATURE_VERIFICATION_THREADS - 1) / NUM_SIGNATURE_VERIFICATION_THREADS;
+        List<ListenableFuture<?>> futures = new ArrayList<>();
+        for (int from = 0; from < results.length; from += chunkSize) {
+            int fromIndex = from;
+            int toIndex = Math.min(from + chunkSize, results.length);
+            futures.add(getSignatureVerificationExecutor().submit(() -> {
+                for (int i = fromIndex; i < toIndex; i++) {
+                    results[i] = protectedStorageEntries.get(i).isValidForAddOperation();
+                }
+            }));
+        }
+        try {
+            // The futures complete before get returns, so the results written by the worker threads are visible
+            Futures.allAsList(futures).get();
+        } catch (InterruptedException | ExecutionException e) {
+            log.error("Parallel signature verification failed. We verify the entries on the calling thread.", e);
+            futures.forEach(future -> future.cancel(true));
+            for (int i = 0; i < results.length; i++) {
+                results[i] = protectedStorageEntries.get(i).isValidForAddOperation();
+            }
+        }
+        return results;
+    }
+
+    private static synchronized ListeningExecutorService getSignatureVerificationExecutor() {
+        if (signatureVerificationExecutor == null) {
+            signatureVerificationExecutor = Utilities.getListeningExecutorService("SignatureVerification",
+                    NUM_SIGNATURE_VERIFICATION_THREADS,
+                    NUM_SIGNATURE_VERIFICATION_THREADS,
+                    60);
+        }
+        return signatureVerificationExecutor;
     }
 
     /**
@@ -949,7 +1124,41 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
      */
     public boolean refreshTTL(RefreshOfferMessage refreshTTLMessage,
                               @Nullable NodeAddress sender) {
+        if (!applyRefreshTTL(refreshTTLMessage))
+            return false;
+
+        // Always broadcast refreshes
+        broadcaster.broadcast(refreshTTLMessage, sender);
+        return true;
+    }
 
+    /**
+     * Updates the local RefreshOffers of all contained RefreshOfferMessages in one pass and broadcasts the successful
+     * refreshes to the network. Each refresh is validated as if it had been received individually.
+     *
+     * @param refreshOffersMessage refreshOffersMessage containing the updates
+     * @param sender local NodeAddress, if available
+     * @return the number of RefreshOffers which were successfully updated and broadcast
+     */
+    public int refreshTTL(RefreshOffersMessage refreshOffersMessage,
+                          @Nullable NodeAddress sender) {
+        List<RefreshOfferMessage> refreshOfferMessages = refreshOffersMessage.getRefreshOfferMessages();
+        List<RefreshOfferMessage> applied = refreshOfferMessages.stream()
+                .filter(this::applyRefreshTTL)
+                .collect(Collectors.toList());
+        if (applied.isEmpty())
+            return 0;
+
+        // We only relay the refreshes we have applied, otherwise we would broadcast outdated refreshes again
+        if (applied.size() == refreshOfferMessages.size()) {
+            broadcaster.broadcast(refreshOffersMessage, sender);
+        } else {
+            broadcaster.broadcast(new RefreshOffersMessage(applied), sender);
+        }
+        return applied.size();
+    }
+
+    private boolean applyRefreshTTL(RefreshOfferMessage refreshTTLMessage) {
         try {
             ByteArray hashOfPayload = new ByteArray(refreshTTLMessage.getHashOfPayload());
             ProtectedStorageEntry storedData = map.get(hashOfPayload);
@@ -981,12 +1190,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
             map.put(hashOfPayload, updatedEntry);
 
             // Record the latest sequence number and persist it
-            sequenceNumberMap.put(hashOfPayload, new MapValue(updatedEntry.getSequenceNumber(), this.clock.millis()));
-            requestPersistence();
-
-            // Always broadcast refreshes
-            broadcaster.broadcast(refreshTTLMessage, sender);
-
+            putSequenceNumber(hashOfPayload, new MapValue(updatedEntry.getSequenceNumber(), this.clock.millis()));
         } catch (IllegalArgumentException e) {
             log.error("refreshTTL failed, missing data: {}", e.toString());
             e.printStackTrace();
@@ -1022,8 +1226,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
             return false;
 
         // Record the latest sequence number and persist it
-        sequenceNumberMap.put(hashOfPayload, new MapValue(protectedStorageEntry.getSequenceNumber(), this.clock.millis()));
-        requestPersistence();
+        putSequenceNumber(hashOfPayload, new MapValue(protectedStorageEntry.getSequenceNumber(), this.clock.millis()));
 
         // Update that we have seen this AddOncePayload so the next time it is seen it fails verification
         if (protectedStoragePayload instanceof AddOncePayload) {
@@ -1144,6 +1347,7 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
             }
         });
 
+        PROTECTED_ENTRIES_REMOVED.add(removedProtectedStorageEntries.size());
         hashMapChangedListeners.forEach(e -> e.onRemoved(removedProtectedStorageEntries));
     }
 
@@ -1178,6 +1382,11 @@ public class P2PDataStorage implements MessageListener, ConnectionListener, Pers
         persistenceManager.requestPersistence();
     }
 
+    private void putSequenceNumber(ByteArray hashOfPayload, MapValue mapValue) {
+        sequenceNumberMap.put(hashOfPayload, mapValue);
+        persistenceManager.requestPersistence(() -> SequenceNumberMap.toJournalEntry(hashOfPayload, mapValue));
+    }
+
     public static ByteArray get32ByteHashAsByteArray(NetworkPayload data) {
         return new ByteArray(P2PDataStorage.get32ByteHash(data));
     }
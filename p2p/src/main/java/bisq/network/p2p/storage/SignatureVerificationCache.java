@@ -0,0 +1,118 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.storage;
+
+import bisq.common.crypto.CryptoException;
+import bisq.common.crypto.Hash;
+import bisq.common.crypto.Sig;
+import bisq.common.metrics.Counter;
+import bisq.common.metrics.MetricsRegistry;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.security.PublicKey;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the successful signature verifications of ProtectedStorageEntries. The same entry reaches us from each
+ * peer relaying it, and a seed node gets each AddDataMessage from many peers. A repeated delivery of an entry only
+ * costs the hash of the payload instead of a DSA verification.
+ * <p>
+ * The key is the hash of the hash of the payload and sequence number, the owner's public key and the signature, so
+ * an entry with any of them changed is verified again. Only valid signatures are cached, so an invalid signature
+ * cannot displace valid ones from the cache.
+ * <p>
+ * Used from the UserThread and from the threads verifying the entries of a GetDataResponse.
+ */
+public final class SignatureVerificationCache {
+    private static final int MAX_ENTRIES = 50_000;
+    private static final SignatureVerificationCache INSTANCE =
+            new SignatureVerificationCache(MAX_ENTRIES, MetricsRegistry.getDefault());
+
+    public static SignatureVerificationCache getInstance() {
+        return INSTANCE;
+    }
+
+    // The value is not used, it is a set of the keys of the verified signatures
+    private final Cache<P2PDataStorage.ByteArray, Boolean> verifiedSignatures;
+    private final Counter hits;
+    private final Counter misses;
+
+    SignatureVerificationCache(int maxEntries, MetricsRegistry metricsRegistry) {
+        verifiedSignatures = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(1, TimeUnit.HOURS)
+                .build();
+        hits = metricsRegistry.counter("bisq_p2p_signature_cache_lookups_total",
+                "Signature verification cache lookups by result", "result", "hit");
+        misses = metricsRegistry.counter("bisq_p2p_signature_cache_lookups_total",
+                "Signature verification cache lookups by result", "result", "miss");
+        metricsRegistry.gauge("bisq_p2p_signature_cache_entries", "Number of cached signature verifications",
+                verifiedSignatures::size);
+    }
+
+    /**
+     * @param hashOfDataAndSeqNr    Hash of the DataAndSeqNrPair which got signed
+     * @param ownerPubKey           Public key of the owner used for the verification
+     * @param ownerPubKeyBytes      Encoded public key of the owner
+     * @param signature             Signature of the hashOfDataAndSeqNr
+     * @return <code>true</code> if the signature is valid
+     * @throws CryptoException if the verification failed with an exception
+     */
+    public boolean verify(byte[] hashOfDataAndSeqNr,
+                          PublicKey ownerPubKey,
+                          byte[] ownerPubKeyBytes,
+                          byte[] signature) throws CryptoException {
+        P2PDataStorage.ByteArray key = getKey(hashOfDataAndSeqNr, ownerPubKeyBytes, signature);
+        if (verifiedSignatures.getIfPresent(key) != null) {
+            hits.inc();
+            return true;
+        }
+
+        misses.inc();
+        boolean isValid = Sig.verify(ownerPubKey, hashOfDataAndSeqNr, signature);
+        if (isValid) {
+            verifiedSignatures.put(key, Boolean.TRUE);
+        }
+        return isValid;
+    }
+
+    public long getNumHits() {
+        return hits.get();
+    }
+
+    public long getNumMisses() {
+        return misses.get();
+    }
+
+    long size() {
+        return verifiedSignatures.size();
+    }
+
+    private static P2PDataStorage.ByteArray getKey(byte[] hashOfDataAndSeqNr,
+                                                   byte[] ownerPubKeyBytes,
+                                                   byte[] signature) {
+        byte[] data = new byte[hashOfDataAndSeqNr.length + ownerPubKeyBytes.length + signature.length];
+        System.arraycopy(hashOfDataAndSeqNr, 0, data, 0, hashOfDataAndSeqNr.length);
+        System.arraycopy(ownerPubKeyBytes, 0, data, hashOfDataAndSeqNr.length, ownerPubKeyBytes.length);
+        System.arraycopy(signature, 0, data, hashOfDataAndSeqNr.length + ownerPubKeyBytes.length, signature.length);
+        return new P2PDataStorage.ByteArray(Hash.getSha256Hash(data));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.storage.messages;
+
+import bisq.network.p2p.storage.payload.CapabilityRequiringPayload;
+
+import bisq.common.app.Capabilities;
+import bisq.common.app.Capability;
+import bisq.common.app.Version;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+/**
+ * Bundles the RefreshOfferMessages of all offers of a node which get refreshed in the same cycle. Each
+ * RefreshOfferMessage keeps its own signature, as the refreshed ProtectedStorageEntry needs a valid signature for its
+ * new sequence number when it gets delivered to other peers later. Peers without the BULK_REFRESH_OFFERS capability
+ * receive the individual RefreshOfferMessages instead.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Value
+public final class RefreshOffersMessage extends BroadcastMessage implements CapabilityRequiringPayload {
+    // A RefreshOfferMessage has about 130 bytes, so we stay well below the permitted message size of 200 kb
+    public static final int MAX_REFRESH_OFFER_MESSAGES = 1000;
+
+    private final List<RefreshOfferMessage> refreshOfferMessages;
+
+    public RefreshOffersMessage(List<RefreshOfferMessage> refreshOfferMessages) {
+        this(refreshOfferMessages, Version.getP2PMessageVersion());
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // PROTO BUFFER
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private RefreshOffersMessage(List<RefreshOfferMessage> refreshOfferMessages, int messageVersion) {
+        super(messageVersion);
+        this.refreshOfferMessages = refreshOfferMessages;
+    }
+
+    @Override
+    public protobuf.NetworkEnvelope toProtoNetworkEnvelope() {
+        return getNetworkEnvelopeBuilder()
+                .setRefreshOffersMessage(protobuf.RefreshOffersMessage.newBuilder()
+                        .addAllRefreshOfferMessages(refreshOfferMessages.stream()
+                                .map(message -> message.toProtoNetworkEnvelope().getRefreshOfferMessage())
+                                .collect(Collectors.toList())))
+                .build();
+    }
+
+    public static RefreshOffersMessage fromProto(protobuf.RefreshOffersMessage proto, int messageVersion) {
+        return new RefreshOffersMessage(proto.getRefreshOfferMessagesList().stream()
+                .map(message -> RefreshOfferMessage.fromProto(message, messageVersion))
+                .collect(Collectors.toList()),
+                messageVersion);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // CapabilityRequiringPayload
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public Capabilities getRequiredCapabilities() {
+        return new Capabilities(Capability.BULK_REFRESH_OFFERS);
+    }
+}
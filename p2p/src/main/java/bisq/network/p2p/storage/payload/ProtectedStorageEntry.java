@@ -18,6 +18,7 @@
 package bisq.network.p2p.storage.payload;
 
 import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.SignatureVerificationCache;
 
 import bisq.common.crypto.CryptoException;
 import bisq.common.crypto.Sig;
@@ -207,14 +208,18 @@ public class ProtectedStorageEntry implements NetworkPayload, PersistablePayload
     }
 
     /*
-     * Returns true if the signature for the Entry is valid for the payload, sequence number, and ownerPubKey
+     * Returns true if the signature for the Entry is valid for the payload, sequence number, and ownerPubKey.
+     * Successful verifications are cached, as we get the same entry from many peers.
      */
     boolean isSignatureValid() {
         try {
             byte[] hashOfDataAndSeqNr = P2PDataStorage.get32ByteHash(
                     new P2PDataStorage.DataAndSeqNrPair(this.protectedStoragePayload, this.sequenceNumber));
 
-            boolean result = Sig.verify(this.ownerPubKey, hashOfDataAndSeqNr, this.signature);
+            boolean result = SignatureVerificationCache.getInstance().verify(hashOfDataAndSeqNr,
+                    this.ownerPubKey,
+                    this.ownerPubKeyBytes,
+                    this.signature);
 
             if (!result)
                 log.warn("Invalid signature for {}.\nSerialized data as hex={}}",
@@ -0,0 +1,144 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.storage.persistence;
+
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only view over multiple payload maps, used to avoid copying the live data and the (memory mapped) historical
+ * data into one map. If a key is contained in multiple maps the first map wins, like it would have been the case
+ * with putAll in reverse order.
+ * <p>
+ * Counting the entries requires to check each key against the preceding maps, so we cache the size. The payload
+ * maps are append-only, so the cached size is only outdated if the size of one of the maps has changed.
+ */
+public class CompositePayloadMap extends AbstractMap<P2PDataStorage.ByteArray, PersistableNetworkPayload> {
+    private final List<Map<P2PDataStorage.ByteArray, PersistableNetworkPayload>> maps;
+    private Set<Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload>> entrySet;
+    private int[] mapSizesOfCachedSize;
+    private int cachedSize;
+
+    public CompositePayloadMap(List<Map<P2PDataStorage.ByteArray, PersistableNetworkPayload>> maps) {
+        this.maps = ImmutableList.copyOf(maps);
+    }
+
+    @Override
+    public int size() {
+        return entrySet().size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return maps.stream().anyMatch(map -> map.containsKey(key));
+    }
+
+    @Override
+    public PersistableNetworkPayload get(Object key) {
+        for (Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> map : maps) {
+            PersistableNetworkPayload payload = map.get(key);
+            if (payload != null) {
+                return payload;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Set<Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    int[] mapSizes = maps.stream().mapToInt(Map::size).toArray();
+                    if (!Arrays.equals(mapSizes, mapSizesOfCachedSize)) {
+                        int size = 0;
+                        for (Iterator<?> iterator = iterator(); iterator.hasNext(); iterator.next()) {
+                            size++;
+                        }
+                        cachedSize = size;
+                        mapSizesOfCachedSize = mapSizes;
+                    }
+                    return cachedSize;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private boolean isShadowed(int mapIndex, P2PDataStorage.ByteArray key) {
+        for (int i = 0; i < mapIndex; i++) {
+            if (maps.get(i).containsKey(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Iterates over the entries of all maps and skips keys we have already delivered from a preceding map
+    private class EntryIterator implements Iterator<Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload>> {
+        private int mapIndex;
+        private Iterator<Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload>> current;
+        private Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload> next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (current == null || !current.hasNext()) {
+                    if (mapIndex == maps.size()) {
+                        return false;
+                    }
+                    current = maps.get(mapIndex++).entrySet().iterator();
+                    continue;
+                }
+
+                Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload> candidate = current.next();
+                if (!isShadowed(mapIndex - 1, candidate.getKey())) {
+                    next = candidate;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload> result = next;
+            next = null;
+            return result;
+        }
+    }
+}
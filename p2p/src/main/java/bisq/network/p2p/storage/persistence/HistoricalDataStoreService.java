@@ -20,6 +20,7 @@ package bisq.network.p2p.storage.persistence;
 import bisq.network.p2p.storage.P2PDataStorage;
 import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
 
+import bisq.common.UserThread;
 import bisq.common.app.DevEnv;
 import bisq.common.app.Version;
 import bisq.common.persistence.PersistenceManager;
@@ -27,24 +28,34 @@ import bisq.common.persistence.PersistenceManager;
 import com.google.common.collect.ImmutableMap;
 
 import java.io.File;
+import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
+
 /**
  * Manages historical data stores tagged with the release versions.
  * New data is added to the default map in the store (live data). Historical data is created from resource files.
  * For initial data requests we only use the live data as the users version is sent with the
  * request so the responding (seed)node can figure out if we miss any of the historical data.
+ * <p>
+ * If useMappedHistoricalStores is set and the subclass provides a {@link MappedPayloadMap.Codec} the historical
+ * store files are memory mapped and the payloads get only decoded on request. In that case getMapSinceVersion and
+ * getMapOfAllData return read-only views instead of copies.
  */
 @Slf4j
 public abstract class HistoricalDataStoreService<T extends PersistableNetworkPayloadStore<? extends PersistableNetworkPayload>> extends MapStoreService<T, PersistableNetworkPayload> {
-    private ImmutableMap<String, PersistableNetworkPayloadStore<? extends PersistableNetworkPayload>> storesByVersion;
+    private final boolean useMappedHistoricalStores;
+    private ImmutableMap<String, Map<P2PDataStorage.ByteArray, PersistableNetworkPayload>> mapsByVersion;
     // Cache to avoid that we have to recreate the historical data at each request
-    private ImmutableMap<P2PDataStorage.ByteArray, PersistableNetworkPayload> allHistoricalPayloads;
+    private Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> allHistoricalPayloads;
 
 
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -52,7 +63,14 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
     ///////////////////////////////////////////////////////////////////////////////////////////
 
     public HistoricalDataStoreService(File storageDir, PersistenceManager<T> persistenceManager) {
+        this(storageDir, persistenceManager, false);
+    }
+
+    public HistoricalDataStoreService(File storageDir,
+                                      PersistenceManager<T> persistenceManager,
+                                      boolean useMappedHistoricalStores) {
         super(storageDir, persistenceManager);
+        this.useMappedHistoricalStores = useMappedHistoricalStores;
     }
 
 
@@ -64,10 +82,11 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
     // If requestersVersion is null we return all historical data.
     public Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> getMapSinceVersion(String requestersVersion) {
         // We add all our live data
-        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> result = new HashMap<>(store.getMap());
+        List<Map<P2PDataStorage.ByteArray, PersistableNetworkPayload>> maps = new ArrayList<>();
+        maps.add(store.getMap());
 
         // If we have a store with a newer version than the requesters version we will add those as well.
-        storesByVersion.entrySet().stream()
+        mapsByVersion.entrySet().stream()
                 .filter(entry -> {
                     // Old nodes not sending the version will get delivered all data
                     if (requestersVersion == null) {
@@ -87,8 +106,16 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
                             requestersVersion, storeVersion, details);
                     return newVersion;
                 })
-                .map(e -> e.getValue().getMap())
-                .forEach(result::putAll);
+                .map(Map.Entry::getValue)
+                .forEach(maps::add);
+
+        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> result;
+        if (isUsingMappedStores()) {
+            result = new CompositePayloadMap(maps);
+        } else {
+            result = new HashMap<>();
+            maps.forEach(result::putAll);
+        }
 
         log.info("We found {} entries since requesters version {}",
                 result.size(), requestersVersion);
@@ -100,6 +127,10 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
     }
 
     public Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> getMapOfAllData() {
+        if (isUsingMappedStores()) {
+            return new CompositePayloadMap(List.of(getMapOfLiveData(), allHistoricalPayloads));
+        }
+
         Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> result = new HashMap<>(getMapOfLiveData());
         result.putAll(allHistoricalPayloads);
         return result;
@@ -124,7 +155,7 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
         }
 
         getMapOfLiveData().put(hash, payload);
-        requestPersistence();
+        requestPersistence(hash, payload);
     }
 
     @Override
@@ -137,7 +168,7 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
         // So it will be always null. We still keep the return type as we override the method from MapStoreService which
         // follow the Map.putIfAbsent signature.
         getMapOfLiveData().put(hash, payload);
-        requestPersistence();
+        requestPersistence(hash, payload);
         return null;
     }
 
@@ -150,17 +181,26 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
 
             // Now we add our historical data stores.
             Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> allHistoricalPayloads = new HashMap<>();
-            Map<String, PersistableNetworkPayloadStore<? extends PersistableNetworkPayload>> storesByVersion = new HashMap<>();
+            Map<String, Map<P2PDataStorage.ByteArray, PersistableNetworkPayload>> mapsByVersion = new HashMap<>();
             AtomicInteger numFiles = new AtomicInteger(Version.HISTORICAL_RESOURCE_FILE_VERSION_TAGS.size());
             Version.HISTORICAL_RESOURCE_FILE_VERSION_TAGS.forEach(version -> readHistoricalStoreFromResources(version,
                     postFix,
                     allHistoricalPayloads,
-                    storesByVersion,
+                    mapsByVersion,
                     () -> {
                         if (numFiles.decrementAndGet() == 0) {
                             // At last iteration we set the immutable map
-                            this.allHistoricalPayloads = ImmutableMap.copyOf(allHistoricalPayloads);
-                            this.storesByVersion = ImmutableMap.copyOf(storesByVersion);
+                            this.mapsByVersion = ImmutableMap.copyOf(mapsByVersion);
+                            if (isUsingMappedStores()) {
+                                // We keep the version order so that lookups hit the newer stores first
+                                List<Map<P2PDataStorage.ByteArray, PersistableNetworkPayload>> maps = new ArrayList<>();
+                                Version.HISTORICAL_RESOURCE_FILE_VERSION_TAGS.stream()
+                                        .filter(mapsByVersion::containsKey)
+                                        .forEach(tag -> maps.add(0, mapsByVersion.get(tag)));
+                                this.allHistoricalPayloads = new CompositePayloadMap(maps);
+                            } else {
+                                this.allHistoricalPayloads = ImmutableMap.copyOf(allHistoricalPayloads);
+                            }
                             completeHandler.run();
                         }
                     }));
@@ -168,6 +208,13 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
     }
 
 
+    // Subclasses supporting memory mapped historical stores provide the codec for the items of their store
+    @Nullable
+    protected MappedPayloadMap.Codec getMappedPayloadCodec() {
+        return null;
+    }
+
+
     ///////////////////////////////////////////////////////////////////////////////////////////
     // Private
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -175,28 +222,70 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
     private void readHistoricalStoreFromResources(String version,
                                                   String postFix,
                                                   Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> allHistoricalPayloads,
-                                                  Map<String, PersistableNetworkPayloadStore<? extends PersistableNetworkPayload>> storesByVersion,
+                                                  Map<String, Map<P2PDataStorage.ByteArray, PersistableNetworkPayload>> mapsByVersion,
                                                   Runnable completeHandler) {
 
         String fileName = getFileName() + "_" + version;
         boolean wasCreatedFromResources = makeFileFromResourceFile(fileName, postFix);
 
+        if (isUsingMappedStores()) {
+            readMappedHistoricalStore(version, fileName, mapsByVersion, completeHandler);
+            return;
+        }
+
         // If resource file does not exist we do not create a new store as it would never get filled.
         persistenceManager.readPersisted(fileName, persisted -> {
-                    storesByVersion.put(version, persisted);
+                    mapsByVersion.put(version, persisted.getMap());
                     allHistoricalPayloads.putAll(persisted.getMap());
                     log.debug("We have read from {} {} historical items.", fileName, persisted.getMap().size());
-                    pruneStore(persisted, version);
+                    pruneStore(persisted.getMap(), version);
                     completeHandler.run();
                 },
                 completeHandler::run);
     }
 
-    private void pruneStore(PersistableNetworkPayloadStore<? extends PersistableNetworkPayload> historicalStore,
+    private void readMappedHistoricalStore(String version,
+                                           String fileName,
+                                           Map<String, Map<P2PDataStorage.ByteArray, PersistableNetworkPayload>> mapsByVersion,
+                                           Runnable completeHandler) {
+        File storageFile = new File(absolutePathOfStorageDir, fileName);
+        if (!storageFile.exists()) {
+            completeHandler.run();
+            return;
+        }
+
+        // Like at PersistenceManager.readPersisted we build the index in a thread and map back to the user thread.
+        new Thread(() -> {
+            long ts = System.currentTimeMillis();
+            try {
+                MappedPayloadMap mappedPayloadMap = MappedPayloadMap.fromFile(storageFile, getMappedPayloadCodec());
+                log.info("Mapping {} with {} historical items completed in {} ms",
+                        fileName, mappedPayloadMap.size(), System.currentTimeMillis() - ts);
+                UserThread.execute(() -> {
+                    mapsByVersion.put(version, mappedPayloadMap);
+                    pruneStore(mappedPayloadMap, version);
+                    completeHandler.run();
+                });
+            } catch (IOException | RuntimeException e) {
+                log.error("Mapping {} failed with {}. We fall back to reading the store into the heap.",
+                        fileName, e.toString());
+                // We use the map of the persisted store as it is also a valid read-only historical map
+                UserThread.execute(() -> persistenceManager.readPersisted(fileName, persisted -> {
+                            mapsByVersion.put(version, persisted.getMap());
+                            pruneStore(persisted.getMap(), version);
+                            completeHandler.run();
+                        },
+                        completeHandler::run));
+            }
+        }, "HistoricalDataStoreService-map-" + fileName).start();
+    }
+
+    private void pruneStore(Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> historicalMap,
                             String version) {
         Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> mapOfLiveData = getMapOfLiveData();
         int preLive = mapOfLiveData.size();
-        mapOfLiveData.keySet().removeAll(historicalStore.getMap().keySet());
+        // We iterate the live data as the historical map is much larger and supports fast lookups
+        mapOfLiveData.keySet().removeIf(historicalMap::containsKey);
         int postLive = mapOfLiveData.size();
         if (preLive > postLive) {
             log.debug("We pruned data from our live data store which are already contained in the historical data store with version {}. " +
@@ -208,6 +297,10 @@ public abstract class HistoricalDataStoreService<T extends PersistableNetworkPay
         requestPersistence();
     }
 
+    private boolean isUsingMappedStores() {
+        return useMappedHistoricalStores && getMappedPayloadCodec() != null;
+    }
+
     private boolean anyMapContainsKey(P2PDataStorage.ByteArray hash) {
         return getMapOfLiveData().containsKey(hash) || allHistoricalPayloads.containsKey(hash);
     }
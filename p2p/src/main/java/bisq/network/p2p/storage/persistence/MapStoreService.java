@@ -19,6 +19,7 @@ package bisq.network.p2p.storage.persistence;
 
 import bisq.network.p2p.storage.P2PDataStorage;
 
+import bisq.common.persistence.JournalEntry;
 import bisq.common.persistence.PersistenceManager;
 import bisq.common.proto.persistable.PersistableEnvelope;
 import bisq.common.proto.persistable.PersistablePayload;
@@ -58,21 +59,25 @@ public abstract class MapStoreService<T extends PersistableEnvelope, R extends P
 
     void put(P2PDataStorage.ByteArray hash, R payload) {
         getMap().put(hash, payload);
-        requestPersistence();
+        requestPersistence(hash, payload);
     }
 
     protected R putIfAbsent(P2PDataStorage.ByteArray hash, R payload) {
         R previous = getMap().putIfAbsent(hash, payload);
-        requestPersistence();
+        requestPersistence(hash, payload);
         return previous;
     }
 
     R remove(P2PDataStorage.ByteArray hash) {
         R result = getMap().remove(hash);
-        requestPersistence();
+        requestPersistence(() -> JournalEntry.remove(hash.bytes));
         return result;
     }
 
+    protected void requestPersistence(P2PDataStorage.ByteArray hash, R payload) {
+        requestPersistence(() -> JournalEntry.put(hash.bytes, payload.toProtoMessage().toByteArray()));
+    }
+
     boolean containsKey(P2PDataStorage.ByteArray hash) {
         return getMap().containsKey(hash);
     }
@@ -0,0 +1,366 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.storage.persistence;
+
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-only map view of a persisted {@link PersistableNetworkPayloadStore} file. Instead of parsing the whole file
+ * into heap objects we memory map it and only scan the protobuf wire format once to build a compact index of the
+ * payload hashes, sorted for binary search. A payload gets decoded from the mapped file only when it is requested.
+ * <p>
+ * We use it for the versioned historical store files which are never changed after they have been shipped as
+ * resource files, so we never need to write to the mapped buffer.
+ */
+@Slf4j
+public class MappedPayloadMap extends AbstractMap<P2PDataStorage.ByteArray, PersistableNetworkPayload> {
+
+    /**
+     * Provides the knowledge about the proto message of the items in the store.
+     */
+    public interface Codec {
+        // Field number of the hash field in the proto message of a store item
+        int getHashFieldNumber();
+
+        PersistableNetworkPayload fromBytes(ByteBuffer bytes) throws IOException;
+    }
+
+    public static MappedPayloadMap fromFile(File file, Codec codec) throws IOException {
+        MappedByteBuffer buffer;
+        // The mapping stays valid after the channel got closed
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        return new MappedPayloadMap(buffer, codec);
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Class fields
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    private final ByteBuffer buffer;
+    private final Codec codec;
+
+    // All arrays are sorted by the hash of the item
+    private final int[] itemOffsets;
+    private final int[] itemLengths;
+    private final int[] hashOffsets;
+    private final int[] hashLengths;
+    private final int size;
+
+    private Set<Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload>> entrySet;
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Constructor
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    MappedPayloadMap(ByteBuffer buffer, Codec codec) throws IOException {
+        this.buffer = buffer;
+        this.codec = codec;
+
+        Index index = readIndex(buffer.duplicate(), codec.getHashFieldNumber());
+
+        // We sort once by hash so lookups are a binary search on the mapped data
+        Integer[] order = new Integer[index.size];
+        for (int i = 0; i < index.size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> compareHashes(index.hashOffsets[a], index.hashLengths[a],
+                index.hashOffsets[b], index.hashLengths[b]));
+
+        itemOffsets = new int[index.size];
+        itemLengths = new int[index.size];
+        hashOffsets = new int[index.size];
+        hashLengths = new int[index.size];
+        int numUnique = 0;
+        for (Integer i : order) {
+            // Duplicated hashes would have overwritten each other in a HashMap, so we keep only one
+            if (numUnique > 0 && compareHashes(hashOffsets[numUnique - 1], hashLengths[numUnique - 1],
+                    index.hashOffsets[i], index.hashLengths[i]) == 0) {
+                continue;
+            }
+            itemOffsets[numUnique] = index.itemOffsets[i];
+            itemLengths[numUnique] = index.itemLengths[i];
+            hashOffsets[numUnique] = index.hashOffsets[i];
+            hashLengths[numUnique] = index.hashLengths[i];
+            numUnique++;
+        }
+        size = numUnique;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Map
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof P2PDataStorage.ByteArray && indexOf(((P2PDataStorage.ByteArray) key).bytes) >= 0;
+    }
+
+    @Override
+    public PersistableNetworkPayload get(Object key) {
+        if (!(key instanceof P2PDataStorage.ByteArray)) {
+            return null;
+        }
+
+        int index = indexOf(((P2PDataStorage.ByteArray) key).bytes);
+        return index >= 0 ? decode(index) : null;
+    }
+
+    @Override
+    public Set<Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload>> iterator() {
+                    return new Iterator<>() {
+                        private int index;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < size;
+                        }
+
+                        @Override
+                        public Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            return new LazyEntry(index++);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return entrySet;
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // Private
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    // Decodes the payload only if the value is accessed, so iterating the keys does not decode anything
+    private class LazyEntry implements Entry<P2PDataStorage.ByteArray, PersistableNetworkPayload> {
+        private final int index;
+        private P2PDataStorage.ByteArray key;
+
+        private LazyEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public P2PDataStorage.ByteArray getKey() {
+            if (key == null) {
+                key = getHash(index);
+            }
+            return key;
+        }
+
+        @Override
+        public PersistableNetworkPayload getValue() {
+            return decode(index);
+        }
+
+        @Override
+        public PersistableNetworkPayload setValue(PersistableNetworkPayload value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> other = (Entry<?, ?>) o;
+            return getKey().equals(other.getKey()) && getValue().equals(other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+    }
+
+    private P2PDataStorage.ByteArray getHash(int index) {
+        byte[] hash = new byte[hashLengths[index]];
+        buffer.duplicate().position(hashOffsets[index]).get(hash);
+        return new P2PDataStorage.ByteArray(hash);
+    }
+
+    private PersistableNetworkPayload decode(int index) {
+        // We use a duplicate as position and limit of a buffer are not thread safe
+        ByteBuffer item = buffer.duplicate();
+        item.position(itemOffsets[index]).limit(itemOffsets[index] + itemLengths[index]);
+        try {
+            return codec.fromBytes(item.slice());
+        } catch (IOException e) {
+            // The file was valid when we built the index and is immutable, so that should never happen
+            throw new IllegalStateException("Decoding of mapped payload failed", e);
+        }
+    }
+
+    private int indexOf(byte[] hash) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int result = compareHash(hashOffsets[mid], hashLengths[mid], hash);
+            if (result < 0) {
+                low = mid + 1;
+            } else if (result > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int compareHash(int offset, int length, byte[] hash) {
+        int minLength = Math.min(length, hash.length);
+        for (int i = 0; i < minLength; i++) {
+            int result = Integer.compare(buffer.get(offset + i) & 0xff, hash[i] & 0xff);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(length, hash.length);
+    }
+
+    private int compareHashes(int offsetA, int lengthA, int offsetB, int lengthB) {
+        int minLength = Math.min(lengthA, lengthB);
+        for (int i = 0; i < minLength; i++) {
+            int result = Integer.compare(buffer.get(offsetA + i) & 0xff, buffer.get(offsetB + i) & 0xff);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(lengthA, lengthB);
+    }
+
+    // The file contains a length delimited PersistableEnvelope which has the store as its only field. The store
+    // message has the items as repeated field 1.
+    private static Index readIndex(ByteBuffer data, int hashFieldNumber) throws IOException {
+        Index index = new Index();
+        CodedInputStream input = CodedInputStream.newInstance(data);
+        input.setSizeLimit(Integer.MAX_VALUE);
+        int envelopeLimit = input.pushLimit(input.readRawVarint32());
+        while (!input.isAtEnd()) {
+            int storeTag = input.readTag();
+            if (WireFormat.getTagWireType(storeTag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                input.skipField(storeTag);
+                continue;
+            }
+
+            int storeLimit = input.pushLimit(input.readRawVarint32());
+            while (!input.isAtEnd()) {
+                int itemTag = input.readTag();
+                if (WireFormat.getTagFieldNumber(itemTag) != 1 ||
+                        WireFormat.getTagWireType(itemTag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    input.skipField(itemTag);
+                    continue;
+                }
+
+                int itemLength = input.readRawVarint32();
+                int itemOffset = input.getTotalBytesRead();
+                int itemLimit = input.pushLimit(itemLength);
+                int hashOffset = -1;
+                int hashLength = 0;
+                while (!input.isAtEnd()) {
+                    int fieldTag = input.readTag();
+                    if (WireFormat.getTagFieldNumber(fieldTag) == hashFieldNumber &&
+                            WireFormat.getTagWireType(fieldTag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        hashLength = input.readRawVarint32();
+                        hashOffset = input.getTotalBytesRead();
+                        input.skipRawBytes(hashLength);
+                    } else {
+                        input.skipField(fieldTag);
+                    }
+                }
+                input.popLimit(itemLimit);
+
+                if (hashOffset < 0 || hashLength == 0) {
+                    throw new IOException("Item at offset " + itemOffset + " has no hash");
+                }
+                index.add(itemOffset, itemLength, hashOffset, hashLength);
+            }
+            input.popLimit(storeLimit);
+        }
+        input.popLimit(envelopeLimit);
+        return index;
+    }
+
+    // Temporary unsorted index used while scanning the file
+    private static class Index {
+        private int[] itemOffsets = new int[1024];
+        private int[] itemLengths = new int[1024];
+        private int[] hashOffsets = new int[1024];
+        private int[] hashLengths = new int[1024];
+        private int size;
+
+        private void add(int itemOffset, int itemLength, int hashOffset, int hashLength) {
+            if (size == itemOffsets.length) {
+                int capacity = size * 2;
+                itemOffsets = Arrays.copyOf(itemOffsets, capacity);
+                itemLengths = Arrays.copyOf(itemLengths, capacity);
+                hashOffsets = Arrays.copyOf(hashOffsets, capacity);
+                hashLengths = Arrays.copyOf(hashLengths, capacity);
+            }
+            itemOffsets[size] = itemOffset;
+            itemLengths[size] = itemLength;
+            hashOffsets[size] = hashOffset;
+            hashLengths[size] = hashLength;
+            size++;
+        }
+    }
+}
@@ -19,7 +19,10 @@ package bisq.network.p2p.storage.persistence;
 
 import bisq.network.p2p.storage.P2PDataStorage;
 
-import bisq.common.proto.persistable.PersistableEnvelope;
+import bisq.common.persistence.JournalEntry;
+import bisq.common.persistence.JournaledPersistableEnvelope;
+
+import com.google.protobuf.InvalidProtocolBufferException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -34,7 +37,7 @@ import lombok.Setter;
  * in protobuffer the map construct can't be anything, so the straightforward mapping was not possible.
  * Hence this Persistable class.
  */
-public class SequenceNumberMap implements PersistableEnvelope {
+public class SequenceNumberMap implements JournaledPersistableEnvelope {
     @Getter
     @Setter
     private Map<P2PDataStorage.ByteArray, P2PDataStorage.MapValue> map = new ConcurrentHashMap<>();
@@ -72,6 +75,25 @@ public class SequenceNumberMap implements PersistableEnvelope {
     }
 
 
+    ///////////////////////////////////////////////////////////////////////////////////////////
+    // JournaledPersistableEnvelope
+    ///////////////////////////////////////////////////////////////////////////////////////////
+
+    public static JournalEntry toJournalEntry(P2PDataStorage.ByteArray key, P2PDataStorage.MapValue value) {
+        return JournalEntry.put(key.bytes, value.toProtoMessage().toByteArray());
+    }
+
+    @Override
+    public void applyJournalEntry(JournalEntry journalEntry) throws InvalidProtocolBufferException {
+        P2PDataStorage.ByteArray key = new P2PDataStorage.ByteArray(journalEntry.getKey());
+        if (journalEntry.getType() == JournalEntry.Type.PUT) {
+            map.put(key, P2PDataStorage.MapValue.fromProto(protobuf.MapValue.parseFrom(journalEntry.getValue())));
+        } else {
+            map.remove(key);
+        }
+    }
+
+
     ///////////////////////////////////////////////////////////////////////////////////////////
     // API
     ///////////////////////////////////////////////////////////////////////////////////////////
@@ -19,6 +19,7 @@ package bisq.network.p2p.storage.persistence;
 
 import bisq.common.file.FileUtil;
 import bisq.common.file.ResourceNotFoundException;
+import bisq.common.persistence.JournalEntry;
 import bisq.common.persistence.PersistenceManager;
 import bisq.common.proto.persistable.PersistableEnvelope;
 
@@ -29,6 +30,7 @@ import java.nio.file.Paths;
 import java.io.File;
 
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -69,6 +71,11 @@ public abstract class StoreService<T extends PersistableEnvelope> {
         persistenceManager.requestPersistence();
     }
 
+    // Stores implementing JournaledPersistableEnvelope only append the change to the journal
+    protected void requestPersistence(Supplier<JournalEntry> journalEntrySupplier) {
+        persistenceManager.requestPersistence(journalEntrySupplier);
+    }
+
     protected T getStore() {
         return store;
     }
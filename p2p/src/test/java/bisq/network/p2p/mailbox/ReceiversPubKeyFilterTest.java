@@ -0,0 +1,72 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.mailbox;
+
+import bisq.network.p2p.PrefixedSealedAndSignedMessage;
+import bisq.network.p2p.TestUtils;
+import bisq.network.p2p.storage.payload.MailboxStoragePayload;
+import bisq.network.p2p.storage.payload.ProtectedMailboxStorageEntry;
+
+import bisq.common.crypto.Sig;
+
+import java.security.KeyPair;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+
+import java.time.Clock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ReceiversPubKeyFilterTest {
+
+    @Test
+    public void testOnlyEntriesWithOwnReceiversPubKeyPass() throws NoSuchAlgorithmException {
+        KeyPair senderKeys = TestUtils.generateKeyPair();
+        KeyPair ownKeys = TestUtils.generateKeyPair();
+        KeyPair otherReceiverKeys = TestUtils.generateKeyPair();
+
+        ReceiversPubKeyFilter filter = new ReceiversPubKeyFilter(List.of(ownKeys.getPublic()));
+
+        assertTrue(filter.isAddressedToUs(buildEntry(senderKeys, ownKeys.getPublic())));
+        assertFalse(filter.isAddressedToUs(buildEntry(senderKeys, otherReceiverKeys.getPublic())));
+        // The filter compares the encoded keys, so a decoded copy of our key matches as well
+        PublicKey ownPubKeyCopy = Sig.getPublicKeyFromBytes(Sig.getPublicKeyBytes(ownKeys.getPublic()));
+        assertTrue(filter.isAddressedToUs(buildEntry(senderKeys, ownPubKeyCopy)));
+    }
+
+    private static ProtectedMailboxStorageEntry buildEntry(KeyPair senderKeys, PublicKey receiversPubKey) {
+        MailboxStoragePayload mailboxStoragePayload = new MailboxStoragePayload(
+                mock(PrefixedSealedAndSignedMessage.class),
+                senderKeys.getPublic(),
+                receiversPubKey,
+                MailboxStoragePayload.TTL);
+        // The signature is not verified by the filter
+        return new ProtectedMailboxStorageEntry(mailboxStoragePayload,
+                senderKeys.getPublic(),
+                1,
+                new byte[]{1},
+                receiversPubKey,
+                Clock.systemDefaultZone());
+    }
+}
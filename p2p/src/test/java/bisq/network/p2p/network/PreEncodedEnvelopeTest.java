@@ -0,0 +1,53 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.network;
+
+import bisq.network.p2p.BundleOfEnvelopes;
+import bisq.network.p2p.peers.keepalive.messages.Ping;
+import bisq.network.p2p.peers.keepalive.messages.Pong;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PreEncodedEnvelopeTest {
+    @Test
+    public void encodingIsSameAsWriteDelimitedTo() throws IOException {
+        BundleOfEnvelopes bundle = new BundleOfEnvelopes(new ArrayList<>(List.of(new Ping(1, 2), new Pong(3))));
+        protobuf.NetworkEnvelope proto = bundle.toProtoNetworkEnvelope();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        proto.writeDelimitedTo(expected);
+
+        PreEncodedEnvelope preEncodedEnvelope = new PreEncodedEnvelope(bundle);
+        assertEquals(proto.getSerializedSize(), preEncodedEnvelope.getSerializedSize());
+
+        // Writing multiple times gives the same bytes
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream actual = new ByteArrayOutputStream();
+            preEncodedEnvelope.writeDelimitedTo(actual);
+            assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+        }
+    }
+}
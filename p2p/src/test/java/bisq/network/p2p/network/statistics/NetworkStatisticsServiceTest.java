@@ -0,0 +1,63 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.network.statistics;
+
+import bisq.network.p2p.AckMessage;
+import bisq.network.p2p.storage.messages.AddDataMessage;
+
+import bisq.common.metrics.Counter;
+import bisq.common.metrics.MetricsRegistry;
+import bisq.common.proto.network.NetworkEnvelope;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class NetworkStatisticsServiceTest {
+    private static final String SENT_MESSAGES = "bisq_network_sent_messages_total";
+    private static final String RECEIVED_MESSAGES = "bisq_network_received_messages_total";
+
+    private final NetworkStatisticsService networkStatisticsService = new NetworkStatisticsService();
+
+    @Test
+    public void messagesOfAllConnectionsAreCountedInRegistry() {
+        AckMessage ackMessage = mock(AckMessage.class);
+        AddDataMessage addDataMessage = mock(AddDataMessage.class);
+        // The counters of the default registry are shared with other tests, so we only check the increments
+        long numSentAckMessages = getCounter(SENT_MESSAGES, ackMessage).get();
+        long numReceivedAddDataMessages = getCounter(RECEIVED_MESSAGES, addDataMessage).get();
+
+        ConnectionStatistics firstConnectionStatistics = networkStatisticsService.newConnectionStatistics();
+        ConnectionStatistics secondConnectionStatistics = networkStatisticsService.newConnectionStatistics();
+        firstConnectionStatistics.addSentMessage(ackMessage);
+        secondConnectionStatistics.addSentMessage(ackMessage);
+        secondConnectionStatistics.addReceivedMessage(addDataMessage);
+
+        assertEquals(numSentAckMessages + 2, getCounter(SENT_MESSAGES, ackMessage).get());
+        assertEquals(numReceivedAddDataMessages + 1, getCounter(RECEIVED_MESSAGES, addDataMessage).get());
+        assertTrue(MetricsRegistry.getDefault().scrape().contains(
+                SENT_MESSAGES + "{message=\"" + ackMessage.getClass().getSimpleName() + "\"}"));
+    }
+
+    private static Counter getCounter(String name, NetworkEnvelope networkEnvelope) {
+        // The help text is only used if the counter is not registered yet
+        return MetricsRegistry.getDefault().counter(name, name, "message", networkEnvelope.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.peers;
+
+import bisq.network.p2p.BundleOfEnvelopes;
+import bisq.network.p2p.NodeAddress;
+import bisq.network.p2p.network.Connection;
+import bisq.network.p2p.network.NetworkNode;
+import bisq.network.p2p.network.PreEncodedEnvelope;
+import bisq.network.p2p.storage.messages.RefreshOfferMessage;
+import bisq.network.p2p.storage.messages.RefreshOffersMessage;
+
+import bisq.common.Timer;
+import bisq.common.TimingWheelTimer;
+import bisq.common.UserThread;
+import bisq.common.app.Capabilities;
+import bisq.common.app.Capability;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
+
+import java.time.Duration;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BroadcastHandlerTest {
+    private static final List<ManualTimer> timers = new ArrayList<>();
+
+    private final NodeAddress myAddress = new NodeAddress("localhost", 8000);
+    private final Map<Connection, PreEncodedEnvelope> sentEnvelopes = new HashMap<>();
+    private NetworkNode networkNode;
+
+    @BeforeEach
+    public void setup() {
+        UserThread.setTimerClass(ManualTimer.class);
+        timers.clear();
+
+        networkNode = mock(NetworkNode.class);
+        when(networkNode.getNodeAddress()).thenReturn(myAddress);
+        when(networkNode.sendMessage(any(Connection.class), any(PreEncodedEnvelope.class),
+                any(ListeningExecutorService.class)))
+                .thenAnswer(invocation -> {
+                    sentEnvelopes.put(invocation.getArgument(0), invocation.getArgument(1));
+                    return SettableFuture.create();
+                });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        UserThread.setTimerClass(TimingWheelTimer.class);
+    }
+
+    @Test
+    public void testRefreshOffersMessageIsExpandedOnlyForLegacyPeers() {
+        Connection capableConnection = createConnection(8001, new Capabilities(Capability.BULK_REFRESH_OFFERS));
+        Connection otherCapableConnection = createConnection(8002, new Capabilities(Capability.BULK_REFRESH_OFFERS));
+        Connection legacyConnection = createConnection(8003, new Capabilities());
+        when(networkNode.getConfirmedConnections())
+                .thenReturn(Set.of(capableConnection, otherCapableConnection, legacyConnection));
+
+        RefreshOfferMessage refreshOfferMessage1 = createRefreshOfferMessage(1);
+        RefreshOfferMessage refreshOfferMessage2 = createRefreshOfferMessage(2);
+        RefreshOfferMessage refreshOfferMessage3 = createRefreshOfferMessage(3);
+        RefreshOffersMessage refreshOffersMessage = new RefreshOffersMessage(
+                List.of(refreshOfferMessage1, refreshOfferMessage2));
+
+        Broadcaster broadcaster = new Broadcaster(networkNode, mock(PeerManager.class), 1);
+        broadcaster.broadcast(refreshOffersMessage, myAddress);
+        broadcaster.broadcast(refreshOfferMessage3, myAddress);
+        broadcaster.flush();
+        runSendTimers();
+
+        assertEquals(3, sentEnvelopes.size());
+        assertEquals(List.of(refreshOffersMessage, refreshOfferMessage3), getEnvelopes(capableConnection));
+        assertEquals(List.of(refreshOfferMessage1, refreshOfferMessage2, refreshOfferMessage3),
+                getEnvelopes(legacyConnection));
+
+        // Peers with the same requests and capabilities share the encoding, but the expanded message is a separate one
+        assertSame(sentEnvelopes.get(capableConnection), sentEnvelopes.get(otherCapableConnection));
+        assertNotSame(sentEnvelopes.get(capableConnection), sentEnvelopes.get(legacyConnection));
+    }
+
+    private Connection createConnection(int port, Capabilities capabilities) {
+        Connection connection = mock(Connection.class);
+        when(connection.getPeersNodeAddressOptional()).thenReturn(Optional.of(new NodeAddress("localhost", port)));
+        when(connection.getCapabilities()).thenReturn(capabilities);
+        when(connection.testCapability(any())).thenReturn(true);
+        return connection;
+    }
+
+    private static RefreshOfferMessage createRefreshOfferMessage(int index) {
+        return new RefreshOfferMessage(new byte[]{(byte) index}, new byte[]{1}, new byte[]{(byte) index}, index);
+    }
+
+    private List<?> getEnvelopes(Connection connection) {
+        PreEncodedEnvelope preEncodedEnvelope = sentEnvelopes.get(connection);
+        assertTrue(preEncodedEnvelope.getNetworkEnvelope() instanceof BundleOfEnvelopes);
+        return ((BundleOfEnvelopes) preEncodedEnvelope.getNetworkEnvelope()).getEnvelopes();
+    }
+
+    // The sends to the peers are scheduled with a short random delay, the timeout of the broadcast after minutes
+    private static void runSendTimers() {
+        new ArrayList<>(timers).stream()
+                .filter(timer -> !timer.stopped && timer.delay.compareTo(Duration.ofSeconds(1)) < 0)
+                .forEach(timer -> {
+                    timer.stopped = true;
+                    timer.action.run();
+                });
+    }
+
+    public static class ManualTimer implements Timer {
+        private Duration delay;
+        private Runnable action;
+        private boolean stopped;
+
+        @Override
+        public Timer runLater(Duration delay, Runnable action) {
+            this.delay = delay;
+            this.action = action;
+            timers.add(this);
+            return this;
+        }
+
+        @Override
+        public Timer runPeriodically(Duration interval, Runnable runnable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void stop() {
+            stopped = true;
+        }
+    }
+}
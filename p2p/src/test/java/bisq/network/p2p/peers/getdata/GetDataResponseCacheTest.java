@@ -0,0 +1,89 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.peers.getdata;
+
+import bisq.network.p2p.network.PreEncodedEnvelope;
+import bisq.network.p2p.peers.getdata.messages.GetDataResponse;
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+
+import com.google.protobuf.ByteString;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class GetDataResponseCacheTest {
+
+    @Test
+    public void encodingParsesToSameMessage() throws IOException {
+        Set<PersistableNetworkPayload> payloads = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            payloads.add(new TestPayload(new byte[]{(byte) i, 1, 2}, i));
+        }
+        GetDataResponse getDataResponse = new GetDataResponse(new HashSet<>(), payloads, 42, false, true);
+
+        GetDataResponseCache cache = new GetDataResponseCache(mock(P2PDataStorage.class));
+        PreEncodedEnvelope preEncodedEnvelope = cache.toPreEncodedEnvelope(getDataResponse);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        preEncodedEnvelope.writeDelimitedTo(outputStream);
+
+        protobuf.NetworkEnvelope expected = getDataResponse.toProtoNetworkEnvelope();
+        protobuf.NetworkEnvelope parsed = protobuf.NetworkEnvelope.parseDelimitedFrom(
+                new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(expected, parsed);
+        assertEquals(expected.getSerializedSize(), preEncodedEnvelope.getSerializedSize());
+    }
+
+    private static class TestPayload implements PersistableNetworkPayload {
+        private final byte[] hash;
+        private final long date;
+
+        private TestPayload(byte[] hash, long date) {
+            this.hash = hash;
+            this.date = date;
+        }
+
+        @Override
+        public protobuf.PersistableNetworkPayload toProtoMessage() {
+            return protobuf.PersistableNetworkPayload.newBuilder()
+                    .setAccountAgeWitness(protobuf.AccountAgeWitness.newBuilder()
+                            .setHash(ByteString.copyFrom(hash))
+                            .setDate(date))
+                    .build();
+        }
+
+        @Override
+        public byte[] getHash() {
+            return hash;
+        }
+
+        @Override
+        public boolean verifyHashSize() {
+            return true;
+        }
+    }
+}
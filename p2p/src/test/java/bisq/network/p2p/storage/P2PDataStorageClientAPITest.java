@@ -17,10 +17,13 @@
 
 package bisq.network.p2p.storage;
 
+import bisq.network.p2p.NodeAddress;
 import bisq.network.p2p.TestUtils;
 import bisq.network.p2p.network.Connection;
 import bisq.network.p2p.storage.messages.AddDataMessage;
+import bisq.network.p2p.storage.messages.BroadcastMessage;
 import bisq.network.p2p.storage.messages.RefreshOfferMessage;
+import bisq.network.p2p.storage.messages.RefreshOffersMessage;
 import bisq.network.p2p.storage.mocks.ExpirableProtectedStoragePayloadStub;
 import bisq.network.p2p.storage.payload.MailboxStoragePayload;
 import bisq.network.p2p.storage.payload.ProtectedMailboxStorageEntry;
@@ -33,15 +36,21 @@ import bisq.common.crypto.CryptoException;
 import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.mockito.ArgumentCaptor;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static bisq.network.p2p.storage.TestState.SavedTestState;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -174,6 +183,56 @@ public class P2PDataStorageClientAPITest {
         this.testState.verifyRefreshTTL(beforeState, refreshOfferMessage, true);
     }
 
+    // TESTCASE: A RefreshOffersMessage refreshes all contained items and is broadcast as a whole
+    @Test
+    public void refreshTTL_RefreshOffersMessage() throws NoSuchAlgorithmException, CryptoException {
+        // The hash of the payload stub is derived from the owner key, so we need different keys for different payloads
+        KeyPair firstOwnerKeys = TestUtils.generateKeyPair();
+        KeyPair secondOwnerKeys = TestUtils.generateKeyPair();
+
+        ProtectedStoragePayload firstPayload = new ExpirableProtectedStoragePayloadStub(firstOwnerKeys.getPublic());
+        ProtectedStoragePayload secondPayload = new ExpirableProtectedStoragePayloadStub(secondOwnerKeys.getPublic());
+        this.testState.mockedStorage.addProtectedStorageEntry(this.testState.mockedStorage.getProtectedStorageEntry(firstPayload, firstOwnerKeys), TestState.getTestNodeAddress(), null);
+        this.testState.mockedStorage.addProtectedStorageEntry(this.testState.mockedStorage.getProtectedStorageEntry(secondPayload, secondOwnerKeys), TestState.getTestNodeAddress(), null);
+
+        RefreshOffersMessage refreshOffersMessage = new RefreshOffersMessage(List.of(
+                this.testState.mockedStorage.getRefreshTTLMessage(firstPayload, firstOwnerKeys),
+                this.testState.mockedStorage.getRefreshTTLMessage(secondPayload, secondOwnerKeys)));
+
+        this.testState.incrementClock();
+
+        SavedTestState beforeState = this.testState.saveTestState(refreshOffersMessage.getRefreshOfferMessages().get(0));
+        assertEquals(2, this.testState.mockedStorage.refreshTTL(refreshOffersMessage, TestState.getTestNodeAddress()));
+
+        refreshOffersMessage.getRefreshOfferMessages().forEach(refreshOfferMessage ->
+                verifyEntryRefreshed(beforeState, refreshOfferMessage));
+        assertEquals(refreshOffersMessage, captureBroadcastMessage());
+    }
+
+    // TESTCASE: A RefreshOffersMessage only broadcasts the refreshes of the items which got refreshed
+    @Test
+    public void refreshTTL_RefreshOffersMessage_PartiallyApplied() throws NoSuchAlgorithmException, CryptoException {
+        KeyPair ownerKeys = TestUtils.generateKeyPair();
+        KeyPair unknownOwnerKeys = TestUtils.generateKeyPair();
+
+        ProtectedStoragePayload storedPayload = new ExpirableProtectedStoragePayloadStub(ownerKeys.getPublic());
+        ProtectedStoragePayload unknownPayload = new ExpirableProtectedStoragePayloadStub(unknownOwnerKeys.getPublic());
+        this.testState.mockedStorage.addProtectedStorageEntry(this.testState.mockedStorage.getProtectedStorageEntry(storedPayload, ownerKeys), TestState.getTestNodeAddress(), null);
+
+        RefreshOfferMessage storedRefreshOfferMessage = this.testState.mockedStorage.getRefreshTTLMessage(storedPayload, ownerKeys);
+        RefreshOffersMessage refreshOffersMessage = new RefreshOffersMessage(List.of(
+                this.testState.mockedStorage.getRefreshTTLMessage(unknownPayload, unknownOwnerKeys),
+                storedRefreshOfferMessage));
+
+        this.testState.incrementClock();
+
+        SavedTestState beforeState = this.testState.saveTestState(storedRefreshOfferMessage);
+        assertEquals(1, this.testState.mockedStorage.refreshTTL(refreshOffersMessage, TestState.getTestNodeAddress()));
+
+        verifyEntryRefreshed(beforeState, storedRefreshOfferMessage);
+        assertEquals(new RefreshOffersMessage(List.of(storedRefreshOfferMessage)), captureBroadcastMessage());
+    }
+
     // TESTCASE: Removing a non-existent mailbox entry from the getMailboxDataWithSignedSeqNr API
     @Test
     public void getMailboxDataWithSignedSeqNr_RemoveNoExist() throws NoSuchAlgorithmException, CryptoException {
@@ -239,4 +298,18 @@ public class P2PDataStorageClientAPITest {
 
         this.testState.verifyProtectedStorageRemove(beforeState, protectedMailboxStorageEntry, true, true, true, true);
     }
+
+    private void verifyEntryRefreshed(SavedTestState beforeState, RefreshOfferMessage refreshOfferMessage) {
+        ProtectedStorageEntry entry = this.testState.mockedStorage.getMap()
+                .get(new P2PDataStorage.ByteArray(refreshOfferMessage.getHashOfPayload()));
+        assertEquals(refreshOfferMessage.getSequenceNumber(), entry.getSequenceNumber());
+        assertEquals(refreshOfferMessage.getSignature(), entry.getSignature());
+        assertTrue(entry.getCreationTimeStamp() > beforeState.creationTimestampBeforeUpdate);
+    }
+
+    private BroadcastMessage captureBroadcastMessage() {
+        ArgumentCaptor<BroadcastMessage> captor = ArgumentCaptor.forClass(BroadcastMessage.class);
+        verify(this.testState.mockBroadcaster).broadcast(captor.capture(), nullable(NodeAddress.class));
+        return captor.getValue();
+    }
 }
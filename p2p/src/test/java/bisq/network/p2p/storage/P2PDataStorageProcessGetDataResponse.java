@@ -30,6 +30,8 @@ import bisq.network.p2p.storage.payload.ProtectedStoragePayload;
 import java.security.KeyPair;
 import java.security.NoSuchAlgorithmException;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -37,8 +39,14 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.mockito.ArgumentCaptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class P2PDataStorageProcessGetDataResponse {
@@ -258,4 +266,29 @@ public class P2PDataStorageProcessGetDataResponse {
         this.testState.verifyProtectedStorageAdd(
                 beforeState, protectedStorageEntry, true, true, false, true);
     }
+
+    // TESTCASE: The PSEs of a large GetDataResponse are verified in parallel and the listeners are signaled once
+    @Test
+    @SuppressWarnings("unchecked")
+    public void processGetDataResponse_largeResponseIsAddedInOneBatch() throws NoSuchAlgorithmException {
+        List<ProtectedStorageEntry> protectedStorageEntries = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            protectedStorageEntries.add(getProtectedStorageEntryForAdd());
+        }
+        ProtectedStorageEntry invalidEntry = protectedStorageEntries.get(10);
+        when(invalidEntry.isValidForAddOperation()).thenReturn(false);
+
+        this.testState.mockedStorage.processGetDataResponse(
+                buildGetDataResponse(protectedStorageEntries, Collections.emptyList()), this.peerNodeAddress);
+
+        ArgumentCaptor<Collection<ProtectedStorageEntry>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(this.testState.hashMapChangedListener).onAdded(captor.capture());
+        assertEquals(59, captor.getValue().size());
+        assertFalse(captor.getValue().contains(invalidEntry));
+        assertEquals(59, this.testState.mockedStorage.getMap().size());
+        protectedStorageEntries.stream()
+                .filter(protectedStorageEntry -> protectedStorageEntry != invalidEntry)
+                .forEach(protectedStorageEntry -> assertTrue(this.testState.mockedStorage.getMap().containsKey(
+                        P2PDataStorage.get32ByteHashAsByteArray(protectedStorageEntry.getProtectedStoragePayload()))));
+    }
 }
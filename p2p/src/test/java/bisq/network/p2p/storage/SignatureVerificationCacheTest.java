@@ -0,0 +1,79 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.storage;
+
+import bisq.common.crypto.CryptoException;
+import bisq.common.crypto.Hash;
+import bisq.common.crypto.Sig;
+import bisq.common.metrics.MetricsRegistry;
+
+import java.security.KeyPair;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SignatureVerificationCacheTest {
+    private final KeyPair ownerKeyPair = Sig.generateKeyPair();
+    private final byte[] ownerPubKeyBytes = Sig.getPublicKeyBytes(ownerKeyPair.getPublic());
+    private final byte[] hashOfDataAndSeqNr = Hash.getSha256Hash("data");
+    private SignatureVerificationCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new SignatureVerificationCache(10, new MetricsRegistry());
+    }
+
+    @Test
+    public void testRepeatedVerificationIsCached() throws CryptoException {
+        byte[] signature = Sig.sign(ownerKeyPair.getPrivate(), hashOfDataAndSeqNr);
+
+        assertTrue(cache.verify(hashOfDataAndSeqNr, ownerKeyPair.getPublic(), ownerPubKeyBytes, signature));
+        assertTrue(cache.verify(hashOfDataAndSeqNr, ownerKeyPair.getPublic(), ownerPubKeyBytes, signature));
+
+        assertEquals(1, cache.getNumMisses());
+        assertEquals(1, cache.getNumHits());
+    }
+
+    @Test
+    public void testInvalidSignatureIsNotCached() throws CryptoException {
+        byte[] signature = Sig.sign(ownerKeyPair.getPrivate(), Hash.getSha256Hash("other data"));
+
+        assertFalse(cache.verify(hashOfDataAndSeqNr, ownerKeyPair.getPublic(), ownerPubKeyBytes, signature));
+        assertFalse(cache.verify(hashOfDataAndSeqNr, ownerKeyPair.getPublic(), ownerPubKeyBytes, signature));
+
+        assertEquals(2, cache.getNumMisses());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testOtherOwnerIsVerifiedAgain() throws CryptoException {
+        byte[] signature = Sig.sign(ownerKeyPair.getPrivate(), hashOfDataAndSeqNr);
+        assertTrue(cache.verify(hashOfDataAndSeqNr, ownerKeyPair.getPublic(), ownerPubKeyBytes, signature));
+
+        KeyPair otherKeyPair = Sig.generateKeyPair();
+        assertFalse(cache.verify(hashOfDataAndSeqNr,
+                otherKeyPair.getPublic(),
+                Sig.getPublicKeyBytes(otherKeyPair.getPublic()),
+                signature));
+        assertEquals(0, cache.getNumHits());
+    }
+}
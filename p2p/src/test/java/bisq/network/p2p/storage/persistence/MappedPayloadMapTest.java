@@ -0,0 +1,152 @@
+/*
+ * This file is part of Bisq.
+ *
+ * Bisq is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Affero General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or (at
+ * your option) any later version.
+ *
+ * Bisq is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Affero General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with Bisq. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package bisq.network.p2p.storage.persistence;
+
+import bisq.network.p2p.storage.P2PDataStorage;
+import bisq.network.p2p.storage.mocks.PersistableNetworkPayloadStub;
+import bisq.network.p2p.storage.payload.PersistableNetworkPayload;
+
+import com.google.protobuf.ByteString;
+
+import java.nio.ByteBuffer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedPayloadMapTest {
+    private AtomicInteger numDecoded;
+    private MappedPayloadMap.Codec codec;
+
+    @BeforeEach
+    public void setUp() {
+        numDecoded = new AtomicInteger();
+        codec = new MappedPayloadMap.Codec() {
+            @Override
+            public int getHashFieldNumber() {
+                return protobuf.AccountAgeWitness.HASH_FIELD_NUMBER;
+            }
+
+            @Override
+            public PersistableNetworkPayload fromBytes(ByteBuffer bytes) throws IOException {
+                numDecoded.incrementAndGet();
+                return new PersistableNetworkPayloadStub(protobuf.AccountAgeWitness.parseFrom(bytes).getHash().toByteArray());
+            }
+        };
+    }
+
+    @Test
+    public void lookupsDecodeOnlyRequestedPayloads() throws IOException {
+        MappedPayloadMap map = new MappedPayloadMap(serialize(List.of(new byte[]{3}, new byte[]{1}, new byte[]{2})), codec);
+
+        assertEquals(3, map.size());
+        assertTrue(map.containsKey(new P2PDataStorage.ByteArray(new byte[]{2})));
+        assertFalse(map.containsKey(new P2PDataStorage.ByteArray(new byte[]{4})));
+        assertNull(map.get(new P2PDataStorage.ByteArray(new byte[]{4})));
+        assertEquals(0, numDecoded.get());
+
+        assertArrayEquals(new byte[]{3}, map.get(new P2PDataStorage.ByteArray(new byte[]{3})).getHash());
+        assertEquals(1, numDecoded.get());
+    }
+
+    @Test
+    public void iteratingKeysDoesNotDecode() throws IOException {
+        MappedPayloadMap map = new MappedPayloadMap(serialize(List.of(new byte[]{3}, new byte[]{1}, new byte[]{2})), codec);
+
+        assertEquals(3, map.keySet().size());
+        assertTrue(map.keySet().contains(new P2PDataStorage.ByteArray(new byte[]{1})));
+        map.keySet().forEach(key -> assertEquals(1, key.bytes.length));
+        assertEquals(0, numDecoded.get());
+
+        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> copy = new HashMap<>(map);
+        assertEquals(3, copy.size());
+        assertEquals(3, numDecoded.get());
+    }
+
+    @Test
+    public void duplicatedHashesAreMerged() throws IOException {
+        MappedPayloadMap map = new MappedPayloadMap(serialize(List.of(new byte[]{1}, new byte[]{1, 2}, new byte[]{1})), codec);
+
+        assertEquals(2, map.size());
+        assertTrue(map.containsKey(new P2PDataStorage.ByteArray(new byte[]{1, 2})));
+    }
+
+    @Test
+    public void missingHashFails() {
+        assertThrows(IOException.class, () -> new MappedPayloadMap(serialize(List.of(new byte[]{1}, new byte[0])), codec));
+    }
+
+    @Test
+    public void compositeMapPrefersFirstMap() throws IOException {
+        MappedPayloadMap historical = new MappedPayloadMap(serialize(List.of(new byte[]{1}, new byte[]{2})), codec);
+        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> live = new HashMap<>();
+        PersistableNetworkPayloadStub livePayload = new PersistableNetworkPayloadStub(new byte[]{2});
+        live.put(new P2PDataStorage.ByteArray(new byte[]{2}), livePayload);
+        live.put(new P2PDataStorage.ByteArray(new byte[]{5}), new PersistableNetworkPayloadStub(new byte[]{5}));
+
+        CompositePayloadMap composite = new CompositePayloadMap(List.of(live, historical));
+
+        assertEquals(3, composite.size());
+        assertEquals(livePayload, composite.get(new P2PDataStorage.ByteArray(new byte[]{2})));
+        assertTrue(composite.containsKey(new P2PDataStorage.ByteArray(new byte[]{1})));
+        assertEquals(0, numDecoded.get());
+    }
+
+    @Test
+    public void compositeMapSizeFollowsAddedEntries() throws IOException {
+        MappedPayloadMap historical = new MappedPayloadMap(serialize(List.of(new byte[]{1}, new byte[]{2})), codec);
+        Map<P2PDataStorage.ByteArray, PersistableNetworkPayload> live = new HashMap<>();
+        CompositePayloadMap composite = new CompositePayloadMap(List.of(live, historical));
+        assertEquals(2, composite.size());
+
+        live.put(new P2PDataStorage.ByteArray(new byte[]{5}), new PersistableNetworkPayloadStub(new byte[]{5}));
+        assertEquals(3, composite.size());
+
+        // A key which is contained in both maps is counted once
+        live.put(new P2PDataStorage.ByteArray(new byte[]{1}), new PersistableNetworkPayloadStub(new byte[]{1}));
+        assertEquals(3, composite.size());
+        assertEquals(0, numDecoded.get());
+    }
+
+    private static ByteBuffer serialize(List<byte[]> hashes) throws IOException {
+        protobuf.AccountAgeWitnessStore.Builder store = protobuf.AccountAgeWitnessStore.newBuilder();
+        hashes.forEach(hash -> store.addItems(protobuf.AccountAgeWitness.newBuilder()
+                .setHash(ByteString.copyFrom(hash))
+                .setDate(1)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        protobuf.PersistableEnvelope.newBuilder()
+                .setAccountAgeWitnessStore(store)
+                .build()
+                .writeDelimitedTo(outputStream);
+        return ByteBuffer.wrap(outputStream.toByteArray());
+    }
+}
@@ -18,11 +18,9 @@
 package bisq.restapi.endpoints;
 
 import bisq.core.dao.state.DaoStateService;
-import bisq.core.dao.state.model.blockchain.BaseTx;
-import bisq.core.dao.state.model.blockchain.Tx;
 import bisq.core.dao.state.model.blockchain.TxType;
 
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -30,6 +28,8 @@ import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 
+import javax.annotation.Nullable;
+
 
 
 import bisq.restapi.BlockDataToJsonConverter;
@@ -85,7 +85,7 @@ public class ExplorerTransactionsApi {
             address = address.substring(1, address.length());
         }
         String finalAddress = address;
-        List<JsonTx> result = daoStateService.getTxIdSetByAddress().getOrDefault(finalAddress, Set.of()).stream()
+        List<JsonTx> result = daoStateService.getTxIdSetForAddress(finalAddress).stream()
                 .flatMap(txId -> daoStateService.getTx(txId).stream())
                 .map(tx -> BlockDataToJsonConverter.getJsonTx(daoStateService, tx))
                 .collect(Collectors.toList());
@@ -100,34 +100,35 @@ public class ExplorerTransactionsApi {
                                           @PathParam("filters") String filters) {
         restApi.checkDaoReady();
         log.info("filters: {}", filters);
-        List<JsonTx> jsonTxs = daoStateService.getUnorderedTxStream()
-                .sorted(Comparator.comparing(BaseTx::getTime).reversed())
-                .filter(tx -> hasMatchingTxType(tx, filters))
-                .skip(start)
-                .limit(count)
+        Set<TxType> txTypes = getTxTypes(filters);
+        if (txTypes == null) {
+            return List.of();
+        }
+        List<JsonTx> jsonTxs = daoStateService.getMostRecentTxs(txTypes, Math.max(0, start), Math.max(0, count)).stream()
                 .map(tx -> BlockDataToJsonConverter.getJsonTx(daoStateService, tx))
                 .collect(Collectors.toList());
         log.info("supplying {} jsonTxs to client from index {}", jsonTxs.size(), start);
         return jsonTxs;
     }
 
-    private boolean hasMatchingTxType(Tx tx, String filters) {
+    // An empty set matches all txs. Filters after an invalid TxType are ignored and null is returned if no filter
+    // before it was valid, in which case no tx matches.
+    @Nullable
+    private Set<TxType> getTxTypes(String filters) {
         String[] filterTokens = filters.split("~");
         if (filterTokens.length < 1 || filters.equalsIgnoreCase("~")) {
-            return true;
+            return Set.of();
         }
+        Set<TxType> txTypes = new HashSet<>();
         for (String filter : filterTokens) {
             try {
-                TxType txType = Enum.valueOf(TxType.class, filter);
-                if (tx.getTxType() == txType) {
-                    return true;
-                }
+                txTypes.add(Enum.valueOf(TxType.class, filter));
             } catch (Exception e) {
                 log.error("Could not resolve TxType Enum from " + filter, e);
-                return false;
+                return txTypes.isEmpty() ? null : txTypes;
             }
         }
-        return false;
+        return txTypes;
     }
 
 }